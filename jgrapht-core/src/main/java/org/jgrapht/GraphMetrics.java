@@ -17,11 +17,11 @@
  */
 package org.jgrapht;
 
+import org.jgrapht.alg.cycle.*;
 import org.jgrapht.alg.shortestpath.*;
 import org.jgrapht.alg.util.*;
 
 import java.util.*;
-import java.util.stream.*;
 
 /**
  * Collection of methods which provide numerical graph information.
@@ -104,103 +104,96 @@ public abstract class GraphMetrics
         final int NIL = -1;
         final boolean isAllowingMultipleEdges = graph.getType().isAllowingMultipleEdges();
 
-        // Ordered sequence of vertices
-        List<V> vertices = new ArrayList<>(graph.vertexSet());
-        // Index map of vertices in ordered sequence
-        Map<V, Integer> indexMap = new HashMap<>();
-        for (int i = 0; i < vertices.size(); i++)
-            indexMap.put(vertices.get(i), i);
-
-        // Objective
-        int girth = Integer.MAX_VALUE;
-        // Array storing the depth of each vertex in the search tree
-        int[] depth = new int[vertices.size()];
-        // Queue for BFS
-        Queue<V> queue = new LinkedList<>();
-
         // Check whether the graph has self-loops
         if (graph.getType().isAllowingSelfLoops())
-            for (V v : vertices)
+            for (V v : graph.vertexSet())
                 if (graph.containsEdge(v, v))
                     return 1;
 
-        NeighborCache<V, E> neighborIndex = new NeighborCache<>(graph);
+        // Sorted neighbor indices of every vertex
+        NeighborIndex<V, E> neighborIndex = new NeighborIndex<>(graph);
+        int n = neighborIndex.getVertexCount();
+
+        // Objective
+        int girth = Integer.MAX_VALUE;
+        // Array storing the depth of each vertex in the search tree
+        int[] depth = new int[n];
+        // Queue for BFS
+        int[] queue = new int[n];
 
         if (graph.getType().isUndirected()) {
 
             // Array which keeps track of the search tree structure to prevent revisiting parent
             // nodes
-            int[] parent = new int[vertices.size()];
+            int[] parent = new int[n];
 
             // Start a BFS search tree from each vertex. The search stops when a triangle (smallest
             // possible cycle) is found.
             // The last two vertices can be ignored.
-            for (int i = 0; i < vertices.size() - 2 && girth > 3; i++) {
+            for (int i = 0; i < n - 2 && girth > 3; i++) {
 
                 // Reset data structures
                 Arrays.fill(depth, NIL);
                 Arrays.fill(parent, NIL);
-                queue.clear();
+                int head = 0, tail = 0;
 
                 depth[i] = 0;
-                queue.add(vertices.get(i));
+                queue[tail++] = i;
                 int depthU;
 
                 do {
-                    V u = queue.poll();
-                    int indexU = indexMap.get(u);
+                    int indexU = queue[head++];
                     depthU = depth[indexU];
 
                     // Visit all neighbors of vertex u
-                    for (V v : neighborIndex.neighborsOf(u)) {
-                        int indexV = indexMap.get(v);
-
+                    for (int indexV : neighborIndex.neighborsOf(indexU)) {
                         if (parent[indexU] == indexV) { // Skip the parent of vertex u, unless there
                                                         // are multiple edges between u and v
-                            if (!isAllowingMultipleEdges || graph.getAllEdges(u, v).size() == 1)
+                            if (!isAllowingMultipleEdges || graph
+                                .getAllEdges(
+                                    neighborIndex.getVertex(indexU),
+                                    neighborIndex.getVertex(indexV))
+                                .size() == 1)
                                 continue;
                         }
 
                         int depthV = depth[indexV];
                         if (depthV == NIL) { // New neighbor discovered
-                            queue.add(v);
+                            queue[tail++] = indexV;
                             depth[indexV] = depthU + 1;
                             parent[indexV] = indexU;
                         } else { // Rediscover neighbor: found cycle.
                             girth = Math.min(girth, depthU + depthV + 1);
                         }
                     }
-                } while (!queue.isEmpty() && 2 * (depthU + 1) - 1 < girth);
+                } while (head < tail && 2 * (depthU + 1) - 1 < girth);
             }
         } else { // Directed case
-            for (int i = 0; i < vertices.size() - 1 && girth > 2; i++) {
+            for (int i = 0; i < n - 1 && girth > 2; i++) {
 
                 // Reset data structures
                 Arrays.fill(depth, NIL);
-                queue.clear();
+                int head = 0, tail = 0;
 
                 depth[i] = 0;
-                queue.add(vertices.get(i));
+                queue[tail++] = i;
                 int depthU;
 
                 do {
-                    V u = queue.poll();
-                    int indexU = indexMap.get(u);
+                    int indexU = queue[head++];
                     depthU = depth[indexU];
 
                     // Visit all neighbors of vertex u
-                    for (V v : neighborIndex.successorsOf(u)) {
-                        int indexV = indexMap.get(v);
-
+                    for (int indexV : neighborIndex.successorsOf(indexU)) {
                         int depthV = depth[indexV];
                         if (depthV == NIL) { // New neighbor discovered
-                            queue.add(v);
+                            queue[tail++] = indexV;
                             depth[indexV] = depthU + 1;
                         } else if (depthV == 0) { // Rediscover root: found cycle.
                             girth = Math.min(girth, depthU + depthV + 1);
                         }
                     }
-                } while (!queue.isEmpty() && depthU + 1 < girth);
+                } while (head < tail && depthU + 1 < girth);
             }
         }
 
@@ -246,11 +239,11 @@ public abstract class GraphMetrics
     /**
      * An $O(|E|^{3/2})$ algorithm for counting the number of non-trivial triangles in an undirected
      * graph. A non-trivial triangle is formed by three distinct vertices all connected to each
-     * other.
+     * other. Multiple edges between the same pair of vertices are counted once.
      *
      * <p>
-     * For more details of this algorithm see Ullman, Jeffrey: "Mining of Massive Datasets",
-     * Cambridge University Press, Chapter 10
+     * The count is computed by {@link TriangleCounter}, which also supports per vertex counts and a
+     * parallel computation.
      *
      * @param graph the input graph
      * @param <V> the graph vertex type
@@ -261,74 +254,6 @@ public abstract class GraphMetrics
      */
     public static <V, E> long getNumberOfTriangles(Graph<V, E> graph)
     {
-        GraphTests.requireUndirected(graph);
-
-        final int sqrtV = (int) Math.sqrt(graph.vertexSet().size());
-
-        List<V> vertexList = new ArrayList<>(graph.vertexSet());
-
-        /*
-         * The book suggest the following comparator: "Compare vertices based on their degree. If
-         * equal compare them of their actual value, since they are all integers".
-         */
-
-        // Fix vertex order for unique comparison of vertices
-        Map<V, Integer> vertexOrder = new HashMap<>(graph.vertexSet().size());
-        int k = 0;
-        for (V v : graph.vertexSet()) {
-            vertexOrder.put(v, k++);
-        }
-
-        Comparator<V> comparator = Comparator
-            .comparingInt(graph::degreeOf).thenComparingInt(System::identityHashCode)
-            .thenComparingInt(vertexOrder::get);
-
-        vertexList.sort(comparator);
-
-        // vertex v is a heavy-hitter iff degree(v) >= sqrtV
-        List<V> heavyHitterVertices =
-            vertexList.stream().filter(x -> graph.degreeOf(x) >= sqrtV).collect(
-                Collectors.toCollection(ArrayList::new));
-
-        // count the number of triangles formed from only heavy-hitter vertices
-        long numberTriangles = naiveCountTriangles(graph, heavyHitterVertices);
-
-        for (E edge : graph.edgeSet()) {
-            V v1 = graph.getEdgeSource(edge);
-            V v2 = graph.getEdgeTarget(edge);
-
-            if (v1 == v2) {
-                continue;
-            }
-
-            if (graph.degreeOf(v1) < sqrtV || graph.degreeOf(v2) < sqrtV) {
-                // ensure that v1 <= v2 (swap them otherwise)
-                if (comparator.compare(v1, v2) > 0) {
-                    V tmp = v1;
-                    v1 = v2;
-                    v2 = tmp;
-                }
-
-                for (E e : graph.edgesOf(v1)) {
-                    V u = Graphs.getOppositeVertex(graph, e, v1);
-
-                    // check if the triangle is non-trivial: u, v1, v2 are distinct vertices
-                    if (u == v1 || u == v2) {
-                        continue;
-                    }
-
-                    /*
-                     * Check if v2 <= u and if (u, v2) is a valid edge. If both of them are true,
-                     * then we have a new triangle (v1, v2, u) and all three vertices in the
-                     * triangle are ordered (v1 <= v2 <= u) so we count it only once.
-                     */
-                    if (comparator.compare(v2, u) <= 0 && graph.containsEdge(u, v2)) {
-                        numberTriangles++;
-                    }
-                }
-            }
-        }
-
-        return numberTriangles;
+        return new TriangleCounter<>(graph).getNumberOfTriangles();
     }
 }
@@ -0,0 +1,427 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A reachability index which answers whether a vertex can be reached from another vertex in
+ * constant time without materializing the transitive closure as edges.
+ *
+ * <p>
+ * The strongly connected components of the graph are computed with an iterative version of
+ * Tarjan's algorithm which numbers them in reverse topological order, i.e., every component can
+ * only reach components with a smaller number. For each component the set of reachable components
+ * is stored as a bitset of 64-bit words, computed as the union of the bitsets of its successors in
+ * the condensation. Because of the numbering only the words up to the component itself can be
+ * nonzero, and the leading zero words are not stored either, so each component only stores the
+ * range of words between the lowest and the highest component it reaches. On graphs where
+ * reachability is local, such as dependency graphs with a good layering, this is considerably
+ * smaller than the quadratic worst case of $\lceil c / 64 \rceil$ words per component where $c$ is
+ * the number of strongly connected components. No closure edges and no per-vertex sets are
+ * created.
+ *
+ * <p>
+ * With a parallelism larger than one, the components are grouped by their height in the
+ * condensation. The bitsets of all components of the same height only depend on the bitsets of
+ * lower components and are computed in parallel, one height after the other.
+ *
+ * <p>
+ * Every vertex can reach itself. The index is computed once at construction time and later
+ * changes of the graph are not reflected. For undirected graphs each edge is considered in both
+ * directions. The running time of the construction is $O(n + m \cdot c / 64)$ in the worst case.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see TransitiveClosure
+ *
+ * @author agent
+ */
+public class ReachabilityIndex<V, E>
+{
+    /* Minimum number of components of the same height computed by one parallel task */
+    private static final int MIN_TASK_SIZE = 64;
+
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+
+    /* Component of each vertex */
+    private final int[] component;
+    /* Vertices of each component in CSR form */
+    private final int[] componentStart;
+    private final int[] componentVertices;
+    /* Vertices with a self-loop */
+    private final BitSet selfLoops;
+
+    /* Index of the first stored word of the bitset of each component */
+    private final int[] firstWord;
+    /* Stored words of the bitset of each component */
+    private final long[][] words;
+
+    /**
+     * Computes the reachability index of a graph.
+     *
+     * @param graph the input graph
+     */
+    public ReachabilityIndex(Graph<V, E> graph)
+    {
+        this(graph, 1);
+    }
+
+    /**
+     * Computes the reachability index of a graph, using a number of threads to compute the bitsets.
+     *
+     * @param graph the input graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public ReachabilityIndex(Graph<V, E> graph, int parallelism)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        int n = vertices.size();
+
+        // successors in CSR form
+        boolean directed = graph.getType().isDirected();
+        int[] start = new int[n + 1];
+        int arcs = 0;
+        for (E e : graph.edgeSet()) {
+            start[vertexMap.get(graph.getEdgeSource(e)) + 1]++;
+            arcs++;
+            if (!directed) {
+                start[vertexMap.get(graph.getEdgeTarget(e)) + 1]++;
+                arcs++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] next = Arrays.copyOf(start, n);
+        int[] successors = new int[arcs];
+        this.selfLoops = new BitSet(n);
+        for (E e : graph.edgeSet()) {
+            int s = vertexMap.get(graph.getEdgeSource(e));
+            int t = vertexMap.get(graph.getEdgeTarget(e));
+            if (s == t) {
+                selfLoops.set(s);
+            }
+            successors[next[s]++] = t;
+            if (!directed) {
+                successors[next[t]++] = s;
+            }
+        }
+
+        this.component = new int[n];
+        int c = computeComponents(n, start, successors, component);
+
+        this.componentStart = new int[c + 1];
+        for (int v = 0; v < n; v++) {
+            componentStart[component[v] + 1]++;
+        }
+        for (int i = 0; i < c; i++) {
+            componentStart[i + 1] += componentStart[i];
+        }
+        next = Arrays.copyOf(componentStart, c);
+        this.componentVertices = new int[n];
+        for (int v = 0; v < n; v++) {
+            componentVertices[next[component[v]]++] = v;
+        }
+
+        // successors of the components in the condensation, in CSR form
+        int[] condensedStart = new int[c + 1];
+        for (int v = 0; v < n; v++) {
+            for (int p = start[v]; p < start[v + 1]; p++) {
+                if (component[successors[p]] != component[v]) {
+                    condensedStart[component[v] + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < c; i++) {
+            condensedStart[i + 1] += condensedStart[i];
+        }
+        next = Arrays.copyOf(condensedStart, c);
+        int[] condensedSuccessors = new int[condensedStart[c]];
+        for (int v = 0; v < n; v++) {
+            for (int p = start[v]; p < start[v + 1]; p++) {
+                int w = component[successors[p]];
+                if (w != component[v]) {
+                    condensedSuccessors[next[component[v]]++] = w;
+                }
+            }
+        }
+
+        this.firstWord = new int[c];
+        this.words = new long[c][];
+        if (parallelism > 1 && c > MIN_TASK_SIZE) {
+            computeBitsetsParallel(c, condensedStart, condensedSuccessors, parallelism);
+        } else {
+            long[] buffer = new long[(c >>> 6) + 1];
+            for (int i = 0; i < c; i++) {
+                computeBitset(i, condensedStart, condensedSuccessors, buffer);
+            }
+        }
+    }
+
+    /**
+     * Test whether there is a path from a source vertex to a target vertex. Every vertex can reach
+     * itself. This method runs in constant time.
+     *
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return true if the target is reachable from the source, false otherwise
+     * @throws IllegalArgumentException if one of the vertices is not in the graph
+     */
+    public boolean isReachable(V source, V target)
+    {
+        int s = component[index(source)];
+        int t = component[index(target)];
+        int w = (t >>> 6) - firstWord[s];
+        long[] bits = words[s];
+        return w >= 0 && w < bits.length && (bits[w] & (1L << t)) != 0;
+    }
+
+    /**
+     * Get all vertices which can be reached from a vertex by a path with at least one edge. The
+     * vertex itself is included only if it lies on a cycle.
+     *
+     * @param vertex the vertex
+     * @return the vertices reachable from the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public Set<V> getDescendants(V vertex)
+    {
+        int v = index(vertex);
+        int s = component[v];
+        Set<V> result = new LinkedHashSet<>();
+        long[] bits = words[s];
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                int t = ((firstWord[s] + w) << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                for (int p = componentStart[t]; p < componentStart[t + 1]; p++) {
+                    result.add(vertices.get(componentVertices[p]));
+                }
+            }
+        }
+        if (componentStart[s + 1] - componentStart[s] == 1 && !selfLoops.get(v)) {
+            result.remove(vertex);
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of strongly connected components of the graph.
+     *
+     * @return the number of strongly connected components
+     */
+    public int getNumberOfComponents()
+    {
+        return words.length;
+    }
+
+    private int index(V v)
+    {
+        Integer i = vertexMap.get(v);
+        if (i == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return i;
+    }
+
+    /**
+     * Compute the strongly connected components with an iterative version of Tarjan's algorithm.
+     * Components are numbered in the order in which they are completed, which is a reverse
+     * topological order of the condensation.
+     *
+     * @param n the number of vertices
+     * @param start start of the successors of each vertex
+     * @param successors the successors
+     * @param component receives the component of each vertex
+     * @return the number of components
+     */
+    private static int computeComponents(int n, int[] start, int[] successors, int[] component)
+    {
+        int[] index = new int[n];
+        Arrays.fill(index, -1);
+        int[] low = new int[n];
+        int[] position = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] stack = new int[n];
+        int stackSize = 0;
+        int[] callStack = new int[n];
+        int counter = 0;
+        int c = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int callSize = 0;
+            index[root] = low[root] = counter++;
+            position[root] = start[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            callStack[callSize++] = root;
+
+            while (callSize > 0) {
+                int v = callStack[callSize - 1];
+                if (position[v] < start[v + 1]) {
+                    int w = successors[position[v]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        position[w] = start[w];
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callStack[callSize++] = w;
+                    } else if (onStack[w] && index[w] < low[v]) {
+                        low[v] = index[w];
+                    }
+                    continue;
+                }
+
+                callSize--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--stackSize];
+                        onStack[w] = false;
+                        component[w] = c;
+                    } while (w != v);
+                    c++;
+                }
+                if (callSize > 0) {
+                    int u = callStack[callSize - 1];
+                    if (low[v] < low[u]) {
+                        low[u] = low[v];
+                    }
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Compute the bitset of a component from the bitsets of its successors.
+     *
+     * @param c the component
+     * @param start start of the successors of each component
+     * @param successors the successors
+     * @param buffer a zeroed buffer with a word for each component, zeroed again on return
+     */
+    private void computeBitset(int c, int[] start, int[] successors, long[] buffer)
+    {
+        int high = c >>> 6;
+        int low = high;
+        buffer[high] |= 1L << c;
+        for (int p = start[c]; p < start[c + 1]; p++) {
+            int d = successors[p];
+            long[] bits = words[d];
+            int first = firstWord[d];
+            for (int w = 0; w < bits.length; w++) {
+                buffer[first + w] |= bits[w];
+            }
+            if (first < low) {
+                low = first;
+            }
+        }
+        firstWord[c] = low;
+        words[c] = Arrays.copyOfRange(buffer, low, high + 1);
+        Arrays.fill(buffer, low, high + 1, 0L);
+    }
+
+    /**
+     * Compute the bitsets of all components in parallel, one height of the condensation at a
+     * time.
+     *
+     * @param c the number of components
+     * @param start start of the successors of each component
+     * @param successors the successors
+     * @param parallelism the number of threads
+     */
+    private void computeBitsetsParallel(int c, int[] start, int[] successors, int parallelism)
+    {
+        // successors always have a smaller number, so heights can be computed in one pass
+        int[] height = new int[c];
+        int maxHeight = 0;
+        for (int i = 0; i < c; i++) {
+            int h = 0;
+            for (int p = start[i]; p < start[i + 1]; p++) {
+                h = Math.max(h, height[successors[p]] + 1);
+            }
+            height[i] = h;
+            maxHeight = Math.max(maxHeight, h);
+        }
+        int[] levelStart = new int[maxHeight + 2];
+        for (int i = 0; i < c; i++) {
+            levelStart[height[i] + 1]++;
+        }
+        for (int h = 0; h <= maxHeight; h++) {
+            levelStart[h + 1] += levelStart[h];
+        }
+        int[] next = Arrays.copyOf(levelStart, maxHeight + 1);
+        int[] byLevel = new int[c];
+        for (int i = 0; i < c; i++) {
+            byLevel[next[height[i]]++] = i;
+        }
+
+        ExecutorService executor = ConcurrencyUtil.createThreadPool(parallelism);
+        try {
+            long[][] buffers = new long[parallelism][(c >>> 6) + 1];
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int h = 0; h <= maxHeight; h++) {
+                int from = levelStart[h];
+                int to = levelStart[h + 1];
+                int chunks = Math.min(parallelism, (to - from) / MIN_TASK_SIZE);
+                if (chunks < 2) {
+                    for (int p = from; p < to; p++) {
+                        computeBitset(byLevel[p], start, successors, buffers[0]);
+                    }
+                    continue;
+                }
+                tasks.clear();
+                for (int t = 0; t < chunks; t++) {
+                    int chunkFrom = from + (int) ((long) (to - from) * t / chunks);
+                    int chunkTo = from + (int) ((long) (to - from) * (t + 1) / chunks);
+                    long[] buffer = buffers[t];
+                    tasks.add(() -> {
+                        for (int p = chunkFrom; p < chunkTo; p++) {
+                            computeBitset(byLevel[p], start, successors, buffer);
+                        }
+                        return null;
+                    });
+                }
+                ConcurrencyUtil.invokeAll(executor, tasks);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
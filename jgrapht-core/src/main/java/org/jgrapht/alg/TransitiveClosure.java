@@ -26,6 +26,10 @@ import java.util.*;
 /**
  * Constructs the transitive closure of the input graph.
  *
+ * <p>
+ * If only reachability queries are needed, {@link ReachabilityIndex} answers them in constant
+ * time without adding the closure edges to the graph.
+ *
  * @author Vinayak R. Borkar
  */
 public class TransitiveClosure
@@ -51,6 +51,8 @@ import java.util.concurrent.*;
  * 
  * @see BronKerboschCliqueFinder
  * @see PivotBronKerboschCliqueFinder
+ * @see ParallelDegeneracyBronKerboschCliqueFinder
+ * @see LazyBronKerboschCliqueFinder
  *
  * @author Dimitrios Michail
  */
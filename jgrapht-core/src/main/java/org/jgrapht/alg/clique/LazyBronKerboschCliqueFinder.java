@@ -0,0 +1,358 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.traverse.*;
+
+import java.util.*;
+
+/**
+ * Lazy Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering.
+ * 
+ * <p>
+ * Contrary to the other Bron-Kerbosch implementations, this algorithm does not compute all maximal
+ * cliques before returning the first one. The recursion of
+ * {@link DegeneracyBronKerboschCliqueFinder} is executed on an explicit stack which is suspended
+ * whenever a maximal clique is found, and resumed by the next call to {@link Iterator#hasNext()}.
+ * Therefore, besides an index of the graph which requires $O(n + m)$ memory, the iterator only
+ * stores the current search path, whose depth is bounded by the size of the largest clique. This
+ * makes the algorithm suitable for graphs with a number of maximal cliques which does not fit in
+ * memory.
+ * 
+ * <p>
+ * The cliques can be restricted to a range of sizes. The bounds are used to prune the search: a
+ * branch is abandoned as soon as the current clique together with all remaining candidates is
+ * smaller than the minimum size, or as soon as the current clique cannot be extended to a maximal
+ * clique without exceeding the maximum size.
+ * 
+ * <p>
+ * Every call to {@link #iterator()} starts a new enumeration. The graph must not be modified while
+ * an iterator is in use.
+ * 
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * 
+ * @see DegeneracyBronKerboschCliqueFinder
+ * 
+ * @author agent
+ */
+public class LazyBronKerboschCliqueFinder<V, E>
+    implements
+    MaximalCliqueEnumerationAlgorithm<V, E>
+{
+    private final Graph<V, E> graph;
+    private final int minSize;
+    private final int maxSize;
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public LazyBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a new clique finder which only returns the maximal cliques with a size in a given
+     * range.
+     *
+     * @param graph the input graph; must be simple
+     * @param minSize the minimum size of a returned clique (inclusive)
+     * @param maxSize the maximum size of a returned clique (inclusive)
+     * @throws IllegalArgumentException if the minimum size is not positive or if it is larger than
+     *         the maximum size
+     */
+    public LazyBronKerboschCliqueFinder(Graph<V, E> graph, int minSize, int maxSize)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (minSize < 1) {
+            throw new IllegalArgumentException("Minimum size must be positive");
+        }
+        if (minSize > maxSize) {
+            throw new IllegalArgumentException("Minimum size cannot be larger than maximum size");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The cliques are computed lazily while the iterator advances.
+     * 
+     * @throws IllegalArgumentException if the graph is not simple
+     */
+    @Override
+    public Iterator<Set<V>> iterator()
+    {
+        if (!GraphTests.isSimple(graph)) {
+            throw new IllegalArgumentException("Graph must be simple");
+        }
+        return new CliqueIterator();
+    }
+
+    /**
+     * A step of the recursion, that is the sets $P$ and $X$ of a call and the state of its main
+     * loop.
+     */
+    private static class Frame
+    {
+        /* Vertex added to the clique by this call */
+        final int vertex;
+        /* Vertices to consider adding to the clique */
+        final int[] P;
+        int pSize;
+        /* Vertices which must be excluded from the clique, with room for the candidates */
+        final int[] X;
+        int xSize;
+        /* Candidates of the main loop, null before the pivot is chosen */
+        int[] branch;
+        int cursor;
+
+        Frame(int vertex, int[] P, int pSize, int[] X, int xSize)
+        {
+            this.vertex = vertex;
+            this.P = P;
+            this.pSize = pSize;
+            this.X = X;
+            this.xSize = xSize;
+        }
+    }
+
+    /**
+     * Iterator which executes the recursion on an explicit stack. The current clique consists of
+     * the vertices of the frames on the stack.
+     */
+    private class CliqueIterator
+        implements
+        Iterator<Set<V>>
+    {
+        private final List<V> ordering;
+        /* Sorted neighbors of every vertex, identified by their position in the ordering */
+        private final int[][] neighbors;
+        private final Deque<Frame> stack;
+        /* Next vertex of the ordering whose subproblem has not been started */
+        private int nextRoot;
+        private Set<V> next;
+
+        CliqueIterator()
+        {
+            this.ordering = new ArrayList<>();
+            new DegeneracyOrderingIterator<V, E>(graph).forEachRemaining(ordering::add);
+
+            int n = ordering.size();
+            Map<V, Integer> position = new HashMap<>(2 * n);
+            for (int i = 0; i < n; i++) {
+                position.put(ordering.get(i), i);
+            }
+            this.neighbors = new int[n][];
+            for (int i = 0; i < n; i++) {
+                V v = ordering.get(i);
+                int[] vNeighbors = new int[graph.degreeOf(v)];
+                int k = 0;
+                for (E e : graph.edgesOf(v)) {
+                    vNeighbors[k++] = position.get(Graphs.getOppositeVertex(graph, e, v));
+                }
+                Arrays.sort(vNeighbors);
+                neighbors[i] = vNeighbors;
+            }
+
+            this.stack = new ArrayDeque<>();
+            this.nextRoot = 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Set<V> next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Set<V> result = next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * Resume the recursion until the next maximal clique is found.
+         * 
+         * @return the next maximal clique or null if the enumeration is finished
+         */
+        private Set<V> advance()
+        {
+            while (true) {
+                if (stack.isEmpty()) {
+                    if (nextRoot == ordering.size()) {
+                        return null;
+                    }
+                    stack.push(rootFrame(nextRoot++));
+                    continue;
+                }
+
+                Frame frame = stack.peek();
+                int size = stack.size();
+                if (frame.branch == null) {
+                    /*
+                     * Check if maximal clique
+                     */
+                    if (frame.pSize == 0) {
+                        Set<V> maximalClique = null;
+                        if (frame.xSize == 0 && size >= minSize && size <= maxSize) {
+                            maximalClique = new HashSet<>();
+                            for (Frame f : stack) {
+                                maximalClique.add(ordering.get(f.vertex));
+                            }
+                        }
+                        stack.pop();
+                        if (maximalClique != null) {
+                            return maximalClique;
+                        }
+                        continue;
+                    }
+
+                    /*
+                     * Prune by size, every maximal clique containing the current clique has
+                     * between one and pSize more vertices
+                     */
+                    if (size + frame.pSize < minSize || size >= maxSize) {
+                        stack.pop();
+                        continue;
+                    }
+
+                    frame.branch = candidates(frame);
+                }
+
+                if (frame.cursor == frame.branch.length) {
+                    stack.pop();
+                    continue;
+                }
+
+                /*
+                 * Main loop
+                 */
+                int v = frame.branch[frame.cursor++];
+                int[] vNeighbors = neighbors[v];
+                int[] newP = new int[Math.min(frame.pSize, vNeighbors.length)];
+                int newPSize = intersect(frame.P, frame.pSize, vNeighbors, newP);
+                int[] newX = new int[Math.min(frame.xSize, vNeighbors.length) + newPSize];
+                int newXSize = intersect(frame.X, frame.xSize, vNeighbors, newX);
+
+                for (int i = 0; i < frame.pSize; i++) {
+                    if (frame.P[i] == v) {
+                        frame.P[i] = frame.P[--frame.pSize];
+                        break;
+                    }
+                }
+                frame.X[frame.xSize++] = v;
+
+                stack.push(new Frame(v, newP, newPSize, newX, newXSize));
+            }
+        }
+
+        /**
+         * Create the frame of the subproblem of the maximal cliques whose earliest vertex in the
+         * ordering is a given vertex.
+         * 
+         * @param root the position of the vertex
+         * @return the frame
+         */
+        private Frame rootFrame(int root)
+        {
+            int[] rootNeighbors = neighbors[root];
+            int split = 0;
+            while (split < rootNeighbors.length && rootNeighbors[split] < root) {
+                split++;
+            }
+            int[] P = Arrays.copyOfRange(rootNeighbors, split, rootNeighbors.length);
+            int[] X = Arrays.copyOf(rootNeighbors, rootNeighbors.length);
+            return new Frame(root, P, P.length, X, split);
+        }
+
+        /**
+         * Choose a pivot and compute the candidates of the main loop, which are the vertices of
+         * $P$ which are not adjacent to the pivot.
+         * 
+         * @param frame the frame
+         * @return the candidates
+         */
+        private int[] candidates(Frame frame)
+        {
+            int max = -1;
+            int[] pivotNeighbors = null;
+            for (int[] S : new int[][] { frame.P, frame.X }) {
+                int sSize = S == frame.P ? frame.pSize : frame.xSize;
+                for (int i = 0; i < sSize && max < frame.pSize; i++) {
+                    int[] uNeighbors = neighbors[S[i]];
+                    int count = 0;
+                    for (int j = 0; j < frame.pSize; j++) {
+                        if (Arrays.binarySearch(uNeighbors, frame.P[j]) >= 0) {
+                            count++;
+                        }
+                    }
+                    if (count > max) {
+                        max = count;
+                        pivotNeighbors = uNeighbors;
+                    }
+                }
+            }
+
+            int[] branch = new int[frame.pSize - max];
+            int k = 0;
+            for (int i = 0; i < frame.pSize; i++) {
+                if (Arrays.binarySearch(pivotNeighbors, frame.P[i]) < 0) {
+                    branch[k++] = frame.P[i];
+                }
+            }
+            return branch;
+        }
+
+        /**
+         * Compute the intersection of a set with the neighbors of a vertex.
+         * 
+         * @param set the set
+         * @param size the size of the set
+         * @param sortedNeighbors the sorted neighbors of the vertex
+         * @param result the array to store the intersection
+         * @return the size of the intersection
+         */
+        private int intersect(int[] set, int size, int[] sortedNeighbors, int[] result)
+        {
+            int k = 0;
+            for (int i = 0; i < size; i++) {
+                if (Arrays.binarySearch(sortedNeighbors, set[i]) >= 0) {
+                    result[k++] = set[i];
+                }
+            }
+            return k;
+        }
+    }
+
+}
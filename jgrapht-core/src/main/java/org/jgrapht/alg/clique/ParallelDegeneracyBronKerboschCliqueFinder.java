@@ -0,0 +1,500 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel Bron-Kerbosch maximal clique enumeration algorithm with pivot and degeneracy ordering.
+ * 
+ * <p>
+ * The algorithm follows the same decomposition as {@link DegeneracyBronKerboschCliqueFinder}: the
+ * vertices are ordered by a degeneracy ordering and for every vertex $v$ the maximal cliques
+ * whose earliest vertex is $v$ are enumerated from the neighbors of $v$ which come later in the
+ * ordering. These subproblems are independent and are executed by a {@link ForkJoinPool}, which
+ * balances the uneven subproblem sizes by work stealing.
+ * 
+ * <p>
+ * Every subproblem is solved on a local copy of the neighborhood of its vertex, where the candidate
+ * and the excluded sets are encoded as bitsets. Let $d$ be the degeneracy of the graph. Since at
+ * most $d$ neighbors of a vertex come later in the ordering, a subproblem of a vertex of degree
+ * $k$ requires $O(dk)$ bits of memory, which keeps the memory requirements bounded for graphs with
+ * high degree vertices. The pivoting rule is the same as in {@link PivotBronKerboschCliqueFinder}.
+ * 
+ * <p>
+ * The algorithm first computes all maximal cliques and then returns the result to the user. The
+ * cliques are returned in the same order regardless of the parallelism. A timeout can be set using
+ * the constructor parameters.
+ * 
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * 
+ * @see DegeneracyBronKerboschCliqueFinder
+ * 
+ * @author agent
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinder<V, E>
+    extends
+    BaseBronKerboschCliqueFinder<V, E>
+{
+    private final int parallelism;
+
+    /**
+     * Constructs a new clique finder which uses all available processors.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(Graph<V, E> graph, int parallelism)
+    {
+        this(graph, 0L, TimeUnit.SECONDS, parallelism);
+    }
+
+    /**
+     * Constructs a new clique finder which uses all available processors.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, timeout, unit, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public ParallelDegeneracyBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit, int parallelism)
+    {
+        super(graph, timeout, unit);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Lazily execute the enumeration algorithm.
+     */
+    @Override
+    protected void lazyRun()
+    {
+        if (allMaximalCliques == null) {
+            if (!GraphTests.isSimple(graph)) {
+                throw new IllegalArgumentException("Graph must be simple");
+            }
+
+            long nanosTimeLimit;
+            try {
+                nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+            } catch (ArithmeticException ignore) {
+                nanosTimeLimit = Long.MAX_VALUE;
+            }
+
+            List<V> ordering = new ArrayList<>();
+            new DegeneracyOrderingIterator<V, E>(graph).forEachRemaining(ordering::add);
+
+            Enumeration enumeration = new Enumeration(ordering, nanosTimeLimit);
+            if (parallelism == 1) {
+                enumeration.solve(0, ordering.size());
+            } else {
+                ForkJoinPool pool = ConcurrencyUtil.createThreadPool(parallelism);
+                try {
+                    pool.invoke(enumeration.new RangeTask(0, ordering.size()));
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+
+            List<Set<V>> cliques = new ArrayList<>();
+            for (List<Set<V>> vertexCliques : enumeration.cliques) {
+                if (vertexCliques != null) {
+                    cliques.addAll(vertexCliques);
+                }
+            }
+            allMaximalCliques = cliques;
+            maxSize = enumeration.maxSize.get();
+            timeLimitReached = enumeration.timeLimitReached;
+        }
+    }
+
+    /**
+     * The state of a single enumeration, shared by all subproblems.
+     */
+    private class Enumeration
+    {
+        /* Minimum number of vertices a task processes without splitting further */
+        private static final int MIN_TASK_SIZE = 16;
+
+        private final List<V> ordering;
+        private final long nanosTimeLimit;
+        /* Neighbors of every vertex, identified by their position in the ordering */
+        private final int[][] neighbors;
+        /* Cliques found by every subproblem, in the order of the vertices */
+        private final List<Set<V>>[] cliques;
+        private final AtomicInteger maxSize;
+        /*
+         * Maps from positions to local indices, -1 for vertices outside the subproblem. Each range of
+         * subproblems takes one out of this queue or allocates a new one, and returns it when done,
+         * so at most one map per concurrently running range is allocated and none outlives the
+         * enumeration.
+         */
+        private final Queue<int[]> indexBuffers;
+        private volatile boolean timeLimitReached;
+
+        Enumeration(List<V> ordering, long nanosTimeLimit)
+        {
+            this.ordering = ordering;
+            this.nanosTimeLimit = nanosTimeLimit;
+
+            int n = ordering.size();
+            Map<V, Integer> position = new HashMap<>(2 * n);
+            for (int i = 0; i < n; i++) {
+                position.put(ordering.get(i), i);
+            }
+            this.neighbors = new int[n][];
+            for (int i = 0; i < n; i++) {
+                V v = ordering.get(i);
+                int[] vNeighbors = new int[graph.degreeOf(v)];
+                int k = 0;
+                for (E e : graph.edgesOf(v)) {
+                    vNeighbors[k++] = position.get(Graphs.getOppositeVertex(graph, e, v));
+                }
+                neighbors[i] = vNeighbors;
+            }
+
+            this.cliques = TypeUtil.uncheckedCast(new List<?>[n]);
+            this.maxSize = new AtomicInteger();
+            this.indexBuffers = new ConcurrentLinkedQueue<>();
+        }
+
+        /**
+         * Solve the subproblems of the vertices in a range of the ordering.
+         * 
+         * @param from the first position (inclusive)
+         * @param to the last position (exclusive)
+         */
+        void solve(int from, int to)
+        {
+            int[] index = indexBuffers.poll();
+            if (index == null) {
+                index = new int[ordering.size()];
+                Arrays.fill(index, -1);
+            }
+            for (int i = from; i < to && !timeLimitReached; i++) {
+                cliques[i] = new Subproblem(i, index).solve();
+            }
+            indexBuffers.offer(index);
+        }
+
+        /**
+         * Task which recursively splits a range of the ordering.
+         */
+        class RangeTask
+            extends
+            RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int from;
+            private final int to;
+
+            RangeTask(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (to - from <= MIN_TASK_SIZE) {
+                    solve(from, to);
+                } else {
+                    int mid = (from + to) >>> 1;
+                    invokeAll(new RangeTask(from, mid), new RangeTask(mid, to));
+                }
+            }
+        }
+
+        /**
+         * The enumeration of the maximal cliques whose earliest vertex in the ordering is a given
+         * vertex. The later neighbors of the vertex form the candidate space and the earlier
+         * neighbors form the excluded space, each encoded by its own local indices.
+         */
+        private class Subproblem
+        {
+            private final int vertex;
+            /* Positions of the vertices of the candidate space */
+            private final int[] candidates;
+            /* Adjacency of the candidate vertices within the candidate space */
+            private final long[][] candidateToCandidate;
+            /* Adjacency of the candidate vertices within the excluded space */
+            private final long[][] candidateToExcluded;
+            /* Adjacency of the excluded vertices within the candidate space */
+            private final long[][] excludedToCandidate;
+            /* Positions of the vertices of the current clique, except the subproblem vertex */
+            private final int[] clique;
+            private final List<Set<V>> result;
+
+            Subproblem(int vertex, int[] index)
+            {
+                this.vertex = vertex;
+                int[] vNeighbors = neighbors[vertex];
+
+                int p = 0;
+                for (int w : vNeighbors) {
+                    if (w > vertex) {
+                        p++;
+                    }
+                }
+                int x = vNeighbors.length - p;
+
+                this.candidates = new int[p];
+                int[] excluded = new int[x];
+                int pi = 0, xi = 0;
+                for (int w : vNeighbors) {
+                    if (w > vertex) {
+                        index[w] = pi;
+                        candidates[pi++] = w;
+                    } else {
+                        index[w] = xi;
+                        excluded[xi++] = w;
+                    }
+                }
+
+                int pWords = words(p);
+                int xWords = words(x);
+                this.candidateToCandidate = new long[p][pWords];
+                this.candidateToExcluded = new long[p][xWords];
+                this.excludedToCandidate = new long[x][pWords];
+                for (int a = 0; a < p; a++) {
+                    for (int w : neighbors[candidates[a]]) {
+                        int b = index[w];
+                        if (b < 0) {
+                            continue;
+                        }
+                        if (w > vertex) {
+                            set(candidateToCandidate[a], b);
+                        } else {
+                            set(candidateToExcluded[a], b);
+                            set(excludedToCandidate[b], a);
+                        }
+                    }
+                }
+
+                for (int w : vNeighbors) {
+                    index[w] = -1;
+                }
+
+                this.clique = new int[p];
+                this.result = new ArrayList<>();
+            }
+
+            /**
+             * Enumerate all maximal cliques of the subproblem.
+             * 
+             * @return the maximal cliques
+             */
+            List<Set<V>> solve()
+            {
+                int p = candidates.length;
+                int x = excludedToCandidate.length;
+                long[] P = new long[words(p)];
+                for (int a = 0; a < p; a++) {
+                    set(P, a);
+                }
+                long[] XX = new long[words(x)];
+                for (int b = 0; b < x; b++) {
+                    set(XX, b);
+                }
+                findCliques(P, new long[words(p)], XX, 0);
+                return result;
+            }
+
+            /**
+             * Recursive implementation of the Bron-Kerbosch with pivot on bitsets.
+             * 
+             * @param P vertices to consider adding to the clique
+             * @param XP candidate space vertices which must be excluded from the clique
+             * @param XX excluded space vertices which must be excluded from the clique
+             * @param size the number of vertices of the current clique, except the subproblem
+             *        vertex
+             */
+            private void findCliques(long[] P, long[] XP, long[] XX, int size)
+            {
+                /*
+                 * Check if maximal clique
+                 */
+                if (isEmpty(P) && isEmpty(XP) && isEmpty(XX)) {
+                    Set<V> maximalClique = new HashSet<>();
+                    maximalClique.add(ordering.get(vertex));
+                    for (int i = 0; i < size; i++) {
+                        maximalClique.add(ordering.get(candidates[clique[i]]));
+                    }
+                    result.add(maximalClique);
+                    maxSize.accumulateAndGet(maximalClique.size(), Math::max);
+                    return;
+                }
+
+                /*
+                 * Check if timeout
+                 */
+                if (timeLimitReached) {
+                    return;
+                }
+                if (nanosTimeLimit - System.nanoTime() < 0) {
+                    timeLimitReached = true;
+                    return;
+                }
+
+                /*
+                 * Choose pivot
+                 */
+                long[] pivotNeighbors = null;
+                int max = -1;
+                for (long[] S : new long[][] { P, XP }) {
+                    for (int u = nextSetBit(S, 0); u >= 0; u = nextSetBit(S, u + 1)) {
+                        int count = intersectionSize(P, candidateToCandidate[u]);
+                        if (count > max) {
+                            max = count;
+                            pivotNeighbors = candidateToCandidate[u];
+                        }
+                    }
+                }
+                for (int u = nextSetBit(XX, 0); u >= 0; u = nextSetBit(XX, u + 1)) {
+                    int count = intersectionSize(P, excludedToCandidate[u]);
+                    if (count > max) {
+                        max = count;
+                        pivotNeighbors = excludedToCandidate[u];
+                    }
+                }
+
+                /*
+                 * Find candidates for addition
+                 */
+                long[] branch = new long[P.length];
+                for (int i = 0; i < P.length; i++) {
+                    branch[i] = P[i] & ~pivotNeighbors[i];
+                }
+
+                /*
+                 * Main loop
+                 */
+                for (int v = nextSetBit(branch, 0); v >= 0; v = nextSetBit(branch, v + 1)) {
+                    clique[size] = v;
+                    findCliques(
+                        intersection(P, candidateToCandidate[v]),
+                        intersection(XP, candidateToCandidate[v]),
+                        intersection(XX, candidateToExcluded[v]), size + 1);
+
+                    clear(P, v);
+                    set(XP, v);
+                }
+            }
+        }
+    }
+
+    private static int words(int bits)
+    {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void set(long[] bits, int i)
+    {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static void clear(long[] bits, int i)
+    {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    private static boolean isEmpty(long[] bits)
+    {
+        for (long word : bits) {
+            if (word != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int nextSetBit(long[] bits, int from)
+    {
+        int u = from >>> 6;
+        if (u >= bits.length) {
+            return -1;
+        }
+        long word = bits[u] & (-1L << from);
+        while (true) {
+            if (word != 0L) {
+                return (u << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++u == bits.length) {
+                return -1;
+            }
+            word = bits[u];
+        }
+    }
+
+    private static int intersectionSize(long[] a, long[] b)
+    {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static long[] intersection(long[] a, long[] b)
+    {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i] & b[i];
+        }
+        return result;
+    }
+
+}
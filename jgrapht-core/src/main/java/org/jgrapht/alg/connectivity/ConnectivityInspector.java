@@ -40,7 +40,9 @@ import java.util.*;
  * inspected graph, the inspector will amend internal cached results instead of recomputing them. It
  * is efficient when a few modifications are applied to a large graph. If many modifications are
  * expected it will not be efficient due to added overhead on graph update operations. If inspector
- * is added as listener to a graph other than the one it inspects, results are undefined.
+ * is added as listener to a graph other than the one it inspects, results are undefined. For
+ * graphs which are modified continuously, including edge and vertex removals, see
+ * {@link IncrementalConnectivityInspector}.
  * </p>
  *
  * @param <V> the graph vertex type
@@ -0,0 +1,432 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+
+/**
+ * Maintains the connected components of a changing graph.
+ *
+ * <p>
+ * In contrast to {@link ConnectivityInspector}, which discards its cached components whenever an
+ * edge or a vertex is removed and recomputes them with a full traversal, this inspector keeps its
+ * state consistent under arbitrary sequences of insertions and deletions. It must be added as a
+ * listener to the inspected graph, for example a {@link org.jgrapht.graph.DefaultListenableGraph},
+ * after which every modification of the graph is reflected in the answers of the inspector. For
+ * directed graphs the weakly connected components are maintained.
+ *
+ * <p>
+ * The inspector maintains a spanning forest of the graph together with a union-find structure
+ * over the vertices whose sets are exactly the trees of the forest. An inserted edge which joins
+ * two different trees becomes a tree edge and the two sets are united; any other inserted edge is
+ * stored as a non-tree edge. Insertions and the queries {@link #pathExists(Object, Object)},
+ * {@link #isConnected()} and {@link #getNumberOfConnectedComponents()} therefore run in
+ * amortized $O(\alpha(n))$ time, where $\alpha$ is the inverse Ackermann function. Deleting a
+ * non-tree edge takes constant time. When a tree edge is deleted, the tree is split by two
+ * interleaved searches from the endpoints of the edge which stop as soon as one of them has
+ * explored its whole side, hence only the smaller side is visited. The non-tree edges of the
+ * smaller side are then scanned for a replacement edge reconnecting the two sides. If one is found
+ * it becomes a tree edge, otherwise the vertices of the smaller side are moved into a new set of
+ * the union-find structure. Deleting a tree edge thus takes time linear in the size of the smaller
+ * side and the number of non-tree edges incident to it, as in the simplest of the spanning forest
+ * based fully-dynamic algorithms, instead of the time of a full traversal of the graph.
+ *
+ * <p>
+ * The methods {@link #connectedSetOf(Object)} and {@link #connectedSets()} compute the vertex
+ * sets on each call by traversing the spanning forest. If the inspector is added as listener to a
+ * graph other than the one it inspects, results are undefined.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ConnectivityInspector
+ *
+ * @author agent
+ */
+public class IncrementalConnectivityInspector<V, E>
+    implements
+    GraphListener<V, E>
+{
+    private final Map<V, VertexData<E>> vertices;
+    private final Map<E, EdgeData<V>> edges;
+    private int numberOfComponents;
+
+    /**
+     * Creates an inspector for the specified graph. The current vertices and edges of the graph
+     * are inserted one by one; later modifications are only observed if the inspector is added as
+     * a listener to the graph.
+     *
+     * @param graph the graph to inspect
+     */
+    public IncrementalConnectivityInspector(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = new HashMap<>();
+        this.edges = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            addVertex(v);
+        }
+        for (E e : graph.edgeSet()) {
+            addEdge(e, graph.getEdgeSource(e), graph.getEdgeTarget(e));
+        }
+    }
+
+    /**
+     * Test if the inspected graph is connected. When the graph is directed, this method returns
+     * true if and only if the graph is weakly connected. An empty graph is not considered
+     * connected.
+     *
+     * @return true if and only if the inspected graph is connected
+     */
+    public boolean isConnected()
+    {
+        return numberOfComponents == 1;
+    }
+
+    /**
+     * Get the number of connected components of the inspected graph.
+     *
+     * @return the number of connected components
+     */
+    public int getNumberOfConnectedComponents()
+    {
+        return numberOfComponents;
+    }
+
+    /**
+     * Tests whether two vertices lie in the same connected component (undirected graph), or in
+     * the same weakly connected component (directed graph).
+     *
+     * @param sourceVertex one end of the path
+     * @param targetVertex another end of the path
+     * @return true if and only if the two vertices are in the same connected component
+     * @throws IllegalArgumentException if one of the vertices is not in the graph
+     */
+    public boolean pathExists(V sourceVertex, V targetVertex)
+    {
+        return find(getVertexData(sourceVertex).node) == find(getVertexData(targetVertex).node);
+    }
+
+    /**
+     * Returns the set of all vertices which are in the same connected component as the specified
+     * vertex. The set is computed on each call by traversing the spanning forest.
+     *
+     * @param vertex the vertex
+     * @return the vertices of the connected component of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public Set<V> connectedSetOf(V vertex)
+    {
+        getVertexData(vertex);
+        return traverseTree(vertex);
+    }
+
+    /**
+     * Returns a list of sets, where each set contains all vertices that are in the same connected
+     * component. All graph vertices occur in exactly one set.
+     *
+     * @return the vertex sets of the connected components
+     */
+    public List<Set<V>> connectedSets()
+    {
+        Map<Node, Set<V>> components = new LinkedHashMap<>();
+        for (Map.Entry<V, VertexData<E>> entry : vertices.entrySet()) {
+            components
+                .computeIfAbsent(find(entry.getValue().node), k -> new HashSet<>())
+                .add(entry.getKey());
+        }
+        return new ArrayList<>(components.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        addEdge(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        removeEdge(e.getEdge());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        addVertex(e.getVertex());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        V v = e.getVertex();
+        VertexData<E> data = vertices.get(v);
+        if (data == null) {
+            return;
+        }
+        // the graph removes the touching edges first, this only guards against missed events
+        List<E> touching = new ArrayList<>(data.treeEdges);
+        touching.addAll(data.nonTreeEdges);
+        for (E edge : touching) {
+            removeEdge(edge);
+        }
+        vertices.remove(v);
+        numberOfComponents--;
+    }
+
+    private void addVertex(V v)
+    {
+        if (!vertices.containsKey(v)) {
+            vertices.put(v, new VertexData<>());
+            numberOfComponents++;
+        }
+    }
+
+    private void addEdge(E e, V source, V target)
+    {
+        if (edges.containsKey(e)) {
+            return;
+        }
+        addVertex(source);
+        addVertex(target);
+        VertexData<E> sourceData = vertices.get(source);
+        VertexData<E> targetData = vertices.get(target);
+
+        Node sourceRoot = find(sourceData.node);
+        Node targetRoot = find(targetData.node);
+        boolean tree = sourceRoot != targetRoot;
+        edges.put(e, new EdgeData<>(source, target, tree));
+        if (tree) {
+            union(sourceRoot, targetRoot);
+            numberOfComponents--;
+            sourceData.treeEdges.add(e);
+            targetData.treeEdges.add(e);
+        } else {
+            sourceData.nonTreeEdges.add(e);
+            targetData.nonTreeEdges.add(e);
+        }
+    }
+
+    private void removeEdge(E e)
+    {
+        EdgeData<V> edgeData = edges.remove(e);
+        if (edgeData == null) {
+            return;
+        }
+        VertexData<E> sourceData = vertices.get(edgeData.source);
+        VertexData<E> targetData = vertices.get(edgeData.target);
+        if (!edgeData.tree) {
+            sourceData.nonTreeEdges.remove(e);
+            targetData.nonTreeEdges.remove(e);
+            return;
+        }
+        sourceData.treeEdges.remove(e);
+        targetData.treeEdges.remove(e);
+
+        Set<V> smaller = smallerSide(edgeData.source, edgeData.target);
+
+        // look for a replacement edge leaving the smaller side
+        for (V v : smaller) {
+            for (E candidate : vertices.get(v).nonTreeEdges) {
+                EdgeData<V> candidateData = edges.get(candidate);
+                V u = candidateData.source.equals(v) ? candidateData.target : candidateData.source;
+                if (!smaller.contains(u)) {
+                    candidateData.tree = true;
+                    VertexData<E> vData = vertices.get(v);
+                    VertexData<E> uData = vertices.get(u);
+                    vData.nonTreeEdges.remove(candidate);
+                    uData.nonTreeEdges.remove(candidate);
+                    vData.treeEdges.add(candidate);
+                    uData.treeEdges.add(candidate);
+                    return;
+                }
+            }
+        }
+
+        /*
+         * The component is split. The vertices of the smaller side get fresh nodes forming a new
+         * set, while their old nodes stay behind as inner nodes of the set of the other side.
+         */
+        Node root = new Node();
+        for (V v : smaller) {
+            VertexData<E> data = vertices.get(v);
+            data.node = new Node();
+            data.node.parent = root;
+        }
+        root.rank = 1;
+        numberOfComponents++;
+    }
+
+    /**
+     * Compute the vertices of the smaller of the two trees containing two vertices after a tree
+     * edge between them has been removed. Two breadth-first searches on the spanning forest are
+     * run in lockstep until one of them is exhausted.
+     *
+     * @param a the first vertex
+     * @param b the second vertex
+     * @return the vertices of the smaller tree
+     */
+    private Set<V> smallerSide(V a, V b)
+    {
+        TreeSearch first = new TreeSearch(a);
+        TreeSearch second = new TreeSearch(b);
+        while (true) {
+            if (!first.advance()) {
+                return first.visited;
+            }
+            if (!second.advance()) {
+                return second.visited;
+            }
+        }
+    }
+
+    private Set<V> traverseTree(V v)
+    {
+        TreeSearch search = new TreeSearch(v);
+        while (search.advance()) {
+            // traverse the whole tree
+        }
+        return search.visited;
+    }
+
+    private VertexData<E> getVertexData(V v)
+    {
+        VertexData<E> data = vertices.get(v);
+        if (data == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return data;
+    }
+
+    private static Node find(Node node)
+    {
+        while (node.parent != node) {
+            node.parent = node.parent.parent;
+            node = node.parent;
+        }
+        return node;
+    }
+
+    private static void union(Node a, Node b)
+    {
+        if (a.rank < b.rank) {
+            a.parent = b;
+        } else if (a.rank > b.rank) {
+            b.parent = a;
+        } else {
+            b.parent = a;
+            a.rank++;
+        }
+    }
+
+    /**
+     * A breadth-first search on the spanning forest which can be advanced one vertex at a time.
+     */
+    private class TreeSearch
+    {
+        final Set<V> visited;
+        private final Deque<V> queue;
+
+        TreeSearch(V start)
+        {
+            this.visited = new HashSet<>();
+            this.queue = new ArrayDeque<>();
+            visited.add(start);
+            queue.add(start);
+        }
+
+        /**
+         * Expand the next vertex of the search.
+         *
+         * @return false if the search was already exhausted, true otherwise
+         */
+        boolean advance()
+        {
+            V v = queue.poll();
+            if (v == null) {
+                return false;
+            }
+            for (E e : vertices.get(v).treeEdges) {
+                EdgeData<V> data = edges.get(e);
+                V u = data.source.equals(v) ? data.target : data.source;
+                if (visited.add(u)) {
+                    queue.add(u);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A node of the union-find structure.
+     */
+    private static class Node
+    {
+        Node parent;
+        int rank;
+
+        Node()
+        {
+            this.parent = this;
+        }
+    }
+
+    private static class VertexData<E>
+    {
+        Node node;
+        final Set<E> treeEdges;
+        final Set<E> nonTreeEdges;
+
+        VertexData()
+        {
+            this.node = new Node();
+            this.treeEdges = new LinkedHashSet<>();
+            this.nonTreeEdges = new LinkedHashSet<>();
+        }
+    }
+
+    private static class EdgeData<V>
+    {
+        final V source;
+        final V target;
+        boolean tree;
+
+        EdgeData(V source, V target, boolean tree)
+        {
+            this.source = source;
+            this.target = target;
+            this.tree = tree;
+        }
+    }
+
+}
@@ -18,7 +18,6 @@
 package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.extension.*;
 
 import java.util.*;
 
@@ -42,6 +41,11 @@ import java.util.*;
  *
  * 3). Add $f'$ to the flow $f$. Move to the step $1$.
  *
+ * The algorithm works on a copy of the network laid out in primitive arrays, see
+ * {@link ResidualNetwork}. Blocking flows are found by an iterative depth-first search which keeps
+ * a pointer to the current arc of each vertex and retreats to the first saturated arc after each
+ * augmentation.
+ *
  * @param <V> the graph vertex type.
  * @param <E> the graph edge type.
  *
@@ -50,21 +54,13 @@ import java.util.*;
 
 public class DinicMFImpl<V, E>
     extends
-    MaximumFlowAlgorithmBase<V, E>
+    IndexedMaximumFlowAlgorithmBase<V, E>
 {
-
-    /**
-     * Current source vertex.
-     */
-    private VertexExtension currentSource;
-
-    /**
-     * Current sink vertex.
-     */
-    private VertexExtension currentSink;
-
-    private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
-    private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
+    /* level of each vertex in the level graph, -1 if unreachable or a dead end */
+    private int[] level;
+    /* position of the first unexplored arc of each vertex */
+    private int[] currentArc;
+    private int[] queue;
 
     /**
      * Constructor. Constructs a new network on which we will calculate the maximum flow, using
@@ -75,20 +71,22 @@ public class DinicMFImpl<V, E>
      */
     public DinicMFImpl(Graph<V, E> network, double epsilon)
     {
-        super(network, epsilon);
-        this.vertexExtensionsFactory = VertexExtension::new;
-
-        this.edgeExtensionsFactory = AnnotatedFlowEdge::new;
-
-        if (epsilon <= 0) {
-            throw new IllegalArgumentException("Epsilon must be positive!");
-        }
+        this(network, epsilon, false);
+    }
 
-        for (E e : network.edgeSet()) {
-            if (network.getEdgeWeight(e) < -epsilon) {
-                throw new IllegalArgumentException("Capacity must be non-negative!");
-            }
-        }
+    /**
+     * Constructor. Constructs a new network on which we will calculate the maximum flow, using
+     * Dinic algorithm. If <tt>reuseNetwork</tt> is true, the residual network is built on the first
+     * invocation and only reset on later invocations, thus the network must not be modified
+     * afterwards.
+     *
+     * @param network the network on which we calculate the maximum flow.
+     * @param epsilon the tolerance for the comparison of floating point values.
+     * @param reuseNetwork whether to reuse the residual network across invocations.
+     */
+    public DinicMFImpl(Graph<V, E> network, double epsilon, boolean reuseNetwork)
+    {
+        super(network, epsilon, reuseNetwork);
     }
 
     /**
@@ -102,43 +100,20 @@ public class DinicMFImpl<V, E>
     }
 
     @Override
-    public MaximumFlow<E> getMaximumFlow(V source, V sink)
-    {
-        this.calculateMaxFlow(source, sink);
-        maxFlow = composeFlow();
-        return new MaximumFlowImpl<>(maxFlowValue, maxFlow);
-    }
-
-    /**
-     * Assigns source to currentSource and sink to currentSink. Afterwards invokes dinic() method to
-     * calculate the maximum flow in the network using Dinic algorithm with scaling.
-     *
-     * @param source source vertex.
-     * @param sink sink vertex.
-     * @return the value of the maximum flow in the network.
-     */
-    private double calculateMaxFlow(V source, V sink)
+    double computeMaximumFlow(int s, int t)
     {
-        super.init(source, sink, vertexExtensionsFactory, edgeExtensionsFactory);
-
-        if (!network.containsVertex(source)) {
-            throw new IllegalArgumentException("Network does not contain source!");
-        }
-
-        if (!network.containsVertex(sink)) {
-            throw new IllegalArgumentException("Network does not contain sink!");
-        }
-
-        if (source.equals(sink)) {
-            throw new IllegalArgumentException("Source is equal to sink!");
+        int n = residualNetwork.n;
+        level = new int[n];
+        currentArc = new int[n];
+        queue = new int[n];
+        int[] path = new int[n];
+
+        double value = 0d;
+        while (bfs(s, t)) {
+            System.arraycopy(residualNetwork.firstArc, 0, currentArc, 0, n);
+            value += blockingFlow(s, t, path);
         }
-
-        currentSource = getVertexExtension(source);
-        currentSink = getVertexExtension(sink);
-
-        dinic();
-
-        return maxFlowValue;
+        return value;
     }
 
     /**
@@ -151,49 +126,105 @@ public class DinicMFImpl<V, E>
      *
      * @return true, if level graph has been constructed(i.e we reached the sink), otherwise false.
      */
-    private boolean bfs()
+    private boolean bfs(int s, int t)
     {
-
-        for (V v : network.vertexSet()) {
-            getVertexExtension(v).level = -1;
+        ResidualNetwork<V, E> r = residualNetwork;
+        Arrays.fill(level, -1);
+        level[s] = 0;
+        queue[0] = s;
+        int queueHead = 0, queueTail = 1;
+        while (queueHead < queueTail && level[t] == -1) {
+            int u = queue[queueHead++];
+            for (int k = r.firstArc[u]; k < r.firstArc[u + 1]; k++) {
+                int a = r.arcs[k];
+                int v = r.head[a];
+                if (level[v] == -1 && r.residual[a] > epsilon) {
+                    level[v] = level[u] + 1;
+                    queue[queueTail++] = v;
+                }
+            }
         }
+        return level[t] != -1;
+    }
 
-        Queue<VertexExtension> queue = new LinkedList<>();
-        queue.offer(currentSource);
-
-        currentSource.level = 0;
+    /**
+     * Finds a blocking flow in the level graph. For each vertex we have a pointer on the first
+     * edge which we can use to reach the sink. If we can't reach the sink using current edge, we
+     * increment the pointer. So on each iteration we either saturate at least one edge or we
+     * increment pointer.
+     *
+     * @return the value of the blocking flow
+     */
+    private double blockingFlow(int s, int t, int[] path)
+    {
+        ResidualNetwork<V, E> r = residualNetwork;
+        double value = 0d;
+        int depth = 0;
+        int u = s;
+        while (true) {
+            if (u == t) {
+                double delta = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < depth; i++) {
+                    delta = Math.min(delta, r.residual[path[i]]);
+                }
+                int retreat = depth;
+                for (int i = 0; i < depth; i++) {
+                    r.push(path[i], delta);
+                    if (retreat == depth && r.residual[path[i]] <= epsilon) {
+                        retreat = i;
+                    }
+                }
+                value += delta;
+                depth = retreat;
+                u = depth == 0 ? s : r.head[path[depth - 1]];
+                continue;
+            }
 
-        while (!queue.isEmpty() && currentSink.level == -1) {
-            VertexExtension v = queue.poll();
-            for (AnnotatedFlowEdge edge : v.getOutgoing()) {
-                VertexExtension u = edge.getTarget();
-                if (comparator.compare(edge.flow, edge.capacity) < 0 && u.level == -1) {
-                    u.level = v.level + 1;
-                    queue.offer(u);
+            int end = r.firstArc[u + 1];
+            int k = currentArc[u];
+            for (; k < end; k++) {
+                int a = r.arcs[k];
+                if (r.residual[a] > epsilon && level[r.head[a]] == level[u] + 1) {
+                    break;
                 }
             }
+            currentArc[u] = k;
+
+            if (k < end) {
+                int a = r.arcs[k];
+                path[depth++] = a;
+                u = r.head[a];
+            } else {
+                // dead end, remove u from the level graph and retreat
+                level[u] = -1;
+                if (depth == 0) {
+                    return value;
+                }
+                u = r.tail(path[--depth]);
+                currentArc[u]++;
+            }
         }
-
-        return currentSink.level != -1;
     }
 
     /**
-     * Finds a blocking flow in the network. For each vertex we have a pointer on the first edge
-     * which we can use to reach the sink. If we can't reach the sink using current edge, we
-     * increment the pointer. So on each iteration we either saturate at least one edge or we
-     * increment pointer.
+     * Finds a blocking flow in a network of vertex extensions. For each vertex we have a pointer on
+     * the first edge which we can use to reach the sink. If we can't reach the sink using current
+     * edge, we increment the pointer.
      *
      * @param v current vertex.
      * @param flow we can push through.
      * @return value of the flow we can push.
+     * @deprecated the algorithm works on a {@link ResidualNetwork} instead of vertex extensions,
+     *             this method will be removed in the next release
      */
+    @Deprecated
     public double dfs(VertexExtension v, double flow)
     {
         if (comparator.compare(0.0, flow) == 0) {
             return flow;
         }
 
-        if (v.equals(currentSink)) {
+        if (v.prototype.equals(sink)) {
             return flow;
         }
 
@@ -216,37 +247,27 @@ public class DinicMFImpl<V, E>
     }
 
     /**
-     * Runs Dinic algorithm with scaling. Construct a level graph, then find blocking flow and
-     * finally increase the flow.
+     * Runs Dinic algorithm with scaling between the current source and the current sink.
+     *
+     * @deprecated use {@link #calculateMaximumFlow(Object, Object)} instead, this method will be
+     *             removed in the next release
      */
+    @Deprecated
     public void dinic()
     {
-        for (;;) {
-            if (!bfs()) {
-                break;
-            }
-            for (V v : network.vertexSet()) {
-                getVertexExtension(v).index = 0;
-            }
-
-            while (true) {
-                double pushed = dfs(currentSource, Double.POSITIVE_INFINITY);
-                if (pushed == 0.0) {
-                    break;
-                }
-                maxFlowValue += pushed;
-            }
+        if (source == null) {
+            throw new IllegalStateException("No source and sink have been specified");
         }
-    }
-
-    private VertexExtension getVertexExtension(V v)
-    {
-        return (VertexExtension) vertexExtensionManager.getExtension(v);
+        calculateMaximumFlow(source, sink);
     }
 
     /**
      * Extension for vertex class.
+     *
+     * @deprecated the algorithm works on a {@link ResidualNetwork} instead of vertex extensions,
+     *             this class will be removed in the next release
      */
+    @Deprecated
     class VertexExtension
         extends
         VertexExtensionBase
@@ -18,9 +18,6 @@
 package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.extension.*;
-
-import java.util.*;
 
 /**
  * This class computes a maximum flow in a
@@ -55,6 +52,11 @@ import java.util.*;
  * <p>
  * For more details see Andrew V. Goldberg's <i>Combinatorial Optimization (Lecture Notes)</i>.
  *
+ * <p>
+ * The algorithm works on a copy of the network laid out in primitive arrays, see
+ * {@link ResidualNetwork}. The breadth-first searches use integer arrays for the queue and the
+ * predecessor arcs and do not allocate any objects.
+ *
  * Note: even though the algorithm accepts any kind of graph, currently only Simple directed and
  * undirected graphs are supported (and tested!).
  *
@@ -66,17 +68,8 @@ import java.util.*;
 
 public final class EdmondsKarpMFImpl<V, E>
     extends
-    MaximumFlowAlgorithmBase<V, E>
+    IndexedMaximumFlowAlgorithmBase<V, E>
 {
-
-    /* current source vertex */
-    private VertexExtension currentSource;
-    /* current sink vertex */
-    private VertexExtension currentSink;
-
-    private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
-    private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
-
     /**
      * Constructs <tt>MaximumFlow</tt> instance to work with <i>a copy of</i> <tt>network</tt>.
      * Current source and sink are set to <tt>null</tt>. If <tt>network</tt> is weighted, then
@@ -101,196 +94,61 @@ public final class EdmondsKarpMFImpl<V, E>
      */
     public EdmondsKarpMFImpl(Graph<V, E> network, double epsilon)
     {
-        super(network, epsilon);
-        this.vertexExtensionsFactory = () -> new VertexExtension();
-
-        this.edgeExtensionsFactory = () -> new AnnotatedFlowEdge();
-
-        if (network == null) {
-            throw new NullPointerException("network is null");
-        }
-        if (epsilon <= 0) {
-            throw new IllegalArgumentException("invalid epsilon (must be positive)");
-        }
-        for (E e : network.edgeSet()) {
-            if (network.getEdgeWeight(e) < -epsilon) {
-                throw new IllegalArgumentException("invalid capacity (must be non-negative)");
-            }
-        }
-    }
-
-    /**
-     * Sets current source to <tt>source</tt>, current sink to <tt>sink</tt>, then calculates
-     * maximum flow from <tt>source</tt> to <tt>sink</tt>. Note, that <tt>source</tt> and
-     * <tt>sink</tt> must be vertices of the <tt>
-     * network</tt> passed to the constructor, and they must be different.
-     *
-     * @param source source vertex
-     * @param sink sink vertex
-     * 
-     * @return a maximum flow
-     */
-    public MaximumFlow<E> getMaximumFlow(V source, V sink)
-    {
-        this.calculateMaximumFlow(source, sink);
-        maxFlow = composeFlow();
-        return new MaximumFlowImpl<>(maxFlowValue, maxFlow);
+        this(network, epsilon, false);
     }
 
     /**
-     * Sets current source to <tt>source</tt>, current sink to <tt>sink</tt>, then calculates
-     * maximum flow from <tt>source</tt> to <tt>sink</tt>. Note, that <tt>source</tt> and
-     * <tt>sink</tt> must be vertices of the <tt>
-     * network</tt> passed to the constructor, and they must be different. If desired, a flow map
-     * can be queried afterwards; this will not require a new invocation of the algorithm.
+     * Constructs <tt>MaximumFlow</tt> instance to work with <i>a copy of</i> <tt>network</tt>. If
+     * <tt>reuseNetwork</tt> is true, the copy is made on the first invocation and only reset on
+     * later invocations, thus <tt>network</tt> must not be modified afterwards.
      *
-     * @param source source vertex
-     * @param sink sink vertex
-     * 
-     * @return the value of the maximum flow
+     * @param network network, where maximum flow will be calculated
+     * @param epsilon tolerance for comparing doubles
+     * @param reuseNetwork whether to reuse the copy of the network across invocations
      */
-    public double calculateMaximumFlow(V source, V sink)
+    public EdmondsKarpMFImpl(Graph<V, E> network, double epsilon, boolean reuseNetwork)
     {
-        super.init(source, sink, vertexExtensionsFactory, edgeExtensionsFactory);
-
-        if (!network.containsVertex(source)) {
-            throw new IllegalArgumentException("invalid source (null or not from this network)");
-        }
-        if (!network.containsVertex(sink)) {
-            throw new IllegalArgumentException("invalid sink (null or not from this network)");
-        }
-
-        if (source.equals(sink)) {
-            throw new IllegalArgumentException("source is equal to sink");
-        }
-
-        currentSource = getVertexExtension(source);
-        currentSink = getVertexExtension(sink);
-
-        for (;;) {
-            breadthFirstSearch();
-
-            if (!currentSink.visited) {
-                break;
-            }
-
-            maxFlowValue += augmentFlow();
-        }
-
-        return maxFlowValue;
+        super(network, epsilon, reuseNetwork);
     }
 
-    /**
-     * Method which finds a path from source to sink the in the residual graph. Note that this
-     * method tries to find multiple paths at once. Once a single path has been discovered, no new
-     * nodes are added to the queue, but nodes which are already in the queue are fully explored. As
-     * such there's a chance that multiple paths are discovered.
-     */
-    private void breadthFirstSearch()
+    @Override
+    double computeMaximumFlow(int s, int t)
     {
-        for (V v : network.vertexSet()) {
-            getVertexExtension(v).visited = false;
-            getVertexExtension(v).lastArcs = null;
-        }
-
-        Queue<VertexExtension> queue = new LinkedList<>();
-        queue.offer(currentSource);
-
-        currentSource.visited = true;
-        currentSource.excess = Double.POSITIVE_INFINITY;
-
-        currentSink.excess = 0.0;
-
-        boolean seenSink = false;
-
-        while (queue.size() != 0) {
-            VertexExtension ux = queue.poll();
-
-            for (AnnotatedFlowEdge ex : ux.getOutgoing()) {
-                if (comparator.compare(ex.flow, ex.capacity) < 0) {
-                    VertexExtension vx = ex.getTarget();
-
-                    if (vx == currentSink) {
-                        vx.visited = true;
-
-                        if (vx.lastArcs == null) {
-                            vx.lastArcs = new ArrayList<>();
-                        }
-
-                        vx.lastArcs.add(ex);
-                        vx.excess += Math.min(ux.excess, ex.capacity - ex.flow);
-
-                        seenSink = true;
-                    } else if (!vx.visited) {
-                        vx.visited = true;
-                        vx.excess = Math.min(ux.excess, ex.capacity - ex.flow);
-
-                        vx.lastArcs = Collections.singletonList(ex);
-
-                        if (!seenSink) {
-                            queue.add(vx);
-                        }
+        ResidualNetwork<V, E> r = residualNetwork;
+        int[] predecessorArc = new int[r.n];
+        int[] visited = new int[r.n];
+        int[] queue = new int[r.n];
+
+        double value = 0d;
+        for (int round = 1;; round++) {
+            // breadth-first search for a shortest augmenting path
+            visited[s] = round;
+            queue[0] = s;
+            int queueHead = 0, queueTail = 1;
+            while (queueHead < queueTail && visited[t] != round) {
+                int u = queue[queueHead++];
+                for (int k = r.firstArc[u]; k < r.firstArc[u + 1]; k++) {
+                    int a = r.arcs[k];
+                    int v = r.head[a];
+                    if (visited[v] != round && r.residual[a] > epsilon) {
+                        visited[v] = round;
+                        predecessorArc[v] = a;
+                        queue[queueTail++] = v;
                     }
                 }
             }
-        }
-    }
-
-    /**
-     * For all paths which end in the sink. trace them back to the source and push flow through
-     * them.
-     * 
-     * @return total increase in flow from source to sink
-     */
-    private double augmentFlow()
-    {
-        double flowIncrease = 0;
-        Set<VertexExtension> seen = new HashSet<>();
-
-        for (AnnotatedFlowEdge ex : currentSink.lastArcs) {
-            double deltaFlow = Math.min(ex.getSource().excess, ex.capacity - ex.flow);
-
-            if (augmentFlowAlongInternal(deltaFlow, ex.<VertexExtension> getSource(), seen)) {
-                pushFlowThrough(ex, deltaFlow);
-                flowIncrease += deltaFlow;
+            if (visited[t] != round) {
+                return value;
             }
-        }
-        return flowIncrease;
-    }
 
-    private boolean augmentFlowAlongInternal(
-        double deltaFlow, VertexExtension node, Set<VertexExtension> seen)
-    {
-        if (node == currentSource) {
-            return true;
-        }
-        if (seen.contains(node)) {
-            return false;
-        }
-
-        seen.add(node);
-
-        AnnotatedFlowEdge prev = node.lastArcs.get(0);
-        if (augmentFlowAlongInternal(deltaFlow, prev.<VertexExtension> getSource(), seen)) {
-            pushFlowThrough(prev, deltaFlow);
-            return true;
+            double delta = Double.POSITIVE_INFINITY;
+            for (int v = t; v != s; v = r.tail(predecessorArc[v])) {
+                delta = Math.min(delta, r.residual[predecessorArc[v]]);
+            }
+            for (int v = t; v != s; v = r.tail(predecessorArc[v])) {
+                r.push(predecessorArc[v], delta);
+            }
+            value += delta;
         }
-
-        return false;
-    }
-
-    private VertexExtension getVertexExtension(V v)
-    {
-        return (VertexExtension) vertexExtensionManager.getExtension(v);
-    }
-
-    class VertexExtension
-        extends
-        VertexExtensionBase
-    {
-        boolean visited; // this mark is used during BFS to mark visited nodes
-        List<AnnotatedFlowEdge> lastArcs; // last arc(-s) in the shortest path used to reach this
-                                          // vertex
-
     }
 }
@@ -103,7 +103,7 @@ public class GusfieldEquivalentFlowTree<V, E>
      */
     public GusfieldEquivalentFlowTree(Graph<V, E> network, double epsilon)
     {
-        this(network, new PushRelabelMFImpl<>(network, epsilon));
+        this(network, new PushRelabelMFImpl<>(network, epsilon, true));
     }
 
     /**
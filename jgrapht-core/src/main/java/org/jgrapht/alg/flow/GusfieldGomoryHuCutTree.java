@@ -21,8 +21,11 @@ import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * This class computes a Gomory-Hu tree (GHT) using the algorithm proposed by Dan Gusfield. For a
@@ -43,7 +46,15 @@ import java.util.*;
  * algorithm used to compute $s-t$ cuts in the graph. By default, this class uses the
  * {@link PushRelabelMFImpl} implementation to calculate minimum s-t cuts. This class has a runtime
  * complexity of $O(V^3)$, resulting in a $O(V^4)$ runtime complexity for the overall algorithm.
+ * The default algorithm builds its residual network once and reuses it for all $n-1$ computations.
  *
+ * <p>
+ * The $s-t$ cut computations can also be performed by several threads. Each step of Gusfield's
+ * algorithm computes a cut between a vertex $s$ and its current tree neighbor $p[s]$, and only
+ * changes the tree neighbors of vertices in the source partition of that cut. Hence the cuts of the
+ * next few vertices are computed concurrently, each with its own copy of the residual network, and
+ * then applied in order. A cut is recomputed only if an earlier step changed the tree neighbor of
+ * its vertex. The resulting tree is identical to the one computed sequentially.
  *
  * <p>
  * Note: this class performs calculations in a lazy manner. The GHT is not calculated until the
@@ -75,8 +86,12 @@ public class GusfieldGomoryHuCutTree<V, E>
     private final Graph<V, E> network;
     /* Number of vertices in the graph */
     private final int N;
-    /* Algorithm used to computed the Maximum $s-t$ flows */
+    /* Algorithm used to computed the Maximum $s-t$ flows, null in parallel mode */
     private final MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm;
+    /* Number of threads computing $s-t$ cuts */
+    private final int parallelism;
+    /* Tolerance of the parallel $s-t$ cut computations */
+    private final double epsilon;
 
     /* Data structures for computations */
     private List<V> vertexList = new ArrayList<>();
@@ -110,7 +125,23 @@ public class GusfieldGomoryHuCutTree<V, E>
      */
     public GusfieldGomoryHuCutTree(Graph<V, E> network, double epsilon)
     {
-        this(network, new PushRelabelMFImpl<>(network, epsilon));
+        this(network, new PushRelabelMFImpl<>(network, epsilon, true));
+    }
+
+    /**
+     * Constructs a new GusfieldGomoryHuCutTree instance which computes the minimum $s-t$ cuts with
+     * the {@link PushRelabelMFImpl} algorithm using several threads.
+     *
+     * @param network input graph
+     * @param epsilon precision
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public GusfieldGomoryHuCutTree(Graph<V, E> network, double epsilon, int parallelism)
+    {
+        this(
+            network, parallelism == 1 ? new PushRelabelMFImpl<>(network, epsilon, true) : null,
+            epsilon, parallelism);
     }
 
     /**
@@ -121,8 +152,20 @@ public class GusfieldGomoryHuCutTree<V, E>
      */
     public GusfieldGomoryHuCutTree(
         Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm)
+    {
+        this(network, minimumSTCutAlgorithm, MaximumFlowAlgorithmBase.DEFAULT_EPSILON, 1);
+    }
+
+    private GusfieldGomoryHuCutTree(
+        Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm, double epsilon,
+        int parallelism)
     {
         this.network = GraphTests.requireUndirected(network);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        this.epsilon = epsilon;
         this.N = network.vertexSet().size();
         if (N < 2)
             throw new IllegalArgumentException("Graph must have at least 2 vertices");
@@ -141,31 +184,116 @@ public class GusfieldGomoryHuCutTree<V, E>
         p = new int[N];
         fl = new double[N];
 
+        if (parallelism > 1) {
+            calculateGomoryHuTreeInParallel();
+            return;
+        }
+
         for (int s = 1; s < N; s++) {
             int t = p[s];
             double flowValue =
                 minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
             Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition(); // Set X in the
                                                                                  // paper
-            fl[s] = flowValue;
-
-            for (int i = 0; i < N; i++)
-                if (i != s && sourcePartition.contains(vertexList.get(i)) && p[i] == t)
-                    p[i] = s;
-            if (sourcePartition.contains(vertexList.get(p[t]))) {
-                p[s] = p[t];
-                p[t] = s;
-                fl[s] = fl[t];
-                fl[t] = flowValue;
+            addCut(s, t, flowValue, sourcePartition);
+        }
+    }
+
+    /**
+     * Runs the algorithm, computing the cuts of the next vertices concurrently. The cuts are
+     * applied in the order of the vertices, and a cut is recomputed if the tree neighbor of its
+     * vertex has changed in the meantime.
+     */
+    private void calculateGomoryHuTreeInParallel()
+    {
+        ResidualNetwork<V, E> residualNetwork = new ResidualNetwork<>(network);
+        List<PushRelabelMFImpl<V, E>> algorithms = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            PushRelabelMFImpl<V, E> algorithm = new PushRelabelMFImpl<>(network, epsilon, true);
+            algorithm.copyResidualNetwork(residualNetwork);
+            algorithms.add(algorithm);
+        }
+
+        // cut of vertex s, valid as long as p[s] == cutTarget[s]
+        int[] cutTarget = new int[N];
+        Arrays.fill(cutTarget, -1);
+        double[] cutValue = new double[N];
+        List<Set<V>> cutPartition = new ArrayList<>(Collections.nCopies(N, null));
+
+        int[] batch = new int[parallelism];
+        ExecutorService executor = ConcurrencyUtil.createThreadPool(parallelism);
+        try {
+            int s = 1;
+            while (s < N) {
+                // collect the next vertices whose cut is unknown or outdated
+                int batchSize = 0;
+                for (int i = s; i < N && batchSize < parallelism; i++) {
+                    if (cutTarget[i] != p[i]) {
+                        batch[batchSize++] = i;
+                    }
+                }
+
+                int size = batchSize;
+                AtomicInteger cursor = new AtomicInteger();
+                List<Callable<Void>> tasks = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    MinimumSTCutAlgorithm<V, E> algorithm = algorithms.get(i);
+                    tasks.add(() -> {
+                        int k;
+                        while ((k = cursor.getAndIncrement()) < size) {
+                            int u = batch[k];
+                            int t = p[u];
+                            cutValue[u] = algorithm
+                                .calculateMinCut(vertexList.get(u), vertexList.get(t));
+                            cutPartition.set(u, algorithm.getSourcePartition());
+                            cutTarget[u] = t;
+                        }
+                        return null;
+                    });
+                }
+                ConcurrencyUtil.invokeAll(executor, tasks);
+
+                // apply the valid cuts in order, the cut of s is always valid
+                while (s < N && cutTarget[s] == p[s]) {
+                    addCut(s, p[s], cutValue[s], cutPartition.get(s));
+                    cutPartition.set(s, null);
+                    s++;
+                }
             }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            // populate the flow matrix
-            flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
-            for (int i = 0; i < s; i++)
-                if (i != t)
-                    flowMatrix[s][i] =
-                        flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
+    /**
+     * Apply the minimum cut between vertex $s$ and its tree neighbor $t$ to the tree and the flow
+     * matrix.
+     *
+     * @param s the vertex
+     * @param t the tree neighbor of the vertex
+     * @param flowValue the value of the cut
+     * @param sourcePartition the source partition of the cut
+     */
+    private void addCut(int s, int t, double flowValue, Set<V> sourcePartition)
+    {
+        fl[s] = flowValue;
+
+        for (int i = 0; i < N; i++)
+            if (i != s && sourcePartition.contains(vertexList.get(i)) && p[i] == t)
+                p[i] = s;
+        if (sourcePartition.contains(vertexList.get(p[t]))) {
+            p[s] = p[t];
+            p[t] = s;
+            fl[s] = fl[t];
+            fl[t] = flowValue;
         }
+
+        // populate the flow matrix
+        flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
+        for (int i = 0; i < s; i++)
+            if (i != t)
+                flowMatrix[s][i] =
+                    flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
     }
 
     /**
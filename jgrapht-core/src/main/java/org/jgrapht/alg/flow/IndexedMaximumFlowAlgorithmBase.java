@@ -0,0 +1,221 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+
+import java.util.*;
+
+/**
+ * Base class for maximum flow algorithms which work on a {@link ResidualNetwork}, i.e. on a copy
+ * of the flow network laid out in flat arrays, instead of on the per vertex and per edge extension
+ * objects of {@link MaximumFlowAlgorithmBase}. Subclasses only implement the computation of the
+ * flow on the residual network, while this class translates between the vertices and edges of the
+ * graph and their indices and provides the flow map, the flow directions and the minimum $s-t$
+ * cut. The extension managers of {@link MaximumFlowAlgorithmBase} are not used.
+ *
+ * <p>
+ * By default the residual network is built from scratch on every invocation, so that changes to
+ * the network between invocations are taken into account. Applications which compute many flows
+ * on the same network, such as the construction of Gomory-Hu trees, can ask the algorithm to reuse
+ * the residual network. It is then built once, and later invocations only reset the residual
+ * capacities in a single pass over the arcs. In this case the network must not be modified after
+ * the first invocation.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public abstract class IndexedMaximumFlowAlgorithmBase<V, E>
+    extends
+    MaximumFlowAlgorithmBase<V, E>
+{
+    /* whether the residual network is reused across invocations */
+    protected final boolean reuseNetwork;
+
+    /* residual network of the last invocation of this algorithm */
+    ResidualNetwork<V, E> residualNetwork;
+
+    /**
+     * Construct a new maximum flow algorithm.
+     *
+     * @param network the network
+     * @param epsilon the tolerance for the comparison of floating point values
+     * @param reuseNetwork whether to build the residual network once and reuse it across
+     *        invocations
+     * @throws IllegalArgumentException if epsilon is not positive or if the network has an edge
+     *         with negative capacity
+     */
+    protected IndexedMaximumFlowAlgorithmBase(
+        Graph<V, E> network, double epsilon, boolean reuseNetwork)
+    {
+        super(Objects.requireNonNull(network, "network is null"), epsilon);
+        if (epsilon <= 0) {
+            throw new IllegalArgumentException("Epsilon must be positive!");
+        }
+        this.reuseNetwork = reuseNetwork;
+        for (E e : network.edgeSet()) {
+            if (network.getEdgeWeight(e) < -epsilon) {
+                throw new IllegalArgumentException("Capacity must be non-negative!");
+            }
+        }
+    }
+
+    /**
+     * Compute a maximum flow on the residual network, which carries the zero flow when this method
+     * is called.
+     *
+     * @param s the index of the source
+     * @param t the index of the sink
+     * @return the value of the maximum flow
+     */
+    abstract double computeMaximumFlow(int s, int t);
+
+    @Override
+    public MaximumFlow<E> getMaximumFlow(V source, V sink)
+    {
+        calculateMaximumFlow(source, sink);
+        return new MaximumFlowImpl<>(maxFlowValue, getFlowMap());
+    }
+
+    /**
+     * Sets current source to <tt>source</tt>, current sink to <tt>sink</tt>, then calculates
+     * maximum flow from <tt>source</tt> to <tt>sink</tt>. Note, that <tt>source</tt> and
+     * <tt>sink</tt> must be vertices of the <tt>
+     * network</tt> passed to the constructor, and they must be different. If desired, a flow map
+     * can be queried afterwards; this will not require a new invocation of the algorithm.
+     *
+     * @param source source vertex
+     * @param sink sink vertex
+     * @return the value of the maximum flow
+     */
+    public double calculateMaximumFlow(V source, V sink)
+    {
+        if (!network.containsVertex(source)) {
+            throw new IllegalArgumentException("Network does not contain source!");
+        }
+        if (!network.containsVertex(sink)) {
+            throw new IllegalArgumentException("Network does not contain sink!");
+        }
+        if (source.equals(sink)) {
+            throw new IllegalArgumentException("Source is equal to sink!");
+        }
+
+        if (reuseNetwork && residualNetwork != null) {
+            residualNetwork.reset();
+        } else {
+            residualNetwork = new ResidualNetwork<>(network);
+        }
+        this.source = source;
+        this.sink = sink;
+        this.maxFlow = null;
+        this.sourcePartition = null;
+        this.sinkPartition = null;
+        this.cutEdges = null;
+
+        maxFlowValue = computeMaximumFlow(
+            residualNetwork.vertexMap.get(source), residualNetwork.vertexMap.get(sink));
+        return maxFlowValue;
+    }
+
+    /**
+     * Use a private copy of an already built residual network of the same graph, instead of
+     * building one on the first invocation. Only has an effect if the network is reused.
+     *
+     * @param other the residual network to copy
+     */
+    void copyResidualNetwork(ResidualNetwork<V, E> other)
+    {
+        assert other.graph == network;
+        this.residualNetwork = new ResidualNetwork<>(other);
+    }
+
+    /**
+     * Returns maximum flow, that was calculated during last <tt>
+     * calculateMaximumFlow</tt> call, or <tt>null</tt>, if there was no <tt>
+     * calculateMaximumFlow</tt> calls.
+     *
+     * @return <i>read-only</i> mapping from edges to doubles - flow values
+     */
+    @Override
+    public Map<E, Double> getFlowMap()
+    {
+        if (source == null) {
+            return null;
+        }
+        if (maxFlow == null) {
+            maxFlow = composeFlow();
+        }
+        return maxFlow;
+    }
+
+    @Override
+    protected Map<E, Double> composeFlow()
+    {
+        return Collections.unmodifiableMap(residualNetwork.getFlowMap());
+    }
+
+    /**
+     * Returns the direction of the flow on an edge $(u,v)$. In case $(u,v)$ is a directed edge
+     * (arc), this function will always return the edge target $v$. However, if $(u,v)$ is an edge
+     * in an undirected graph, flow may go through the edge in either side. If the flow goes from
+     * $u$ to $v$, we return $v$, otherwise $u$. If the flow on an edge equals $0$, the returned
+     * value has no meaning.
+     *
+     * @param e edge
+     * @return the vertex where the flow leaves the edge
+     */
+    @Override
+    public V getFlowDirection(E e)
+    {
+        if (!network.containsEdge(e))
+            throw new IllegalArgumentException(
+                "Cannot query the flow on an edge which does not exist in the input graph!");
+
+        if (directedGraph || residualNetwork.flowOf(residualNetwork.edgeIndexOf(e)) > 0) {
+            return network.getEdgeTarget(e);
+        }
+        return network.getEdgeSource(e);
+    }
+
+    /*---------------- Minimum s-t cut related methods -------------------*/
+
+    @Override
+    public double calculateMinCut(V source, V sink)
+    {
+        return calculateMaximumFlow(source, sink);
+    }
+
+    /**
+     * Calculate the set of reachable vertices from $s$ in the residual network.
+     */
+    @Override
+    protected void calculateSourcePartition()
+    {
+        // the source partition contains all vertices reachable from s in the residual graph
+        boolean[] reachable = residualNetwork
+            .reachableFrom(residualNetwork.vertexMap.get(getCurrentSource()), epsilon);
+        sourcePartition = new LinkedHashSet<>();
+        for (int v = 0; v < residualNetwork.n; v++) {
+            if (reachable[v]) {
+                sourcePartition.add(residualNetwork.vertices.get(v));
+            }
+        }
+    }
+}
@@ -50,6 +50,8 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
     protected Graph<V, E> network;
     /* indicates whether the input graph is directed or not */
     protected final boolean directedGraph;
+    /* Tolerance used to compare floating point values */
+    protected final double epsilon;
     /* Used to compare floating point values */
     protected Comparator<Double> comparator;
 
@@ -81,6 +83,7 @@ public abstract class MaximumFlowAlgorithmBase<V, E>
     {
         this.network = network;
         this.directedGraph = network.getType().isDirected();
+        this.epsilon = epsilon;
         this.comparator = new ToleranceDoubleComparator(epsilon);
     }
 
@@ -18,10 +18,7 @@
 package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.util.*;
-import org.jgrapht.alg.util.extension.*;
 
-import java.lang.reflect.*;
 import java.util.*;
 
 /**
@@ -46,6 +43,12 @@ import java.util.*;
  * graph.
  * </p>
  *
+ * <p>
+ * The algorithm works on a copy of the network laid out in primitive arrays, see
+ * {@link ResidualNetwork}. Active vertices are kept in a FIFO queue backed by an integer array, and
+ * heights, excesses and current arcs are stored in arrays indexed by vertex.
+ * </p>
+ *
  * Note: even though the algorithm accepts any kind of graph, currently only Simple directed and
  * undirected graphs are supported (and tested!).
  *
@@ -58,34 +61,39 @@ import java.util.*;
  */
 public class PushRelabelMFImpl<V, E>
     extends
-    MaximumFlowAlgorithmBase<V, E>
+    IndexedMaximumFlowAlgorithmBase<V, E>
 {
-    // Diagnostic
-    private static final boolean DIAGNOSTIC_ENABLED = false;
-
     public static boolean USE_GLOBAL_RELABELING_HEURISTIC = true;
     public static boolean USE_GAP_RELABELING_HEURISTIC = true;
 
-    private final ExtensionFactory<VertexExtension> vertexExtensionsFactory;
-    private final ExtensionFactory<AnnotatedFlowEdge> edgeExtensionsFactory;
+    private ResidualNetwork<V, E> r;
 
-    // countHeight[h] = number of vertices with height h
-    private int[] countHeight;
+    // number of vertices
+    private int n;
 
-    // queue of active vertices
-    private Queue<VertexExtension> activeVertices;
+    // height (also called label or distance label) of each vertex
+    private int[] height;
+    private double[] excess;
+    // position of the current arc of each vertex
+    private int[] currentArc;
 
-    private PushRelabelDiagnostic diagnostic;
+    // countHeight[h] = number of vertices with height h
+    private int[] countHeight;
 
-    // number of vertices
-    private final int N;
+    // FIFO queue of active vertices, each vertex is in the queue at most once
+    private int[] activeVertices;
+    private int queueHead;
+    private int queueSize;
+    private boolean[] active;
 
-    private final VertexExtension[] vertexExtension;
+    // scratch space for the global relabeling
+    private int[] bfsQueue;
 
     // number of relabels already performed
     private int relabelCounter;
 
-    private static ToleranceDoubleComparator comparator = new ToleranceDoubleComparator();
+    private int sourceIndex;
+    private int sinkIndex;
 
     /**
      * Construct a new push-relabel algorithm.
@@ -103,82 +111,80 @@ public class PushRelabelMFImpl<V, E>
      * @param network the network
      * @param epsilon tolerance used when comparing floating-point values
      */
-    @SuppressWarnings("unchecked")
     public PushRelabelMFImpl(Graph<V, E> network, double epsilon)
     {
-        super(network, epsilon);
-
-        this.vertexExtensionsFactory = VertexExtension::new;
-
-        this.edgeExtensionsFactory = AnnotatedFlowEdge::new;
-
-        if (DIAGNOSTIC_ENABLED) {
-            this.diagnostic = new PushRelabelDiagnostic();
-        }
-
-        this.N = network.vertexSet().size();
-        this.vertexExtension = (VertexExtension[]) Array.newInstance(VertexExtension.class, N);
-    }
-
-    private void enqueue(VertexExtension vx)
-    {
-        if (!vx.active && vx.hasExcess()) {
-            vx.active = true;
-            activeVertices.add(vx);
-        }
+        this(network, epsilon, false);
     }
 
     /**
-     * Prepares all data structures to start a new invocation of the Maximum Flow or Minimum Cut
-     * algorithms
+     * Construct a new push-relabel algorithm. If <tt>reuseNetwork</tt> is true, the residual
+     * network and the vertex labels are allocated on the first invocation and only reset on later
+     * invocations, thus the network must not be modified afterwards.
      *
-     * @param source source
-     * @param sink sink
+     * @param network the network
+     * @param epsilon tolerance used when comparing floating-point values
+     * @param reuseNetwork whether to reuse the residual network across invocations
      */
-    void init(V source, V sink)
+    public PushRelabelMFImpl(Graph<V, E> network, double epsilon, boolean reuseNetwork)
     {
-        super.init(source, sink, vertexExtensionsFactory, edgeExtensionsFactory);
-
-        this.countHeight = new int[2 * N + 1];
+        super(network, epsilon, reuseNetwork);
+    }
 
-        int id = 0;
-        for (V v : network.vertexSet()) {
-            VertexExtension vx = getVertexExtension(v);
-            vx.id = id;
-            vertexExtension[id] = vx;
-            id++;
+    @Override
+    double computeMaximumFlow(int s, int t)
+    {
+        /*
+         * Note: this implementation uses the FIFO selection rule (check wiki for more details)
+         */
+        initialize(s, t);
+
+        while (queueSize > 0) {
+            int u = activeVertices[queueHead];
+            queueHead = (queueHead + 1) % n;
+            queueSize--;
+            active[u] = false;
+            discharge(u);
         }
+
+        return excess[t];
     }
 
-    /**
-     * Initialization
-     *
-     * @param source the source
-     * @param sink the sink
-     * @param active resulting queue with all active vertices
-     */
-    public void initialize(
-        VertexExtension source, VertexExtension sink, Queue<VertexExtension> active)
+    private void initialize(int s, int t)
     {
-        this.activeVertices = active;
-
-        for (int i = 0; i < N; i++) {
-            vertexExtension[i].excess = 0;
-            vertexExtension[i].height = 0;
-            vertexExtension[i].active = false;
-            vertexExtension[i].currentArc = 0;
+        this.sourceIndex = s;
+        this.sinkIndex = t;
+        if (r != residualNetwork) {
+            this.r = residualNetwork;
+            this.n = r.n;
+            this.height = new int[n];
+            this.excess = new double[n];
+            this.currentArc = Arrays.copyOf(r.firstArc, n);
+            this.countHeight = new int[2 * n + 1];
+            this.activeVertices = new int[n];
+            this.active = new boolean[n];
+            this.bfsQueue = new int[n];
+        } else {
+            // same residual network as in the last invocation, clear the labels
+            Arrays.fill(height, 0);
+            Arrays.fill(excess, 0d);
+            System.arraycopy(r.firstArc, 0, currentArc, 0, n);
+            Arrays.fill(countHeight, 0);
+            Arrays.fill(active, false);
         }
+        this.queueHead = 0;
+        this.queueSize = 0;
 
-        source.height = N;
-        source.active = true;
-        sink.active = true;
+        height[s] = n;
+        active[s] = true;
+        active[t] = true;
 
-        countHeight[N] = 1;
-        countHeight[0] = N - 1;
+        countHeight[n] = 1;
+        countHeight[0] = n - 1;
 
-        for (AnnotatedFlowEdge ex : source.getOutgoing()) {
-            source.excess += ex.capacity;
-            push(ex);
+        for (int k = r.firstArc[s]; k < r.firstArc[s + 1]; k++) {
+            int a = r.arcs[k];
+            excess[s] += r.residual[a];
+            push(s, a);
         }
 
         if (USE_GLOBAL_RELABELING_HEURISTIC) {
@@ -187,70 +193,13 @@ public class PushRelabelMFImpl<V, E>
         }
     }
 
-    @Override
-    public MaximumFlow<E> getMaximumFlow(V source, V sink)
-    {
-        this.calculateMaximumFlow(source, sink);
-        maxFlow = composeFlow();
-        return new MaximumFlowImpl<>(maxFlowValue, maxFlow);
-    }
-
-    /**
-     * Sets current source to <tt>source</tt>, current sink to <tt>sink</tt>, then calculates
-     * maximum flow from <tt>source</tt> to <tt>sink</tt>. Note, that <tt>source</tt> and
-     * <tt>sink</tt> must be vertices of the <tt>
-     * network</tt> passed to the constructor, and they must be different.
-     *
-     * @param source source vertex
-     * @param sink sink vertex
-     * @return the value of the maximum flow
-     */
-    public double calculateMaximumFlow(V source, V sink)
+    private void enqueue(int v)
     {
-        /*
-         * Note: this implementation uses the FIFO selection rule (check wiki for more details)
-         */
-
-        init(source, sink);
-
-        this.activeVertices = new ArrayDeque<>(N);
-        initialize(getVertexExtension(source), getVertexExtension(sink), this.activeVertices);
-
-        //
-        while (!activeVertices.isEmpty()) {
-            VertexExtension vx = activeVertices.poll();
-            vx.active = false;
-            discharge(vx);
+        if (!active[v] && excess[v] > epsilon) {
+            active[v] = true;
+            activeVertices[(queueHead + queueSize) % n] = v;
+            queueSize++;
         }
-
-        // Calculate the max flow that reaches the sink. There may be more efficient ways to do
-        // this.
-        for (E e : network.edgesOf(sink)) {
-            AnnotatedFlowEdge edge = edgeExtensionManager.getExtension(e);
-            maxFlowValue += (directedGraph ? edge.flow : edge.flow + edge.getInverse().flow);
-        }
-
-        if (DIAGNOSTIC_ENABLED) {
-            diagnostic.dump();
-        }
-
-        return maxFlowValue;
-    }
-
-    /**
-     * Push flow through an edge.
-     *
-     * @param ex the edge
-     * @param f the amount of flow to push through
-     */
-    protected void pushFlowThrough(AnnotatedFlowEdge ex, double f)
-    {
-        ex.getSource().excess -= f;
-        ex.getTarget().excess += f;
-
-        assert ((ex.getSource().excess >= 0.0) && (ex.getTarget().excess >= 0));
-
-        super.pushFlowThrough(ex, f);
     }
 
     /*
@@ -260,33 +209,30 @@ public class PushRelabelMFImpl<V, E>
      * The operation can be either saturating (if ux.excess >= ex.capacity - ex.flow) or
      * nonsaturating (otherwise).
      */
-    private void push(AnnotatedFlowEdge ex)
+    private void push(int u, int a)
     {
-        VertexExtension ux = ex.getSource();
-        VertexExtension vx = ex.getTarget();
-        double delta = Math.min(ux.excess, ex.capacity - ex.flow);
+        int v = r.head[a];
+        double delta = Math.min(excess[u], r.residual[a]);
 
         // if v is not downhill from u or there is nothing to push (i.e. delta == 0) stop
-        if (ux.height <= vx.height || comparator.compare(delta, 0.0) <= 0)
+        if (height[u] <= height[v] || delta <= epsilon)
             return;
 
-        if (DIAGNOSTIC_ENABLED) {
-            diagnostic.incrementDischarges(ex);
-        }
-
-        pushFlowThrough(ex, delta);
+        r.push(a, delta);
+        excess[u] -= delta;
+        excess[v] += delta;
 
         // check if we can 'activate' v
-        enqueue(vx);
+        enqueue(v);
     }
 
     private void gapHeuristic(int l)
     {
-        for (int i = 0; i < N; i++) {
-            if (l < vertexExtension[i].height && vertexExtension[i].height < N) {
-                countHeight[vertexExtension[i].height]--;
-                vertexExtension[i].height = Math.max(vertexExtension[i].height, N + 1);
-                countHeight[vertexExtension[i].height]++;
+        for (int i = 0; i < n; i++) {
+            if (l < height[i] && height[i] < n) {
+                countHeight[height[i]]--;
+                height[i] = n + 1;
+                countHeight[height[i]]++;
             }
         }
     }
@@ -298,22 +244,21 @@ public class PushRelabelMFImpl<V, E>
      * We can relabel an overflowing vertex $u$ if for every vertex v for which there is residual
      * capacity from u to v, flow cannot be pushed from u to v because v is not downhill from u.
      */
-    private void relabel(VertexExtension ux)
+    private void relabel(int u)
     {
-        int oldHeight = ux.height;
+        int oldHeight = height[u];
 
         // Increase the height of u; u.h = 1 + min(v.h : (u, v) in Ef)
-
-        countHeight[ux.height]--;
-        ux.height = 2 * N;
-
-        for (AnnotatedFlowEdge ex : ux.getOutgoing()) {
-            if (ex.hasCapacity()) {
-                ux.height = Math.min(ux.height, ex.<VertexExtension> getTarget().height + 1);
+        countHeight[oldHeight]--;
+        int h = 2 * n;
+        for (int k = r.firstArc[u]; k < r.firstArc[u + 1]; k++) {
+            int a = r.arcs[k];
+            if (r.residual[a] > epsilon) {
+                h = Math.min(h, height[r.head[a]] + 1);
             }
         }
-
-        countHeight[ux.height]++;
+        height[u] = h;
+        countHeight[h]++;
 
         if (USE_GAP_RELABELING_HEURISTIC) {
             /*
@@ -321,28 +266,26 @@ public class PushRelabelMFImpl<V, E>
              * |V| for which there is no node u such that u.height = h, then any node v with h <
              * v.height < |V| has been disconnected from sink and can be relabeled to (|V| + 1).
              */
-            if (0 < oldHeight && oldHeight < N && countHeight[oldHeight] == 0) {
+            if (0 < oldHeight && oldHeight < n && countHeight[oldHeight] == 0) {
                 gapHeuristic(oldHeight);
             }
         }
-
-        if (DIAGNOSTIC_ENABLED) {
-            diagnostic.incrementRelabels(ux.height, ux.height);
-        }
     }
 
-    private void bfs(Queue<Integer> queue, boolean[] visited)
+    private void bfs(int root, boolean[] visited)
     {
-        while (!queue.isEmpty()) {
-            int vertexID = queue.poll();
-
-            for (AnnotatedFlowEdge flowEdge : vertexExtension[vertexID].getOutgoing()) {
-                VertexExtension vx = flowEdge.getTarget();
-
-                if (!visited[vx.id] && flowEdge.getInverse().hasCapacity()) {
-                    vx.height = vertexExtension[vertexID].height + 1;
-                    visited[vx.id] = true;
-                    queue.add(vx.id);
+        int head = 0, tail = 0;
+        bfsQueue[tail++] = root;
+        while (head < tail) {
+            int u = bfsQueue[head++];
+            for (int k = r.firstArc[u]; k < r.firstArc[u + 1]; k++) {
+                int a = r.arcs[k];
+                int v = r.head[a];
+                // v can reach u if the reverse arc has capacity
+                if (!visited[v] && r.residual[a ^ 1] > epsilon) {
+                    height[v] = height[u] + 1;
+                    visited[v] = true;
+                    bfsQueue[tail++] = v;
                 }
             }
         }
@@ -357,31 +300,20 @@ public class PushRelabelMFImpl<V, E>
     private void recomputeHeightsHeuristic()
     {
         Arrays.fill(countHeight, 0);
+        Arrays.fill(height, 2 * n);
+        boolean[] visited = new boolean[n];
 
-        Queue<Integer> queue = new ArrayDeque<>(N);
-        boolean[] visited = new boolean[N];
-
-        for (int i = 0; i < N; i++) {
-            vertexExtension[i].height = 2 * N;
-        }
-
-        final int sinkID = getVertexExtension(getCurrentSink()).id;
-        final int sourceID = getVertexExtension(getCurrentSource()).id;
+        height[sourceIndex] = n;
+        visited[sourceIndex] = true;
 
-        vertexExtension[sourceID].height = N;
-        visited[sourceID] = true;
+        height[sinkIndex] = 0;
+        visited[sinkIndex] = true;
 
-        vertexExtension[sinkID].height = 0;
-        visited[sinkID] = true;
+        bfs(sinkIndex, visited);
+        bfs(sourceIndex, visited);
 
-        queue.add(sinkID);
-        bfs(queue, visited);
-
-        queue.add(sourceID);
-        bfs(queue, visited);
-
-        for (int i = 0; i < N; i++) {
-            ++countHeight[vertexExtension[i].height];
+        for (int i = 0; i < n; i++) {
+            ++countHeight[height[i]];
         }
     }
 
@@ -390,140 +322,107 @@ public class PushRelabelMFImpl<V, E>
      * edges to neighboring vertices, relabeling u as necessary to cause edges leaving u to become
      * admissible,
      */
-    private void discharge(VertexExtension ux)
+    private void discharge(int u)
     {
-        while (ux.hasExcess()) {
+        while (excess[u] > epsilon) {
             // If there are no more edges
-            if (ux.currentArc >= ux.getOutgoing().size()) {
+            if (currentArc[u] >= r.firstArc[u + 1]) {
                 // then we relabel u
-                relabel(ux);
+                relabel(u);
 
                 if (USE_GLOBAL_RELABELING_HEURISTIC) {
                     // If we already relabeled |V| vertices, then we do a global relabeling
                     // Note: Global relabelings are performed periodically
-                    if ((++relabelCounter) == N) {
+                    if ((++relabelCounter) == n) {
                         recomputeHeightsHeuristic();
-
-                        for (int i = 0; i < N; i++)
-                            vertexExtension[i].currentArc = 0;
-
+                        System.arraycopy(r.firstArc, 0, currentArc, 0, n);
                         relabelCounter = 0;
                     }
                 }
 
                 // rewind the pointer to the next edge
-                ux.currentArc = 0;
+                currentArc[u] = r.firstArc[u];
             } else {
-                AnnotatedFlowEdge flowEdge = ux.getOutgoing().get(ux.currentArc);
+                int a = r.arcs[currentArc[u]];
 
                 /*
                  * Check if the edge is admissible. If it is then do a PUSH operation. Otherwise,
                  * make currentArc point to the next edge.
                  */
-                if (isAdmissible(flowEdge))
-                    push(flowEdge);
+                if (r.residual[a] > epsilon && height[u] == height[r.head[a]] + 1)
+                    push(u, a);
                 else
-                    ux.currentArc++;
+                    currentArc[u]++;
             }
-
         }
     }
 
-    private boolean isAdmissible(AnnotatedFlowEdge e)
-    {
-        return e.hasCapacity() && (e
-            .<VertexExtension> getSource().height == (e.<VertexExtension> getTarget().height + 1));
-    }
-
-    private VertexExtension getVertexExtension(V v)
-    {
-        assert vertexExtensionManager != null;
-        return (VertexExtension) vertexExtensionManager.getExtension(v);
-    }
-
-    private class PushRelabelDiagnostic
+    /**
+     * Initialization on vertex extensions. Saturates the edges leaving the source and adds the
+     * vertices which receive flow to the queue of active vertices.
+     *
+     * @param source the source
+     * @param sink the sink
+     * @param active resulting queue with all active vertices
+     * @deprecated the algorithm works on a {@link ResidualNetwork} instead of vertex extensions,
+     *             this method will be removed in the next release
+     */
+    @Deprecated
+    public void initialize(
+        VertexExtension source, VertexExtension sink, Queue<VertexExtension> active)
     {
-        // Discharges
-        Map<Pair<V, V>, Integer> discharges = new HashMap<>();
-        long dischargesCounter = 0;
-
-        // Relabels
-        Map<Pair<Integer, Integer>, Integer> relabels = new HashMap<>();
-        long relabelsCounter = 0;
-
-        private void incrementDischarges(AnnotatedFlowEdge ex)
-        {
-            Pair<V, V> p = Pair.of(ex.getSource().prototype, ex.getTarget().prototype);
-            if (!discharges.containsKey(p)) {
-                discharges.put(p, 0);
-            }
-            discharges.put(p, discharges.get(p) + 1);
-
-            dischargesCounter++;
-        }
-
-        private void incrementRelabels(int from, int to)
-        {
-            Pair<Integer, Integer> p = Pair.of(from, to);
-            if (!relabels.containsKey(p)) {
-                relabels.put(p, 0);
-            }
-            relabels.put(p, relabels.get(p) + 1);
-
-            relabelsCounter++;
-        }
-
-        void dump()
-        {
-            Map<Integer, Integer> labels = new HashMap<>();
+        source.height = network.vertexSet().size();
+        source.active = true;
+        sink.active = true;
 
-            for (V v : network.vertexSet()) {
-                VertexExtension vx = getVertexExtension(v);
+        for (AnnotatedFlowEdge ex : source.getOutgoing()) {
+            source.excess += ex.capacity;
 
-                if (!labels.containsKey(vx.height)) {
-                    labels.put(vx.height, 0);
+            VertexExtension vx = ex.getTarget();
+            double delta = Math.min(source.excess, ex.capacity - ex.flow);
+            if (source.height > vx.height && comparator.compare(delta, 0.0) > 0) {
+                pushFlowThrough(ex, delta);
+                if (!vx.active && vx.hasExcess()) {
+                    vx.active = true;
+                    active.add(vx);
                 }
-
-                labels.put(vx.height, labels.get(vx.height) + 1);
             }
+        }
+    }
 
-            System.out.println("LABELS  ");
-            System.out.println("------  ");
-            System.out.println(labels);
-
-            List<Map.Entry<Pair<Integer, Integer>, Integer>> relabelsSorted =
-                new ArrayList<>(relabels.entrySet());
-
-            relabelsSorted.sort((o1, o2) -> -(o1.getValue() - o2.getValue()));
-
-            System.out.println("RELABELS    ");
-            System.out.println("--------    ");
-            System.out.println("    Count:  " + relabelsCounter);
-            System.out.println("            " + relabelsSorted);
-
-            List<Map.Entry<Pair<V, V>, Integer>> dischargesSorted =
-                new ArrayList<>(discharges.entrySet());
+    /**
+     * Push flow through an edge.
+     *
+     * @param ex the edge
+     * @param f the amount of flow to push through
+     * @deprecated the algorithm works on a {@link ResidualNetwork} instead of edge extensions,
+     *             this method will be removed in the next release
+     */
+    @Deprecated
+    @Override
+    protected void pushFlowThrough(AnnotatedFlowEdge ex, double f)
+    {
+        ex.getSource().excess -= f;
+        ex.getTarget().excess += f;
 
-            dischargesSorted.sort((one, other) -> -(one.getValue() - other.getValue()));
+        assert ((ex.getSource().excess >= 0.0) && (ex.getTarget().excess >= 0));
 
-            System.out.println("DISCHARGES  ");
-            System.out.println("----------  ");
-            System.out.println("    Count:  " + dischargesCounter);
-            System.out.println("            " + dischargesSorted);
-        }
+        super.pushFlowThrough(ex, f);
     }
 
     /**
      * Vertex extension for the push-relabel algorithm, which contains an additional height.
+     *
+     * @deprecated the algorithm works on a {@link ResidualNetwork} instead of vertex extensions,
+     *             this class will be removed in the next release
      */
+    @Deprecated
     public class VertexExtension
         extends
         VertexExtensionBase
     {
-        private int id;
         private int height; // also called label (or distance label) in some papers
         private boolean active;
-        private int currentArc;
 
         private boolean hasExcess()
         {
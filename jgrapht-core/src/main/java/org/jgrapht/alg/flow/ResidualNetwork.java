@@ -0,0 +1,249 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * The residual network of a flow network laid out in flat arrays.
+ *
+ * <p>
+ * The vertices are mapped to integers in $[0, n)$ and the $i$-th edge of the graph is represented
+ * by the pair of arcs $2i$ and $2i+1$, thus the reverse of arc $a$ is the arc $a \oplus 1$. Arc
+ * $2i$ goes from the source of the edge to its target. For a directed edge the reverse arc
+ * initially has residual capacity zero, while for an undirected edge both arcs initially have the
+ * capacity of the edge. The arcs leaving each vertex are stored in compressed sparse row format,
+ * i.e. the arcs leaving vertex $v$ are {@code arcs[firstArc[v]]}, ...,
+ * {@code arcs[firstArc[v+1]-1]}.
+ *
+ * <p>
+ * Pushing flow along an arc decreases its residual capacity and increases the residual capacity of
+ * its reverse, so the flow on each edge can be recovered from the residual capacities at the end.
+ * The network is built in $O(n + m)$ time and can be reset to the zero flow in a single pass over
+ * the arcs.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+final class ResidualNetwork<V, E>
+{
+    final Graph<V, E> graph;
+    final boolean directed;
+
+    /* number of vertices */
+    final int n;
+    final List<V> vertices;
+    final Map<V, Integer> vertexMap;
+    final List<E> edges;
+
+    /* head of each arc */
+    final int[] head;
+    /* residual capacity of each arc when the flow is zero */
+    final double[] capacity;
+    /* current residual capacity of each arc */
+    final double[] residual;
+
+    /* compressed sparse row adjacency */
+    final int[] firstArc;
+    final int[] arcs;
+
+    private Map<E, Integer> edgeMap;
+
+    /**
+     * Build the residual network of a graph whose edge weights are the capacities.
+     *
+     * @param graph the flow network
+     */
+    ResidualNetwork(Graph<V, E> graph)
+    {
+        this.graph = graph;
+        this.directed = graph.getType().isDirected();
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+        this.edges = new ArrayList<>(graph.edgeSet());
+
+        int m = edges.size();
+        this.head = new int[2 * m];
+        this.capacity = new double[2 * m];
+        this.residual = new double[2 * m];
+        this.firstArc = new int[n + 1];
+        this.arcs = new int[2 * m];
+
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            int u = vertexMap.get(graph.getEdgeSource(e));
+            int v = vertexMap.get(graph.getEdgeTarget(e));
+            double c = graph.getEdgeWeight(e);
+            head[2 * i] = v;
+            head[2 * i + 1] = u;
+            capacity[2 * i] = c;
+            capacity[2 * i + 1] = directed ? 0d : c;
+            firstArc[u + 1]++;
+            firstArc[v + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            firstArc[v + 1] += firstArc[v];
+        }
+        int[] fill = Arrays.copyOf(firstArc, n);
+        for (int a = 0; a < 2 * m; a++) {
+            arcs[fill[tail(a)]++] = a;
+        }
+
+        reset();
+    }
+
+    /**
+     * Create a copy of a residual network carrying the zero flow. The copy shares the immutable
+     * arrays of the original network and only allocates its own residual capacities, so that
+     * several threads can compute flows on the same network at the same time.
+     *
+     * @param other the network to copy
+     */
+    ResidualNetwork(ResidualNetwork<V, E> other)
+    {
+        this.graph = other.graph;
+        this.directed = other.directed;
+        this.n = other.n;
+        this.vertices = other.vertices;
+        this.vertexMap = other.vertexMap;
+        this.edges = other.edges;
+        this.head = other.head;
+        this.capacity = other.capacity;
+        this.residual = new double[capacity.length];
+        this.firstArc = other.firstArc;
+        this.arcs = other.arcs;
+
+        reset();
+    }
+
+    /**
+     * Get the tail of an arc.
+     *
+     * @param a the arc
+     * @return the tail of the arc
+     */
+    int tail(int a)
+    {
+        return head[a ^ 1];
+    }
+
+    /**
+     * Reset the flow to zero.
+     */
+    void reset()
+    {
+        System.arraycopy(capacity, 0, residual, 0, capacity.length);
+    }
+
+    /**
+     * Push flow along an arc.
+     *
+     * @param a the arc
+     * @param flow the amount of flow
+     */
+    void push(int a, double flow)
+    {
+        residual[a] -= flow;
+        residual[a ^ 1] += flow;
+    }
+
+    /**
+     * Get the index of an edge.
+     *
+     * @param e the edge
+     * @return the index of the edge
+     */
+    int edgeIndexOf(E e)
+    {
+        if (edgeMap == null) {
+            Map<E, Integer> map = new HashMap<>();
+            for (int i = 0; i < edges.size(); i++) {
+                map.put(edges.get(i), i);
+            }
+            edgeMap = map;
+        }
+        return edgeMap.get(e);
+    }
+
+    /**
+     * Get the flow from the source to the target of an edge. For undirected edges the value is
+     * negative if the flow goes from the target to the source.
+     *
+     * @param i the index of the edge
+     * @return the flow on the edge
+     */
+    double flowOf(int i)
+    {
+        if (directed) {
+            return capacity[2 * i] - residual[2 * i];
+        }
+        return (residual[2 * i + 1] - residual[2 * i]) / 2;
+    }
+
+    /**
+     * Create a map with the amount of flow on each edge. For undirected edges the absolute value
+     * of the flow is reported.
+     *
+     * @return the flow map
+     */
+    Map<E, Double> getFlowMap()
+    {
+        Map<E, Double> flowMap = new HashMap<>();
+        for (int i = 0; i < edges.size(); i++) {
+            flowMap.put(edges.get(i), directed ? flowOf(i) : Math.abs(flowOf(i)));
+        }
+        return flowMap;
+    }
+
+    /**
+     * Compute the vertices reachable from a vertex using arcs with residual capacity larger than
+     * epsilon.
+     *
+     * @param s the start vertex
+     * @param epsilon the tolerance
+     * @return an array marking the reachable vertices
+     */
+    boolean[] reachableFrom(int s, double epsilon)
+    {
+        boolean[] visited = new boolean[n];
+        int[] queue = new int[n];
+        int queueHead = 0, queueTail = 0;
+        visited[s] = true;
+        queue[queueTail++] = s;
+        while (queueHead < queueTail) {
+            int u = queue[queueHead++];
+            for (int k = firstArc[u]; k < firstArc[u + 1]; k++) {
+                int a = arcs[k];
+                int v = head[a];
+                if (!visited[v] && residual[a] > epsilon) {
+                    visited[v] = true;
+                    queue[queueTail++] = v;
+                }
+            }
+        }
+        return visited;
+    }
+}
@@ -0,0 +1,700 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+
+import java.util.*;
+
+/**
+ * This class computes a solution to a
+ * <a href="https://en.wikipedia.org/wiki/Minimum-cost_flow_problem"> minimum cost flow problem</a>
+ * using the primal network simplex algorithm. More precisely, this class computes a <i>b-flow</i>
+ * of minimum cost, i.e. for each node $v$ in the network the sum of all outgoing flows minus the
+ * sum of all incoming flows should be equal to the node supply $b_v$. The problem is specified via
+ * {@link MinimumCostFlowProblem}, graph edge weights are considered to be the arc costs, which can
+ * be negative.
+ * <p>
+ * The network simplex algorithm maintains a feasible spanning tree solution: the arcs which are
+ * not in the tree carry either zero flow or are saturated, and the flow on the tree arcs is
+ * uniquely determined by the node supplies. In every iteration an arc violating the optimality
+ * conditions enters the tree, flow is sent around the cycle it closes, and an arc of the cycle
+ * which becomes empty or saturated leaves the tree. The initial tree connects every node to an
+ * additional root node by an artificial arc of large cost. The problem has no feasible solution if
+ * an artificial arc still carries flow at the end.
+ * <p>
+ * This implementation follows the network simplex implementation of the LEMON library (see
+ * <i>P. Kovács. Minimum-cost flow algorithms: an experimental evaluation. Optimization Methods and
+ * Software, 30:94-127, 2015</i>). The entering arc is chosen by the block search pivot rule: the
+ * arcs are scanned cyclically in blocks of size $\sqrt{m}$ and the arc with the most negative
+ * reduced cost of the first block containing a violating arc enters the tree. The spanning tree is
+ * stored in primitive arrays as a parent pointer tree together with its preorder thread, the size
+ * and the last node of each subtree, so that the tree and the node potentials can be updated in
+ * time proportional to the size of the subtree which changes its position. Although the number of
+ * iterations is not polynomially bounded, network simplex is in practice typically an order of
+ * magnitude faster than {@link CapacityScalingMinimumCostFlow}.
+ * <p>
+ * Similarly to {@link CapacityScalingMinimumCostFlow}, the algorithm doesn't support undirected
+ * flow networks, self-loops and infinite capacity arcs with negative cost. An arc with capacity
+ * greater than or equal to {@link NetworkSimplexMinimumCostFlow#CAP_INF} is considered to be an
+ * infinite capacity arc.
+ *
+ * @param <V> graph vertex type
+ * @param <E> graph edge type
+ * @see MinimumCostFlowProblem
+ * @see MinimumCostFlowAlgorithm
+ *
+ * @author agent
+ */
+public class NetworkSimplexMinimumCostFlow<V, E>
+    implements
+    MinimumCostFlowAlgorithm<V, E>
+{
+    /**
+     * A capacity which is considered to be infinite. Every arc, which has upper capacity greater
+     * that or equal to this value is considered to be an infinite capacity arc.
+     */
+    public static final int CAP_INF = CapacityScalingMinimumCostFlow.CAP_INF;
+
+    /*
+     * Internal value of an infinite capacity.
+     */
+    private static final long INF = Long.MAX_VALUE;
+
+    /*
+     * Arc states, an arc which is not in the tree is either empty or saturated. The state is also
+     * the sign of the change of the flow on the arc when it enters the tree.
+     */
+    private static final int STATE_UPPER = -1;
+    private static final int STATE_TREE = 0;
+    private static final int STATE_LOWER = 1;
+
+    /*
+     * Direction of the arc connecting a node to its parent.
+     */
+    private static final int DIR_UP = 1;
+    private static final int DIR_DOWN = -1;
+
+    /*
+     * Parameters of the block search pivot rule.
+     */
+    private static final double BLOCK_SIZE_FACTOR = 1.0;
+    private static final int MIN_BLOCK_SIZE = 10;
+
+    /*
+     * Tolerance used when comparing reduced costs.
+     */
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * Specified minimum cost flow problem
+     */
+    private MinimumCostFlowProblem<V, E> problem;
+    /**
+     * Computed minimum cost flow
+     */
+    private MinimumCostFlow<E> minimumCostFlow;
+
+    private List<V> graphVertices;
+    private List<E> graphEdges;
+
+    // number of nodes, the root has index n
+    private int n;
+    // number of arcs of the network, the artificial arc of node u has index m + u
+    private int m;
+
+    // arcs
+    private int[] source;
+    private int[] target;
+    private double[] cost;
+    private long[] cap;
+    private long[] flow;
+    private int[] state;
+
+    // nodes
+    private long[] supply;
+    private double[] pi;
+
+    // spanning tree
+    private int[] parent;
+    private int[] pred;
+    private int[] predDir;
+    private int[] thread;
+    private int[] revThread;
+    private int[] succNum;
+    private int[] lastSucc;
+    private int[] dirtyRevs;
+
+    // pivot state
+    private int inArc;
+    private int join;
+    private int uIn;
+    private int vIn;
+    private int uOut;
+    private long delta;
+
+    // block search state
+    private int blockSize;
+    private int nextArc;
+
+    /**
+     * Constructs a new instance of the algorithm.
+     */
+    public NetworkSimplexMinimumCostFlow()
+    {
+    }
+
+    /**
+     * Returns mapping from edge to flow value through this particular edge
+     *
+     * @return maximum flow mapping, or null if a MinimumCostFlowProblem has not yet been solved.
+     */
+    @Override
+    public Map<E, Double> getFlowMap()
+    {
+        return minimumCostFlow == null ? null : this.minimumCostFlow.getFlowMap();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getFlowDirection(E edge)
+    {
+        return problem.getGraph().getEdgeTarget(edge);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumCostFlow<E> getMinimumCostFlow(
+        final MinimumCostFlowProblem<V, E> minimumCostFlowProblem)
+    {
+        this.problem = Objects.requireNonNull(minimumCostFlowProblem);
+        if (problem.getGraph().getType().isUndirected()) {
+            throw new IllegalArgumentException(
+                "The algorithm doesn't support undirected flow networks");
+        }
+        this.minimumCostFlow = null;
+
+        init();
+        run();
+        minimumCostFlow = finish();
+
+        return minimumCostFlow;
+    }
+
+    /**
+     * Returns solution to the dual linear program formulated on the network. Serves as a
+     * certificate of optimality.
+     * <p>
+     * It is represented as a mapping from graph nodes to their potentials (dual variables). Reduced
+     * cost of a arc $(a, b)$ is defined as $cost((a, b)) + potential(b) - potential(a)$. According
+     * to the reduced cost optimality conditions, a feasible solution to the minimum cost flow
+     * problem is optimal if and only if reduced cost of every non-saturated arc is greater than or
+     * equal to $0$ and the reduced cost of every arc with positive flow is less than or equal to
+     * $0$.
+     *
+     * @return solution to the dual linear program formulated on the network, or null if a
+     *         MinimumCostFlowProblem has not yet been solved.
+     */
+    public Map<V, Double> getDualSolution()
+    {
+        if (minimumCostFlow == null) {
+            return null;
+        }
+
+        Map<V, Double> dualVariables = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            // the tree potentials use the opposite sign convention
+            dualVariables.put(graphVertices.get(i), -pi[i]);
+        }
+        return dualVariables;
+    }
+
+    /**
+     * Tests the optimality conditions after a flow of minimum cost has been computed.
+     * <p>
+     * More precisely, tests, whether the reduced cost of every empty arc is non-negative and the
+     * reduced cost of every saturated arc is non-positive. The reduced cost of the spanning tree
+     * arcs is zero by construction. This validation is performed with precision of {@code eps}.
+     * <p>
+     * In general, this method should always return true unless the algorithm implementation has a
+     * bug.
+     *
+     * @param eps the precision to use
+     * @return true, if the computed solution is optimal, false otherwise.
+     */
+    public boolean testOptimality(double eps)
+    {
+        if (minimumCostFlow == null)
+            throw new RuntimeException(
+                "Cannot test optimality before getMinimumCostFlow() is invoked!");
+
+        for (int e = 0; e < m; e++) {
+            if (state[e] * (cost[e] + pi[source[e]] - pi[target[e]]) < -eps) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts the flow network in the form convenient for the algorithm, validates the arc
+     * capacities and costs and builds the initial spanning tree of artificial arcs.
+     */
+    private void init()
+    {
+        Graph<V, E> graph = problem.getGraph();
+        n = graph.vertexSet().size();
+        m = graph.edgeSet().size();
+        graphVertices = new ArrayList<>(graph.vertexSet());
+        graphEdges = new ArrayList<>(graph.edgeSet());
+
+        int allArcs = m + n;
+        source = new int[allArcs];
+        target = new int[allArcs];
+        cost = new double[allArcs];
+        cap = new long[allArcs];
+        flow = new long[allArcs];
+        state = new int[allArcs];
+
+        supply = new long[n + 1];
+        pi = new double[n + 1];
+        parent = new int[n + 1];
+        pred = new int[n + 1];
+        predDir = new int[n + 1];
+        thread = new int[n + 1];
+        revThread = new int[n + 1];
+        succNum = new int[n + 1];
+        lastSucc = new int[n + 1];
+        dirtyRevs = new int[n + 1];
+
+        Map<V, Integer> vertexMap = new HashMap<>(n);
+        long supplySum = 0;
+        for (int u = 0; u < n; u++) {
+            V vertex = graphVertices.get(u);
+            vertexMap.put(vertex, u);
+            supply[u] = problem.getNodeSupply().apply(vertex);
+            supplySum += supply[u];
+        }
+        if (supplySum != 0) {
+            throw new IllegalArgumentException("Total node supply isn't equal to 0");
+        }
+
+        double maxCost = 0;
+        for (int i = 0; i < m; i++) {
+            E edge = graphEdges.get(i);
+            int u = vertexMap.get(graph.getEdgeSource(edge));
+            int v = vertexMap.get(graph.getEdgeTarget(edge));
+            int upperCap = problem.getArcCapacityUpperBounds().apply(edge);
+            int lowerCap = problem.getArcCapacityLowerBounds().apply(edge);
+            double c = graph.getEdgeWeight(edge);
+
+            if (upperCap < 0) {
+                throw new IllegalArgumentException("Negative edge capacities are not allowed");
+            } else if (lowerCap > upperCap) {
+                throw new IllegalArgumentException(
+                    "Lower edge capacity must not exceed upper edge capacity");
+            } else if (lowerCap >= CAP_INF) {
+                throw new IllegalArgumentException(
+                    "The problem is unbounded due to the infinite lower capacity");
+            } else if (upperCap >= CAP_INF && c < 0) {
+                throw new IllegalArgumentException(
+                    "The algorithm doesn't support infinite capacity arcs with negative cost");
+            } else if (u == v) {
+                throw new IllegalArgumentException("Self-loops aren't allowed");
+            }
+
+            source[i] = u;
+            target[i] = v;
+            cost[i] = c;
+            // remove non-zero lower capacity
+            cap[i] = upperCap >= CAP_INF ? INF : upperCap - lowerCap;
+            supply[u] -= lowerCap;
+            supply[v] += lowerCap;
+            state[i] = STATE_LOWER;
+            maxCost = Math.max(maxCost, Math.abs(c));
+        }
+
+        // the cost of an artificial arc exceeds the cost of any simple path
+        double artCost = (maxCost + 1) * (n + 1);
+
+        int root = n;
+        parent[root] = -1;
+        pred[root] = -1;
+        thread[root] = n == 0 ? root : 0;
+        revThread[thread[root]] = root;
+        succNum[root] = n + 1;
+        lastSucc[root] = n == 0 ? root : n - 1;
+        supply[root] = 0;
+        pi[root] = 0;
+
+        for (int u = 0; u < n; u++) {
+            int e = m + u;
+            parent[u] = root;
+            pred[u] = e;
+            thread[u] = u + 1;
+            revThread[u + 1] = u;
+            succNum[u] = 1;
+            lastSucc[u] = u;
+            cap[e] = INF;
+            state[e] = STATE_TREE;
+            if (supply[u] >= 0) {
+                predDir[u] = DIR_UP;
+                pi[u] = 0;
+                source[e] = u;
+                target[e] = root;
+                flow[e] = supply[u];
+                cost[e] = 0;
+            } else {
+                predDir[u] = DIR_DOWN;
+                pi[u] = artCost;
+                source[e] = root;
+                target[e] = u;
+                flow[e] = -supply[u];
+                cost[e] = artCost;
+            }
+        }
+
+        blockSize = Math.max((int) Math.ceil(BLOCK_SIZE_FACTOR * Math.sqrt(m)), MIN_BLOCK_SIZE);
+        nextArc = 0;
+    }
+
+    /**
+     * Performs pivots until no arc violates the optimality conditions.
+     */
+    private void run()
+    {
+        while (findEnteringArc()) {
+            findJoinNode();
+            boolean change = findLeavingArc();
+            if (delta == INF) {
+                throw new IllegalArgumentException("The problem is unbounded");
+            }
+            changeFlow(change);
+            if (change) {
+                updateTreeStructure();
+                updatePotential();
+            }
+        }
+    }
+
+    /**
+     * Block search pivot rule. Finds the arc with the most negative reduced cost in the next block
+     * of arcs which contains a violating arc.
+     *
+     * @return true if an entering arc was found, false if the current solution is optimal
+     */
+    private boolean findEnteringArc()
+    {
+        double min = -EPSILON;
+        int cnt = blockSize;
+        int found = -1;
+        int e = nextArc;
+        for (int k = 0; k < m; k++) {
+            double c = state[e] * (cost[e] + pi[source[e]] - pi[target[e]]);
+            if (c < min) {
+                min = c;
+                found = e;
+            }
+            if (--cnt == 0) {
+                if (found != -1) {
+                    break;
+                }
+                cnt = blockSize;
+            }
+            if (++e == m) {
+                e = 0;
+            }
+        }
+        if (found == -1) {
+            return false;
+        }
+        inArc = found;
+        nextArc = e;
+        return true;
+    }
+
+    /**
+     * Finds the join node, i.e. the common ancestor of the endpoints of the entering arc.
+     */
+    private void findJoinNode()
+    {
+        int u = source[inArc];
+        int v = target[inArc];
+        while (u != v) {
+            if (succNum[u] < succNum[v]) {
+                u = parent[u];
+            } else {
+                v = parent[v];
+            }
+        }
+        join = u;
+    }
+
+    /**
+     * Finds the leaving arc of the cycle closed by the entering arc and the amount of flow which
+     * can be sent around the cycle.
+     *
+     * @return false if the entering arc itself limits the flow and doesn't enter the tree
+     */
+    private boolean findLeavingArc()
+    {
+        // initialize first and second nodes according to the direction of the cycle
+        int first, second;
+        if (state[inArc] == STATE_LOWER) {
+            first = source[inArc];
+            second = target[inArc];
+        } else {
+            first = target[inArc];
+            second = source[inArc];
+        }
+        delta = cap[inArc];
+        int result = 0;
+
+        // search the cycle from the first node to the join node
+        for (int u = first; u != join; u = parent[u]) {
+            int e = pred[u];
+            long d = flow[e];
+            if (predDir[u] == DIR_DOWN) {
+                d = cap[e] == INF ? INF : cap[e] - d;
+            }
+            if (d < delta) {
+                delta = d;
+                uOut = u;
+                result = 1;
+            }
+        }
+
+        // search the cycle from the second node to the join node
+        for (int u = second; u != join; u = parent[u]) {
+            int e = pred[u];
+            long d = flow[e];
+            if (predDir[u] == DIR_UP) {
+                d = cap[e] == INF ? INF : cap[e] - d;
+            }
+            if (d <= delta) {
+                delta = d;
+                uOut = u;
+                result = 2;
+            }
+        }
+
+        if (result == 1) {
+            uIn = first;
+            vIn = second;
+        } else {
+            uIn = second;
+            vIn = first;
+        }
+        return result != 0;
+    }
+
+    /**
+     * Sends flow around the cycle and updates the arc states.
+     *
+     * @param change whether the entering arc enters the tree
+     */
+    private void changeFlow(boolean change)
+    {
+        if (delta > 0) {
+            long val = state[inArc] * delta;
+            flow[inArc] += val;
+            for (int u = source[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] -= predDir[u] * val;
+            }
+            for (int u = target[inArc]; u != join; u = parent[u]) {
+                flow[pred[u]] += predDir[u] * val;
+            }
+        }
+        if (change) {
+            state[inArc] = STATE_TREE;
+            state[pred[uOut]] = flow[pred[uOut]] == 0 ? STATE_LOWER : STATE_UPPER;
+        } else {
+            state[inArc] = -state[inArc];
+        }
+    }
+
+    /**
+     * Replaces the leaving arc by the entering arc. The subtree below the leaving arc is reattached
+     * below the entering arc, reversing the parent pointers on the path (the stem) from the
+     * endpoint of the entering arc to the endpoint of the leaving arc.
+     */
+    private void updateTreeStructure()
+    {
+        int oldRevThread = revThread[uOut];
+        int oldSuccNum = succNum[uOut];
+        int oldLastSucc = lastSucc[uOut];
+        int vOut = parent[uOut];
+
+        if (uIn == uOut) {
+            // the subtree is moved as a whole
+            parent[uIn] = vIn;
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+
+            // update thread and revThread
+            if (thread[vIn] != uOut) {
+                int after = thread[oldLastSucc];
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+                after = thread[vIn];
+                thread[vIn] = uOut;
+                revThread[uOut] = vIn;
+                thread[oldLastSucc] = after;
+                revThread[after] = oldLastSucc;
+            }
+        } else {
+            // handle the case when oldRevThread equals to vIn (it also means that join and vOut
+            // coincide)
+            int threadContinue = oldRevThread == vIn ? thread[oldLastSucc] : thread[vIn];
+
+            // update thread and parent along the stem nodes, i.e. the nodes between uIn and uOut
+            // whose parent has to be changed
+            int stem = uIn;
+            int parStem = vIn;
+            int last = lastSucc[uIn];
+            int after = thread[last];
+            thread[vIn] = uIn;
+            int dirty = 0;
+            dirtyRevs[dirty++] = vIn;
+            while (stem != uOut) {
+                // insert the next stem node into the thread list
+                int nextStem = parent[stem];
+                thread[last] = nextStem;
+                dirtyRevs[dirty++] = last;
+
+                // remove the subtree of stem from the thread list
+                int before = revThread[stem];
+                thread[before] = after;
+                revThread[after] = before;
+
+                // change the parent node and shift stem nodes
+                parent[stem] = parStem;
+                parStem = stem;
+                stem = nextStem;
+
+                // update last and after
+                last = lastSucc[stem] == lastSucc[parStem] ? revThread[parStem] : lastSucc[stem];
+                after = thread[last];
+            }
+            parent[uOut] = parStem;
+            thread[last] = threadContinue;
+            revThread[threadContinue] = last;
+            lastSucc[uOut] = last;
+
+            // remove the subtree of uOut from the thread list except for the case when
+            // oldRevThread equals to vIn
+            if (oldRevThread != vIn) {
+                thread[oldRevThread] = after;
+                revThread[after] = oldRevThread;
+            }
+
+            // update revThread using the new thread values
+            for (int i = 0; i < dirty; i++) {
+                int u = dirtyRevs[i];
+                revThread[thread[u]] = u;
+            }
+
+            // update pred, predDir, lastSucc and succNum for the stem nodes from uOut to uIn
+            int tmpSc = 0;
+            int tmpLs = lastSucc[uOut];
+            for (int u = uOut, p = parent[u]; u != uIn; u = p, p = parent[u]) {
+                pred[u] = pred[p];
+                predDir[u] = -predDir[p];
+                tmpSc += succNum[u] - succNum[p];
+                succNum[u] = tmpSc;
+                lastSucc[p] = tmpLs;
+            }
+            pred[uIn] = inArc;
+            predDir[uIn] = uIn == source[inArc] ? DIR_UP : DIR_DOWN;
+            succNum[uIn] = oldSuccNum;
+        }
+
+        // update lastSucc from vIn towards the root
+        int upLimitOut = lastSucc[join] == vIn ? join : -1;
+        int lastSuccOut = lastSucc[uOut];
+        for (int u = vIn; u != -1 && lastSucc[u] == vIn; u = parent[u]) {
+            lastSucc[u] = lastSuccOut;
+        }
+
+        // update lastSucc from vOut towards the root
+        if (join != oldRevThread && vIn != oldRevThread) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = oldRevThread;
+            }
+        } else if (lastSuccOut != oldLastSucc) {
+            for (int u = vOut; u != upLimitOut && lastSucc[u] == oldLastSucc; u = parent[u]) {
+                lastSucc[u] = lastSuccOut;
+            }
+        }
+
+        // update succNum from vIn to join
+        for (int u = vIn; u != join; u = parent[u]) {
+            succNum[u] += oldSuccNum;
+        }
+        // update succNum from vOut to join
+        for (int u = vOut; u != join; u = parent[u]) {
+            succNum[u] -= oldSuccNum;
+        }
+    }
+
+    /**
+     * Updates the potentials of the nodes in the subtree which changed its position, so that the
+     * reduced cost of the entering arc becomes zero.
+     */
+    private void updatePotential()
+    {
+        double sigma = pi[vIn] - pi[uIn] - predDir[uIn] * cost[inArc];
+        int end = thread[lastSucc[uIn]];
+        for (int u = uIn; u != end; u = thread[u]) {
+            pi[u] += sigma;
+        }
+    }
+
+    /**
+     * Finishes the computation by checking the flow feasibility, computing arc flows, and creating
+     * an instance of {@link MinimumCostFlow}. The resulting flow mapping contains all edges of the
+     * specified minimum cost flow problem.
+     *
+     * @return the solution to the minimum cost flow problem
+     */
+    private MinimumCostFlow<E> finish()
+    {
+        // check feasibility
+        for (int e = m; e < m + n; e++) {
+            if (flow[e] != 0) {
+                throw new IllegalArgumentException(
+                    "Specified flow network problem has no feasible solution");
+            }
+        }
+
+        Map<E, Double> flowMap = new HashMap<>(m);
+        double totalCost = 0;
+        for (int i = 0; i < m; i++) {
+            E edge = graphEdges.get(i);
+            double flowOnArc = flow[i] + problem.getArcCapacityLowerBounds().apply(edge);
+            flowMap.put(edge, flowOnArc);
+            totalCost += flowOnArc * cost[i];
+        }
+        return new MinimumCostFlowImpl<>(totalCost, flowMap);
+    }
+}
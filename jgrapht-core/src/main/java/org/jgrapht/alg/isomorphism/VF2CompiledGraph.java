@@ -0,0 +1,284 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A graph compiled into a primitive representation for the {@link VF2CompiledMatcher}. The
+ * vertices are numbered $0, \dots, n - 1$ and the graph is stored as an adjacency matrix of bitsets
+ * together with sorted adjacency lists of the outgoing and incoming neighbors of every vertex. In
+ * addition, every vertex and every edge can be assigned an integer label, which replaces the
+ * comparators of {@link VF2SubgraphIsomorphismInspector}, and the sorted degree and label sequences
+ * of the graph are stored as signatures for rejecting pairs of graphs without a search.
+ *
+ * <p>
+ * A compiled graph is created once and can afterwards be matched against any number of other
+ * compiled graphs without accessing the original graph again. It is immutable and can be shared
+ * between threads, thus the original graph must not be modified after the compilation. Note that
+ * the adjacency matrix requires $n^2$ bits of memory, the representation is therefore intended for
+ * small and medium sized graphs.
+ *
+ * <p>
+ * Graphs with multiple (parallel) edges and mixed graphs are not supported.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ *
+ * @author agent
+ */
+public final class VF2CompiledGraph<V, E>
+{
+    private final Graph<V, E> graph;
+    private final List<V> vertices;
+    private final Map<V, Integer> vertexNumbers;
+
+    final boolean directed;
+    final int n;
+    // number of set bits in the adjacency matrix
+    final int arcCount;
+
+    // adjacency matrix, row u occupies words [u * words, (u + 1) * words)
+    final int words;
+    final long[] adjacency;
+
+    // sorted adjacency lists, in undirected graphs the incoming lists are the outgoing ones
+    final int[] outStart;
+    final int[] outNeighbors;
+    final int[] inStart;
+    final int[] inNeighbors;
+
+    // labels, null if the graph is unlabeled
+    final int[] vertexLabels;
+    final int[] outEdgeLabels;
+
+    // signatures: degrees in descending order and vertex labels in ascending order
+    final int[] sortedDegrees;
+    final int[] sortedVertexLabels;
+
+    /**
+     * Compiles an unlabeled graph.
+     *
+     * @param graph the graph
+     */
+    public VF2CompiledGraph(Graph<V, E> graph)
+    {
+        this(graph, null, null);
+    }
+
+    /**
+     * Compiles a graph with integer vertex and edge labels. Two vertices (edges) are considered to
+     * be semantically equivalent if they have the same label. Labels are only compared if both
+     * matched graphs are labeled.
+     *
+     * @param graph the graph
+     * @param vertexLabeling the vertex labels, null if the vertices are unlabeled
+     * @param edgeLabeling the edge labels, null if the edges are unlabeled
+     */
+    public VF2CompiledGraph(
+        Graph<V, E> graph, ToIntFunction<V> vertexLabeling, ToIntFunction<E> edgeLabeling)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        GraphType type = graph.getType();
+        if (type.isAllowingMultipleEdges()) {
+            throw new IllegalArgumentException(
+                "graphs with multiple (parallel) edges are not supported");
+        }
+        if (type.isMixed()) {
+            throw new IllegalArgumentException("mixed graphs not supported");
+        }
+        this.directed = type.isDirected();
+
+        this.n = graph.vertexSet().size();
+        this.vertices = new ArrayList<>(graph.vertexSet());
+        this.vertexNumbers = new HashMap<>(n);
+        for (int i = 0; i < n; i++) {
+            vertexNumbers.put(vertices.get(i), i);
+        }
+
+        this.words = (n + 63) >>> 6;
+        this.adjacency = new long[Math.multiplyExact(n, words)];
+        for (E e : graph.edgeSet()) {
+            int u = vertexNumbers.get(graph.getEdgeSource(e));
+            int v = vertexNumbers.get(graph.getEdgeTarget(e));
+            adjacency[u * words + (v >>> 6)] |= 1L << v;
+            if (!directed) {
+                adjacency[v * words + (u >>> 6)] |= 1L << u;
+            }
+        }
+
+        // adjacency lists, the bitsets are scanned in increasing order so the lists are sorted
+        int arcs = 0;
+        this.outStart = new int[n + 1];
+        int[] inDegree = new int[n];
+        for (int u = 0; u < n; u++) {
+            for (int w = 0; w < words; w++) {
+                long bits = adjacency[u * words + w];
+                arcs += Long.bitCount(bits);
+                for (; bits != 0; bits &= bits - 1) {
+                    inDegree[(w << 6) + Long.numberOfTrailingZeros(bits)]++;
+                }
+            }
+            outStart[u + 1] = arcs;
+        }
+        this.arcCount = arcs;
+        this.outNeighbors = new int[arcs];
+        for (int u = 0, k = 0; u < n; u++) {
+            for (int w = 0; w < words; w++) {
+                for (long bits = adjacency[u * words + w]; bits != 0; bits &= bits - 1) {
+                    outNeighbors[k++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+        }
+        if (directed) {
+            this.inStart = new int[n + 1];
+            for (int v = 0; v < n; v++) {
+                inStart[v + 1] = inStart[v] + inDegree[v];
+            }
+            this.inNeighbors = new int[arcs];
+            int[] next = Arrays.copyOf(inStart, n);
+            for (int u = 0; u < n; u++) {
+                for (int k = outStart[u]; k < outStart[u + 1]; k++) {
+                    inNeighbors[next[outNeighbors[k]]++] = u;
+                }
+            }
+        } else {
+            this.inStart = outStart;
+            this.inNeighbors = outNeighbors;
+        }
+
+        if (vertexLabeling != null) {
+            this.vertexLabels = new int[n];
+            for (int i = 0; i < n; i++) {
+                vertexLabels[i] = vertexLabeling.applyAsInt(vertices.get(i));
+            }
+            this.sortedVertexLabels = vertexLabels.clone();
+            Arrays.sort(sortedVertexLabels);
+        } else {
+            this.vertexLabels = null;
+            this.sortedVertexLabels = null;
+        }
+
+        if (edgeLabeling != null) {
+            this.outEdgeLabels = new int[arcs];
+            for (int u = 0; u < n; u++) {
+                for (int k = outStart[u]; k < outStart[u + 1]; k++) {
+                    E e = graph.getEdge(vertices.get(u), vertices.get(outNeighbors[k]));
+                    outEdgeLabels[k] = edgeLabeling.applyAsInt(e);
+                }
+            }
+        } else {
+            this.outEdgeLabels = null;
+        }
+
+        this.sortedDegrees = new int[n];
+        for (int u = 0; u < n; u++) {
+            sortedDegrees[u] = degree(u);
+        }
+        Arrays.sort(sortedDegrees);
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int tmp = sortedDegrees[i];
+            sortedDegrees[i] = sortedDegrees[j];
+            sortedDegrees[j] = tmp;
+        }
+    }
+
+    /**
+     * Get the compiled graph.
+     *
+     * @return the compiled graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVertexCount()
+    {
+        return n;
+    }
+
+    /**
+     * Get the vertex with the given number.
+     *
+     * @param vertexNumber the number of the vertex
+     * @return the vertex
+     */
+    public V getVertex(int vertexNumber)
+    {
+        return vertices.get(vertexNumber);
+    }
+
+    /**
+     * Get the number of a vertex.
+     *
+     * @param v the vertex
+     * @return the number of the vertex
+     */
+    public int getVertexNumber(V v)
+    {
+        return vertexNumbers.get(v);
+    }
+
+    /**
+     * Check whether the graph contains an edge from $u$ to $v$.
+     *
+     * @param u the number of the first vertex
+     * @param v the number of the second vertex
+     * @return true if the graph contains an edge from $u$ to $v$
+     */
+    boolean hasArc(int u, int v)
+    {
+        return (adjacency[u * words + (v >>> 6)] & (1L << v)) != 0;
+    }
+
+    /**
+     * Get the label of the edge from $u$ to $v$, which must exist.
+     *
+     * @param u the number of the first vertex
+     * @param v the number of the second vertex
+     * @return the label of the edge
+     */
+    int edgeLabel(int u, int v)
+    {
+        return outEdgeLabels[Arrays.binarySearch(outNeighbors, outStart[u], outStart[u + 1], v)];
+    }
+
+    int outDegree(int u)
+    {
+        return outStart[u + 1] - outStart[u];
+    }
+
+    int inDegree(int u)
+    {
+        return inStart[u + 1] - inStart[u];
+    }
+
+    int degree(int u)
+    {
+        return directed ? outDegree(u) + inDegree(u) : outDegree(u);
+    }
+}
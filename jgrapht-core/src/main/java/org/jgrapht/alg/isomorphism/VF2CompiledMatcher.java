@@ -0,0 +1,432 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import java.util.*;
+
+/**
+ * A VF2 based matcher for graphs compiled into a {@link VF2CompiledGraph}. It is intended for
+ * applications which perform a large number of (subgraph) isomorphism tests on small graphs: every
+ * graph is compiled once, and the matcher performs the whole search on primitive arrays without
+ * accessing the original graphs, comparators or hash maps.
+ *
+ * <p>
+ * Similarly to {@link VF2SubgraphIsomorphismInspector}, the matcher finds isomorphisms between the
+ * second graph and the <a href="http://mathworld.wolfram.com/Vertex-InducedSubgraph.html">induced
+ * subgraphs</a> of the first graph. Before the search, the pair of graphs is rejected if the sorted
+ * degree sequence or the label multiset of the second graph is not dominated by the one of the
+ * first graph. The vertices of the second graph are then matched in a fixed order in the spirit of
+ * VF2++ (see <i>A. Jüttner, P. Madarasi. VF2++ — An improved subgraph isomorphism algorithm.
+ * Discrete Applied Mathematics, 242:69-81, 2018</i>): every connected component starts at a vertex
+ * of maximum degree, and the next vertex is the one with the most neighbors among the already
+ * ordered vertices. The candidates for a vertex with an already matched neighbor are restricted to
+ * the neighbors of the image of that neighbor. A candidate pair is feasible if the labels match,
+ * the degrees are compatible and the adjacency to all already matched vertices, which is looked up
+ * in the adjacency bitsets, is preserved.
+ *
+ * <p>
+ * The matcher keeps its search buffers and the matching order of the last second graph between
+ * invocations, so it should be reused for many pairs of graphs. An instance must not be used by
+ * multiple threads concurrently, but the compiled graphs can be shared between matchers.
+ *
+ * @author agent
+ */
+public class VF2CompiledMatcher
+{
+    private static final int NULL_NODE = IsomorphicGraphMapping.NULL_NODE;
+
+    // matching order of the last second graph
+    private VF2CompiledGraph<?, ?> orderedGraph;
+    private int[] order;
+    private int[] anchor;
+    private boolean[] anchorOut;
+
+    // search state, core1 maps the vertices of the first graph and core2 the vertices of the
+    // second graph to their images
+    private VF2CompiledGraph<?, ?> g1;
+    private VF2CompiledGraph<?, ?> g2;
+    private boolean exact;
+    private int[] core1 = new int[0];
+    private int[] core2 = new int[0];
+    private int[] candidatePos = new int[0];
+    private int[] candidateEnd = new int[0];
+    private int[][] candidates = new int[0][];
+
+    /**
+     * Construct a new matcher.
+     */
+    public VF2CompiledMatcher()
+    {
+    }
+
+    /**
+     * Check whether the second graph is isomorphic to an induced subgraph of the first graph.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @return true if a subgraph isomorphism exists
+     */
+    public boolean isSubgraphIsomorphic(
+        VF2CompiledGraph<?, ?> graph1, VF2CompiledGraph<?, ?> graph2)
+    {
+        return search(graph1, graph2, false, 1) == 1;
+    }
+
+    /**
+     * Count the isomorphisms between the second graph and the induced subgraphs of the first graph.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @return the number of subgraph isomorphisms
+     */
+    public long countSubgraphIsomorphisms(
+        VF2CompiledGraph<?, ?> graph1, VF2CompiledGraph<?, ?> graph2)
+    {
+        return search(graph1, graph2, false, Long.MAX_VALUE);
+    }
+
+    /**
+     * Find an isomorphism between the second graph and an induced subgraph of the first graph.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @param <V> the type of the vertices
+     * @param <E> the type of the edges
+     * @return a subgraph isomorphism, or null if none exists
+     */
+    public <V, E> IsomorphicGraphMapping<V, E> getSubgraphMapping(
+        VF2CompiledGraph<V, E> graph1, VF2CompiledGraph<V, E> graph2)
+    {
+        if (search(graph1, graph2, false, 1) == 0) {
+            return null;
+        }
+        return getCurrentMapping(graph1, graph2);
+    }
+
+    /**
+     * Check whether two graphs are isomorphic.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph
+     * @return true if the graphs are isomorphic
+     */
+    public boolean isIsomorphic(VF2CompiledGraph<?, ?> graph1, VF2CompiledGraph<?, ?> graph2)
+    {
+        return search(graph1, graph2, true, 1) == 1;
+    }
+
+    /**
+     * Find an isomorphism between two graphs.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph
+     * @param <V> the type of the vertices
+     * @param <E> the type of the edges
+     * @return an isomorphism, or null if the graphs are not isomorphic
+     */
+    public <V, E> IsomorphicGraphMapping<V, E> getIsomorphism(
+        VF2CompiledGraph<V, E> graph1, VF2CompiledGraph<V, E> graph2)
+    {
+        if (search(graph1, graph2, true, 1) == 0) {
+            return null;
+        }
+        return getCurrentMapping(graph1, graph2);
+    }
+
+    /**
+     * Search for (subgraph) isomorphisms.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph
+     * @param exact whether to search for isomorphisms instead of subgraph isomorphisms
+     * @param limit the search stops after this number of isomorphisms, the last one is kept in the
+     *        core arrays
+     * @return the number of found isomorphisms
+     */
+    private long search(
+        VF2CompiledGraph<?, ?> graph1, VF2CompiledGraph<?, ?> graph2, boolean exact, long limit)
+    {
+        Objects.requireNonNull(graph1, "Graph cannot be null");
+        Objects.requireNonNull(graph2, "Graph cannot be null");
+        if (graph1.directed != graph2.directed) {
+            throw new IllegalArgumentException("can not match directed with undirected graphs");
+        }
+        this.g1 = graph1;
+        this.g2 = graph2;
+        this.exact = exact;
+
+        int n1 = g1.n;
+        int n2 = g2.n;
+        if (core1.length < n1) {
+            core1 = new int[n1];
+        }
+        Arrays.fill(core1, 0, n1, NULL_NODE);
+        if (core2.length < n2) {
+            core2 = new int[n2];
+            candidatePos = new int[n2];
+            candidateEnd = new int[n2];
+            candidates = new int[n2][];
+        }
+        Arrays.fill(core2, 0, n2, NULL_NODE);
+
+        if (!compatibleSignatures()) {
+            return 0;
+        }
+        if (n2 == 0) {
+            return 1;
+        }
+        computeOrder();
+
+        long count = 0;
+        int depth = 0;
+        initCandidates(depth);
+        while (depth >= 0) {
+            int u = order[depth];
+            if (core2[u] != NULL_NODE) {
+                // unmatch the previous candidate
+                core1[core2[u]] = NULL_NODE;
+                core2[u] = NULL_NODE;
+            }
+
+            int c = nextCandidate(depth);
+            if (c == NULL_NODE) {
+                depth--;
+                continue;
+            }
+            if (!isFeasiblePair(u, c, depth)) {
+                continue;
+            }
+
+            core2[u] = c;
+            core1[c] = u;
+            if (depth + 1 == n2) {
+                if (++count == limit) {
+                    return count;
+                }
+            } else {
+                initCandidates(++depth);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check the necessary conditions on the number of vertices and arcs, the degree sequences and
+     * the label multisets of the graphs.
+     *
+     * @return false if the graphs can not be matched
+     */
+    private boolean compatibleSignatures()
+    {
+        if (exact) {
+            return g1.n == g2.n && g1.arcCount == g2.arcCount
+                && Arrays.equals(g1.sortedDegrees, g2.sortedDegrees)
+                && (g1.sortedVertexLabels == null || g2.sortedVertexLabels == null
+                    || Arrays.equals(g1.sortedVertexLabels, g2.sortedVertexLabels));
+        }
+        if (g2.n > g1.n || g2.arcCount > g1.arcCount) {
+            return false;
+        }
+        // the i-th largest degree can only decrease in an induced subgraph
+        for (int i = 0; i < g2.n; i++) {
+            if (g2.sortedDegrees[i] > g1.sortedDegrees[i]) {
+                return false;
+            }
+        }
+        if (g1.sortedVertexLabels != null && g2.sortedVertexLabels != null) {
+            // every label of the second graph must be matched by a distinct label of the first
+            int[] labels1 = g1.sortedVertexLabels;
+            int[] labels2 = g2.sortedVertexLabels;
+            int i = 0;
+            for (int label : labels2) {
+                while (i < labels1.length && labels1[i] < label) {
+                    i++;
+                }
+                if (i == labels1.length || labels1[i] != label) {
+                    return false;
+                }
+                i++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the matching order of the second graph unless it has already been computed in the
+     * last invocation.
+     */
+    private void computeOrder()
+    {
+        if (orderedGraph == g2) {
+            return;
+        }
+        int n = g2.n;
+        order = new int[n];
+        anchor = new int[n];
+        anchorOut = new boolean[n];
+
+        // connections to ordered vertices, -1 for ordered vertices
+        int[] connections = new int[n];
+        int[] anchorOf = new int[n];
+        Arrays.fill(anchorOf, NULL_NODE);
+        for (int depth = 0; depth < n; depth++) {
+            int best = NULL_NODE;
+            for (int v = 0; v < n; v++) {
+                if (connections[v] < 0) {
+                    continue;
+                }
+                if (best == NULL_NODE || connections[v] > connections[best]
+                    || connections[v] == connections[best] && g2.degree(v) > g2.degree(best))
+                {
+                    best = v;
+                }
+            }
+            order[depth] = best;
+            anchor[depth] = anchorOf[best];
+            anchorOut[depth] = anchorOf[best] != NULL_NODE && g2.hasArc(anchorOf[best], best);
+            connections[best] = -1;
+
+            for (int k = g2.outStart[best]; k < g2.outStart[best + 1]; k++) {
+                connect(g2.outNeighbors[k], best, connections, anchorOf);
+            }
+            if (g2.directed) {
+                for (int k = g2.inStart[best]; k < g2.inStart[best + 1]; k++) {
+                    connect(g2.inNeighbors[k], best, connections, anchorOf);
+                }
+            }
+        }
+        orderedGraph = g2;
+    }
+
+    private static void connect(int v, int orderedVertex, int[] connections, int[] anchorOf)
+    {
+        if (connections[v] >= 0) {
+            connections[v]++;
+            if (anchorOf[v] == NULL_NODE) {
+                anchorOf[v] = orderedVertex;
+            }
+        }
+    }
+
+    /**
+     * Initialize the candidates for the vertex at the given depth. If the vertex has an already
+     * matched anchor, the candidates are the corresponding neighbors of the image of the anchor,
+     * otherwise all vertices of the first graph.
+     *
+     * @param depth the depth
+     */
+    private void initCandidates(int depth)
+    {
+        int a = anchor[depth];
+        if (a == NULL_NODE) {
+            candidates[depth] = null;
+            candidatePos[depth] = 0;
+            candidateEnd[depth] = g1.n;
+        } else if (anchorOut[depth]) {
+            int image = core2[a];
+            candidates[depth] = g1.outNeighbors;
+            candidatePos[depth] = g1.outStart[image];
+            candidateEnd[depth] = g1.outStart[image + 1];
+        } else {
+            int image = core2[a];
+            candidates[depth] = g1.inNeighbors;
+            candidatePos[depth] = g1.inStart[image];
+            candidateEnd[depth] = g1.inStart[image + 1];
+        }
+    }
+
+    private int nextCandidate(int depth)
+    {
+        int[] list = candidates[depth];
+        int end = candidateEnd[depth];
+        for (int pos = candidatePos[depth]; pos < end; pos++) {
+            int c = list == null ? pos : list[pos];
+            if (core1[c] == NULL_NODE) {
+                candidatePos[depth] = pos + 1;
+                return c;
+            }
+        }
+        candidatePos[depth] = end;
+        return NULL_NODE;
+    }
+
+    /**
+     * @return true, if the vertices of the second graph matched at the smaller depths plus $u$
+     *         induce a subgraph which is isomorphic to the one induced by their images plus $c$.
+     */
+    private boolean isFeasiblePair(int u, int c, int depth)
+    {
+        if (g1.vertexLabels != null && g2.vertexLabels != null
+            && g1.vertexLabels[c] != g2.vertexLabels[u])
+        {
+            return false;
+        }
+
+        if (exact) {
+            if (g2.outDegree(u) != g1.outDegree(c) || g2.inDegree(u) != g1.inDegree(c)) {
+                return false;
+            }
+        } else if (g2.outDegree(u) > g1.outDegree(c) || g2.inDegree(u) > g1.inDegree(c)) {
+            return false;
+        }
+
+        boolean edgeLabels = g1.outEdgeLabels != null && g2.outEdgeLabels != null;
+        if (!areCompatibleArcs(u, u, c, c, edgeLabels)) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            int w = order[i];
+            int image = core2[w];
+            if (!areCompatibleArcs(u, w, c, image, edgeLabels)) {
+                return false;
+            }
+            if (g2.directed && !areCompatibleArcs(w, u, image, c, edgeLabels)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the arc from $u_2$ to $v_2$ in the second graph exists if and only if the arc
+     * from $u_1$ to $v_1$ exists in the first graph, and whether they have the same labels.
+     */
+    private boolean areCompatibleArcs(int u2, int v2, int u1, int v1, boolean edgeLabels)
+    {
+        boolean arc2 = g2.hasArc(u2, v2);
+        if (arc2 != g1.hasArc(u1, v1)) {
+            return false;
+        }
+        return !arc2 || !edgeLabels || g2.edgeLabel(u2, v2) == g1.edgeLabel(u1, v1);
+    }
+
+    private <V, E> IsomorphicGraphMapping<V, E> getCurrentMapping(
+        VF2CompiledGraph<V, E> graph1, VF2CompiledGraph<V, E> graph2)
+    {
+        Map<V, V> forwardMapping = new HashMap<>();
+        Map<V, V> backwardMapping = new HashMap<>();
+        for (int u = 0; u < graph2.n; u++) {
+            V v1 = graph1.getVertex(core2[u]);
+            V v2 = graph2.getVertex(u);
+            forwardMapping.put(v1, v2);
+            backwardMapping.put(v2, v1);
+        }
+        return new IsomorphicGraphMapping<>(
+            forwardMapping, backwardMapping, graph1.getGraph(), graph2.getGraph());
+    }
+}
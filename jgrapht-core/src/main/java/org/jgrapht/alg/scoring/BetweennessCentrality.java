@@ -19,9 +19,13 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.util.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Betweenness centrality.
@@ -44,6 +48,21 @@ import java.util.*;
  * respectively, where $n$ is the number of vertices and $m$ the number of edges of the graph. The
  * space complexity is $O(n + m)$.
  *
+ * <p>
+ * The single-source passes are independent and can be executed in parallel. Each worker thread
+ * processes a subset of the sources using its own primitive buffers and the partial scores are
+ * summed at the end, which increases the space complexity to $O(t(n + m))$ for $t$ threads.
+ * 
+ * <p>
+ * For very large graphs an approximation can be computed by performing single-source passes only
+ * from $k$ random pivots and extrapolating the result by a factor of $n/k$, see
+ * <ul>
+ * <li>Brandes, Ulrik and Pich, Christian (2007). "Centrality estimation in large networks".
+ * International Journal of Bifurcation and Chaos. 17 (7): 2303–2318.</li>
+ * </ul>
+ * The running time of the approximation is $O(km)$ and $O(km + kn \log n)$ for unweighted and
+ * weighted graphs respectively.
+ *
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -63,6 +82,18 @@ public class BetweennessCentrality<V, E>
      * Whether to normalize scores
      */
     private final boolean normalize;
+    /**
+     * Number of threads to use
+     */
+    private final int parallelism;
+    /**
+     * Number of pivots to sample
+     */
+    private final int pivots;
+    /**
+     * Random number generator used to sample pivots
+     */
+    private final Random rng;
     /**
      * The actual scores
      */
@@ -86,11 +117,50 @@ public class BetweennessCentrality<V, E>
      *        $n$ is the number of vertices of the graph
      */
     public BetweennessCentrality(Graph<V, E> graph, boolean normalize)
+    {
+        this(graph, normalize, 1);
+    }
+
+    /**
+     * Construct a new instance which computes the exact scores using multiple threads.
+     * 
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     */
+    public BetweennessCentrality(Graph<V, E> graph, boolean normalize, int parallelism)
+    {
+        this(graph, normalize, parallelism, Integer.MAX_VALUE, new Random());
+    }
+
+    /**
+     * Construct a new instance which approximates the scores by sampling random pivots. If the
+     * number of pivots is not smaller than the number of vertices, the exact scores are computed.
+     * 
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @param pivots the number of source vertices to sample
+     * @param rng the random number generator used to sample the pivots
+     */
+    public BetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, int parallelism, int pivots, Random rng)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (pivots < 1) {
+            throw new IllegalArgumentException("Number of pivots must be positive");
+        }
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
 
         this.scores = null;
         this.normalize = normalize;
+        this.parallelism = parallelism;
+        this.pivots = pivots;
     }
 
     /**
@@ -125,172 +195,274 @@ public class BetweennessCentrality<V, E>
      */
     private void compute()
     {
-        // initialize result container
-        this.scores = new HashMap<>();
-        this.graph.vertexSet().forEach(v -> this.scores.put(v, 0.0));
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        List<V> vertices = mapping.getIndexList();
+        int n = vertices.size();
+        CompactGraph compactGraph = new CompactGraph(mapping);
+
+        // select sources
+        int[] sources;
+        double scale;
+        if (pivots < n) {
+            sources = new int[n];
+            for (int i = 0; i < n; i++) {
+                sources[i] = i;
+            }
+            for (int i = 0; i < pivots; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = sources[i];
+                sources[i] = sources[j];
+                sources[j] = tmp;
+            }
+            sources = Arrays.copyOf(sources, pivots);
+            scale = (double) n / pivots;
+        } else {
+            sources = new int[n];
+            for (int i = 0; i < n; i++) {
+                sources[i] = i;
+            }
+            scale = 1d;
+        }
 
         // compute for each source
-        this.graph.vertexSet().forEach(this::compute);
+        double[] result;
+        if (parallelism > 1 && sources.length > 1) {
+            result = computeParallel(compactGraph, sources);
+        } else {
+            result = new SingleSourceDependencies(compactGraph).accumulate(sources, 0, 1);
+        }
 
         // For undirected graph, divide scores by two as each shortest path
         // considered twice.
         if (!this.graph.getType().isDirected()) {
-            this.scores.forEach((v, score) -> this.scores.put(v, score / 2));
+            scale /= 2;
         }
 
         if (normalize) {
-            int n = this.graph.vertexSet().size();
             int normalizationFactor = (n - 1) * (n - 2);
             if (normalizationFactor != 0) {
-                this.scores.forEach((v, score) -> this.scores.put(v, score / normalizationFactor));
+                scale /= normalizationFactor;
             }
         }
+
+        this.scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            this.scores.put(vertices.get(i), result[i] * scale);
+        }
     }
 
-    private void compute(V s)
+    private double[] computeParallel(CompactGraph compactGraph, int[] sources)
     {
-        // initialize
-        ArrayDeque<V> stack = new ArrayDeque<>();
-        Map<V, List<V>> predecessors = new HashMap<>();
-        this.graph.vertexSet().forEach(w -> predecessors.put(w, new ArrayList<>()));
-
-        // Number of shortest paths from s to v
-        Map<V, Double> sigma = new HashMap<>();
-        this.graph.vertexSet().forEach(t -> sigma.put(t, 0.0));
-        sigma.put(s, 1.0);
-
-        // Distance (Weight) of the shortest path from s to v
-        Map<V, Double> distance = new HashMap<>();
-        this.graph.vertexSet().forEach(t -> distance.put(t, Double.POSITIVE_INFINITY));
-        distance.put(s, 0.0);
-
-        MyQueue<V, Double> queue =
-            this.graph.getType().isWeighted() ? new WeightedQueue() : new UnweightedQueue();
-        queue.insert(s, 0.0);
-
-        // 1. compute the length and the number of shortest paths between all s to v
-        while (!queue.isEmpty()) {
-            V v = queue.remove();
-            stack.push(v);
-
-            for (E e : this.graph.outgoingEdgesOf(v)) {
-                V w = Graphs.getOppositeVertex(this.graph, e, v);
-                double eWeight = graph.getEdgeWeight(e);
-                if (eWeight < 0.0) {
-                    throw new IllegalArgumentException("Negative edge weight not allowed");
-                }
-                double d = distance.get(v) + eWeight;
-                // w found for the first time?
-                if (distance.get(w) == Double.POSITIVE_INFINITY) {
-                    queue.insert(w, d);
-                    distance.put(w, d);
-                }
-                // shortest path to w via v?
-                if (distance.get(w) >= d) {
-                    queue.update(w, d);
-                    sigma.put(w, sigma.get(w) + sigma.get(v));
-                    predecessors.get(w).add(v);
-                }
-            }
+        int workers = Math.min(parallelism, sources.length);
+        List<Callable<double[]>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            final int offset = i;
+            tasks.add(
+                () -> new SingleSourceDependencies(compactGraph)
+                    .accumulate(sources, offset, workers));
         }
-
-        // 2. sum all pair dependencies.
-        // The pair-dependency of s and v in w
-        Map<V, Double> dependency = new HashMap<>();
-        this.graph.vertexSet().forEach(v -> dependency.put(v, 0.0));
-        // S returns vertices in order of non-increasing distance from s
-        while (!stack.isEmpty()) {
-            V w = stack.pop();
-            for (V v : predecessors.get(w)) {
-                dependency.put(
-                    v, dependency.get(v) + (sigma.get(v) / sigma.get(w)) * (1 + dependency.get(w)));
-            }
-            if (!w.equals(s)) {
-                this.scores.put(w, this.scores.get(w) + dependency.get(w));
+        double[] result = new double[compactGraph.n];
+        for (double[] partial : ConcurrencyUtil.invokeAll(workers, tasks)) {
+            for (int v = 0; v < result.length; v++) {
+                result[v] += partial[v];
             }
         }
+        return result;
     }
 
-    private interface MyQueue<T, D>
-    {
-        void insert(T t, D d);
-
-        void update(T t, D d);
-
-        T remove();
-
-        boolean isEmpty();
-    }
-
-    private class WeightedQueue
-        implements
-        MyQueue<V, Double>
+    /**
+     * An index based copy of the graph. Vertex $v$ has neighbors {@code target[p]} with edge
+     * weight {@code weight[p]} for {@code start[v] <= p < start[v+1]}.
+     */
+    private class CompactGraph
     {
-
-        FibonacciHeap<V> delegate = new FibonacciHeap<>();
-        Map<V, FibonacciHeapNode<V>> seen = new HashMap<>();
-
-        @Override
-        public void insert(V t, Double d)
+        final int n;
+        final boolean weighted;
+        final int[] start;
+        final int[] target;
+        final double[] weight;
+        final int[] predecessorStart;
+
+        CompactGraph(VertexToIntegerMapping<V> mapping)
         {
-            FibonacciHeapNode<V> node = new FibonacciHeapNode<>(t);
-            delegate.insert(node, d);
-            seen.put(t, node);
-        }
+            Map<V, Integer> indexOf = mapping.getVertexMap();
+            List<V> vertices = mapping.getIndexList();
+            this.n = vertices.size();
+            this.weighted = graph.getType().isWeighted();
+
+            this.start = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                start[i + 1] = start[i] + graph.outgoingEdgesOf(vertices.get(i)).size();
+            }
+            this.target = new int[start[n]];
+            this.weight = new double[start[n]];
+            int[] inDegree = new int[n];
+            int p = 0;
+            for (int i = 0; i < n; i++) {
+                V v = vertices.get(i);
+                for (E e : graph.outgoingEdgesOf(v)) {
+                    double eWeight = graph.getEdgeWeight(e);
+                    if (eWeight < 0.0) {
+                        throw new IllegalArgumentException("Negative edge weight not allowed");
+                    }
+                    int w = indexOf.get(Graphs.getOppositeVertex(graph, e, v));
+                    target[p] = w;
+                    weight[p] = eWeight;
+                    inDegree[w]++;
+                    p++;
+                }
+            }
 
-        @Override
-        public void update(V t, Double d)
-        {
-            if (!seen.containsKey(t)) {
-                throw new IllegalArgumentException("Element " + t + " does not exist in queue");
+            // every predecessor of w arrives through one of the arcs entering w
+            this.predecessorStart = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                predecessorStart[i + 1] = predecessorStart[i] + inDegree[i];
             }
-            delegate.decreaseKey(seen.get(t), d);
         }
+    }
 
-        @Override
-        public V remove()
+    /**
+     * Single-source shortest path counting and dependency accumulation using primitive buffers
+     * which are allocated once and reset after each source.
+     */
+    private class SingleSourceDependencies
+    {
+        private final CompactGraph g;
+        private final double[] sigma;
+        private final double[] distance;
+        private final double[] dependency;
+        private final int[] predecessors;
+        private final int[] predecessorCount;
+        private final int[] stack;
+        private final AddressableHeap<Double, Integer> heap;
+        private final AddressableHeap.Handle<Double, Integer>[] handles;
+
+        SingleSourceDependencies(CompactGraph g)
         {
-            return delegate.removeMin().getData();
+            this.g = g;
+            this.sigma = new double[g.n];
+            this.distance = new double[g.n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.dependency = new double[g.n];
+            this.predecessors = new int[g.predecessorStart[g.n]];
+            this.predecessorCount = new int[g.n];
+            this.stack = new int[g.n];
+            this.heap = g.weighted ? new PairingHeap<>() : null;
+            @SuppressWarnings("unchecked") AddressableHeap.Handle<Double, Integer>[] handles =
+                new AddressableHeap.Handle[g.weighted ? g.n : 0];
+            this.handles = handles;
         }
 
-        @Override
-        public boolean isEmpty()
+        /**
+         * Accumulate the dependencies of the sources at positions {@code offset},
+         * {@code offset + step}, {@code offset + 2 * step} and so on.
+         *
+         * @param sources the sources
+         * @param offset the first position
+         * @param step the step between positions
+         * @return the accumulated dependencies of each vertex
+         */
+        double[] accumulate(int[] sources, int offset, int step)
         {
-            return delegate.isEmpty();
+            double[] result = new double[g.n];
+            for (int i = offset; i < sources.length; i += step) {
+                accumulate(sources[i], result);
+            }
+            return result;
         }
 
-    }
-
-    private class UnweightedQueue
-        implements
-        MyQueue<V, Double>
-    {
-
-        Queue<V> delegate = new ArrayDeque<>();
-
-        @Override
-        public void insert(V t, Double d)
+        private void accumulate(int s, double[] result)
         {
-            delegate.add(t);
-        }
+            // 1. compute the length and the number of shortest paths between all s to v
+            int visited = g.weighted ? weightedSearch(s) : unweightedSearch(s);
+
+            // 2. sum all pair dependencies, in order of non-increasing distance from s
+            for (int i = visited - 1; i >= 0; i--) {
+                int w = stack[i];
+                double coefficient = (1 + dependency[w]) / sigma[w];
+                for (int p = g.predecessorStart[w], end = p + predecessorCount[w]; p < end; p++) {
+                    int v = predecessors[p];
+                    dependency[v] += sigma[v] * coefficient;
+                }
+                if (w != s) {
+                    result[w] += dependency[w];
+                }
+            }
 
-        @Override
-        public void update(V t, Double d)
-        {
-            // do nothing
+            // reset buffers
+            for (int i = 0; i < visited; i++) {
+                int v = stack[i];
+                sigma[v] = 0d;
+                distance[v] = Double.POSITIVE_INFINITY;
+                dependency[v] = 0d;
+                predecessorCount[v] = 0;
+            }
         }
 
-        @Override
-        public V remove()
+        private int unweightedSearch(int s)
         {
-            return delegate.remove();
+            // the breadth-first queue doubles as the stack
+            int head = 0;
+            int tail = 0;
+            sigma[s] = 1d;
+            distance[s] = 0d;
+            stack[tail++] = s;
+            while (head < tail) {
+                int v = stack[head++];
+                double d = distance[v] + 1d;
+                for (int p = g.start[v], end = g.start[v + 1]; p < end; p++) {
+                    int w = g.target[p];
+                    // w found for the first time?
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = d;
+                        stack[tail++] = w;
+                    }
+                    // shortest path to w via v?
+                    if (distance[w] == d) {
+                        sigma[w] += sigma[v];
+                        predecessors[g.predecessorStart[w] + predecessorCount[w]++] = v;
+                    }
+                }
+            }
+            return tail;
         }
 
-        @Override
-        public boolean isEmpty()
+        private int weightedSearch(int s)
         {
-            return delegate.isEmpty();
+            int visited = 0;
+            sigma[s] = 1d;
+            distance[s] = 0d;
+            handles[s] = heap.insert(0d, s);
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin().getValue();
+                handles[v] = null;
+                stack[visited++] = v;
+                for (int p = g.start[v], end = g.start[v + 1]; p < end; p++) {
+                    int w = g.target[p];
+                    double d = distance[v] + g.weight[p];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        // w found for the first time
+                        distance[w] = d;
+                        handles[w] = heap.insert(d, w);
+                        sigma[w] = sigma[v];
+                        predecessors[g.predecessorStart[w]] = v;
+                        predecessorCount[w] = 1;
+                    } else if (d < distance[w]) {
+                        // strictly shorter path to w via v
+                        distance[w] = d;
+                        handles[w].decreaseKey(d);
+                        sigma[w] = sigma[v];
+                        predecessors[g.predecessorStart[w]] = v;
+                        predecessorCount[w] = 1;
+                    } else if (d == distance[w]) {
+                        // another shortest path to w via v
+                        sigma[w] += sigma[v];
+                        predecessors[g.predecessorStart[w] + predecessorCount[w]++] = v;
+                    }
+                }
+            }
+            return visited;
         }
-
     }
+
 }
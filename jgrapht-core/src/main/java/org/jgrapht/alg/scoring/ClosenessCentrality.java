@@ -21,9 +21,14 @@ import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Closeness centrality.
@@ -52,7 +57,34 @@ import java.util.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * +n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. Without negative edge weights, the single-source searches are breadth-first
+ * searches for unweighted graphs and Dijkstra's algorithm otherwise, executed on an index based
+ * copy of the graph using primitive distance arrays which are reused for all sources.
+ * 
+ * <p>
+ * The single-source searches are independent and can be executed in parallel, each worker thread
+ * using its own buffers, which increases the space complexity to $O(t n + m)$ for $t$ threads.
+ * 
+ * <p>
+ * For very large graphs the scores can be approximated by random pivot sampling as described in
+ * <ul>
+ * <li>David Eppstein and Joseph Wang. Fast approximation of centrality. Journal of Graph Algorithms
+ * and Applications, 8(1):39–45, 2004.</li>
+ * </ul>
+ * Given an error bound $\epsilon$, only $k = \lceil \ln n / \epsilon^2 \rceil$ random pivots are
+ * chosen and a single-source search in the opposite direction is executed from every pivot. The
+ * sum of distances of each vertex is then extrapolated from its distances to the pivots. By
+ * Hoeffding's inequality, with probability at least $1 - 2/n$ the estimated average distance of
+ * every vertex differs from its exact average distance by at most $\epsilon \Delta$, where
+ * $\Delta$ is the diameter of the graph. The running time of the approximation is $O(k m)$ and
+ * $O(k (m + n \log n))$ for unweighted and weighted graphs respectively. Graphs with negative edge
+ * weights are always handled exactly and sequentially by the Floyd-Warshall algorithm.
+ * 
+ * <p>
+ * The index based searches, the parallel execution and the approximation are used by the
+ * constructors which take the number of threads. The constructors of previous versions compute all
+ * distances exactly and sequentially with the algorithm returned by
+ * {@link #getShortestPathAlgorithm()}, so that subclasses which override it keep working.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -79,6 +111,22 @@ public class ClosenessCentrality<V, E>
      * The actual scores
      */
     protected Map<V, Double> scores;
+    /**
+     * Number of threads to use
+     */
+    private final int parallelism;
+    /**
+     * Error bound of the approximation, zero for the exact computation
+     */
+    private final double epsilon;
+    /**
+     * Random number generator used to sample pivots
+     */
+    private final Random rng;
+    /**
+     * Whether all distances are computed by the algorithm of {@link #getShortestPathAlgorithm()}
+     */
+    private final boolean useShortestPathAlgorithm;
 
     /**
      * Construct a new instance. By default the centrality is normalized and computed using outgoing
@@ -92,7 +140,8 @@ public class ClosenessCentrality<V, E>
     }
 
     /**
-     * Construct a new instance.
+     * Construct a new instance. All distances are computed sequentially by the algorithm returned
+     * by {@link #getShortestPathAlgorithm()}.
      * 
      * @param graph the input graph
      * @param incoming if true incoming paths are used, otherwise outgoing paths
@@ -105,6 +154,71 @@ public class ClosenessCentrality<V, E>
         this.incoming = incoming;
         this.normalize = normalize;
         this.scores = null;
+        this.parallelism = 1;
+        this.epsilon = 0d;
+        this.rng = null;
+        this.useShortestPathAlgorithm = true;
+    }
+
+    /**
+     * Construct a new instance which executes index based single-source searches, in parallel if
+     * more than one thread is used.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by multiplying the closeness by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public ClosenessCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, int parallelism)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.incoming = incoming;
+        this.normalize = normalize;
+        this.scores = null;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        this.epsilon = 0d;
+        this.rng = null;
+        this.useShortestPathAlgorithm = false;
+    }
+
+    /**
+     * Construct a new instance which approximates the scores by sampling random pivots. If the
+     * number of pivots required for the error bound is not smaller than the number of vertices,
+     * the exact scores are computed.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by multiplying the closeness by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @param epsilon the error bound of the approximation
+     * @param rng the random number generator used to sample the pivots
+     * @throws IllegalArgumentException if the parallelism or the error bound is not positive
+     */
+    public ClosenessCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, int parallelism, double epsilon,
+        Random rng)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.incoming = incoming;
+        this.normalize = normalize;
+        this.scores = null;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        if (!(epsilon > 0d)) {
+            throw new IllegalArgumentException("Error bound must be positive");
+        }
+        this.epsilon = epsilon;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.useShortestPathAlgorithm = false;
     }
 
     /**
@@ -135,7 +249,10 @@ public class ClosenessCentrality<V, E>
     }
 
     /**
-     * Get the shortest path algorithm for the paths computation.
+     * Get the shortest path algorithm for the paths computation. It is used for all graphs by the
+     * instances created with {@link #ClosenessCentrality(Graph, boolean, boolean)}, and otherwise
+     * only for graphs with negative edge weights, in which case the parallelism and the
+     * approximation error bound are ignored.
      * 
      * @return the shortest path algorithm
      */
@@ -169,6 +286,35 @@ public class ClosenessCentrality<V, E>
         return alg;
     }
 
+    /**
+     * The contribution of the distance to another vertex to the sum from which the score of a
+     * vertex is computed.
+     * 
+     * @param distance the distance, possibly infinite
+     * @return the contribution of the distance
+     */
+    protected double distanceContribution(double distance)
+    {
+        return distance;
+    }
+
+    /**
+     * Compute the score of a vertex from the sum of the contributions of its distances to all other
+     * vertices.
+     * 
+     * @param sum the sum of the contributions
+     * @param n the number of vertices of the graph
+     * @return the score
+     */
+    protected double score(double sum, int n)
+    {
+        if (normalize) {
+            return (n - 1) / sum;
+        } else {
+            return 1 / sum;
+        }
+    }
+
     /**
      * Compute the centrality index
      */
@@ -177,6 +323,74 @@ public class ClosenessCentrality<V, E>
         // create result container
         this.scores = new HashMap<>();
 
+        if (useShortestPathAlgorithm) {
+            computeWithShortestPathAlgorithm();
+            return;
+        }
+
+        for (E e : graph.edgeSet()) {
+            if (graph.getEdgeWeight(e) < 0.0) {
+                computeWithShortestPathAlgorithm();
+                return;
+            }
+        }
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        List<V> vertices = mapping.getIndexList();
+        int n = vertices.size();
+
+        int pivots = n;
+        if (epsilon > 0d && n > 1) {
+            double k = Math.ceil(Math.log(n) / (epsilon * epsilon));
+            pivots = (int) Math.max(2d, Math.min(n, k));
+        }
+
+        double[] sums;
+        if (pivots < n) {
+            // sample pivots and search from them in the opposite direction
+            int[] sources = new int[n];
+            for (int i = 0; i < n; i++) {
+                sources[i] = i;
+            }
+            for (int i = 0; i < pivots; i++) {
+                int j = i + rng.nextInt(n - i);
+                int tmp = sources[i];
+                sources[i] = sources[j];
+                sources[j] = tmp;
+            }
+            sources = Arrays.copyOf(sources, pivots);
+
+            IndexedGraph g = new IndexedGraph(mapping, !incoming);
+            sums = run(g, sources, true);
+
+            // every vertex is compared with pivots - 1 or pivots other vertices
+            boolean[] isPivot = new boolean[n];
+            for (int s : sources) {
+                isPivot[s] = true;
+            }
+            for (int v = 0; v < n; v++) {
+                sums[v] *= (double) (n - 1) / (isPivot[v] ? pivots - 1 : pivots);
+            }
+        } else {
+            int[] sources = new int[n];
+            for (int i = 0; i < n; i++) {
+                sources[i] = i;
+            }
+            IndexedGraph g = new IndexedGraph(mapping, incoming);
+            sums = run(g, sources, false);
+        }
+
+        for (int v = 0; v < n; v++) {
+            this.scores.put(vertices.get(v), score(sums[v], n));
+        }
+    }
+
+    /**
+     * Compute the centrality index using a general shortest path algorithm, which supports
+     * negative edge weights.
+     */
+    private void computeWithShortestPathAlgorithm()
+    {
         // initialize shortest path algorithm
         ShortestPathAlgorithm<V, E> alg = getShortestPathAlgorithm();
 
@@ -188,15 +402,201 @@ public class ClosenessCentrality<V, E>
             SingleSourcePaths<V, E> paths = alg.getPaths(v);
             for (V u : graph.vertexSet()) {
                 if (!u.equals(v)) {
-                    sum += paths.getWeight(u);
+                    sum += distanceContribution(paths.getWeight(u));
                 }
             }
 
-            if (normalize) {
-                this.scores.put(v, (n - 1) / sum);
-            } else {
-                this.scores.put(v, 1 / sum);
+            this.scores.put(v, score(sum, n));
+        }
+    }
+
+    /**
+     * Run the single-source searches from all sources, sequentially or in parallel.
+     * 
+     * @param g the indexed graph
+     * @param sources the sources
+     * @param pivots whether the contributions are added to the searched vertices, otherwise to
+     *        the sources
+     * @return the sums of the contributions of every vertex
+     */
+    private double[] run(IndexedGraph g, int[] sources, boolean pivots)
+    {
+        int workers = Math.min(parallelism, sources.length);
+        if (workers <= 1) {
+            return new SingleSourceDistances(g).accumulate(sources, 0, 1, pivots);
+        }
+
+        List<Callable<double[]>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            final int offset = i;
+            tasks.add(
+                () -> new SingleSourceDistances(g).accumulate(sources, offset, workers, pivots));
+        }
+        double[] result = new double[g.n];
+        for (double[] partial : ConcurrencyUtil.invokeAll(workers, tasks)) {
+            for (int v = 0; v < result.length; v++) {
+                result[v] += partial[v];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An index based copy of the graph, possibly reversed. Vertex $v$ has neighbors
+     * {@code target[p]} with edge weight {@code weight[p]} for {@code start[v] <= p < start[v+1]}.
+     */
+    private class IndexedGraph
+    {
+        final int n;
+        final boolean weighted;
+        final int[] start;
+        final int[] target;
+        final double[] weight;
+
+        IndexedGraph(VertexToIntegerMapping<V> mapping, boolean reversed)
+        {
+            Map<V, Integer> indexOf = mapping.getVertexMap();
+            List<V> vertices = mapping.getIndexList();
+            this.n = vertices.size();
+            this.weighted = graph.getType().isWeighted();
+
+            this.start = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                start[i + 1] = start[i] + edgesOf(vertices.get(i), reversed).size();
+            }
+            this.target = new int[start[n]];
+            this.weight = new double[start[n]];
+            int p = 0;
+            for (int i = 0; i < n; i++) {
+                V v = vertices.get(i);
+                for (E e : edgesOf(v, reversed)) {
+                    target[p] = indexOf.get(Graphs.getOppositeVertex(graph, e, v));
+                    weight[p] = graph.getEdgeWeight(e);
+                    p++;
+                }
+            }
+        }
+
+        private Set<E> edgesOf(V v, boolean reversed)
+        {
+            return reversed ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v);
+        }
+    }
+
+    /**
+     * Single-source distance computation using primitive buffers which are allocated once and
+     * reset after each source.
+     */
+    private class SingleSourceDistances
+    {
+        private final IndexedGraph g;
+        private final double[] distance;
+        private final int[] visited;
+        private final AddressableHeap<Double, Integer> heap;
+        private final AddressableHeap.Handle<Double, Integer>[] handles;
+
+        SingleSourceDistances(IndexedGraph g)
+        {
+            this.g = g;
+            this.distance = new double[g.n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.visited = new int[g.n];
+            this.heap = g.weighted ? new PairingHeap<>() : null;
+            @SuppressWarnings("unchecked") AddressableHeap.Handle<Double, Integer>[] handles =
+                new AddressableHeap.Handle[g.weighted ? g.n : 0];
+            this.handles = handles;
+        }
+
+        /**
+         * Accumulate the contributions of the sources at positions {@code offset},
+         * {@code offset + step}, {@code offset + 2 * step} and so on.
+         *
+         * @param sources the sources
+         * @param offset the first position
+         * @param step the step between positions
+         * @param pivots whether the contributions are added to the searched vertices, otherwise
+         *        to the sources
+         * @return the accumulated contributions of each vertex
+         */
+        double[] accumulate(int[] sources, int offset, int step, boolean pivots)
+        {
+            double[] result = new double[g.n];
+            double unreachable = distanceContribution(Double.POSITIVE_INFINITY);
+            for (int i = offset; i < sources.length; i += step) {
+                int s = sources[i];
+                int count = g.weighted ? weightedSearch(s) : unweightedSearch(s);
+
+                if (pivots) {
+                    for (int v = 0; v < g.n; v++) {
+                        if (v != s) {
+                            result[v] += distanceContribution(distance[v]);
+                        }
+                    }
+                } else {
+                    double sum = 0d;
+                    for (int j = 0; j < count; j++) {
+                        int v = visited[j];
+                        if (v != s) {
+                            sum += distanceContribution(distance[v]);
+                        }
+                    }
+                    if (count < g.n) {
+                        sum += (g.n - count) * unreachable;
+                    }
+                    result[s] = sum;
+                }
+
+                // reset buffers
+                for (int j = 0; j < count; j++) {
+                    distance[visited[j]] = Double.POSITIVE_INFINITY;
+                }
+            }
+            return result;
+        }
+
+        private int unweightedSearch(int s)
+        {
+            // the visited vertices double as the breadth-first queue
+            int head = 0;
+            int tail = 0;
+            distance[s] = 0d;
+            visited[tail++] = s;
+            while (head < tail) {
+                int v = visited[head++];
+                double d = distance[v] + 1d;
+                for (int p = g.start[v], end = g.start[v + 1]; p < end; p++) {
+                    int w = g.target[p];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = d;
+                        visited[tail++] = w;
+                    }
+                }
+            }
+            return tail;
+        }
+
+        private int weightedSearch(int s)
+        {
+            int count = 0;
+            distance[s] = 0d;
+            handles[s] = heap.insert(0d, s);
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin().getValue();
+                handles[v] = null;
+                visited[count++] = v;
+                for (int p = g.start[v], end = g.start[v + 1]; p < end; p++) {
+                    int w = g.target[p];
+                    double d = distance[v] + g.weight[p];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = d;
+                        handles[w] = heap.insert(d, w);
+                    } else if (d < distance[w]) {
+                        distance[w] = d;
+                        handles[w].decreaseKey(d);
+                    }
+                }
             }
+            return count;
         }
     }
 
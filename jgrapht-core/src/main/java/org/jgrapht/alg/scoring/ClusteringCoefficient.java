@@ -18,10 +18,14 @@
 package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.cycle.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Clustering coefficient.
@@ -56,8 +60,15 @@ import java.util.*;
  * clustering coefficient.
  *
  * <p>
- * The running time is $O(|V| + \Delta(G)^2)$ where $|V|$ is the number of vertices and $\Delta(G)$
- * is the maximum degree of a vertex. The space complexity is $O(|V|)$.
+ * The running time for a single vertex is $O(|V| + \Delta(G)^2)$ where $|V|$ is the number of
+ * vertices and $\Delta(G)$ is the maximum degree of a vertex. The space complexity is $O(|V|)$.
+ *
+ * <p>
+ * The global clustering coefficient and the scores of all vertices are computed at once using a
+ * {@link NeighborIndex}. For undirected graphs without self-loops the number of triangles of each
+ * vertex is computed by a {@link TriangleCounter} in $O(|E|^{3/2})$ time, otherwise the
+ * neighborhood of every vertex is intersected with the neighborhoods of its neighbors. Both
+ * computations can use several threads.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -81,6 +92,16 @@ public class ClusteringCoefficient<V, E>
 
     private boolean fullyComputedMap = false;
 
+    /**
+     * Number of threads used to compute all scores
+     */
+    private final int parallelism;
+
+    /**
+     * Triangle counts, shared by the global and the local coefficients
+     */
+    private TriangleCounter<V, E> triangleCounter;
+
     /**
      * Global Clustering Coefficient
      */
@@ -100,8 +121,26 @@ public class ClusteringCoefficient<V, E>
      * @throws NullPointerException if {@code graph} is {@code null}
      */
     public ClusteringCoefficient(Graph<V, E> graph)
+    {
+        this(graph, 1);
+    }
+
+    /**
+     * Construct a new instance which uses a number of threads to compute the global clustering
+     * coefficient and the scores of all vertices.
+     *
+     * @param graph the input graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws NullPointerException if {@code graph} is {@code null}
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public ClusteringCoefficient(Graph<V, E> graph, int parallelism)
     {
         this.graph = Objects.requireNonNull(graph);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
         this.scores = new HashMap<>();
     }
 
@@ -154,20 +193,31 @@ public class ClusteringCoefficient<V, E>
 
     private void computeGlobalClusteringCoefficient()
     {
-        NeighborCache<V, E> neighborCache = new NeighborCache<>(graph);
         computed = true;
         double numberTriplets = 0;
 
-        for (V v : graph.vertexSet()) {
-            if (graph.getType().isUndirected()) {
+        if (graph.getType().isUndirected()) {
+            for (V v : graph.vertexSet()) {
                 numberTriplets += 1.0 * graph.degreeOf(v) * (graph.degreeOf(v) - 1) / 2;
-            } else {
-                numberTriplets += 1.0 * neighborCache.predecessorsOf(v).size()
-                    * neighborCache.successorsOf(v).size();
+            }
+        } else {
+            NeighborIndex<V, E> index = new NeighborIndex<>(graph);
+            for (int v = 0; v < index.getVertexCount(); v++) {
+                numberTriplets +=
+                    1.0 * index.predecessorsOf(v).length * index.successorsOf(v).length;
             }
         }
 
-        globalClusteringCoefficient = 3 * GraphMetrics.getNumberOfTriangles(graph) / numberTriplets;
+        globalClusteringCoefficient =
+            3 * getTriangleCounter().getNumberOfTriangles() / numberTriplets;
+    }
+
+    private TriangleCounter<V, E> getTriangleCounter()
+    {
+        if (triangleCounter == null) {
+            triangleCounter = new TriangleCounter<>(graph, parallelism);
+        }
+        return triangleCounter;
     }
 
     private double computeLocalClusteringCoefficient(V v)
@@ -201,13 +251,83 @@ public class ClusteringCoefficient<V, E>
 
         fullyComputedMap = true;
 
-        for (V v : graph.vertexSet()) {
-            if (scores.containsKey(v)) {
-                continue;
+        NeighborIndex<V, E> index = new NeighborIndex<>(graph);
+        int n = index.getVertexCount();
+
+        boolean hasSelfLoops = false;
+        for (int v = 0; v < n && !hasSelfLoops; v++) {
+            hasSelfLoops = index.isNeighbor(v, v);
+        }
+
+        if (graph.getType().isUndirected() && !hasSelfLoops) {
+            /*
+             * Every triangle of a vertex closes two ordered pairs of its neighbors
+             */
+            TriangleCounter<V, E> counter = getTriangleCounter();
+            for (int v = 0; v < n; v++) {
+                V vertex = index.getVertex(v);
+                scores.put(
+                    vertex, localCoefficient(
+                        2.0 * counter.getNumberOfTriangles(vertex), index.neighborsOf(v).length));
             }
+            return;
+        }
+
+        double[] localScores = new double[n];
+        if (parallelism == 1) {
+            computeLocalClusteringCoefficients(index, 0, n, localScores);
+        } else {
+            computeLocalClusteringCoefficientsParallel(index, localScores);
+        }
+        for (int v = 0; v < n; v++) {
+            scores.put(index.getVertex(v), localScores[v]);
+        }
+    }
 
-            scores.put(v, computeLocalClusteringCoefficient(v));
+    private void computeLocalClusteringCoefficientsParallel(
+        NeighborIndex<V, E> index, double[] localScores)
+    {
+        final int blockSize = 256;
+        int n = index.getVertexCount();
+        AtomicInteger nextBlock = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < parallelism; t++) {
+            tasks.add(() -> {
+                int from;
+                while ((from = nextBlock.getAndAdd(blockSize)) < n) {
+                    computeLocalClusteringCoefficients(
+                        index, from, Math.min(n, from + blockSize), localScores);
+                }
+                return null;
+            });
         }
+        ConcurrencyUtil.invokeAll(parallelism, tasks);
+    }
+
+    /**
+     * Compute the local clustering coefficients of a range of vertices by counting the edges
+     * between the neighbors of every vertex.
+     */
+    private static <V, E> void computeLocalClusteringCoefficients(
+        NeighborIndex<V, E> index, int from, int to, double[] localScores)
+    {
+        for (int v = from; v < to; v++) {
+            int[] neighbourhood = index.neighborsOf(v);
+            double numberTriplets = 0;
+            for (int p : neighbourhood) {
+                numberTriplets +=
+                    NeighborIndex.intersectionSize(index.successorsOf(p), neighbourhood);
+            }
+            localScores[v] = localCoefficient(numberTriplets, neighbourhood.length);
+        }
+    }
+
+    private static double localCoefficient(double numberTriplets, double k)
+    {
+        if (k <= 1)
+            return 0.0;
+        else
+            return numberTriplets / (k * (k - 1));
     }
 
     /**
@@ -19,9 +19,12 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 
-import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * Computes the coreness of each vertex in an undirected graph.
@@ -47,6 +50,22 @@ import java.util.*;
  * of the ordering, in linear time, by using a bucket queue to repeatedly find and remove the vertex
  * of smallest degree.
  *
+ * <p>
+ * The implementation follows the array based bucket algorithm from
+ * <ul>
+ * <li>V. Batagelj and M. Zaversnik. An O(m) algorithm for cores decomposition of networks. arXiv
+ * preprint cs/0310049, 2003.</li>
+ * </ul>
+ * which runs in $O(n + m)$ time. Optionally, the vertices can be peeled in parallel, level by
+ * level: all remaining vertices whose degree does not exceed the current level $k$ are removed
+ * concurrently and the degrees of their neighbors are decremented atomically, until no vertex of
+ * degree at most $k$ remains. This mode performs additional scans over the remaining vertices, one
+ * per distinct core value, and pays off on large graphs with a small number of distinct core
+ * values.
+ *
+ * <p>
+ * For graphs which change over time see {@link IncrementalCoreness}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -56,7 +75,11 @@ public final class Coreness<V, E>
     implements
     VertexScoringAlgorithm<V, Integer>
 {
+    /* Minimum number of vertices processed by a single task in the parallel mode */
+    private static final int MIN_TASK_SIZE = 1024;
+
     private final Graph<V, E> g;
+    private final int parallelism;
     private Map<V, Integer> scores;
     private int degeneracy;
 
@@ -66,8 +89,24 @@ public final class Coreness<V, E>
      * @param g the input graph
      */
     public Coreness(Graph<V, E> g)
+    {
+        this(g, 1);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param g the input graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public Coreness(Graph<V, E> g, int parallelism)
     {
         this.g = GraphTests.requireUndirected(g);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
     }
 
     /**
@@ -110,7 +149,6 @@ public final class Coreness<V, E>
         return degeneracy;
     }
 
-    @SuppressWarnings("unchecked")
     private void lazyRun()
     {
         if (scores != null) {
@@ -121,56 +159,223 @@ public final class Coreness<V, E>
             throw new IllegalArgumentException("Graph must be simple");
         }
 
+        NeighborIndex<V, E> index = new NeighborIndex<>(g);
+        int n = index.getVertexCount();
+        int[][] neighbors = new int[n][];
+        for (int v = 0; v < n; v++) {
+            neighbors[v] = index.neighborsOf(v);
+        }
+
+        int[] core;
+        if (parallelism == 1 || n < 2 * MIN_TASK_SIZE) {
+            core = computeSequential(neighbors);
+        } else {
+            core = computeParallel(neighbors);
+        }
+
         scores = new HashMap<>();
         degeneracy = 0;
+        for (int v = 0; v < n; v++) {
+            scores.put(index.getVertex(v), core[v]);
+            degeneracy = Math.max(degeneracy, core[v]);
+        }
+    }
+
+    /**
+     * The Batagelj-Zaversnik algorithm. The vertices are kept in an array sorted by current
+     * degree, together with the start of each degree bucket, so that decrementing the degree of a
+     * vertex only swaps it with the first vertex of its bucket.
+     * 
+     * @param neighbors the neighbors of every vertex
+     * @return the core number of every vertex
+     */
+    private static int[] computeSequential(int[][] neighbors)
+    {
+        int n = neighbors.length;
+        int[] degree = new int[n];
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            degree[v] = neighbors[v].length;
+            maxDegree = Math.max(maxDegree, degree[v]);
+        }
 
         /*
-         * Initialize buckets
+         * Sort the vertices by degree using counting sort
          */
-        int n = g.vertexSet().size();
-        int maxDegree = n - 1;
-        Set<V>[] buckets = (Set<V>[]) Array.newInstance(Set.class, maxDegree + 1);
-        for (int i = 0; i < buckets.length; i++) {
-            buckets[i] = new HashSet<>();
+        int[] bucketStart = new int[maxDegree + 1];
+        for (int v = 0; v < n; v++) {
+            bucketStart[degree[v]]++;
         }
-
-        int minDegree = n;
-        Map<V, Integer> degrees = new HashMap<>();
-        for (V v : g.vertexSet()) {
-            int d = g.degreeOf(v);
-            buckets[d].add(v);
-            degrees.put(v, d);
-            minDegree = Math.min(minDegree, d);
+        int start = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int size = bucketStart[d];
+            bucketStart[d] = start;
+            start += size;
+        }
+        int[] vertices = new int[n];
+        int[] position = new int[n];
+        for (int v = 0; v < n; v++) {
+            position[v] = bucketStart[degree[v]]++;
+            vertices[position[v]] = v;
         }
+        for (int d = maxDegree; d > 0; d--) {
+            bucketStart[d] = bucketStart[d - 1];
+        }
+        bucketStart[0] = 0;
 
         /*
-         * Extract from buckets
+         * Peel the vertices in order of degree, the degree of a vertex when it is removed is its
+         * core number
          */
-        while (minDegree < n) {
-            Set<V> b = buckets[minDegree];
-            if (b.isEmpty()) {
-                minDegree++;
-                continue;
+        for (int i = 0; i < n; i++) {
+            int v = vertices[i];
+            for (int u : neighbors[v]) {
+                if (degree[u] > degree[v]) {
+                    int du = degree[u];
+                    int pu = position[u];
+                    int pw = bucketStart[du];
+                    int w = vertices[pw];
+                    if (u != w) {
+                        vertices[pu] = w;
+                        position[w] = pu;
+                        vertices[pw] = u;
+                        position[u] = pw;
+                    }
+                    bucketStart[du]++;
+                    degree[u]--;
+                }
             }
+        }
+        return degree;
+    }
+
+    /**
+     * Level synchronous parallel peeling.
+     * 
+     * @param neighbors the neighbors of every vertex
+     * @return the core number of every vertex
+     */
+    private int[] computeParallel(int[][] neighbors)
+    {
+        int n = neighbors.length;
+        AtomicIntegerArray degree = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            degree.set(v, neighbors[v].length);
+        }
+        int[] core = new int[n];
+        boolean[] removed = new boolean[n];
 
-            V v = b.iterator().next();
-            b.remove(v);
-            scores.put(v, minDegree);
-            degeneracy = Math.max(degeneracy, minDegree);
-
-            for (E e : g.edgesOf(v)) {
-                V u = Graphs.getOppositeVertex(g, e, v);
-                int uDegree = degrees.get(u);
-                if (uDegree > minDegree && !scores.containsKey(u)) {
-                    buckets[uDegree].remove(u);
-                    uDegree--;
-                    degrees.put(u, uDegree);
-                    buckets[uDegree].add(u);
-                    minDegree = Math.min(minDegree, uDegree);
+        ExecutorService executor = ConcurrencyUtil.createThreadPool(parallelism);
+        try {
+            int[] remaining = new int[n];
+            for (int v = 0; v < n; v++) {
+                remaining[v] = v;
+            }
+            int remainingSize = n;
+
+            while (remainingSize > 0) {
+                /*
+                 * Start a new level at the minimum degree of the remaining vertices
+                 */
+                int k = Integer.MAX_VALUE;
+                for (int i = 0; i < remainingSize; i++) {
+                    k = Math.min(k, degree.get(remaining[i]));
+                }
+                int[] frontier = new int[remainingSize];
+                int frontierSize = 0;
+                for (int i = 0; i < remainingSize; i++) {
+                    if (degree.get(remaining[i]) <= k) {
+                        frontier[frontierSize++] = remaining[i];
+                    }
+                }
+
+                while (frontierSize > 0) {
+                    for (int i = 0; i < frontierSize; i++) {
+                        removed[frontier[i]] = true;
+                        core[frontier[i]] = k;
+                    }
+                    int[] next = peel(executor, neighbors, degree, frontier, frontierSize, k);
+                    frontier = next;
+                    frontierSize = next.length;
+                }
+
+                /*
+                 * Compact the remaining vertices
+                 */
+                int size = 0;
+                for (int i = 0; i < remainingSize; i++) {
+                    if (!removed[remaining[i]]) {
+                        remaining[size++] = remaining[i];
+                    }
                 }
+                remainingSize = size;
             }
+        } finally {
+            executor.shutdownNow();
         }
+        return core;
+    }
 
+    /**
+     * Remove the vertices of a frontier and decrement the degrees of their remaining neighbors.
+     * 
+     * @return the neighbors whose degree dropped to the current level
+     */
+    private int[] peel(
+        ExecutorService executor, int[][] neighbors, AtomicIntegerArray degree, int[] frontier,
+        int frontierSize, int k)
+    {
+        int tasks = Math.min(parallelism, frontierSize / MIN_TASK_SIZE);
+        if (tasks <= 1) {
+            return peelRange(neighbors, degree, frontier, 0, frontierSize, k);
+        }
+
+        List<Callable<int[]>> callables = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            int from = (int) ((long) frontierSize * t / tasks);
+            int to = (int) ((long) frontierSize * (t + 1) / tasks);
+            callables.add(() -> peelRange(neighbors, degree, frontier, from, to, k));
+        }
+        List<int[]> parts = ConcurrencyUtil.invokeAll(executor, callables);
+        int total = 0;
+        for (int[] part : parts) {
+            total += part.length;
+        }
+        int[] next = new int[total];
+        int pos = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, next, pos, part.length);
+            pos += part.length;
+        }
+        return next;
+    }
+
+    private static int[] peelRange(
+        int[][] neighbors, AtomicIntegerArray degree, int[] frontier, int from, int to, int k)
+    {
+        int[] next = new int[16];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            for (int u : neighbors[frontier[i]]) {
+                while (true) {
+                    int d = degree.get(u);
+                    if (d <= k) {
+                        // already in the current or the next frontier
+                        break;
+                    }
+                    if (degree.compareAndSet(u, d, d - 1)) {
+                        if (d - 1 == k) {
+                            if (size == next.length) {
+                                next = Arrays.copyOf(next, 2 * size);
+                            }
+                            next[size++] = u;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(next, size);
     }
 
 }
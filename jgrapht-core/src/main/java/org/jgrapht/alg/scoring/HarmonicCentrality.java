@@ -18,8 +18,6 @@
 package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
-import org.jgrapht.alg.interfaces.*;
-import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
 
 import java.util.*;
 
@@ -49,7 +47,11 @@ import java.util.*;
  * Shortest paths are computed either by using Dijkstra's algorithm or Floyd-Warshall depending on
  * whether the graph has edges with negative edge weights. Thus, the running time is either $O(n (m
  * + n \log n))$ or $O(n^3)$ respectively, where $n$ is the number of vertices and $m$ the number of
- * edges of the graph.
+ * edges of the graph. As for {@link ClosenessCentrality}, the single-source searches can be
+ * executed in parallel and the scores can be approximated by random pivot sampling. By Hoeffding's
+ * inequality, for graphs whose edge weights are at least one, for example unweighted graphs, the
+ * normalized approximate scores are within $\epsilon$ of the exact normalized scores with
+ * probability at least $1 - 2/n$.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -81,35 +83,59 @@ public final class HarmonicCentrality<V, E>
      */
     public HarmonicCentrality(Graph<V, E> graph, boolean incoming, boolean normalize)
     {
-        super(graph, incoming, normalize);
+        super(graph, incoming, normalize, 1);
     }
 
-    @Override
-    protected void compute()
+    /**
+     * Construct a new instance which executes the single-source searches in parallel.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the closeness by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public HarmonicCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, int parallelism)
     {
-        // create result container
-        this.scores = new HashMap<>();
-
-        // initialize shortest path algorithm
-        ShortestPathAlgorithm<V, E> alg = getShortestPathAlgorithm();
+        super(graph, incoming, normalize, parallelism);
+    }
 
-        // compute shortest paths
-        int n = graph.vertexSet().size();
-        for (V v : graph.vertexSet()) {
-            double sum = 0d;
+    /**
+     * Construct a new instance which approximates the scores by sampling random pivots. If the
+     * number of pivots required for the error bound is not smaller than the number of vertices,
+     * the exact scores are computed.
+     * 
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the closeness by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @param epsilon the error bound of the approximation
+     * @param rng the random number generator used to sample the pivots
+     * @throws IllegalArgumentException if the parallelism or the error bound is not positive
+     */
+    public HarmonicCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, int parallelism, double epsilon,
+        Random rng)
+    {
+        super(graph, incoming, normalize, parallelism, epsilon, rng);
+    }
 
-            SingleSourcePaths<V, E> paths = alg.getPaths(v);
-            for (V u : graph.vertexSet()) {
-                if (!u.equals(v)) {
-                    sum += 1.0 / paths.getWeight(u);
-                }
-            }
+    @Override
+    protected double distanceContribution(double distance)
+    {
+        return 1.0 / distance;
+    }
 
-            if (normalize && n > 1) {
-                this.scores.put(v, sum / (n - 1));
-            } else {
-                this.scores.put(v, sum);
-            }
+    @Override
+    protected double score(double sum, int n)
+    {
+        if (normalize && n > 1) {
+            return sum / (n - 1);
+        } else {
+            return sum;
         }
     }
 
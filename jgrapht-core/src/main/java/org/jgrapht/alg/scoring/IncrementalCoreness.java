@@ -0,0 +1,280 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+
+/**
+ * Maintains the coreness of each vertex of a changing undirected graph.
+ * 
+ * <p>
+ * The core numbers are first computed by {@link Coreness}. Afterwards the inspector must be added
+ * as a listener to the graph, for example a {@link org.jgrapht.graph.DefaultListenableGraph}, and
+ * every edge insertion or deletion updates the core numbers locally, using the traversal
+ * algorithm from
+ * <ul>
+ * <li>A. E. Sariyüce, B. Gedik, G. Jacques-Silva, K.-L. Wu and Ü. V. Çatalyürek. Streaming
+ * algorithms for k-core decomposition. Proceedings of the VLDB Endowment, 6(6):433–444, 2013.</li>
+ * </ul>
+ * 
+ * <p>
+ * Inserting or deleting an edge $(u, v)$ changes core numbers by at most one, and only of vertices
+ * with core number $K = \min(core(u), core(v))$ which are connected to an endpoint with core
+ * number $K$ through vertices with core number $K$. On insertion, this subcore is collected and its
+ * vertices with at most $K$ neighbors of core number at least $K$ are repeatedly evicted; the
+ * remaining vertices move to core number $K + 1$. On deletion, vertices of the subcore with fewer
+ * than $K$ neighbors of core number at least $K$ are repeatedly demoted to core number $K - 1$,
+ * visiting only the demoted vertices and their neighbors. Both operations take time linear in the
+ * size of the visited subcore and its incident edges, which is usually much smaller than the
+ * graph.
+ * 
+ * <p>
+ * The graph must be simple and must remain simple, for example by wrapping a
+ * {@link org.jgrapht.graph.SimpleGraph}. If the inspector is added as listener to a graph other
+ * than the one it was created for, results are undefined.
+ * 
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * 
+ * @see Coreness
+ * 
+ * @author agent
+ */
+public class IncrementalCoreness<V, E>
+    implements
+    VertexScoringAlgorithm<V, Integer>,
+    GraphListener<V, E>
+{
+    private final Graph<V, E> graph;
+    private final Map<V, Integer> core;
+
+    /**
+     * Constructor
+     * 
+     * @param graph the input graph; must be undirected and simple
+     * @throws IllegalArgumentException if the graph is not undirected or not simple
+     */
+    public IncrementalCoreness(Graph<V, E> graph)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.core = new HashMap<>(new Coreness<>(graph).getScores());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Integer> getScores()
+    {
+        return Collections.unmodifiableMap(core);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getVertexScore(V v)
+    {
+        Integer score = core.get(v);
+        if (score == null) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        return score;
+    }
+
+    /**
+     * Compute the degeneracy of the graph, which is the maximum core number of a vertex. This
+     * method takes linear time in the number of vertices.
+     * 
+     * @return the degeneracy of the graph
+     */
+    public int getDegeneracy()
+    {
+        int degeneracy = 0;
+        for (int c : core.values()) {
+            degeneracy = Math.max(degeneracy, c);
+        }
+        return degeneracy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        V u = e.getEdgeSource();
+        V v = e.getEdgeTarget();
+        int k = Math.min(core.get(u), core.get(v));
+
+        /*
+         * Collect the subcore and the number of neighbors of core number at least k
+         */
+        Map<V, Integer> candidateDegree = new HashMap<>();
+        Deque<V> stack = new ArrayDeque<>();
+        for (V root : Arrays.asList(u, v)) {
+            if (core.get(root) == k && !candidateDegree.containsKey(root)) {
+                candidateDegree.put(root, 0);
+                stack.push(root);
+            }
+        }
+        List<V> subcore = new ArrayList<>();
+        while (!stack.isEmpty()) {
+            V w = stack.pop();
+            subcore.add(w);
+            int count = 0;
+            for (E edge : graph.edgesOf(w)) {
+                V x = Graphs.getOppositeVertex(graph, edge, w);
+                int xCore = core.get(x);
+                if (xCore >= k) {
+                    count++;
+                }
+                if (xCore == k && !candidateDegree.containsKey(x)) {
+                    candidateDegree.put(x, 0);
+                    stack.push(x);
+                }
+            }
+            candidateDegree.put(w, count);
+        }
+
+        /*
+         * Evict the vertices which cannot be in the (k+1)-core
+         */
+        Set<V> evicted = new HashSet<>();
+        for (V w : subcore) {
+            if (candidateDegree.get(w) <= k && evicted.add(w)) {
+                stack.push(w);
+            }
+        }
+        while (!stack.isEmpty()) {
+            V w = stack.pop();
+            for (E edge : graph.edgesOf(w)) {
+                V x = Graphs.getOppositeVertex(graph, edge, w);
+                Integer count = candidateDegree.get(x);
+                if (count != null && !evicted.contains(x)) {
+                    candidateDegree.put(x, count - 1);
+                    if (count - 1 <= k) {
+                        evicted.add(x);
+                        stack.push(x);
+                    }
+                }
+            }
+        }
+
+        for (V w : subcore) {
+            if (!evicted.contains(w)) {
+                core.put(w, k + 1);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        V u = e.getEdgeSource();
+        V v = e.getEdgeTarget();
+        Integer uCore = core.get(u);
+        Integer vCore = core.get(v);
+        if (uCore == null || vCore == null) {
+            return;
+        }
+        int k = Math.min(uCore, vCore);
+        if (k == 0) {
+            return;
+        }
+
+        /*
+         * Demote the vertices with less than k neighbors of core number at least k. The counts
+         * are computed on first visit and a vertex keeps its core number until it is popped, so
+         * that every demotion is reflected exactly once in the counts of its neighbors.
+         */
+        Map<V, Integer> candidateDegree = new HashMap<>();
+        Set<V> pending = new HashSet<>();
+        Deque<V> stack = new ArrayDeque<>();
+        for (V root : Arrays.asList(u, v)) {
+            if (core.get(root) == k && !candidateDegree.containsKey(root)) {
+                int count = countNeighbors(root, k);
+                candidateDegree.put(root, count);
+                if (count < k) {
+                    pending.add(root);
+                    stack.push(root);
+                }
+            }
+        }
+        while (!stack.isEmpty()) {
+            V w = stack.pop();
+            core.put(w, k - 1);
+            for (E edge : graph.edgesOf(w)) {
+                V x = Graphs.getOppositeVertex(graph, edge, w);
+                if (core.get(x) != k || pending.contains(x)) {
+                    continue;
+                }
+                Integer count = candidateDegree.get(x);
+                if (count == null) {
+                    // w is already demoted and thus not counted
+                    count = countNeighbors(x, k);
+                } else {
+                    count--;
+                }
+                candidateDegree.put(x, count);
+                if (count < k) {
+                    pending.add(x);
+                    stack.push(x);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        core.put(e.getVertex(), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        // the graph removes the touching edges first
+        core.remove(e.getVertex());
+    }
+
+    private int countNeighbors(V w, int k)
+    {
+        int count = 0;
+        for (E edge : graph.edgesOf(w)) {
+            if (core.get(Graphs.getOppositeVertex(graph, edge, w)) >= k) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -19,8 +19,10 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * PageRank implementation.
@@ -41,6 +43,12 @@ import java.util.*;
  * </p>
  *
  * <p>
+ * The vertices are indexed once and the iterations run over primitive arrays holding a compact
+ * representation of the incoming edges, so no objects are allocated per iteration. Optionally, the
+ * iterations can be executed in parallel using a {@link ForkJoinPool}.
+ * </p>
+ *
+ * <p>
  * Each iteration of the algorithm runs in linear time $O(n+m)$ when $n$ is the number of nodes and
  * $m$ the number of edges of the graph. The maximum number of iterations can be adjusted by the
  * caller. The default value is {@link PageRank#MAX_ITERATIONS_DEFAULT}.
@@ -123,6 +131,27 @@ public final class PageRank<V, E>
      *        iterations change less than this value
      */
     public PageRank(Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this(g, dampingFactor, maxIterations, tolerance, 1);
+    }
+
+    /**
+     * Create and execute an instance of PageRank.
+     * 
+     * <p>
+     * If the parallelism is larger than one, each iteration is split into ranges of vertices which
+     * are processed concurrently by a {@link ForkJoinPool} with the given parallelism level. The
+     * pool is created for the computation and shut down before the constructor returns.
+     * 
+     * @param g the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param parallelism the number of threads to use, one for a sequential computation
+     */
+    public PageRank(
+        Graph<V, E> g, double dampingFactor, int maxIterations, double tolerance, int parallelism)
     {
         this.g = g;
         this.scores = new HashMap<>();
@@ -139,7 +168,11 @@ public final class PageRank<V, E>
             throw new IllegalArgumentException("Tolerance not valid, must be positive");
         }
 
-        run(dampingFactor, maxIterations, tolerance);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+
+        run(dampingFactor, maxIterations, tolerance, parallelism);
     }
 
     /**
@@ -163,78 +196,236 @@ public final class PageRank<V, E>
         return scores.get(v);
     }
 
-    private void run(double dampingFactor, int maxIterations, double tolerance)
+    private void run(double dampingFactor, int maxIterations, double tolerance, int parallelism)
     {
-        // initialization
+        // index vertices
         int totalVertices = g.vertexSet().size();
-        boolean weighted = g.getType().isWeighted();
-        Map<V, Double> weights;
-        if (weighted) {
-            weights = new HashMap<>(totalVertices);
-        } else {
-            weights = Collections.emptyMap();
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        Map<V, Integer> indexOf = new HashMap<>(totalVertices);
+        for (int i = 0; i < totalVertices; i++) {
+            indexOf.put(vertices.get(i), i);
         }
 
-        double initScore = 1.0d / totalVertices;
-        for (V v : g.vertexSet()) {
-            scores.put(v, initScore);
+        // compute outgoing weights
+        boolean weighted = g.getType().isWeighted();
+        double[] outWeight = new double[totalVertices];
+        boolean[] hasOutgoing = new boolean[totalVertices];
+        for (int i = 0; i < totalVertices; i++) {
+            Set<E> outgoing = g.outgoingEdgesOf(vertices.get(i));
+            hasOutgoing[i] = outgoing.size() > 0;
             if (weighted) {
                 double sum = 0;
-                for (E e : g.outgoingEdgesOf(v)) {
+                for (E e : outgoing) {
                     sum += g.getEdgeWeight(e);
                 }
-                weights.put(v, sum);
+                outWeight[i] = sum;
+            } else {
+                outWeight[i] = outgoing.size();
+            }
+        }
+
+        // compact incoming adjacency with the fraction of the score transferred by each edge
+        int[] inStart = new int[totalVertices + 1];
+        for (int i = 0; i < totalVertices; i++) {
+            inStart[i + 1] = inStart[i] + g.incomingEdgesOf(vertices.get(i)).size();
+        }
+        int[] inSource = new int[inStart[totalVertices]];
+        double[] inFactor = new double[inStart[totalVertices]];
+        for (int i = 0; i < totalVertices; i++) {
+            V v = vertices.get(i);
+            int pos = inStart[i];
+            for (E e : g.incomingEdgesOf(v)) {
+                int w = indexOf.get(Graphs.getOppositeVertex(g, e, v));
+                double edgeWeight = weighted ? g.getEdgeWeight(e) : 1d;
+                inSource[pos] = w;
+                inFactor[pos] = dampingFactor * edgeWeight / outWeight[w];
+                pos++;
             }
         }
 
         // run PageRank
-        Map<V, Double> nextScores = new HashMap<>();
-        double maxChange = tolerance;
+        double[] curScores = new double[totalVertices];
+        double[] nextScores = new double[totalVertices];
+        Arrays.fill(curScores, 1.0d / totalVertices);
+
+        Iteration iteration = new Iteration(
+            dampingFactor, hasOutgoing, inStart, inSource, inFactor, parallelism);
+        try {
+            double maxChange = tolerance;
+            while (maxIterations > 0 && maxChange >= tolerance) {
+                maxChange = iteration.run(curScores, nextScores);
+
+                // swap scores
+                double[] tmp = curScores;
+                curScores = nextScores;
+                nextScores = tmp;
+
+                // progress
+                maxIterations--;
+            }
+        } finally {
+            iteration.shutdown();
+        }
+
+        for (int i = 0; i < totalVertices; i++) {
+            scores.put(vertices.get(i), curScores[i]);
+        }
+    }
 
-        while (maxIterations > 0 && maxChange >= tolerance) {
-            // compute next iteration scores
+    /**
+     * A single power iteration over the compact representation of the graph. Iterations are
+     * either executed on the calling thread, or split into ranges of vertices which are processed
+     * by a {@link ForkJoinPool}.
+     */
+    private static class Iteration
+    {
+        private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+        private final double dampingFactor;
+        private final boolean[] hasOutgoing;
+        private final int[] inStart;
+        private final int[] inSource;
+        private final double[] inFactor;
+        private final int n;
+        private final ForkJoinPool pool;
+        private final int threshold;
+
+        Iteration(
+            double dampingFactor, boolean[] hasOutgoing, int[] inStart, int[] inSource,
+            double[] inFactor, int parallelism)
+        {
+            this.dampingFactor = dampingFactor;
+            this.hasOutgoing = hasOutgoing;
+            this.inStart = inStart;
+            this.inSource = inSource;
+            this.inFactor = inFactor;
+            this.n = hasOutgoing.length;
+            if (parallelism > 1 && n > SEQUENTIAL_THRESHOLD) {
+                this.pool = ConcurrencyUtil.createThreadPool(parallelism);
+                this.threshold = Math.max(SEQUENTIAL_THRESHOLD, n / (4 * parallelism));
+            } else {
+                this.pool = null;
+                this.threshold = n;
+            }
+        }
+
+        /**
+         * Compute the next scores.
+         *
+         * @param cur the current scores
+         * @param next the array to store the next scores
+         * @return the maximum change of a score
+         */
+        double run(double[] cur, double[] next)
+        {
+            if (pool == null) {
+                double r = teleport(cur, 0, n) / n;
+                return update(cur, next, r, 0, n);
+            }
+            double r = pool.invoke(new TeleportTask(cur, 0, n)) / n;
+            return pool.invoke(new UpdateTask(cur, next, r, 0, n));
+        }
+
+        void shutdown()
+        {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        private double teleport(double[] cur, int from, int to)
+        {
             double r = 0d;
-            for (V v : g.vertexSet()) {
-                if (g.outgoingEdgesOf(v).size() > 0) {
-                    r += (1d - dampingFactor) * scores.get(v);
+            for (int v = from; v < to; v++) {
+                if (hasOutgoing[v]) {
+                    r += (1d - dampingFactor) * cur[v];
                 } else {
-                    r += scores.get(v);
+                    r += cur[v];
                 }
             }
-            r /= totalVertices;
+            return r;
+        }
 
-            maxChange = 0d;
-            for (V v : g.vertexSet()) {
+        private double update(double[] cur, double[] next, double r, int from, int to)
+        {
+            double maxChange = 0d;
+            for (int v = from; v < to; v++) {
                 double contribution = 0d;
-
-                if (weighted) {
-                    for (E e : g.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(g, e, v);
-                        contribution +=
-                            dampingFactor * scores.get(w) * g.getEdgeWeight(e) / weights.get(w);
-                    }
-                } else {
-                    for (E e : g.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(g, e, v);
-                        contribution += dampingFactor * scores.get(w) / g.outgoingEdgesOf(w).size();
-                    }
+                for (int p = inStart[v], end = inStart[v + 1]; p < end; p++) {
+                    contribution += cur[inSource[p]] * inFactor[p];
                 }
-
-                double vOldValue = scores.get(v);
                 double vNewValue = r + contribution;
-                maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                nextScores.put(v, vNewValue);
+                maxChange = Math.max(maxChange, Math.abs(vNewValue - cur[v]));
+                next[v] = vNewValue;
             }
+            return maxChange;
+        }
+
+        private class TeleportTask
+            extends
+            RecursiveTask<Double>
+        {
+            private static final long serialVersionUID = 1L;
 
-            // swap scores
-            Map<V, Double> tmp = scores;
-            scores = nextScores;
-            nextScores = tmp;
+            private final double[] cur;
+            private final int from;
+            private final int to;
 
-            // progress
-            maxIterations--;
+            TeleportTask(double[] cur, int from, int to)
+            {
+                this.cur = cur;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected Double compute()
+            {
+                if (to - from <= threshold) {
+                    return teleport(cur, from, to);
+                }
+                int mid = (from + to) >>> 1;
+                TeleportTask left = new TeleportTask(cur, from, mid);
+                left.fork();
+                double right = new TeleportTask(cur, mid, to).compute();
+                return left.join() + right;
+            }
         }
 
+        private class UpdateTask
+            extends
+            RecursiveTask<Double>
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final double[] cur;
+            private final double[] next;
+            private final double r;
+            private final int from;
+            private final int to;
+
+            UpdateTask(double[] cur, double[] next, double r, int from, int to)
+            {
+                this.cur = cur;
+                this.next = next;
+                this.r = r;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected Double compute()
+            {
+                if (to - from <= threshold) {
+                    return update(cur, next, r, from, to);
+                }
+                int mid = (from + to) >>> 1;
+                UpdateTask left = new UpdateTask(cur, next, r, from, mid);
+                left.fork();
+                double right = new UpdateTask(cur, next, r, mid, to).compute();
+                return Math.max(left.join(), right);
+            }
+        }
     }
 
 }
@@ -0,0 +1,306 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * Query phase of the contraction hierarchies speed-up technique for point-to-point shortest path
+ * queries.
+ *
+ * <p>
+ * The algorithm runs a bidirectional Dijkstra search on a {@link ContractionHierarchy} computed
+ * by {@link ContractionHierarchyPrecomputation}. The forward search from the source only follows
+ * arcs leading to vertices of higher rank and the backward search from the sink only follows
+ * reversed arcs coming from vertices of higher rank. Since every shortest path has a
+ * corresponding path in the overlay graph which first goes up and then goes down in the
+ * hierarchy, the two searches meet at the vertex of highest rank of such a path. Both searches
+ * explore only a tiny part of the graph, which on road networks makes queries orders of magnitude
+ * faster than {@link BidirectionalDijkstraShortestPath}. The shortcuts of the resulting path are
+ * finally unpacked into edges of the original graph.
+ *
+ * <p>
+ * Like {@link IndexedDijkstraShortestPath} the query buffers are allocated once and only the
+ * entries touched by a query are reset, therefore {@link #getPathWeight(Object, Object)} does not
+ * allocate any objects. Instances are not thread-safe; use one instance per thread, possibly
+ * sharing the same {@link ContractionHierarchy}. Later changes of the graph are not reflected.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ContractionHierarchyPrecomputation
+ * @see BidirectionalDijkstraShortestPath
+ *
+ * @author agent
+ */
+public class ContractionHierarchyBidirectionalDijkstra<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final ContractionHierarchy<V, E> hierarchy;
+
+    private final SearchFrontier forward;
+    private final SearchFrontier backward;
+
+    /* Result of the last search */
+    private double bestDistance;
+    private int meetingVertex;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph. The contraction hierarchy of
+     * the graph is computed using {@link ContractionHierarchyPrecomputation} with the default
+     * parameters.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public ContractionHierarchyBidirectionalDijkstra(Graph<V, E> graph)
+    {
+        this(new ContractionHierarchyPrecomputation<>(graph).computeContractionHierarchy());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a precomputed contraction hierarchy.
+     *
+     * @param hierarchy the contraction hierarchy
+     */
+    public ContractionHierarchyBidirectionalDijkstra(ContractionHierarchy<V, E> hierarchy)
+    {
+        super(Objects.requireNonNull(hierarchy, "Contraction hierarchy is null").getGraph());
+        this.hierarchy = hierarchy;
+        int n = hierarchy.vertices.size();
+        this.forward = new SearchFrontier(n, hierarchy.upStart, hierarchy.upArc, true);
+        this.backward = new SearchFrontier(n, hierarchy.downStart, hierarchy.downArc, false);
+    }
+
+    /**
+     * Get the contraction hierarchy used by this algorithm.
+     *
+     * @return the contraction hierarchy
+     */
+    public ContractionHierarchy<V, E> getContractionHierarchy()
+    {
+        return hierarchy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = index(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = index(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+
+        search(s, t);
+        try {
+            return buildPath(s, t);
+        } finally {
+            forward.reset();
+            backward.reset();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This method does not allocate any objects.
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = index(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = index(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return 0d;
+        }
+
+        search(s, t);
+        forward.reset();
+        backward.reset();
+        return bestDistance;
+    }
+
+    private int index(V v, String message)
+    {
+        Integer i = hierarchy.indexOf.get(v);
+        if (i == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return i;
+    }
+
+    /**
+     * Run the two upward searches, alternating between them by always advancing the one with
+     * the smaller tentative distance. A search stops once its smallest tentative distance is not
+     * smaller than the best distance found so far.
+     *
+     * @param s the source
+     * @param t the sink
+     */
+    private void search(int s, int t)
+    {
+        bestDistance = Double.POSITIVE_INFINITY;
+        meetingVertex = -1;
+        forward.init(s);
+        backward.init(t);
+
+        while (true) {
+            double forwardMin = forward.minKey();
+            double backwardMin = backward.minKey();
+            if (Math.min(forwardMin, backwardMin) >= bestDistance) {
+                break;
+            }
+            if (forwardMin <= backwardMin) {
+                forward.settle(backward);
+            } else {
+                backward.settle(forward);
+            }
+        }
+    }
+
+    private GraphPath<V, E> buildPath(int s, int t)
+    {
+        if (meetingVertex == -1) {
+            return null;
+        }
+
+        Deque<Integer> upArcs = new ArrayDeque<>();
+        int v = meetingVertex;
+        while (v != s) {
+            int arc = forward.predecessorArc[v];
+            upArcs.push(arc);
+            v = hierarchy.arcSource[arc];
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        for (int arc : upArcs) {
+            hierarchy.unpack(arc, edgeList);
+        }
+        v = meetingVertex;
+        while (v != t) {
+            int arc = backward.predecessorArc[v];
+            hierarchy.unpack(arc, edgeList);
+            v = hierarchy.arcTarget[arc];
+        }
+
+        return new GraphWalk<>(
+            graph, hierarchy.vertices.get(s), hierarchy.vertices.get(t), edgeList, bestDistance);
+    }
+
+    /**
+     * One of the two searches of a query together with its reusable buffers.
+     */
+    private class SearchFrontier
+    {
+        private final int[] start;
+        private final int[] arcs;
+        private final boolean isForward;
+
+        final double[] distance;
+        final int[] predecessorArc;
+        private final int[] touched;
+        private int touchedCount;
+        private final FixedSizeIntegerHeap heap;
+
+        SearchFrontier(int n, int[] start, int[] arcs, boolean isForward)
+        {
+            this.start = start;
+            this.arcs = arcs;
+            this.isForward = isForward;
+            this.distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.predecessorArc = new int[n];
+            Arrays.fill(predecessorArc, -1);
+            this.touched = new int[n];
+            this.heap = new FixedSizeIntegerHeap(n);
+        }
+
+        void init(int v)
+        {
+            distance[v] = 0d;
+            touched[touchedCount++] = v;
+            heap.insert(v, 0d);
+        }
+
+        double minKey()
+        {
+            return heap.isEmpty() ? Double.POSITIVE_INFINITY : heap.findMinKey();
+        }
+
+        /**
+         * Settle the vertex with the smallest tentative distance and relax its arcs.
+         *
+         * @param other the opposite search
+         */
+        void settle(SearchFrontier other)
+        {
+            int v = heap.deleteMin();
+            double dv = distance[v];
+            updateBest(v, dv, other);
+
+            for (int p = start[v], end = start[v + 1]; p < end; p++) {
+                int arc = arcs[p];
+                int w = isForward ? hierarchy.arcTarget[arc] : hierarchy.arcSource[arc];
+                double d = dv + hierarchy.arcWeight[arc];
+                double dw = distance[w];
+                if (d < dw) {
+                    if (dw == Double.POSITIVE_INFINITY) {
+                        touched[touchedCount++] = w;
+                        heap.insert(w, d);
+                    } else {
+                        heap.decreaseKey(w, d);
+                    }
+                    distance[w] = d;
+                    predecessorArc[w] = arc;
+                    updateBest(w, d, other);
+                }
+            }
+        }
+
+        private void updateBest(int v, double dv, SearchFrontier other)
+        {
+            double total = dv + other.distance[v];
+            if (total < bestDistance) {
+                bestDistance = total;
+                meetingVertex = v;
+            }
+        }
+
+        void reset()
+        {
+            for (int i = 0; i < touchedCount; i++) {
+                int v = touched[i];
+                distance[v] = Double.POSITIVE_INFINITY;
+                predecessorArc[v] = -1;
+            }
+            touchedCount = 0;
+            heap.clear();
+        }
+    }
+
+}
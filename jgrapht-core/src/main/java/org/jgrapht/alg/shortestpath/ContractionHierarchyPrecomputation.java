@@ -0,0 +1,543 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Preprocessing phase of the contraction hierarchies speed-up technique for point-to-point
+ * shortest path queries.
+ *
+ * <p>
+ * The technique is described in R. Geisberger, P. Sanders, D. Schultes and D. Delling.
+ * Contraction Hierarchies: Faster and Simpler Hierarchical Routing in Road Networks. In
+ * International Workshop on Experimental Algorithms (WEA), pp. 319-333, 2008.
+ *
+ * <p>
+ * The vertices of the graph are contracted one at a time in the order of their importance. When a
+ * vertex $v$ is contracted, it is removed from the remaining graph and for every pair of
+ * neighbours $u$ and $w$ such that the path $u \rightarrow v \rightarrow w$ may be the only
+ * shortest path between them a shortcut arc $(u, w)$ is added. Whether such a path is needed is
+ * decided by a local Dijkstra search from $u$ which avoids $v$, the so-called witness search. The
+ * importance of a vertex is its edge difference, that is the number of shortcuts its contraction
+ * would add minus the number of arcs it would remove, plus the number of its already contracted
+ * neighbours which spreads the contraction uniformly over the graph. Priorities are updated
+ * lazily: the vertex with the smallest key is re-evaluated before being contracted and is put
+ * back if it is no longer the minimum.
+ *
+ * <p>
+ * The witness search is limited to a fixed number of settled vertices. A smaller limit makes the
+ * preprocessing faster at the cost of some unnecessary shortcuts; it never affects the correctness
+ * of the queries.
+ *
+ * <p>
+ * The result of the computation is a {@link ContractionHierarchy} which is used by
+ * {@link ContractionHierarchyBidirectionalDijkstra} to answer queries. The graph must not contain
+ * edges with negative weights. Self-loops are ignored.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ContractionHierarchyBidirectionalDijkstra
+ *
+ * @author agent
+ */
+public class ContractionHierarchyPrecomputation<V, E>
+{
+    /**
+     * Default limit on the number of vertices settled by a witness search.
+     */
+    public static final int DEFAULT_WITNESS_SEARCH_LIMIT = 500;
+
+    private final Graph<V, E> graph;
+    private final int witnessSearchLimit;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     */
+    public ContractionHierarchyPrecomputation(Graph<V, E> graph)
+    {
+        this(graph, DEFAULT_WITNESS_SEARCH_LIMIT);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param witnessSearchLimit limit on the number of vertices settled by a witness search
+     * @throws IllegalArgumentException if the witness search limit is not positive
+     */
+    public ContractionHierarchyPrecomputation(Graph<V, E> graph, int witnessSearchLimit)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph is null");
+        if (witnessSearchLimit < 1) {
+            throw new IllegalArgumentException("Witness search limit must be positive");
+        }
+        this.witnessSearchLimit = witnessSearchLimit;
+    }
+
+    /**
+     * Compute the contraction hierarchy of the graph.
+     *
+     * @return the contraction hierarchy
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public ContractionHierarchy<V, E> computeContractionHierarchy()
+    {
+        return new Contraction().run();
+    }
+
+    /**
+     * The state of a single contraction run.
+     */
+    private class Contraction
+    {
+        private final Map<V, Integer> indexOf;
+        private final List<V> vertices;
+        private final int n;
+
+        /* Arcs of the overlay graph, original arcs first and shortcuts afterwards */
+        private int arcCount;
+        private int[] arcSource;
+        private int[] arcTarget;
+        private double[] arcWeight;
+        private Object[] arcEdge;
+        private int[] arcFirst;
+        private int[] arcSecond;
+
+        /* Dynamic incidence lists of arc ids */
+        private final int[][] outArcs;
+        private final int[] outSize;
+        private final int[][] inArcs;
+        private final int[] inSize;
+
+        private final boolean[] contracted;
+        private final int[] rank;
+        private final int[] contractedNeighbours;
+
+        /* Witness search buffers */
+        private final double[] distance;
+        private final int[] touched;
+        private int touchedCount;
+        private final FixedSizeIntegerHeap witnessHeap;
+
+        Contraction()
+        {
+            VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+            this.indexOf = mapping.getVertexMap();
+            this.vertices = mapping.getIndexList();
+            this.n = vertices.size();
+
+            int capacity = Math.max(16, 2 * graph.edgeSet().size());
+            this.arcSource = new int[capacity];
+            this.arcTarget = new int[capacity];
+            this.arcWeight = new double[capacity];
+            this.arcEdge = new Object[capacity];
+            this.arcFirst = new int[capacity];
+            this.arcSecond = new int[capacity];
+
+            this.outArcs = new int[n][];
+            this.outSize = new int[n];
+            this.inArcs = new int[n][];
+            this.inSize = new int[n];
+            for (int i = 0; i < n; i++) {
+                outArcs[i] = new int[4];
+                inArcs[i] = new int[4];
+            }
+
+            this.contracted = new boolean[n];
+            this.rank = new int[n];
+            this.contractedNeighbours = new int[n];
+
+            this.distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.touched = new int[n];
+            this.witnessHeap = new FixedSizeIntegerHeap(n);
+        }
+
+        ContractionHierarchy<V, E> run()
+        {
+            boolean directed = graph.getType().isDirected();
+            for (E e : graph.edgeSet()) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                int u = indexOf.get(graph.getEdgeSource(e));
+                int v = indexOf.get(graph.getEdgeTarget(e));
+                if (u == v) {
+                    continue;
+                }
+                addArc(u, v, w, e, -1, -1);
+                if (!directed) {
+                    addArc(v, u, w, e, -1, -1);
+                }
+            }
+
+            FixedSizeIntegerHeap order = new FixedSizeIntegerHeap(n);
+            for (int v = 0; v < n; v++) {
+                order.insert(v, priority(v));
+            }
+
+            int nextRank = 0;
+            while (!order.isEmpty()) {
+                int v = order.deleteMin();
+                double p = priority(v);
+                if (!order.isEmpty() && p > order.findMinKey()) {
+                    order.insert(v, p);
+                    continue;
+                }
+                contract(v, false);
+                contracted[v] = true;
+                rank[v] = nextRank++;
+                for (int i = 0; i < outSize[v]; i++) {
+                    contractedNeighbours[arcTarget[outArcs[v][i]]]++;
+                }
+                for (int i = 0; i < inSize[v]; i++) {
+                    contractedNeighbours[arcSource[inArcs[v][i]]]++;
+                }
+            }
+
+            return new ContractionHierarchy<>(
+                graph, indexOf, vertices, rank, Arrays.copyOf(arcSource, arcCount),
+                Arrays.copyOf(arcTarget, arcCount), Arrays.copyOf(arcWeight, arcCount),
+                Arrays.copyOf(arcEdge, arcCount), Arrays.copyOf(arcFirst, arcCount),
+                Arrays.copyOf(arcSecond, arcCount));
+        }
+
+        /**
+         * Compute the priority of a vertex, lower values are contracted first.
+         *
+         * @param v the vertex
+         * @return the priority of the vertex
+         */
+        private double priority(int v)
+        {
+            int removed = 0;
+            for (int i = 0; i < outSize[v]; i++) {
+                if (!contracted[arcTarget[outArcs[v][i]]]) {
+                    removed++;
+                }
+            }
+            for (int i = 0; i < inSize[v]; i++) {
+                if (!contracted[arcSource[inArcs[v][i]]]) {
+                    removed++;
+                }
+            }
+            return contract(v, true) - removed + contractedNeighbours[v];
+        }
+
+        /**
+         * Contract a vertex, or simulate its contraction.
+         *
+         * @param v the vertex
+         * @param simulate whether to only count the shortcuts instead of adding them
+         * @return the number of shortcuts needed
+         */
+        private int contract(int v, boolean simulate)
+        {
+            int shortcuts = 0;
+            for (int i = 0; i < inSize[v]; i++) {
+                int in = inArcs[v][i];
+                int u = arcSource[in];
+                if (contracted[u]) {
+                    continue;
+                }
+
+                double maxOut = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < outSize[v]; j++) {
+                    int out = outArcs[v][j];
+                    int w = arcTarget[out];
+                    if (w != u && !contracted[w]) {
+                        maxOut = Math.max(maxOut, arcWeight[out]);
+                    }
+                }
+                if (maxOut == Double.NEGATIVE_INFINITY) {
+                    continue;
+                }
+
+                witnessSearch(u, v, arcWeight[in] + maxOut);
+                for (int j = 0; j < outSize[v]; j++) {
+                    int out = outArcs[v][j];
+                    int w = arcTarget[out];
+                    if (w == u || contracted[w]) {
+                        continue;
+                    }
+                    double via = arcWeight[in] + arcWeight[out];
+                    if (distance[w] > via) {
+                        shortcuts++;
+                        if (!simulate) {
+                            addArc(u, w, via, null, in, out);
+                            /*
+                             * Make the new shortcut visible as a witness for the remaining
+                             * neighbours without repeating the search.
+                             */
+                            if (distance[w] == Double.POSITIVE_INFINITY) {
+                                touched[touchedCount++] = w;
+                            }
+                            distance[w] = via;
+                        }
+                    }
+                }
+                resetWitnessSearch();
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Run a Dijkstra search from a vertex in the remaining graph which avoids a particular
+         * vertex. The search stops when the distance limit is exceeded or when the number of
+         * settled vertices reaches the witness search limit.
+         *
+         * @param source the source of the search
+         * @param avoid the vertex to avoid
+         * @param limit the distance limit
+         */
+        private void witnessSearch(int source, int avoid, double limit)
+        {
+            distance[source] = 0d;
+            touched[touchedCount++] = source;
+            witnessHeap.insert(source, 0d);
+
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled < witnessSearchLimit) {
+                if (witnessHeap.findMinKey() > limit) {
+                    break;
+                }
+                int v = witnessHeap.deleteMin();
+                settled++;
+                double dv = distance[v];
+                for (int i = 0; i < outSize[v]; i++) {
+                    int arc = outArcs[v][i];
+                    int w = arcTarget[arc];
+                    if (w == avoid || contracted[w]) {
+                        continue;
+                    }
+                    double d = dv + arcWeight[arc];
+                    double dw = distance[w];
+                    if (d < dw) {
+                        if (dw == Double.POSITIVE_INFINITY) {
+                            touched[touchedCount++] = w;
+                            witnessHeap.insert(w, d);
+                        } else if (witnessHeap.contains(w)) {
+                            witnessHeap.decreaseKey(w, d);
+                        } else {
+                            continue;
+                        }
+                        distance[w] = d;
+                    }
+                }
+            }
+        }
+
+        private void resetWitnessSearch()
+        {
+            for (int i = 0; i < touchedCount; i++) {
+                distance[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+            touchedCount = 0;
+            witnessHeap.clear();
+        }
+
+        private void addArc(int source, int target, double weight, E e, int first, int second)
+        {
+            if (arcCount == arcSource.length) {
+                int capacity = 2 * arcCount;
+                arcSource = Arrays.copyOf(arcSource, capacity);
+                arcTarget = Arrays.copyOf(arcTarget, capacity);
+                arcWeight = Arrays.copyOf(arcWeight, capacity);
+                arcEdge = Arrays.copyOf(arcEdge, capacity);
+                arcFirst = Arrays.copyOf(arcFirst, capacity);
+                arcSecond = Arrays.copyOf(arcSecond, capacity);
+            }
+            int arc = arcCount++;
+            arcSource[arc] = source;
+            arcTarget[arc] = target;
+            arcWeight[arc] = weight;
+            arcEdge[arc] = e;
+            arcFirst[arc] = first;
+            arcSecond[arc] = second;
+
+            if (outSize[source] == outArcs[source].length) {
+                outArcs[source] = Arrays.copyOf(outArcs[source], 2 * outSize[source]);
+            }
+            outArcs[source][outSize[source]++] = arc;
+            if (inSize[target] == inArcs[target].length) {
+                inArcs[target] = Arrays.copyOf(inArcs[target], 2 * inSize[target]);
+            }
+            inArcs[target][inSize[target]++] = arc;
+        }
+    }
+
+    /**
+     * A contraction hierarchy of a graph.
+     *
+     * <p>
+     * The hierarchy consists of the rank of each vertex in the contraction order together with the
+     * overlay graph formed by the arcs of the original graph and the shortcuts. Each shortcut
+     * remembers the two arcs it replaces so that paths can be unpacked into edges of the original
+     * graph. For the queries the arcs are split into an upward graph, containing the arcs which
+     * lead to a vertex of higher rank, and a downward graph, stored reversed, containing the arcs
+     * which come from a vertex of higher rank.
+     *
+     * <p>
+     * Instances are immutable and can be shared by multiple query objects, even across threads.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    public static final class ContractionHierarchy<V, E>
+    {
+        final Graph<V, E> graph;
+        final Map<V, Integer> indexOf;
+        final List<V> vertices;
+        final int[] rank;
+
+        final int[] arcSource;
+        final int[] arcTarget;
+        final double[] arcWeight;
+        final Object[] arcEdge;
+        final int[] arcFirst;
+        final int[] arcSecond;
+
+        /* Upward arcs of vertex v are upArc[upStart[v]] to upArc[upStart[v+1]-1] */
+        final int[] upStart;
+        final int[] upArc;
+
+        /* Downward arcs entering vertex v are downArc[downStart[v]] to downArc[downStart[v+1]-1] */
+        final int[] downStart;
+        final int[] downArc;
+
+        private final int shortcuts;
+
+        ContractionHierarchy(
+            Graph<V, E> graph, Map<V, Integer> indexOf, List<V> vertices, int[] rank,
+            int[] arcSource, int[] arcTarget, double[] arcWeight, Object[] arcEdge,
+            int[] arcFirst, int[] arcSecond)
+        {
+            this.graph = graph;
+            this.indexOf = indexOf;
+            this.vertices = vertices;
+            this.rank = rank;
+            this.arcSource = arcSource;
+            this.arcTarget = arcTarget;
+            this.arcWeight = arcWeight;
+            this.arcEdge = arcEdge;
+            this.arcFirst = arcFirst;
+            this.arcSecond = arcSecond;
+
+            int n = vertices.size();
+            int m = arcSource.length;
+            int count = 0;
+            this.upStart = new int[n + 1];
+            this.downStart = new int[n + 1];
+            for (int a = 0; a < m; a++) {
+                if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                    upStart[arcSource[a] + 1]++;
+                } else {
+                    downStart[arcTarget[a] + 1]++;
+                }
+                if (arcFirst[a] != -1) {
+                    count++;
+                }
+            }
+            this.shortcuts = count;
+            for (int v = 0; v < n; v++) {
+                upStart[v + 1] += upStart[v];
+                downStart[v + 1] += downStart[v];
+            }
+            this.upArc = new int[upStart[n]];
+            this.downArc = new int[downStart[n]];
+            int[] upNext = Arrays.copyOf(upStart, n);
+            int[] downNext = Arrays.copyOf(downStart, n);
+            for (int a = 0; a < m; a++) {
+                if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                    upArc[upNext[arcSource[a]]++] = a;
+                } else {
+                    downArc[downNext[arcTarget[a]]++] = a;
+                }
+            }
+        }
+
+        /**
+         * Get the graph of the hierarchy.
+         *
+         * @return the graph
+         */
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        /**
+         * Get the position of a vertex in the contraction order. Vertices contracted earlier are
+         * less important and have smaller ranks.
+         *
+         * @param v the vertex
+         * @return the rank of the vertex
+         * @throws IllegalArgumentException if the vertex is not in the graph
+         */
+        public int getRank(V v)
+        {
+            Integer index = indexOf.get(v);
+            if (index == null) {
+                throw new IllegalArgumentException("Graph must contain the vertex!");
+            }
+            return rank[index];
+        }
+
+        /**
+         * Get the number of shortcuts added during the contraction.
+         *
+         * @return the number of shortcuts
+         */
+        public int getNumberOfShortcuts()
+        {
+            return shortcuts;
+        }
+
+        /**
+         * Append the edges of the original graph represented by an arc to a list.
+         *
+         * @param arc the arc
+         * @param edges the list
+         */
+        @SuppressWarnings("unchecked")
+        void unpack(int arc, List<E> edges)
+        {
+            Deque<Integer> stack = new ArrayDeque<>();
+            stack.push(arc);
+            while (!stack.isEmpty()) {
+                int a = stack.pop();
+                if (arcFirst[a] == -1) {
+                    edges.add((E) arcEdge[a]);
+                } else {
+                    stack.push(arcSecond[a]);
+                    stack.push(arcFirst[a]);
+                }
+            }
+        }
+    }
+
+}
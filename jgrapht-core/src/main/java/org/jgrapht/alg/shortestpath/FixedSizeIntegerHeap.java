@@ -0,0 +1,222 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+
+/**
+ * Primitive but efficient implementation of an addressable binary min-heap for integers. The heap
+ * stores integers in the range $[0, N)$, each associated with a double key, where $N$ is the
+ * capacity of the heap. Since the elements are used directly as indices, no objects are allocated
+ * by any operation, and the heap can be reused after a call to {@link #clear()}.
+ *
+ * <p>
+ * Operations insert, decreaseKey and deleteMin take $O(\log n)$ time where $n$ is the number of
+ * elements in the heap. Method {@link #clear()} takes $O(n)$ time.
+ *
+ * @author agent
+ */
+final class FixedSizeIntegerHeap
+{
+    /* Element at each heap position */
+    private final int[] heap;
+    /* Key at each heap position */
+    private final double[] keys;
+    /* Heap position of each element or -1 if the element is not in the heap */
+    private final int[] position;
+    /* Number of elements in the heap */
+    private int size;
+
+    /**
+     * Create a heap of fixed size.
+     *
+     * @param capacity the capacity of the heap, elements must be in $[0, capacity)$
+     */
+    FixedSizeIntegerHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.heap = new int[capacity];
+        this.keys = new double[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+        this.size = 0;
+    }
+
+    /**
+     * Insert an element into the heap.
+     *
+     * @param e the element, must not already be in the heap
+     * @param key the key of the element
+     */
+    public void insert(int e, double key)
+    {
+        assert position[e] == -1;
+        heap[size] = e;
+        keys[size] = key;
+        position[e] = size;
+        fixUp(size++);
+    }
+
+    /**
+     * Decrease the key of an element already in the heap.
+     *
+     * @param e the element
+     * @param key the new key, must not be larger than the current key
+     */
+    public void decreaseKey(int e, double key)
+    {
+        int p = position[e];
+        assert p != -1 && key <= keys[p];
+        keys[p] = key;
+        fixUp(p);
+    }
+
+    /**
+     * Check whether an element is in the heap.
+     *
+     * @param e the element
+     * @return true if the element is in the heap, false otherwise
+     */
+    public boolean contains(int e)
+    {
+        return position[e] != -1;
+    }
+
+    /**
+     * Get the key of an element in the heap.
+     *
+     * @param e the element
+     * @return the key of the element
+     */
+    public double getKey(int e)
+    {
+        assert position[e] != -1;
+        return keys[position[e]];
+    }
+
+    /**
+     * Get the key of the minimum element.
+     *
+     * @return the minimum key
+     */
+    public double findMinKey()
+    {
+        assert size > 0;
+        return keys[0];
+    }
+
+    /**
+     * Remove the element with the minimum key from the heap.
+     *
+     * @return the element with the minimum key
+     */
+    public int deleteMin()
+    {
+        assert size > 0;
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            keys[0] = keys[size];
+            position[heap[0]] = 0;
+            fixDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Check if the heap has any elements.
+     *
+     * @return true if the heap is empty
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Empty the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void fixUp(int p)
+    {
+        int e = heap[p];
+        double key = keys[p];
+        while (p > 0) {
+            int parent = (p - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, p);
+            p = parent;
+        }
+        heap[p] = e;
+        keys[p] = key;
+        position[e] = p;
+    }
+
+    private void fixDown(int p)
+    {
+        int e = heap[p];
+        double key = keys[p];
+        int half = size >>> 1;
+        while (p < half) {
+            int child = 2 * p + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            move(child, p);
+            p = child;
+        }
+        heap[p] = e;
+        keys[p] = key;
+        position[e] = p;
+    }
+
+    private void move(int from, int to)
+    {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        position[heap[to]] = to;
+    }
+
+}
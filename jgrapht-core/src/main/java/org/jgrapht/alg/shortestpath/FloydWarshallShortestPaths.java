@@ -23,6 +23,7 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * The Floyd-Warshall algorithm.
@@ -33,6 +34,16 @@ import java.util.*;
  * time, no computations are performed! All computations are performed the first time one of the
  * member methods of this class is invoked. The results are stored, so all subsequent calls to the
  * same method are computationally efficient.
+ *
+ * <p>
+ * When constructed with a parallelism larger than one, the matrix is computed by the blocked
+ * Floyd-Warshall algorithm of Venkataraman et al. (G. Venkataraman, S. Sahni and S. Mukhopadhyaya.
+ * A blocked all-pairs shortest-paths algorithm. Journal of Experimental Algorithmics, 8, 2003). The
+ * matrix is split into square tiles which fit into the cache and the outer loop advances one block
+ * of intermediate vertices at a time. For each block, the diagonal tile is computed first, then the
+ * tiles in the same block row and block column, and finally all remaining tiles; the tiles of the
+ * last two phases are independent of each other and are processed by a thread pool. The graph must
+ * not contain negative-weight cycles and must not be modified during the computation.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -54,6 +65,11 @@ public class FloydWarshallShortestPaths<V, E>
     // minimum vertex with degree at least 2
     private final int minDegreeTwo;
 
+    /* Side of the square tiles used by the blocked algorithm */
+    private static final int BLOCK_SIZE = 64;
+
+    private final int parallelism;
+
     private double[][] d = null;
     private Object[][] backtrace = null;
     private Object[][] lastHopMatrix = null;
@@ -64,8 +80,25 @@ public class FloydWarshallShortestPaths<V, E>
      * @param graph the input graph
      */
     public FloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, 1);
+    }
+
+    /**
+     * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm which computes
+     * the shortest paths using multiple threads.
+     * 
+     * @param graph the input graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public FloydWarshallShortestPaths(Graph<V, E> graph, int parallelism)
     {
         super(graph);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
 
         /*
          * Sort vertices by degree in ascending order and index them. Also compute the minimum
@@ -304,6 +337,10 @@ public class FloydWarshallShortestPaths<V, E>
         }
 
         // run fw alg
+        if (parallelism > 1) {
+            runBlocked();
+            return;
+        }
         for (int k = minDegreeTwo; k < n; k++) {
             for (int i = minDegreeOne; i < n; i++) {
                 if (i == k) {
@@ -324,6 +361,111 @@ public class FloydWarshallShortestPaths<V, E>
         }
     }
 
+    /**
+     * Run the blocked version of the algorithm on the vertices with degree at least one.
+     */
+    private void runBlocked()
+    {
+        int lo = minDegreeOne;
+        int n = vertices.size();
+        int blocks = (n - lo + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (blocks == 0) {
+            return;
+        }
+
+        ExecutorService executor = ConcurrencyUtil.createThreadPool(Math.min(parallelism, blocks));
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int kb = 0; kb < blocks; kb++) {
+                int kStart = Math.max(lo + kb * BLOCK_SIZE, minDegreeTwo);
+                int kEnd = Math.min(lo + (kb + 1) * BLOCK_SIZE, n);
+                if (kStart >= kEnd) {
+                    continue;
+                }
+                int kBlock = kb;
+                int kBlockStart = lo + kb * BLOCK_SIZE;
+
+                // phase 1: the diagonal tile
+                relaxTile(kBlockStart, kEnd, kBlockStart, kEnd, kStart, kEnd);
+
+                // phase 2: the tiles in the same block row and block column
+                tasks.clear();
+                for (int b = 0; b < blocks; b++) {
+                    if (b == kb) {
+                        continue;
+                    }
+                    int start = lo + b * BLOCK_SIZE;
+                    int end = Math.min(start + BLOCK_SIZE, n);
+                    tasks.add(() -> {
+                        relaxTile(kBlockStart, kEnd, start, end, kStart, kEnd);
+                        return null;
+                    });
+                    tasks.add(() -> {
+                        relaxTile(start, end, kBlockStart, kEnd, kStart, kEnd);
+                        return null;
+                    });
+                }
+                ConcurrencyUtil.invokeAll(executor, tasks);
+
+                // phase 3: the remaining tiles, one task per block row
+                tasks.clear();
+                for (int ib = 0; ib < blocks; ib++) {
+                    if (ib == kb) {
+                        continue;
+                    }
+                    int iStart = lo + ib * BLOCK_SIZE;
+                    int iEnd = Math.min(iStart + BLOCK_SIZE, n);
+                    tasks.add(() -> {
+                        for (int jb = 0; jb < blocks; jb++) {
+                            if (jb != kBlock) {
+                                int jStart = lo + jb * BLOCK_SIZE;
+                                int jEnd = Math.min(jStart + BLOCK_SIZE, n);
+                                relaxTile(iStart, iEnd, jStart, jEnd, kStart, kEnd);
+                            }
+                        }
+                        return null;
+                    });
+                }
+                ConcurrencyUtil.invokeAll(executor, tasks);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Relax all entries of a tile through a range of intermediate vertices, processing the
+     * intermediate vertices in increasing order.
+     *
+     * @param iStart first row of the tile
+     * @param iEnd row after the last row of the tile
+     * @param jStart first column of the tile
+     * @param jEnd column after the last column of the tile
+     * @param kStart first intermediate vertex
+     * @param kEnd intermediate vertex after the last one
+     */
+    private void relaxTile(int iStart, int iEnd, int jStart, int jEnd, int kStart, int kEnd)
+    {
+        for (int k = kStart; k < kEnd; k++) {
+            double[] dk = d[k];
+            for (int i = iStart; i < iEnd; i++) {
+                double dik = d[i][k];
+                if (i == k || dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                double[] di = d[i];
+                Object[] backtraceI = backtrace[i];
+                for (int j = jStart; j < jEnd; j++) {
+                    double ik_kj = dik + dk[j];
+                    if (i != j && j != k && Double.compare(ik_kj, di[j]) < 0) {
+                        di[j] = ik_kj;
+                        backtraceI[j] = backtraceI[k];
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Populate the last hop matrix, using the earlier computed backtrace matrix.
      */
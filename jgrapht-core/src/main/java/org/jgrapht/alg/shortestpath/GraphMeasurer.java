@@ -59,6 +59,22 @@ public class GraphMeasurer<V, E>
         this(graph, new FloydWarshallShortestPaths<V, E>(graph));
     }
 
+    /**
+     * Constructs a new instance of GraphMeasurer which computes the shortest paths between all
+     * pairs of vertices using multiple threads. The parallel mode of
+     * {@link FloydWarshallShortestPaths} is used as the shortest path algorithm. For large sparse
+     * graphs consider passing a parallel {@link JohnsonShortestPaths} to
+     * {@link #GraphMeasurer(Graph, ShortestPathAlgorithm)} instead.
+     * 
+     * @param graph input graph
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public GraphMeasurer(Graph<V, E> graph, int parallelism)
+    {
+        this(graph, new FloydWarshallShortestPaths<V, E>(graph, parallelism));
+    }
+
     /**
      * Constructs a new instance of GraphMeasurer.
      * 
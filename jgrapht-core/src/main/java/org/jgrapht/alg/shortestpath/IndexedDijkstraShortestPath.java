@@ -0,0 +1,321 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * An implementation of Dijkstra's shortest path algorithm which works on an integer indexed
+ * snapshot of the graph and reuses its internal buffers between queries.
+ *
+ * <p>
+ * During construction the vertices of the graph are mapped to integers and the outgoing edges of
+ * each vertex are copied into flat arrays of targets and weights. Queries then use primitive
+ * distance and predecessor arrays, together with an index based binary heap, which are all
+ * allocated once. After each query only the entries touched by the query are reset, thus the cost
+ * of a query is proportional to the part of the graph it explores, and computing the weight of a
+ * shortest path using {@link #getPathWeight(Object, Object)} does not allocate any objects. This
+ * makes the class suitable for answering a large number of single-pair queries on the same graph,
+ * in contrast to {@link DijkstraShortestPath} which allocates a heap node and map entries for each
+ * visited vertex on each query.
+ *
+ * <p>
+ * The snapshot is taken when the instance is created; later changes of the graph are not
+ * reflected. Instances are not thread-safe since queries share the internal buffers; use one
+ * instance per thread if queries must be answered concurrently.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DijkstraShortestPath
+ *
+ * @author agent
+ */
+public class IndexedDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final double radius;
+
+    private final Map<V, Integer> indexOf;
+    private final List<V> vertices;
+
+    /* Outgoing arcs of vertex v are at positions start[v] to start[v+1]-1 */
+    private final int[] start;
+    private final int[] target;
+    private final double[] weight;
+    private final Object[] arcEdge;
+
+    /* Query buffers */
+    private final double[] distance;
+    private final int[] predecessorArc;
+    private final int[] touched;
+    private int touchedCount;
+    private final FixedSizeIntegerHeap heap;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        this.radius = radius;
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        this.indexOf = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        int n = vertices.size();
+
+        this.start = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            start[i + 1] = start[i] + graph.outgoingEdgesOf(vertices.get(i)).size();
+        }
+        int m = start[n];
+        this.target = new int[m];
+        this.weight = new double[m];
+        this.arcEdge = new Object[m];
+        int p = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                target[p] = indexOf.get(Graphs.getOppositeVertex(graph, e, v));
+                weight[p] = w;
+                arcEdge[p] = e;
+                p++;
+            }
+        }
+
+        this.distance = new double[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        this.predecessorArc = new int[n];
+        Arrays.fill(predecessorArc, -1);
+        this.touched = new int[n];
+        this.touchedCount = 0;
+        this.heap = new FixedSizeIntegerHeap(n);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+
+        search(s, t);
+        try {
+            return buildPath(s, t);
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This method does not allocate any objects.
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        int s = sourceIndex(source);
+        int t = sinkIndex(sink);
+        if (s == t) {
+            return 0d;
+        }
+
+        search(s, t);
+        double result = distance[t] <= radius ? distance[t] : Double.POSITIVE_INFINITY;
+        reset();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = sourceIndex(source);
+
+        search(s, -1);
+        try {
+            Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+            for (int i = 0; i < touchedCount; i++) {
+                int v = touched[i];
+                if (distance[v] > radius) {
+                    continue;
+                }
+                int arc = predecessorArc[v];
+                distanceAndPredecessorMap.put(
+                    vertices.get(v), Pair.of(distance[v], arc == -1 ? null : edge(arc)));
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+        } finally {
+            reset();
+        }
+    }
+
+    private int sourceIndex(V source)
+    {
+        Integer s = indexOf.get(source);
+        if (s == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        return s;
+    }
+
+    private int sinkIndex(V sink)
+    {
+        Integer t = indexOf.get(sink);
+        if (t == null) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        return t;
+    }
+
+    /**
+     * Run Dijkstra from a source until the sink is settled, the radius is exceeded or all
+     * reachable vertices are settled.
+     *
+     * @param s the source
+     * @param t the sink or -1 to compute all distances
+     */
+    private void search(int s, int t)
+    {
+        distance[s] = 0d;
+        touched[touchedCount++] = s;
+        heap.insert(s, 0d);
+
+        while (!heap.isEmpty()) {
+            if (heap.findMinKey() > radius) {
+                break;
+            }
+            int v = heap.deleteMin();
+            if (v == t) {
+                break;
+            }
+            double dv = distance[v];
+            for (int p = start[v], end = start[v + 1]; p < end; p++) {
+                int w = target[p];
+                double d = dv + weight[p];
+                double dw = distance[w];
+                if (d < dw) {
+                    if (dw == Double.POSITIVE_INFINITY) {
+                        touched[touchedCount++] = w;
+                        heap.insert(w, d);
+                    } else {
+                        heap.decreaseKey(w, d);
+                    }
+                    distance[w] = d;
+                    predecessorArc[w] = p;
+                }
+            }
+        }
+    }
+
+    private GraphPath<V, E> buildPath(int s, int t)
+    {
+        if (distance[t] == Double.POSITIVE_INFINITY || distance[t] > radius) {
+            return null;
+        }
+        LinkedList<E> edgeList = new LinkedList<>();
+        int v = t;
+        while (v != s) {
+            int arc = predecessorArc[v];
+            edgeList.addFirst(edge(arc));
+            v = arcSource(arc);
+        }
+        return new GraphWalk<>(
+            graph, vertices.get(s), vertices.get(t), new ArrayList<>(edgeList), distance[t]);
+    }
+
+    /**
+     * Find the vertex owning an arc by binary search on the start positions.
+     *
+     * @param arc the arc
+     * @return the vertex whose outgoing arcs contain the arc
+     */
+    private int arcSource(int arc)
+    {
+        int lo = 0;
+        int hi = start.length - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (start[mid] <= arc) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E edge(int arc)
+    {
+        return (E) arcEdge[arc];
+    }
+
+    /**
+     * Reset the entries touched by the last query.
+     */
+    private void reset()
+    {
+        for (int i = 0; i < touchedCount; i++) {
+            int v = touched[i];
+            distance[v] = Double.POSITIVE_INFINITY;
+            predecessorArc[v] = -1;
+        }
+        touchedCount = 0;
+        heap.clear();
+    }
+
+}
@@ -24,6 +24,7 @@ import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Johnson's all pairs shortest paths algorithm.
@@ -45,6 +46,12 @@ import java.util.*;
  * In case the algorithm detects a negative weight cycle it will throw an exception of type
  * {@link NegativeCycleDetectedException} which will contain the detected negative weight cycle.
  *
+ * <p>
+ * The Dijkstra computations of the last step are independent of each other. When constructed with a
+ * parallelism larger than one, the sources are distributed over a thread pool and each thread
+ * fills the rows of the result matrices which correspond to its sources. The graph must not be
+ * modified while the computation is running.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -59,6 +66,7 @@ public class JohnsonShortestPaths<V, E>
     private Map<V, Integer> vertexIndices;
 
     private final Comparator<Double> comparator;
+    private final int parallelism;
 
     /**
      * Construct a new instance.
@@ -77,9 +85,26 @@ public class JohnsonShortestPaths<V, E>
      * @param epsilon tolerance when comparing floating point values
      */
     public JohnsonShortestPaths(Graph<V, E> graph, double epsilon)
+    {
+        this(graph, epsilon, 1);
+    }
+
+    /**
+     * Construct a new instance which runs the Dijkstra computations using multiple threads.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param parallelism the number of threads to use, one for a sequential computation
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, int parallelism)
     {
         super(graph);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.parallelism = parallelism;
     }
 
     /**
@@ -211,22 +236,7 @@ public class JohnsonShortestPaths<V, E>
         /*
          * Execute Dijkstra multiple times
          */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it =
-                new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
-            }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform result
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> pair = distanceAndPredecessorMap
-                    .getOrDefault(u, Pair.of(Double.POSITIVE_INFINITY, null));
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = pair.getSecond();
-            }
-        }
+        runDijkstras(g, null);
     }
 
     /**
@@ -269,32 +279,76 @@ public class JohnsonShortestPaths<V, E>
         /*
          * Run Dijkstra using new weights for all vertices
          */
-        for (V v : g.vertexSet()) {
-            DijkstraClosestFirstIterator<V, E> it = new DijkstraClosestFirstIterator<>(
-                newEdgeWeightsGraph, v, Double.POSITIVE_INFINITY);
-            while (it.hasNext()) {
-                it.next();
+        runDijkstras(newEdgeWeightsGraph, vertexWeights);
+    }
+
+    /**
+     * Run Dijkstra's algorithm from every vertex and fill the distance and predecessor matrices,
+     * possibly using multiple threads.
+     *
+     * @param g the graph to run Dijkstra on
+     * @param vertexWeights the vertex weights used to transform the distances back to the original
+     *        weights, or null if the weights were not transformed
+     */
+    private void runDijkstras(Graph<V, E> g, Map<V, Double> vertexWeights)
+    {
+        List<V> sources = new ArrayList<>(g.vertexSet());
+        if (parallelism == 1 || sources.size() < 2) {
+            for (V v : sources) {
+                runDijkstra(g, v, vertexWeights);
             }
-            Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
-
-            // transform distances to original weights
-            for (V u : g.vertexSet()) {
-                Pair<Double, E> oldPair = distanceAndPredecessorMap.get(u);
-
-                Pair<Double, E> newPair;
-                if (oldPair != null) {
-                    newPair = Pair.of(
-                        oldPair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u),
-                        oldPair.getSecond());
-                } else {
-                    newPair = Pair.of(Double.POSITIVE_INFINITY, null);
+            return;
+        }
+
+        int workers = Math.min(parallelism, sources.size());
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            final int offset = i;
+            tasks.add(() -> {
+                for (int j = offset; j < sources.size(); j += workers) {
+                    runDijkstra(g, sources.get(j), vertexWeights);
                 }
+                return null;
+            });
+        }
+        ConcurrencyUtil.invokeAll(workers, tasks);
+    }
 
-                distance[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getFirst();
-                pred[vertexIndices.get(v)][vertexIndices.get(u)] = newPair.getSecond();
+    /**
+     * Run Dijkstra's algorithm from a single source and fill the corresponding row of the distance
+     * and predecessor matrices.
+     *
+     * @param g the graph to run Dijkstra on
+     * @param v the source
+     * @param vertexWeights the vertex weights used to transform the distances back to the original
+     *        weights, or null if the weights were not transformed
+     */
+    private void runDijkstra(Graph<V, E> g, V v, Map<V, Double> vertexWeights)
+    {
+        DijkstraClosestFirstIterator<V, E> it =
+            new DijkstraClosestFirstIterator<>(g, v, Double.POSITIVE_INFINITY);
+        while (it.hasNext()) {
+            it.next();
+        }
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = it.getDistanceAndPredecessorMap();
+
+        int row = vertexIndices.get(v);
+        for (V u : g.vertexSet()) {
+            int column = vertexIndices.get(u);
+            Pair<Double, E> pair = distanceAndPredecessorMap.get(u);
+            if (pair == null) {
+                distance[row][column] = Double.POSITIVE_INFINITY;
+                pred[row][column] = null;
+            } else if (vertexWeights == null) {
+                distance[row][column] = pair.getFirst();
+                pred[row][column] = pair.getSecond();
+            } else {
+                // transform distances to original weights
+                distance[row][column] =
+                    pair.getFirst() - vertexWeights.get(v) + vertexWeights.get(u);
+                pred[row][column] = pair.getSecond();
             }
         }
-
     }
 
     /**
@@ -34,6 +34,11 @@ import java.util.function.*;
  * result of the union of calling predecessorsOf(v) and successorsOf(v) is equal to the result of
  * calling neighborsOf(v) for a given vertex v.
  * 
+ * <p>
+ * Algorithms which only read the graph and perform many adjacency tests or neighborhood
+ * intersections should prefer {@link NeighborIndex}, which stores the neighbors as sorted arrays of
+ * vertex indices.
+ * 
  * @param <V> the vertex type
  * @param <E> the edge type
  * 
@@ -0,0 +1,352 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A snapshot of the adjacency structure of a graph using primitive arrays. Contrary to
+ * {@link NeighborCache}, which caches the neighbors of each vertex in a hash based set, this index
+ * assigns to every vertex an integer in $[0, n)$ and stores the unique neighbors of every vertex
+ * as an array of vertex indices sorted in increasing order. This allows testing adjacency in
+ * $O(\log d)$ time using binary search and intersecting neighborhoods by merging sorted arrays,
+ * which are the basic operations of triangle counting and clique enumeration algorithms.
+ * 
+ * <p>
+ * The index is computed lazily on first access in $O(n + m \log d)$ time, where $d$ is the maximum
+ * degree. When registered as a listener of a listenable graph, any change of the graph invalidates
+ * the index, which is then recomputed on the next access. Note that vertex indices are not stable
+ * across recomputations.
+ * 
+ * <p>
+ * Multiple edges are reported only once and a self-loop makes a vertex its own neighbor. For
+ * undirected graphs the successors, the predecessors and the neighbors of a vertex coincide. The
+ * arrays returned by this class are shared and must not be modified.
+ * 
+ * @param <V> the vertex type
+ * @param <E> the edge type
+ * 
+ * @author agent
+ */
+public class NeighborIndex<V, E>
+    implements
+    GraphListener<V, E>
+{
+    private final Graph<V, E> graph;
+
+    private Map<V, Integer> vertexMap;
+    private List<V> vertices;
+    private int[][] successors;
+    private int[][] predecessors;
+    private int[][] neighbors;
+
+    /**
+     * Constructor
+     * 
+     * @param graph the input graph
+     * @throws NullPointerException if the input graph is null
+     */
+    public NeighborIndex(Graph<V, E> graph)
+    {
+        this.graph = Objects.requireNonNull(graph);
+    }
+
+    /**
+     * Returns the number of vertices of the graph.
+     * 
+     * @return the number of vertices
+     */
+    public int getVertexCount()
+    {
+        ensureComputed();
+        return vertices.size();
+    }
+
+    /**
+     * Returns the index of a vertex.
+     * 
+     * @param v the vertex
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public int indexOf(V v)
+    {
+        ensureComputed();
+        Integer index = vertexMap.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the vertex with a given index.
+     * 
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        ensureComputed();
+        return vertices.get(index);
+    }
+
+    /**
+     * Returns the sorted indices of the unique successors of a vertex.
+     * 
+     * @param v the index of the vertex
+     * @return the sorted indices of the successors
+     */
+    public int[] successorsOf(int v)
+    {
+        ensureComputed();
+        return successors[v];
+    }
+
+    /**
+     * Returns the sorted indices of the unique predecessors of a vertex.
+     * 
+     * @param v the index of the vertex
+     * @return the sorted indices of the predecessors
+     */
+    public int[] predecessorsOf(int v)
+    {
+        ensureComputed();
+        return predecessors[v];
+    }
+
+    /**
+     * Returns the sorted indices of the unique neighbors of a vertex.
+     * 
+     * @param v the index of the vertex
+     * @return the sorted indices of the neighbors
+     */
+    public int[] neighborsOf(int v)
+    {
+        ensureComputed();
+        return neighbors[v];
+    }
+
+    /**
+     * Returns whether there is an edge between two vertices, in any direction.
+     * 
+     * @param u the index of the first vertex
+     * @param v the index of the second vertex
+     * @return whether the vertices are adjacent
+     */
+    public boolean isNeighbor(int u, int v)
+    {
+        ensureComputed();
+        return Arrays.binarySearch(neighbors[u], v) >= 0;
+    }
+
+    /**
+     * Returns whether there is an edge from a vertex to another vertex. For undirected graphs this
+     * is the same as {@link #isNeighbor(int, int)}.
+     * 
+     * @param u the index of the source vertex
+     * @param v the index of the target vertex
+     * @return whether the second vertex is a successor of the first
+     */
+    public boolean isSuccessor(int u, int v)
+    {
+        ensureComputed();
+        return Arrays.binarySearch(successors[u], v) >= 0;
+    }
+
+    /**
+     * Returns the number of common neighbors of two vertices.
+     * 
+     * @param u the index of the first vertex
+     * @param v the index of the second vertex
+     * @return the number of common neighbors
+     */
+    public int commonNeighborCount(int u, int v)
+    {
+        ensureComputed();
+        return intersectionSize(neighbors[u], neighbors[v]);
+    }
+
+    /**
+     * Computes the size of the intersection of two sorted arrays without duplicates. When the
+     * arrays have similar lengths they are merged in linear time, otherwise every element of the
+     * shorter array is searched in the longer one.
+     * 
+     * @param a the first sorted array
+     * @param b the second sorted array
+     * @return the size of the intersection
+     */
+    public static int intersectionSize(int[] a, int[] b)
+    {
+        if (a.length > b.length) {
+            int[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int count = 0;
+        if (a.length * 32L < b.length) {
+            int from = 0;
+            for (int x : a) {
+                int pos = Arrays.binarySearch(b, from, b.length, x);
+                if (pos >= 0) {
+                    count++;
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            }
+            return count;
+        }
+        int i = 0, j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private void ensureComputed()
+    {
+        if (neighbors != null) {
+            return;
+        }
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        Map<V, Integer> map = mapping.getVertexMap();
+        List<V> list = mapping.getIndexList();
+        int n = list.size();
+
+        int[][] succ = new int[n][];
+        for (int i = 0; i < n; i++) {
+            V v = list.get(i);
+            Set<E> edges = graph.outgoingEdgesOf(v);
+            int[] targets = new int[edges.size()];
+            int k = 0;
+            for (E e : edges) {
+                targets[k++] = map.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+            succ[i] = sortUnique(targets);
+        }
+
+        if (graph.getType().isDirected()) {
+            int[] inDegree = new int[n];
+            for (int[] targets : succ) {
+                for (int w : targets) {
+                    inDegree[w]++;
+                }
+            }
+            int[][] pred = new int[n][];
+            for (int i = 0; i < n; i++) {
+                pred[i] = new int[inDegree[i]];
+            }
+            // sources are visited in increasing order, so the predecessors are sorted
+            int[] fill = new int[n];
+            for (int i = 0; i < n; i++) {
+                for (int w : succ[i]) {
+                    pred[w][fill[w]++] = i;
+                }
+            }
+            int[][] nbrs = new int[n][];
+            for (int i = 0; i < n; i++) {
+                nbrs[i] = union(succ[i], pred[i]);
+            }
+            this.predecessors = pred;
+            this.neighbors = nbrs;
+        } else {
+            this.predecessors = succ;
+            this.neighbors = succ;
+        }
+        this.successors = succ;
+        this.vertexMap = map;
+        this.vertices = list;
+    }
+
+    private void invalidate()
+    {
+        this.vertexMap = null;
+        this.vertices = null;
+        this.successors = null;
+        this.predecessors = null;
+        this.neighbors = null;
+    }
+
+    private static int[] sortUnique(int[] a)
+    {
+        Arrays.sort(a);
+        int k = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (k == 0 || a[k - 1] != a[i]) {
+                a[k++] = a[i];
+            }
+        }
+        return k == a.length ? a : Arrays.copyOf(a, k);
+    }
+
+    private static int[] union(int[] a, int[] b)
+    {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || i < a.length && a[i] < b[j]) {
+                result[k++] = a[i++];
+            } else if (i == a.length || a[i] > b[j]) {
+                result[k++] = b[j++];
+            } else {
+                result[k++] = a[i++];
+                j++;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        invalidate();
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        invalidate();
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.builder.*;
 import org.jgrapht.traverse.*;
 import org.jgrapht.util.*;
@@ -70,6 +71,12 @@ public class DirectedAcyclicGraph<V, E>
 
     private static final String EDGE_WOULD_INDUCE_A_CYCLE = "Edge would induce a cycle";
 
+    /*
+     * A batch of edges is added one by one if the size of the graph is larger than this many times
+     * the size of the batch.
+     */
+    private static final int BATCH_RECOMPUTE_RATIO = 16;
+
     private final Comparator<V> topoComparator;
     private final TopoOrderMap<V> topoOrderMap;
     private int maxTopoIndex = 0;
@@ -288,6 +295,217 @@ public class DirectedAcyclicGraph<V, E>
         return result;
     }
 
+    /**
+     * Add a batch of edges to the graph, creating the edges with the edge supplier of the graph.
+     *
+     * <p>
+     * Instead of maintaining the topological order after every single edge, the order is restored
+     * once for the whole batch. Edges which agree with the current topological order are simply
+     * added. If the batch contains edges which go backwards in the current order, the topological
+     * order of the whole graph is recomputed once, with a single run of Kahn's algorithm over the
+     * graph and the new edges. Small batches relative to the size of the graph are instead added
+     * one by one using the incremental algorithm, since recomputing the order from scratch would
+     * be more expensive than updating it.
+     *
+     * <p>
+     * The batch is added atomically: if the batch would induce a cycle, the graph is left
+     * unchanged and an {@link IllegalArgumentException} is thrown whose message contains the first
+     * edge of the batch which, together with the edges before it, closes a cycle. As with
+     * {@link #addEdge(Object, Object)}, a pair which is already connected by an edge gets an
+     * additional edge if the graph allows multiple edges, and is ignored otherwise.
+     *
+     * @param edges the source and the target vertex of each edge
+     * @return the created edges in the order of the batch, with {@code null} for the pairs which
+     *         were ignored because the graph does not allow multiple edges
+     * @throws IllegalArgumentException if a vertex is not in the graph or if the batch would
+     *         induce a cycle
+     * @throws UnsupportedOperationException if the graph has no edge supplier
+     */
+    public List<E> addEdges(Collection<? extends Pair<V, V>> edges)
+    {
+        List<Pair<V, V>> batch = new ArrayList<>(edges);
+        if (getEdgeSupplier() == null) {
+            throw new UnsupportedOperationException("graph contains no edge supplier");
+        }
+
+        boolean ordered = true;
+        for (Pair<V, V> edge : batch) {
+            assertVertexExist(edge.getFirst());
+            assertVertexExist(edge.getSecond());
+            if (topoOrderMap.getTopologicalIndex(edge.getFirst()) >= topoOrderMap
+                .getTopologicalIndex(edge.getSecond()))
+            {
+                ordered = false;
+            }
+        }
+
+        if (!ordered && (long) batch.size() * BATCH_RECOMPUTE_RATIO < vertexSet().size()
+            + edgeSet().size())
+        {
+            return addEdgesIncrementally(batch);
+        }
+
+        if (!ordered) {
+            List<V> order = computeTopologicalOrder(batch, batch.size());
+            if (order == null) {
+                throw cycleInducedBy(findFirstCycleEdge(batch));
+            }
+            topoOrderMap.removeAllVertices();
+            minTopoIndex = 0;
+            maxTopoIndex = 0;
+            for (V v : order) {
+                topoOrderMap.putVertex(++maxTopoIndex, v);
+            }
+            ++topoModCount;
+        }
+
+        List<E> result = new ArrayList<>(batch.size());
+        for (Pair<V, V> edge : batch) {
+            result.add(super.addEdge(edge.getFirst(), edge.getSecond()));
+        }
+        return result;
+    }
+
+    /**
+     * Add a batch of edges one by one, removing the added edges again if an edge would induce a
+     * cycle.
+     *
+     * @param batch the batch
+     * @return the created edges
+     */
+    private List<E> addEdgesIncrementally(List<Pair<V, V>> batch)
+    {
+        List<E> result = new ArrayList<>(batch.size());
+        for (Pair<V, V> edge : batch) {
+            V source = edge.getFirst();
+            V target = edge.getSecond();
+            try {
+                if (source.equals(target)) {
+                    throw new CycleFoundException();
+                }
+                updateDag(source, target);
+                result.add(super.addEdge(source, target));
+            } catch (CycleFoundException e) {
+                for (E added : result) {
+                    if (added != null) {
+                        removeEdge(added);
+                    }
+                }
+                throw cycleInducedBy(edge);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compute a topological order of the graph together with a prefix of a batch of new edges.
+     *
+     * @param batch the batch
+     * @param prefix the number of edges of the batch to consider
+     * @return a topological order or null if the graph with the new edges contains a cycle
+     */
+    private List<V> computeTopologicalOrder(List<Pair<V, V>> batch, int prefix)
+    {
+        // number the vertices in the current topological order
+        List<V> vertices = new ArrayList<>(vertexSet().size());
+        for (int i = minTopoIndex; i <= maxTopoIndex; i++) {
+            V v = topoOrderMap.getVertex(i);
+            if (v != null) {
+                vertices.add(v);
+            }
+        }
+        int n = vertices.size();
+        Map<V, Integer> index = new HashMap<>(2 * n);
+        for (int i = 0; i < n; i++) {
+            index.put(vertices.get(i), i);
+        }
+
+        // successors in compressed sparse row form
+        int m = edgeSet().size() + prefix;
+        int[] source = new int[m];
+        int[] target = new int[m];
+        int k = 0;
+        for (E e : edgeSet()) {
+            source[k] = index.get(getEdgeSource(e));
+            target[k++] = index.get(getEdgeTarget(e));
+        }
+        for (int i = 0; i < prefix; i++) {
+            Pair<V, V> edge = batch.get(i);
+            source[k] = index.get(edge.getFirst());
+            target[k++] = index.get(edge.getSecond());
+        }
+        int[] start = new int[n + 1];
+        int[] inDegree = new int[n];
+        for (int i = 0; i < m; i++) {
+            start[source[i] + 1]++;
+            inDegree[target[i]]++;
+        }
+        for (int v = 0; v < n; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] next = Arrays.copyOf(start, n);
+        int[] successors = new int[m];
+        for (int i = 0; i < m; i++) {
+            successors[next[source[i]]++] = target[i];
+        }
+
+        // Kahn's algorithm
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                queue[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            int v = queue[head++];
+            for (int p = start[v]; p < start[v + 1]; p++) {
+                int w = successors[p];
+                if (--inDegree[w] == 0) {
+                    queue[tail++] = w;
+                }
+            }
+        }
+        if (tail < n) {
+            return null;
+        }
+
+        List<V> order = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            order.add(vertices.get(queue[i]));
+        }
+        return order;
+    }
+
+    /**
+     * Find the first edge of a batch which, together with the edges before it, induces a cycle
+     * using a binary search over the prefixes of the batch.
+     *
+     * @param batch a batch which induces a cycle
+     * @return the first edge which induces a cycle
+     */
+    private Pair<V, V> findFirstCycleEdge(List<Pair<V, V>> batch)
+    {
+        int low = 1;
+        int high = batch.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (computeTopologicalOrder(batch, mid) == null) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return batch.get(low - 1);
+    }
+
+    private static IllegalArgumentException cycleInducedBy(Pair<?, ?> edge)
+    {
+        return new IllegalArgumentException(
+            EDGE_WOULD_INDUCE_A_CYCLE + ": (" + edge.getFirst() + " : " + edge.getSecond() + ")");
+    }
+
     /**
      * Get the ancestors of a vertex.
      *
@@ -0,0 +1,665 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * Create a thread-safe Graph backed by the specified Graph, which uses a {@link StampedLock}. In
+ * order to guarantee serial access, it is critical that <strong>all</strong> access to the backing
+ * Graph is accomplished through the created Graph.
+ *
+ * <p>
+ * Every mutation acquires the write lock of the {@link StampedLock}, so mutations are mutually
+ * exclusive with each other and with locked reads. Queries on the backing graph, such as
+ * <code>getEdge</code>, <code>containsEdge</code>, <code>degreeOf</code> and <code>edgesOf</code>,
+ * hold the read lock, which unlike the lock of {@link AsSynchronizedGraph} does not keep track of
+ * the reading threads. Only the sizes of the vertex and edge sets are read optimistically without
+ * acquiring any lock. They are kept in fields of this graph which are updated while holding the
+ * write lock, so an optimistic read is a simple field load and never traverses the internal
+ * structures of the backing graph. It is validated against the stamp, and if a write happened in
+ * the meantime, it is repeated while holding the read lock. All operations are linearizable.
+ * </p>
+ *
+ * <p>
+ * The backing graph must not perform any side effects during read operations.
+ * </p>
+ *
+ * <p>
+ * Methods <code>edgesOf</code>, <code>incomingEdgesOf</code>, <code>outgoingEdgesOf</code> and
+ * <code>getAllEdges</code> return an unmodifiable copy of the result of the backing graph. The sets
+ * returned by <code>vertexSet</code> and <code>edgeSet</code> are unmodifiable live views; when a
+ * traversal over such a set is started via a method such as iterator(), a snapshot of the
+ * underlying set is copied for iteration purposes.
+ * </p>
+ *
+ * <p>
+ * The same hazards with respect to concurrent removals as in {@link AsSynchronizedGraph} apply.
+ * Compound sequences of graph accesses can be synchronized explicitly using the lock returned by
+ * {@link #getLock()}. Unlike the lock of {@link AsSynchronizedGraph}, a {@link StampedLock} is not
+ * reentrant, thus graph methods <strong>MUST NOT</strong> be called while holding its write lock
+ * and write methods <strong>MUST NOT</strong> be called while holding its read lock.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see AsSynchronizedGraph
+ *
+ * @author agent
+ */
+public class AsStampedLockGraph<V, E>
+    extends
+    GraphDelegator<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = -2937283526478458925L;
+
+    private static final String UNMODIFIABLE = "this set is unmodifiable";
+
+    private final StampedLock lock;
+
+    // A set encapsulating backing vertexSet.
+    private final Set<V> allVerticesSet;
+
+    // A set encapsulating backing edgeSet.
+    private final Set<E> allEdgesSet;
+
+    // Sizes of the backing vertex and edge sets, updated while holding the write lock.
+    private int vertexCount;
+    private int edgeCount;
+
+    /**
+     * Create a new graph.
+     *
+     * @param g the backing graph (the delegate)
+     */
+    public AsStampedLockGraph(Graph<V, E> g)
+    {
+        super(g);
+        this.lock = new StampedLock();
+        this.allVerticesSet = new ConcurrentView<>(super.vertexSet(), true);
+        this.allEdgesSet = new ConcurrentView<>(super.edgeSet(), false);
+        updateCounts();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        return readLocked(() -> copySet(super.getAllEdges(sourceVertex, targetVertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        return readLocked(() -> super.getEdge(sourceVertex, targetVertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.addEdge(sourceVertex, targetVertex);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.addEdge(sourceVertex, targetVertex, e);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.addVertex();
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.addVertex(v);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(V sourceVertex, V targetVertex)
+    {
+        return readLocked(() -> super.containsEdge(sourceVertex, targetVertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return readLocked(() -> super.containsEdge(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return readLocked(() -> super.containsVertex(v));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        return readLockedInt(() -> super.degreeOf(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return allEdgesSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        return readLocked(() -> copySet(super.edgesOf(vertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        return readLockedInt(() -> super.inDegreeOf(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return readLocked(() -> copySet(super.incomingEdgesOf(vertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        return readLockedInt(() -> super.outDegreeOf(vertex));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return readLocked(() -> copySet(super.outgoingEdgesOf(vertex)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllEdges(Collection<? extends E> edges)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.removeAllEdges(edges);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> removeAllEdges(V sourceVertex, V targetVertex)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.removeAllEdges(sourceVertex, targetVertex);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeAllVertices(Collection<? extends V> vertices)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.removeAllVertices(vertices);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.removeEdge(e);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.removeEdge(sourceVertex, targetVertex);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        long stamp = lock.writeLock();
+        try {
+            return super.removeVertex(v);
+        } finally {
+            updateCounts();
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        long stamp = lock.readLock();
+        try {
+            return super.toString();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return allVerticesSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return readLocked(() -> super.getEdgeSource(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return readLocked(() -> super.getEdgeTarget(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        return readLockedDouble(() -> super.getEdgeWeight(e));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        long stamp = lock.writeLock();
+        try {
+            super.setEdgeWeight(e, weight);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        return readLocked(() -> getDelegate().hashCode());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+            return true;
+        long stamp = lock.readLock();
+        try {
+            return getDelegate().equals(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Get the stamped lock used to synchronize all access to this graph. This can be used by
+     * calling applications to explicitly synchronize compound sequences of graph accesses. The lock
+     * is not reentrant, see the class documentation.
+     *
+     * @return the stamped lock used to synchronize all access to this graph
+     */
+    public StampedLock getLock()
+    {
+        return lock;
+    }
+
+    /**
+     * Update the sizes of the vertex and edge sets after a mutation. Must be called while holding
+     * the write lock.
+     */
+    private void updateCounts()
+    {
+        vertexCount = super.vertexSet().size();
+        edgeCount = super.edgeSet().size();
+    }
+
+    /**
+     * Read the size of the vertex or of the edge set, first optimistically and, if a write
+     * happened in the meantime, under the read lock.
+     *
+     * @param vertices whether to read the size of the vertex set or of the edge set
+     * @return the size
+     */
+    private int readCount(boolean vertices)
+    {
+        long stamp = lock.tryOptimisticRead();
+        int count = vertices ? vertexCount : edgeCount;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                count = vertices ? vertexCount : edgeCount;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Perform a read returning an integer under the read lock.
+     *
+     * @param reader the read operation
+     * @return the result of the read operation
+     */
+    private int readLockedInt(IntSupplier reader)
+    {
+        long stamp = lock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Perform a read returning a double under the read lock.
+     *
+     * @param reader the read operation
+     * @return the result of the read operation
+     */
+    private double readLockedDouble(DoubleSupplier reader)
+    {
+        long stamp = lock.readLock();
+        try {
+            return reader.getAsDouble();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Perform a read under the read lock.
+     *
+     * @param reader the read operation
+     * @return the result of the read operation
+     */
+    private <R> R readLocked(Supplier<R> reader)
+    {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Create an unmodifiable copy of the set.
+     *
+     * @param set the set to be copied
+     * @return an unmodifiable copy of the set
+     */
+    private static <C> Set<C> copySet(Set<C> set)
+    {
+        if (set == null) {
+            return null;
+        }
+        return Collections.unmodifiableSet(new ArrayUnenforcedSet<>(set));
+    }
+
+    /**
+     * An unmodifiable live view of a backing set. The size is read optimistically from the counts
+     * kept by the graph, membership queries hold the read lock, and traversals iterate over a
+     * snapshot of the backing set taken under the read lock.
+     *
+     * @param <T> the element type
+     */
+    private class ConcurrentView<T>
+        extends
+        AbstractSet<T>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 6419383452924925693L;
+
+        private final Set<T> set;
+        private final boolean vertices;
+
+        ConcurrentView(Set<T> set, boolean vertices)
+        {
+            this.set = Objects.requireNonNull(set, "set must not be null");
+            this.vertices = vertices;
+        }
+
+        @Override
+        public int size()
+        {
+            return readCount(vertices);
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return size() == 0;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return readLocked(() -> set.contains(o));
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return snapshot().iterator();
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            return snapshot().toArray();
+        }
+
+        @Override
+        public <A> A[] toArray(A[] a)
+        {
+            return snapshot().toArray(a);
+        }
+
+        @Override
+        public boolean add(T e)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super T> filter)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public void clear()
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        private Set<T> snapshot()
+        {
+            return readLocked(() -> copySet(set));
+        }
+    }
+
+}
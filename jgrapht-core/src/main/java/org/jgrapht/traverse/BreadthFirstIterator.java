@@ -20,6 +20,7 @@ package org.jgrapht.traverse;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A breadth-first iterator for a directed or undirected graph.
@@ -40,6 +41,15 @@ public class BreadthFirstIterator<V, E>
 {
     private Deque<V> queue = new ArrayDeque<>();
 
+    /*
+     * The queue holds at most two consecutive levels of the search. Instead of looking up the depth
+     * of the parent of each encountered vertex, we track the depth of the vertex being expanded and
+     * the number of queued vertices which remain in its level.
+     */
+    private int currentDepth;
+    private int remainingInLevel;
+    private int nextLevelSize;
+
     /**
      * Creates a new breadth-first iterator for the specified graph.
      *
@@ -78,6 +88,26 @@ public class BreadthFirstIterator<V, E>
         super(g, startVertices);
     }
 
+    /**
+     * Creates a new breadth-first iterator for the specified graph which stores the seen vertices
+     * using a vertex index instead of a hash map. Iteration will start at the specified start
+     * vertices and will be limited to the connected component that includes those vertices. If
+     * the specified start vertices is <code>null</code>, iteration will start at an arbitrary
+     * vertex and will not be limited, that is, will be able to traverse all the graph.
+     *
+     * @param g the graph to be iterated.
+     * @param startVertices the vertices iteration to be started.
+     * @param vertexIndex maps the vertices of the graph to distinct integers in $[0, n)$, where
+     *        $n$ is the number of vertices
+     *
+     * @see CrossComponentIterator#CrossComponentIterator(Graph, Iterable, ToIntFunction)
+     */
+    public BreadthFirstIterator(
+        Graph<V, E> g, Iterable<V> startVertices, ToIntFunction<? super V> vertexIndex)
+    {
+        super(g, startVertices, vertexIndex);
+    }
+
     /**
      * @see CrossComponentIterator#isConnectedComponentExhausted()
      */
@@ -93,8 +123,17 @@ public class BreadthFirstIterator<V, E>
     @Override
     protected void encounterVertex(V vertex, E edge)
     {
-        int depth = (edge == null ? 0
-            : getSeenData(Graphs.getOppositeVertex(graph, edge, vertex)).depth + 1);
+        int depth;
+        if (edge == null) {
+            // roots are only encountered when the queue is empty
+            depth = 0;
+            currentDepth = -1;
+            remainingInLevel = 0;
+            nextLevelSize = 1;
+        } else {
+            depth = currentDepth + 1;
+            nextLevelSize++;
+        }
         putSeenData(vertex, new SearchNodeData<>(edge, depth));
         queue.add(vertex);
     }
@@ -161,6 +200,12 @@ public class BreadthFirstIterator<V, E>
     @Override
     protected V provideNextVertex()
     {
+        if (remainingInLevel == 0) {
+            currentDepth++;
+            remainingInLevel = nextLevelSize;
+            nextLevelSize = 0;
+        }
+        remainingInLevel--;
         return queue.removeFirst();
     }
 
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A closest-first iterator for a directed or undirected graph. For this iterator to work correctly
@@ -117,7 +118,28 @@ public class ClosestFirstIterator<V, E>
      */
     public ClosestFirstIterator(Graph<V, E> g, Iterable<V> startVertices, double radius)
     {
-        super(g, startVertices);
+        this(g, startVertices, radius, null);
+    }
+
+    /**
+     * Creates a new radius-bounded closest-first iterator for the specified graph which stores the
+     * seen vertices using a vertex index instead of a hash map. Apart from that it behaves like
+     * {@link #ClosestFirstIterator(Graph, Iterable, double)}.
+     *
+     * @param g the graph to be iterated.
+     * @param startVertices the vertices iteration to be started.
+     * @param radius limit on weighted path length, or Double.POSITIVE_INFINITY for unbounded
+     *        search.
+     * @param vertexIndex maps the vertices of the graph to distinct integers in $[0, n)$, where
+     *        $n$ is the number of vertices, or <code>null</code> to use a hash map
+     *
+     * @see CrossComponentIterator#CrossComponentIterator(Graph, Iterable, ToIntFunction)
+     */
+    public ClosestFirstIterator(
+        Graph<V, E> g, Iterable<V> startVertices, double radius,
+        ToIntFunction<? super V> vertexIndex)
+    {
+        super(g, startVertices, vertexIndex);
         this.radius = radius;
         checkRadiusTraversal(isCrossComponentTraversal());
         initialized = true;
@@ -21,10 +21,18 @@ import org.jgrapht.*;
 import org.jgrapht.event.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Provides a cross-connected-component traversal functionality for iterator subclasses.
  *
+ * <p>
+ * By default the seen vertices and their traversal data are stored in a hash map. If the caller
+ * can map the vertices of the graph to distinct integers in $[0, n)$, where $n$ is the number of
+ * vertices, cheaper than hashing them, a vertex index can be supplied on construction. The seen
+ * vertices are then stored in a bitset and their data in an array indexed by vertex. When no
+ * {@link org.jgrapht.event.TraversalListener} is registered, no traversal events are created.
+ *
  * @param <V> vertex type
  * @param <E> edge type
  * @param <D> type of data associated to seen vertices
@@ -39,18 +47,24 @@ public abstract class CrossComponentIterator<V, E, D>
     private static final int CCS_WITHIN_COMPONENT = 2;
     private static final int CCS_AFTER_COMPONENT = 3;
 
-    private final ConnectedComponentTraversalEvent ccFinishedEvent =
-        new ConnectedComponentTraversalEvent(
-            this, ConnectedComponentTraversalEvent.CONNECTED_COMPONENT_FINISHED);
-    private final ConnectedComponentTraversalEvent ccStartedEvent =
-        new ConnectedComponentTraversalEvent(
-            this, ConnectedComponentTraversalEvent.CONNECTED_COMPONENT_STARTED);
+    /*
+     * Created on first use, since most traversals have no listeners.
+     */
+    private ConnectedComponentTraversalEvent ccFinishedEvent;
+    private ConnectedComponentTraversalEvent ccStartedEvent;
 
     /**
      * Stores the vertices that have been seen during iteration and (optionally) some additional
-     * traversal info regarding each vertex.
+     * traversal info regarding each vertex. Null if a vertex index is used.
      */
-    private Map<V, D> seen = new HashMap<>();
+    private Map<V, D> seen;
+
+    /**
+     * Optional index of the vertices, used together with the seen bitset and data array.
+     */
+    private final ToIntFunction<? super V> vertexIndex;
+    private long[] seenBits;
+    private Object[] seenData;
 
     /**
      * Iterator which provides start vertices for cross-component iteration.
@@ -110,9 +124,41 @@ public abstract class CrossComponentIterator<V, E, D>
      *         <code>startVertex</code>
      */
     public CrossComponentIterator(Graph<V, E> g, Iterable<V> startVertices)
+    {
+        this(g, startVertices, null);
+    }
+
+    /**
+     * Creates a new iterator for the specified graph which stores the seen vertices using a vertex
+     * index. Iteration will start at the specified start vertices. If the specified start vertices
+     * is <code>null</code>, Iteration will start at an arbitrary graph vertex.
+     *
+     * <p>
+     * The index must map the vertices of the graph to distinct integers in $[0, n)$, where $n$ is
+     * the number of vertices of the graph. If the index is <code>null</code>, the seen vertices are
+     * stored in a hash map.
+     *
+     * @param g the graph to be iterated.
+     * @param startVertices the vertices iteration to be started.
+     * @param vertexIndex the vertex index, or <code>null</code>
+     *
+     * @throws IllegalArgumentException if <code>g==null</code> or does not contain
+     *         <code>startVertex</code>
+     */
+    public CrossComponentIterator(
+        Graph<V, E> g, Iterable<V> startVertices, ToIntFunction<? super V> vertexIndex)
     {
         super(g);
 
+        this.vertexIndex = vertexIndex;
+        if (vertexIndex == null) {
+            this.seen = new HashMap<>();
+        } else {
+            int n = graph.vertexSet().size();
+            this.seenBits = new long[(n + 63) >>> 6];
+            this.seenData = new Object[n];
+        }
+
         /*
          * Initialize crossComponentTraversal and test for containment
          */
@@ -151,6 +197,10 @@ public abstract class CrossComponentIterator<V, E, D>
             if (state == CCS_WITHIN_COMPONENT) {
                 state = CCS_AFTER_COMPONENT;
                 if (nListeners != 0) {
+                    if (ccFinishedEvent == null) {
+                        ccFinishedEvent = new ConnectedComponentTraversalEvent(
+                            this, ConnectedComponentTraversalEvent.CONNECTED_COMPONENT_FINISHED);
+                    }
                     fireConnectedComponentFinished(ccFinishedEvent);
                 }
             }
@@ -187,6 +237,10 @@ public abstract class CrossComponentIterator<V, E, D>
             if (state == CCS_BEFORE_COMPONENT) {
                 state = CCS_WITHIN_COMPONENT;
                 if (nListeners != 0) {
+                    if (ccStartedEvent == null) {
+                        ccStartedEvent = new ConnectedComponentTraversalEvent(
+                            this, ConnectedComponentTraversalEvent.CONNECTED_COMPONENT_STARTED);
+                    }
                     fireConnectedComponentStarted(ccStartedEvent);
                 }
             }
@@ -240,9 +294,13 @@ public abstract class CrossComponentIterator<V, E, D>
      *         explicitly associated with <code>
      * null</code>.
      */
+    @SuppressWarnings("unchecked")
     protected D getSeenData(V vertex)
     {
-        return seen.get(vertex);
+        if (seen != null) {
+            return seen.get(vertex);
+        }
+        return (D) seenData[indexOf(vertex)];
     }
 
     /**
@@ -254,7 +312,11 @@ public abstract class CrossComponentIterator<V, E, D>
      */
     protected boolean isSeenVertex(V vertex)
     {
-        return seen.containsKey(vertex);
+        if (seen != null) {
+            return seen.containsKey(vertex);
+        }
+        int i = indexOf(vertex);
+        return (seenBits[i >>> 6] & (1L << i)) != 0;
     }
 
     /**
@@ -276,9 +338,17 @@ public abstract class CrossComponentIterator<V, E, D>
      * null</code> return can also indicate that the vertex was explicitly associated with
      *         <code>null</code>.
      */
+    @SuppressWarnings("unchecked")
     protected D putSeenData(V vertex, D data)
     {
-        return seen.put(vertex, data);
+        if (seen != null) {
+            return seen.put(vertex, data);
+        }
+        int i = indexOf(vertex);
+        seenBits[i >>> 6] |= 1L << i;
+        D previous = (D) seenData[i];
+        seenData[i] = data;
+        return previous;
     }
 
     /**
@@ -294,6 +364,15 @@ public abstract class CrossComponentIterator<V, E, D>
         }
     }
 
+    private int indexOf(V vertex)
+    {
+        int i = vertexIndex.applyAsInt(vertex);
+        if (i < 0 || i >= seenData.length) {
+            throw new IllegalArgumentException("Vertex index out of range: " + i);
+        }
+        return i;
+    }
+
     private void addUnseenChildrenOf(V vertex)
     {
         for (E edge : graph.outgoingEdgesOf(vertex)) {
@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A depth-first iterator for a directed or undirected graph.
@@ -108,6 +109,26 @@ public class DepthFirstIterator<V, E>
         super(g, startVertices);
     }
 
+    /**
+     * Creates a new depth-first iterator for the specified graph which stores the seen vertices
+     * using a vertex index instead of a hash map. Iteration will start at the specified start
+     * vertices and will be limited to the connected component that includes those vertices. If
+     * the specified start vertices is <code>null</code>, iteration will start at an arbitrary
+     * vertex and will not be limited, that is, will be able to traverse all the graph.
+     *
+     * @param g the graph to be iterated.
+     * @param startVertices the vertices iteration to be started.
+     * @param vertexIndex maps the vertices of the graph to distinct integers in $[0, n)$, where
+     *        $n$ is the number of vertices
+     *
+     * @see CrossComponentIterator#CrossComponentIterator(Graph, Iterable, ToIntFunction)
+     */
+    public DepthFirstIterator(
+        Graph<V, E> g, Iterable<V> startVertices, ToIntFunction<? super V> vertexIndex)
+    {
+        super(g, startVertices, vertexIndex);
+    }
+
     @Override
     protected boolean isConnectedComponentExhausted()
     {
@@ -0,0 +1,519 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.traverse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A level-synchronous breadth-first search which works on integer indexed graphs and computes the
+ * depth and the parent of every reachable vertex in primitive arrays.
+ *
+ * <p>
+ * The search processes the graph one level at a time. Each level is expanded either top-down,
+ * where the vertices of the frontier scan their outgoing edges for unvisited vertices, or
+ * bottom-up, where the unvisited vertices scan their incoming edges for a vertex of the frontier
+ * and stop at the first one found. The bottom-up step pays off when the frontier is large, since
+ * most unvisited vertices then find a parent after inspecting only a few edges. The direction is
+ * chosen before each level using the heuristic of the following paper:
+ * <ul>
+ * <li>Scott Beamer, Krste Asanović, and David Patterson. Direction-optimizing breadth-first search.
+ * In Proceedings of the International Conference on High Performance Computing, Networking,
+ * Storage and Analysis (SC '12), 2012.</li>
+ * </ul>
+ * The search switches to bottom-up when the number of edges leaving the frontier exceeds a
+ * fraction $1/\alpha$ of the edges leaving unvisited vertices, and back to top-down when the
+ * frontier shrinks below a fraction $1/\beta$ of the vertices, with $\alpha = 14$ and $\beta = 24$.
+ * The frontier is kept as an array of vertex indices and is converted to a bitset for bottom-up
+ * steps.
+ *
+ * <p>
+ * When the parallelism is larger than one, each level is split into blocks which are expanded by
+ * a fixed pool of worker threads. In top-down steps vertices are claimed using a compare-and-set
+ * on a shared bitset, while bottom-up steps need no synchronization since each unvisited vertex is
+ * handled by exactly one thread. The depths computed are always the same, but the parents chosen
+ * in parallel mode may differ between runs.
+ *
+ * <p>
+ * Vertices are identified by their index in a {@link NeighborIndex}. The graph must not be
+ * modified while a search is running.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BreadthFirstIterator
+ *
+ * @author agent
+ */
+public class DirectionOptimizingBreadthFirstSearch<V, E>
+{
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int BLOCK_SIZE = 256;
+
+    private final NeighborIndex<V, E> index;
+    private final int parallelism;
+
+    /**
+     * Create a new sequential search.
+     *
+     * @param graph the input graph
+     */
+    public DirectionOptimizingBreadthFirstSearch(Graph<V, E> graph)
+    {
+        this(graph, 1);
+    }
+
+    /**
+     * Create a new search.
+     *
+     * @param graph the input graph
+     * @param parallelism the number of threads used to expand a level, $1$ for a sequential
+     *        search
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public DirectionOptimizingBreadthFirstSearch(Graph<V, E> graph, int parallelism)
+    {
+        this(
+            new NeighborIndex<>(Objects.requireNonNull(graph, "Graph cannot be null")),
+            parallelism);
+    }
+
+    /**
+     * Create a new search which works on an existing neighbor index.
+     *
+     * @param index the neighbor index of the input graph
+     * @param parallelism the number of threads used to expand a level, $1$ for a sequential
+     *        search
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public DirectionOptimizingBreadthFirstSearch(NeighborIndex<V, E> index, int parallelism)
+    {
+        this.index = Objects.requireNonNull(index, "Neighbor index cannot be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Get the neighbor index which defines the vertex indices used by this search.
+     *
+     * @return the neighbor index
+     */
+    public NeighborIndex<V, E> getNeighborIndex()
+    {
+        return index;
+    }
+
+    /**
+     * Run a breadth-first search from a single source vertex.
+     *
+     * @param source the source vertex
+     * @return the search tree
+     * @throws IllegalArgumentException if the vertex is not in the graph
+     */
+    public SearchTree<V> search(V source)
+    {
+        return searchIndices(index.indexOf(source));
+    }
+
+    /**
+     * Run a breadth-first search from multiple source vertices. All sources have depth zero.
+     *
+     * @param sources the source vertices
+     * @return the search tree
+     * @throws IllegalArgumentException if a vertex is not in the graph
+     */
+    public SearchTree<V> search(Collection<V> sources)
+    {
+        int[] indices = new int[sources.size()];
+        int i = 0;
+        for (V v : sources) {
+            indices[i++] = index.indexOf(v);
+        }
+        return searchIndices(indices);
+    }
+
+    /**
+     * Run a breadth-first search from multiple source vertices given by their indices. All sources
+     * have depth zero.
+     *
+     * @param sources the indices of the source vertices
+     * @return the search tree
+     * @throws IllegalArgumentException if an index is out of range
+     */
+    public SearchTree<V> searchIndices(int... sources)
+    {
+        Traversal traversal = new Traversal(sources);
+        if (parallelism == 1) {
+            traversal.run(null);
+        } else {
+            ExecutorService executor = ConcurrencyUtil.createThreadPool(parallelism);
+            try {
+                traversal.run(executor);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return new SearchTree<>(
+            index, traversal.depth, traversal.parent, traversal.reached,
+            traversal.reached == 0 ? -1 : traversal.level);
+    }
+
+    /**
+     * The state of a single search.
+     */
+    private class Traversal
+    {
+        final int n;
+        final int[] depth;
+        final int[] parent;
+        int[] frontier;
+        int[] next;
+        int frontierSize;
+        int nextSize;
+        long[] frontierBits;
+        AtomicLongArray claimed;
+        int level;
+        int reached;
+
+        Traversal(int[] sources)
+        {
+            this.n = index.getVertexCount();
+            this.depth = new int[n];
+            this.parent = new int[n];
+            Arrays.fill(depth, -1);
+            Arrays.fill(parent, -1);
+            this.frontier = new int[n];
+            this.next = new int[n];
+            for (int s : sources) {
+                if (s < 0 || s >= n) {
+                    throw new IllegalArgumentException("Invalid vertex index: " + s);
+                }
+                if (depth[s] == -1) {
+                    depth[s] = 0;
+                    frontier[frontierSize++] = s;
+                }
+            }
+            this.reached = frontierSize;
+        }
+
+        void run(ExecutorService executor)
+        {
+            long unexploredEdges = 0;
+            for (int v = 0; v < n; v++) {
+                if (depth[v] == -1) {
+                    unexploredEdges += index.successorsOf(v).length;
+                }
+            }
+            long frontierEdges = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                frontierEdges += index.successorsOf(frontier[i]).length;
+            }
+
+            boolean bottomUp = false;
+            int previousSize = 0;
+            while (frontierSize > 0) {
+                if (!bottomUp) {
+                    bottomUp = frontierEdges > unexploredEdges / ALPHA;
+                } else {
+                    bottomUp = frontierSize >= n / BETA || frontierSize > previousSize;
+                }
+
+                long discoveredEdges;
+                if (bottomUp) {
+                    discoveredEdges = bottomUpStep(executor);
+                } else {
+                    discoveredEdges = topDownStep(executor);
+                }
+
+                int[] tmp = frontier;
+                frontier = next;
+                next = tmp;
+                previousSize = frontierSize;
+                frontierSize = nextSize;
+                reached += nextSize;
+                unexploredEdges -= discoveredEdges;
+                frontierEdges = discoveredEdges;
+                if (frontierSize > 0) {
+                    level++;
+                }
+            }
+        }
+
+        private long topDownStep(ExecutorService executor)
+        {
+            if (executor == null) {
+                Chunk out = new Chunk(next);
+                long edges = expandTopDown(0, frontierSize, out, false);
+                nextSize = out.size;
+                return edges;
+            }
+            if (claimed == null) {
+                claimed = new AtomicLongArray((n + 63) >>> 6);
+            }
+            return runParallel(
+                executor, frontierSize, (from, to, out) -> expandTopDown(from, to, out, true));
+        }
+
+        private long bottomUpStep(ExecutorService executor)
+        {
+            if (frontierBits == null) {
+                frontierBits = new long[(n + 63) >>> 6];
+            }
+            for (int i = 0; i < frontierSize; i++) {
+                int u = frontier[i];
+                frontierBits[u >>> 6] |= 1L << u;
+            }
+
+            long edges;
+            if (executor == null) {
+                Chunk out = new Chunk(next);
+                edges = expandBottomUp(0, n, out);
+                nextSize = out.size;
+            } else {
+                edges = runParallel(executor, n, this::expandBottomUp);
+            }
+
+            for (int i = 0; i < frontierSize; i++) {
+                frontierBits[frontier[i] >>> 6] = 0L;
+            }
+            return edges;
+        }
+
+        private long expandTopDown(int from, int to, Chunk out, boolean concurrent)
+        {
+            int d = level + 1;
+            long edges = 0;
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                for (int w : index.successorsOf(u)) {
+                    if (depth[w] != -1 || concurrent && !claim(w)) {
+                        continue;
+                    }
+                    depth[w] = d;
+                    parent[w] = u;
+                    out.add(w);
+                    edges += index.successorsOf(w).length;
+                }
+            }
+            return edges;
+        }
+
+        private long expandBottomUp(int from, int to, Chunk out)
+        {
+            int d = level + 1;
+            long edges = 0;
+            for (int v = from; v < to; v++) {
+                if (depth[v] != -1) {
+                    continue;
+                }
+                for (int u : index.predecessorsOf(v)) {
+                    if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                        depth[v] = d;
+                        parent[v] = u;
+                        out.add(v);
+                        edges += index.successorsOf(v).length;
+                        break;
+                    }
+                }
+            }
+            return edges;
+        }
+
+        private boolean claim(int v)
+        {
+            int word = v >>> 6;
+            long mask = 1L << v;
+            while (true) {
+                long bits = claimed.get(word);
+                if ((bits & mask) != 0) {
+                    return false;
+                }
+                if (claimed.compareAndSet(word, bits, bits | mask)) {
+                    return true;
+                }
+            }
+        }
+
+        private long runParallel(ExecutorService executor, int size, RangeExpansion expansion)
+        {
+            AtomicInteger nextBlock = new AtomicInteger();
+            AtomicInteger nextOffset = new AtomicInteger();
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (int t = 0; t < parallelism; t++) {
+                tasks.add(() -> {
+                    Chunk out = new Chunk(new int[BLOCK_SIZE]);
+                    long edges = 0;
+                    int from;
+                    while ((from = nextBlock.getAndAdd(BLOCK_SIZE)) < size) {
+                        edges += expansion.expand(from, Math.min(size, from + BLOCK_SIZE), out);
+                    }
+                    int offset = nextOffset.getAndAdd(out.size);
+                    System.arraycopy(out.values, 0, next, offset, out.size);
+                    return edges;
+                });
+            }
+
+            long edges = 0;
+            for (long e : ConcurrencyUtil.invokeAll(executor, tasks)) {
+                edges += e;
+            }
+            nextSize = nextOffset.get();
+            return edges;
+        }
+    }
+
+    /**
+     * Expansion of a range of the frontier or of the vertices.
+     */
+    private interface RangeExpansion
+    {
+        long expand(int from, int to, Chunk out);
+    }
+
+    /**
+     * A growable buffer of vertex indices.
+     */
+    private static class Chunk
+    {
+        int[] values;
+        int size;
+
+        Chunk(int[] values)
+        {
+            this.values = values;
+        }
+
+        void add(int v)
+        {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * values.length);
+            }
+            values[size++] = v;
+        }
+    }
+
+    /**
+     * The result of a breadth-first search. Vertices are identified by their indices in the
+     * {@link NeighborIndex} used by the search. The arrays returned by this class are shared and
+     * must not be modified.
+     *
+     * @param <V> the graph vertex type
+     */
+    public static class SearchTree<V>
+    {
+        private final NeighborIndex<V, ?> index;
+        private final int[] depth;
+        private final int[] parent;
+        private final int reached;
+        private final int height;
+
+        SearchTree(NeighborIndex<V, ?> index, int[] depth, int[] parent, int reached, int height)
+        {
+            this.index = index;
+            this.depth = depth;
+            this.parent = parent;
+            this.reached = reached;
+            this.height = height;
+        }
+
+        /**
+         * Get the depth of every vertex, or $-1$ for vertices which are not reachable from the
+         * sources.
+         *
+         * @return the depths indexed by vertex index
+         */
+        public int[] getDepths()
+        {
+            return depth;
+        }
+
+        /**
+         * Get the parent index of every vertex, or $-1$ for the sources and for vertices which are
+         * not reachable from the sources.
+         *
+         * @return the parent indices indexed by vertex index
+         */
+        public int[] getParents()
+        {
+            return parent;
+        }
+
+        /**
+         * Get the depth of a vertex.
+         *
+         * @param v the vertex
+         * @return the depth of the vertex, or $-1$ if the vertex is not reachable from the sources
+         */
+        public int getDepth(V v)
+        {
+            return depth[index.indexOf(v)];
+        }
+
+        /**
+         * Get the parent of a vertex in the search tree.
+         *
+         * @param v the vertex
+         * @return the parent of the vertex, or null if the vertex is a source or is not reachable
+         *         from the sources
+         */
+        public V getParent(V v)
+        {
+            int p = parent[index.indexOf(v)];
+            return p == -1 ? null : index.getVertex(p);
+        }
+
+        /**
+         * Test whether a vertex is reachable from the sources.
+         *
+         * @param v the vertex
+         * @return true if the vertex is reachable, false otherwise
+         */
+        public boolean isReachable(V v)
+        {
+            return depth[index.indexOf(v)] != -1;
+        }
+
+        /**
+         * Get the number of vertices reachable from the sources, including the sources.
+         *
+         * @return the number of reachable vertices
+         */
+        public int getReachableCount()
+        {
+            return reached;
+        }
+
+        /**
+         * Get the largest depth of a reachable vertex.
+         *
+         * @return the height of the search tree, or $-1$ if there are no sources
+         */
+        public int getHeight()
+        {
+            return height;
+        }
+    }
+}
@@ -211,8 +211,10 @@ public class RandomWalkIterator<V, E>
             V nextVertex;
             nextVertex = Graphs.getOppositeVertex(graph, nextEdge, currentVertex);
             encounterVertex(nextVertex, nextEdge);
-            fireEdgeTraversed(createEdgeTraversalEvent(nextEdge));
-            fireVertexTraversed(createVertexTraversalEvent(nextVertex));
+            if (nListeners != 0) {
+                fireEdgeTraversed(createEdgeTraversalEvent(nextEdge));
+                fireVertexTraversed(createVertexTraversalEvent(nextVertex));
+            }
             currentVertex = nextVertex;
             return nextVertex;
         } else {
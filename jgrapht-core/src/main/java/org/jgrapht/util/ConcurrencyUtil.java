@@ -0,0 +1,115 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Helper class for the parallel algorithms of the library.
+ *
+ * <p>
+ * <b>This class is internal to JGraphT and is not part of its public API.</b> It is public only
+ * because the parallel algorithms live in several packages. It may change or be removed in any
+ * release without notice.
+ *
+ * <p>
+ * All parallel algorithms execute their tasks on a {@link ForkJoinPool} which is created for a
+ * single computation and shut down after it. Tasks are either plain {@link Callable callables},
+ * which are submitted in rounds using {@link #invokeAll(ExecutorService, Collection)}, or
+ * {@link ForkJoinTask fork-join tasks} for recursive decompositions. An exception thrown by a task
+ * is rethrown to the caller; as usual for a {@link ForkJoinPool}, it may be a copy of the original
+ * exception of the same type, with the original exception as its cause.
+ *
+ * @author agent
+ */
+public final class ConcurrencyUtil
+{
+    private ConcurrencyUtil()
+    {
+    }
+
+    /**
+     * Create a thread pool with the given parallelism. The caller is responsible for shutting down
+     * the pool once the computation is finished.
+     *
+     * @param parallelism the number of threads
+     * @return the thread pool
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public static ForkJoinPool createThreadPool(int parallelism)
+    {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Execute the given tasks and wait for all of them to complete.
+     *
+     * @param executor the executor to use
+     * @param tasks the tasks
+     * @return the results of the tasks, in the order of the tasks
+     * @param <T> the type of the results
+     * @throws RuntimeException if the computation is interrupted, or the exception thrown by a task
+     */
+    public static <T> List<T> invokeAll(
+        ExecutorService executor, Collection<? extends Callable<T>> tasks)
+    {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Computation interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Execute the given tasks on a new thread pool with the given parallelism and wait for all of
+     * them to complete. The thread pool is shut down afterwards.
+     *
+     * @param parallelism the number of threads
+     * @param tasks the tasks
+     * @return the results of the tasks, in the order of the tasks
+     * @param <T> the type of the results
+     * @throws RuntimeException if the computation is interrupted, or the exception thrown by a task
+     */
+    public static <T> List<T> invokeAll(int parallelism, Collection<? extends Callable<T>> tasks)
+    {
+        ExecutorService executor = createThreadPool(parallelism);
+        try {
+            return invokeAll(executor, tasks);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -286,6 +286,30 @@ public class GraphMetricsTest
         }
     }
 
+    @Test
+    public void testCountTrianglesMultigraph()
+    {
+        // Parallel edges and self-loops do not create additional triangles
+        Graph<Integer, DefaultEdge> graph = new Pseudograph<>(DefaultEdge.class);
+        for (int i = 0; i < 16; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 2);
+
+        Assert.assertEquals(1, GraphMetrics.getNumberOfTriangles(graph));
+
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 0);
+        graph.addEdge(3, 0);
+
+        Assert.assertEquals(2, GraphMetrics.getNumberOfTriangles(graph));
+    }
+
     @Test
     public void testCountTriangles3()
     {
@@ -0,0 +1,189 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ReachabilityIndex}.
+ *
+ * @author agent
+ */
+public class ReachabilityIndexTest
+{
+
+    private static <V, E> Set<V> reachableByTraversal(Graph<V, E> graph, V source)
+    {
+        Set<V> result = new HashSet<>();
+        Deque<V> stack = new ArrayDeque<>();
+        stack.push(source);
+        while (!stack.isEmpty()) {
+            V v = stack.pop();
+            for (V w : Graphs.successorListOf(graph, v)) {
+                if (result.add(w)) {
+                    stack.push(w);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <V, E> void assertIndex(Graph<V, E> graph, ReachabilityIndex<V, E> index)
+    {
+        for (V v : graph.vertexSet()) {
+            Set<V> expected = reachableByTraversal(graph, v);
+            assertEquals(expected, index.getDescendants(v));
+            for (V w : graph.vertexSet()) {
+                assertEquals(v.equals(w) || expected.contains(w), index.isReachable(v, w));
+            }
+        }
+    }
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 1);
+        g.addEdge(2, 3);
+        g.addEdge(4, 4);
+
+        ReachabilityIndex<Integer, DefaultEdge> index = new ReachabilityIndex<>(g);
+        assertEquals(5, index.getNumberOfComponents());
+        assertTrue(index.isReachable(0, 3));
+        assertFalse(index.isReachable(3, 0));
+        assertTrue(index.isReachable(5, 5));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), index.getDescendants(0));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), index.getDescendants(1));
+        assertEquals(Collections.singleton(4), index.getDescendants(4));
+        assertEquals(Collections.emptySet(), index.getDescendants(5));
+        assertIndex(g, index);
+    }
+
+    @Test
+    public void testLongChain()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new LinearGraphGenerator<Integer, DefaultEdge>(100000).generateGraph(g);
+
+        ReachabilityIndex<Integer, DefaultEdge> index = new ReachabilityIndex<>(g, 4);
+        assertTrue(index.isReachable(0, 99999));
+        assertFalse(index.isReachable(99999, 0));
+        assertTrue(index.isReachable(500, 70000));
+        assertFalse(index.isReachable(70000, 500));
+    }
+
+    @Test
+    public void testDirectedAcyclicGraph()
+    {
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag = new DirectedAcyclicGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Random rng = new Random(7);
+        int n = 300;
+        for (int i = 0; i < n; i++) {
+            dag.addVertex();
+        }
+        for (int i = 0; i < 1500; i++) {
+            int a = rng.nextInt(n);
+            int b = rng.nextInt(n);
+            if (a != b) {
+                dag.addEdge(Math.min(a, b), Math.max(a, b));
+            }
+        }
+
+        for (int parallelism : new int[] { 1, 4 }) {
+            ReachabilityIndex<Integer, DefaultEdge> index =
+                new ReachabilityIndex<>(dag, parallelism);
+            for (Integer v : dag.vertexSet()) {
+                assertEquals(dag.getDescendants(v), index.getDescendants(v));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 260, seed, true, true)
+                .generateGraph(g);
+            assertIndex(g, new ReachabilityIndex<>(g));
+            assertIndex(g, new ReachabilityIndex<>(g, 3));
+        }
+    }
+
+    @Test
+    public void testWideGraph()
+    {
+        // three layers with many components of equal height, computed by parallel tasks
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        int width = 1000;
+        for (int i = 0; i < 3 * width; i++) {
+            g.addVertex(i);
+        }
+        Random rng = new Random(11);
+        for (int layer = 0; layer < 2; layer++) {
+            for (int i = 0; i < width; i++) {
+                for (int k = 0; k < 3; k++) {
+                    g.addEdge(layer * width + i, (layer + 1) * width + rng.nextInt(width));
+                }
+            }
+        }
+
+        ReachabilityIndex<Integer, DefaultEdge> index = new ReachabilityIndex<>(g, 4);
+        for (int v = 0; v < 3 * width; v += 7) {
+            assertEquals(reachableByTraversal(g, v), index.getDescendants(v));
+        }
+    }
+
+    @Test
+    public void testUndirectedGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(2, 3);
+
+        ReachabilityIndex<Integer, DefaultEdge> index = new ReachabilityIndex<>(g);
+        assertTrue(index.isReachable(1, 0));
+        assertFalse(index.isReachable(1, 2));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1)), index.getDescendants(0));
+        assertEquals(
+            new ConnectivityInspector<>(g).connectedSets().size(), index.getNumberOfComponents());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new ReachabilityIndex<>(new DirectedPseudograph<>(DefaultEdge.class), 0);
+    }
+
+}
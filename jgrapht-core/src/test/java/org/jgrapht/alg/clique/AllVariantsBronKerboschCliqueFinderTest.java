@@ -55,6 +55,8 @@ public class AllVariantsBronKerboschCliqueFinderTest
             Iterable<Set<Integer>> alg1 = new BronKerboschCliqueFinder<>(g);
             Iterable<Set<Integer>> alg2 = new PivotBronKerboschCliqueFinder<>(g);
             Iterable<Set<Integer>> alg3 = new DegeneracyBronKerboschCliqueFinder<>(g);
+            Iterable<Set<Integer>> alg4 = new ParallelDegeneracyBronKerboschCliqueFinder<>(g, 4);
+            Iterable<Set<Integer>> alg5 = new LazyBronKerboschCliqueFinder<>(g);
 
             Set<Set<Integer>> cliques1 = new HashSet<>();
             for (Set<Integer> c : alg1) {
@@ -71,10 +73,23 @@ public class AllVariantsBronKerboschCliqueFinderTest
                 cliques3.add(c);
             }
 
+            Set<Set<Integer>> cliques4 = new HashSet<>();
+            for (Set<Integer> c : alg4) {
+                cliques4.add(c);
+            }
+
+            List<Set<Integer>> cliques5 = new ArrayList<>();
+            for (Set<Integer> c : alg5) {
+                cliques5.add(c);
+            }
+
             assertEquals(cliques1.size(), cliques2.size());
             assertEquals(cliques2.size(), cliques3.size());
             assertEquals(cliques1, cliques2);
             assertEquals(cliques2, cliques3);
+            assertEquals(cliques3, cliques4);
+            assertEquals(cliques4.size(), cliques5.size());
+            assertEquals(cliques4, new HashSet<>(cliques5));
         }
     }
 
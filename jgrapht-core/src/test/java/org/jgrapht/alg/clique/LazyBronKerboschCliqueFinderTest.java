@@ -0,0 +1,166 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link LazyBronKerboschCliqueFinder}.
+ *
+ * @author agent
+ */
+public class LazyBronKerboschCliqueFinderTest
+{
+
+    private static Graph<Integer, DefaultEdge> randomGraph(int n, int m, long seed)
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, seed, false, false)
+            .generateGraph(g);
+        return g;
+    }
+
+    private static <V> List<Set<V>> collect(Iterable<Set<V>> finder)
+    {
+        List<Set<V>> cliques = new ArrayList<>();
+        finder.forEach(cliques::add);
+        return cliques;
+    }
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4, 5));
+        g.addEdge(0, 1);
+        g.addEdge(0, 2);
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        g.addEdge(3, 4);
+
+        Set<Set<Integer>> expected = new HashSet<>();
+        expected.add(new HashSet<>(Arrays.asList(0, 1, 2)));
+        expected.add(new HashSet<>(Arrays.asList(2, 3)));
+        expected.add(new HashSet<>(Arrays.asList(3, 4)));
+        expected.add(Collections.singleton(5));
+
+        List<Set<Integer>> cliques = collect(new LazyBronKerboschCliqueFinder<>(g));
+        assertEquals(expected.size(), cliques.size());
+        assertEquals(expected, new HashSet<>(cliques));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultEdge> g = randomGraph(150, 2500, seed);
+            Set<Set<Integer>> expected = new HashSet<>(
+                collect(new DegeneracyBronKerboschCliqueFinder<>(g)));
+
+            List<Set<Integer>> cliques = collect(new LazyBronKerboschCliqueFinder<>(g));
+            assertEquals(expected.size(), cliques.size());
+            assertEquals(expected, new HashSet<>(cliques));
+        }
+    }
+
+    @Test
+    public void testSizeFilters()
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(200, 4000, 3);
+        List<Set<Integer>> all = collect(new LazyBronKerboschCliqueFinder<>(g));
+
+        int[][] ranges = { { 1, 2 }, { 3, 4 }, { 5, 5 }, { 6, Integer.MAX_VALUE } };
+        int total = 0;
+        for (int[] range : ranges) {
+            Set<Set<Integer>> expected = all
+                .stream().filter(c -> c.size() >= range[0] && c.size() <= range[1])
+                .collect(Collectors.toSet());
+            List<Set<Integer>> cliques =
+                collect(new LazyBronKerboschCliqueFinder<>(g, range[0], range[1]));
+            assertEquals(expected.size(), cliques.size());
+            assertEquals(expected, new HashSet<>(cliques));
+            total += cliques.size();
+        }
+        assertEquals(all.size(), total);
+    }
+
+    @Test
+    public void testComplete()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(8).generateGraph(g);
+
+        assertEquals(1, collect(new LazyBronKerboschCliqueFinder<>(g)).size());
+        assertEquals(0, collect(new LazyBronKerboschCliqueFinder<>(g, 1, 7)).size());
+        assertEquals(0, collect(new LazyBronKerboschCliqueFinder<>(g, 9, 10)).size());
+    }
+
+    @Test
+    public void testIterator()
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(50, 200, 1);
+        Iterator<Set<Integer>> it = new LazyBronKerboschCliqueFinder<>(g).iterator();
+        assertTrue(it.hasNext());
+        assertTrue(it.hasNext());
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertEquals(collect(new DegeneracyBronKerboschCliqueFinder<>(g)).size(), count);
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        assertFalse(new LazyBronKerboschCliqueFinder<>(g).iterator().hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonSimple()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex(0);
+        g.addEdge(0, 0);
+        new LazyBronKerboschCliqueFinder<>(g).iterator();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSizes()
+    {
+        new LazyBronKerboschCliqueFinder<>(new SimpleGraph<>(DefaultEdge.class), 3, 2);
+    }
+
+}
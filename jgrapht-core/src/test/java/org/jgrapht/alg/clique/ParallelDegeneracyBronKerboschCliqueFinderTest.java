@@ -0,0 +1,109 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelDegeneracyBronKerboschCliqueFinder}.
+ *
+ * @author agent
+ */
+public class ParallelDegeneracyBronKerboschCliqueFinderTest
+    extends
+    BaseBronKerboschCliqueFinderTest
+{
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<String, DefaultEdge> createFinder1(
+        Graph<String, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph, 4);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph, 4);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph, long timeout, TimeUnit unit)
+    {
+        return new ParallelDegeneracyBronKerboschCliqueFinder<>(graph, timeout, unit, 4);
+    }
+
+    @Test
+    public void testLargeNeighborhoods()
+    {
+        // neighborhoods spanning several words of the bitsets
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(400, 12000, 5, false, false)
+            .generateGraph(g);
+
+        Set<Set<Integer>> expected = new HashSet<>();
+        new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+        for (int parallelism : new int[] { 1, 4 }) {
+            ParallelDegeneracyBronKerboschCliqueFinder<Integer, DefaultEdge> finder =
+                new ParallelDegeneracyBronKerboschCliqueFinder<>(g, parallelism);
+            List<Set<Integer>> cliques = new ArrayList<>();
+            finder.forEach(cliques::add);
+            assertEquals(expected.size(), cliques.size());
+            assertEquals(expected, new HashSet<>(cliques));
+            assertFalse(finder.isTimeLimitReached());
+
+            int maxSize = cliques.stream().mapToInt(Set::size).max().getAsInt();
+            finder.maximumIterator().forEachRemaining(c -> assertEquals(maxSize, c.size()));
+        }
+    }
+
+    @Test
+    public void testDeterministicOrder()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 2000, 7, false, false)
+            .generateGraph(g);
+
+        List<Set<Integer>> sequential = new ArrayList<>();
+        new ParallelDegeneracyBronKerboschCliqueFinder<>(g, 1).forEach(sequential::add);
+        List<Set<Integer>> parallel = new ArrayList<>();
+        new ParallelDegeneracyBronKerboschCliqueFinder<>(g, 4).forEach(parallel::add);
+        assertEquals(sequential, parallel);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new ParallelDegeneracyBronKerboschCliqueFinder<>(new SimpleGraph<>(DefaultEdge.class), 0);
+    }
+
+}
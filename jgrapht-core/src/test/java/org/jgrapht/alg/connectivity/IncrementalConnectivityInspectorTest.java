@@ -0,0 +1,149 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IncrementalConnectivityInspector}.
+ *
+ * @author agent
+ */
+public class IncrementalConnectivityInspectorTest
+{
+
+    @Test
+    public void testInitialGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        g.addEdge(3, 3);
+
+        IncrementalConnectivityInspector<Integer, DefaultEdge> inspector =
+            new IncrementalConnectivityInspector<>(g);
+        assertEquals(3, inspector.getNumberOfConnectedComponents());
+        assertFalse(inspector.isConnected());
+        assertTrue(inspector.pathExists(0, 2));
+        assertFalse(inspector.pathExists(0, 3));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)), inspector.connectedSetOf(1));
+        assertEquals(
+            new HashSet<>(new ConnectivityInspector<>(g).connectedSets()),
+            new HashSet<>(inspector.connectedSets()));
+    }
+
+    @Test
+    public void testTreeEdgeRemoval()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new Pseudograph<>(DefaultEdge.class));
+        IncrementalConnectivityInspector<Integer, DefaultEdge> inspector =
+            new IncrementalConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        DefaultEdge e01 = g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        DefaultEdge e30 = g.addEdge(3, 0);
+        assertTrue(inspector.isConnected());
+
+        // a replacement edge exists
+        g.removeEdge(e01);
+        assertTrue(inspector.isConnected());
+        assertTrue(inspector.pathExists(0, 1));
+
+        // now the cycle is broken
+        g.removeEdge(e30);
+        assertEquals(2, inspector.getNumberOfConnectedComponents());
+        assertFalse(inspector.pathExists(0, 1));
+        assertTrue(inspector.pathExists(1, 3));
+        assertEquals(Collections.singleton(0), inspector.connectedSetOf(0));
+
+        g.addEdge(0, 2);
+        assertTrue(inspector.isConnected());
+
+        g.removeVertex(2);
+        assertEquals(3, inspector.getNumberOfConnectedComponents());
+        assertFalse(inspector.pathExists(1, 3));
+    }
+
+    @Test
+    public void testRandomModifications()
+    {
+        Random rng = new Random(33);
+        for (boolean directed : new boolean[] { false, true }) {
+            Graph<Integer, DefaultEdge> base = directed
+                ? new DirectedPseudograph<>(DefaultEdge.class)
+                : new Pseudograph<>(DefaultEdge.class);
+            DefaultListenableGraph<Integer, DefaultEdge> g = new DefaultListenableGraph<>(base);
+            int n = 40;
+            for (int i = 0; i < n; i++) {
+                g.addVertex(i);
+            }
+            IncrementalConnectivityInspector<Integer, DefaultEdge> inspector =
+                new IncrementalConnectivityInspector<>(g);
+            g.addGraphListener(inspector);
+
+            for (int step = 0; step < 3000; step++) {
+                int action = rng.nextInt(10);
+                if (action < 5 || g.edgeSet().isEmpty()) {
+                    g.addEdge(rng.nextInt(n), rng.nextInt(n));
+                } else if (action < 9) {
+                    List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                    g.removeEdge(edges.get(rng.nextInt(edges.size())));
+                } else {
+                    int v = rng.nextInt(n);
+                    g.removeVertex(v);
+                    g.addVertex(v);
+                }
+
+                ConnectivityInspector<Integer, DefaultEdge> expected =
+                    new ConnectivityInspector<>(g);
+                List<Set<Integer>> expectedSets = expected.connectedSets();
+                assertEquals(expectedSets.size(), inspector.getNumberOfConnectedComponents());
+                for (int q = 0; q < 10; q++) {
+                    int a = rng.nextInt(n);
+                    int b = rng.nextInt(n);
+                    assertEquals(expected.pathExists(a, b), inspector.pathExists(a, b));
+                }
+                if (step % 100 == 0) {
+                    assertEquals(
+                        new HashSet<>(expectedSets), new HashSet<>(inspector.connectedSets()));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new IncrementalConnectivityInspector<>(g).pathExists(0, 1);
+    }
+
+}
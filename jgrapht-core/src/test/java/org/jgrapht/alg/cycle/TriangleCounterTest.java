@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link TriangleCounter}.
+ *
+ * @author agent
+ */
+public class TriangleCounterTest
+{
+
+    private static <V, E> Map<V, Long> naiveVertexTriangleCounts(Graph<V, E> graph)
+    {
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Long> counts = new HashMap<>();
+        for (V v : vertices) {
+            counts.put(v, 0L);
+        }
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int j = i + 1; j < vertices.size(); j++) {
+                V u = vertices.get(i);
+                V v = vertices.get(j);
+                if (!graph.containsEdge(u, v)) {
+                    continue;
+                }
+                for (int k = j + 1; k < vertices.size(); k++) {
+                    V w = vertices.get(k);
+                    if (graph.containsEdge(v, w) && graph.containsEdge(w, u)) {
+                        counts.merge(u, 1L, Long::sum);
+                        counts.merge(v, 1L, Long::sum);
+                        counts.merge(w, 1L, Long::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Test
+    public void testCompleteGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new CompleteGraphGenerator<Integer, DefaultEdge>(20).generateGraph(g);
+
+        TriangleCounter<Integer, DefaultEdge> counter = new TriangleCounter<>(g);
+        assertEquals(20 * 19 * 18 / 6, counter.getNumberOfTriangles());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(19 * 18 / 2, counter.getNumberOfTriangles(v));
+        }
+    }
+
+    @Test
+    public void testPseudograph()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 0);
+        g.addEdge(1, 2);
+        g.addEdge(2, 0);
+        g.addEdge(2, 2);
+        g.addEdge(2, 3);
+
+        TriangleCounter<Integer, DefaultEdge> counter = new TriangleCounter<>(g);
+        assertEquals(1, counter.getNumberOfTriangles());
+        assertEquals(1, counter.getNumberOfTriangles(2));
+        assertEquals(0, counter.getNumberOfTriangles(3));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(150, 2000, seed, true, true)
+                .generateGraph(g);
+
+            Map<Integer, Long> expected = naiveVertexTriangleCounts(g);
+            long expectedTotal = expected.values().stream().mapToLong(Long::longValue).sum() / 3;
+            for (int parallelism : new int[] { 1, 4 }) {
+                TriangleCounter<Integer, DefaultEdge> counter =
+                    new TriangleCounter<>(g, parallelism);
+                assertEquals(expectedTotal, counter.getNumberOfTriangles());
+                assertEquals(expected, counter.getVertexTriangleCounts());
+            }
+        }
+    }
+
+    @Test
+    public void testLargeParallel()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(10, 8, 5000, 3).generateGraph(g);
+
+        TriangleCounter<Integer, DefaultEdge> sequential = new TriangleCounter<>(g);
+        TriangleCounter<Integer, DefaultEdge> parallel = new TriangleCounter<>(g, 4);
+        assertEquals(sequential.getNumberOfTriangles(), parallel.getNumberOfTriangles());
+        assertEquals(sequential.getVertexTriangleCounts(), parallel.getVertexTriangleCounts());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirectedGraph()
+    {
+        new TriangleCounter<>(new SimpleDirectedGraph<>(DefaultEdge.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new TriangleCounter<>(new SimpleGraph<>(DefaultEdge.class), 0);
+    }
+
+}
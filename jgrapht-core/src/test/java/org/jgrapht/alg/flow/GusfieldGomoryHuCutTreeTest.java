@@ -21,11 +21,15 @@ import org.jgrapht.*;
 import org.jgrapht.alg.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
 
 import java.util.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -38,6 +42,44 @@ public class GusfieldGomoryHuCutTreeTest
     GusfieldTreeAlgorithmsTestBase
 {
 
+    @Test
+    public void testParallel()
+    {
+        Random rand = new Random(7);
+        for (int i = 0; i < 5; i++) {
+            SimpleWeightedGraph<Integer, DefaultWeightedEdge> network = new SimpleWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 0.1, rand, false)
+                .generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network.setEdgeWeight(e, rand.nextInt(10));
+            }
+
+            SimpleWeightedGraph<Integer, DefaultWeightedEdge> expected =
+                new GusfieldGomoryHuCutTree<>(network).getGomoryHuTree();
+            GusfieldGomoryHuCutTree<Integer, DefaultWeightedEdge> alg =
+                new GusfieldGomoryHuCutTree<>(network, MaximumFlowAlgorithmBase.DEFAULT_EPSILON, 4);
+            SimpleWeightedGraph<Integer, DefaultWeightedEdge> gomoryHuTree = alg.getGomoryHuTree();
+
+            // the parallel computation applies the same cuts in the same order
+            assertEquals(expected.edgeSet().size(), gomoryHuTree.edgeSet().size());
+            for (DefaultWeightedEdge e : expected.edgeSet()) {
+                DefaultWeightedEdge f =
+                    gomoryHuTree.getEdge(expected.getEdgeSource(e), expected.getEdgeTarget(e));
+                assertNotNull(f);
+                assertEquals(expected.getEdgeWeight(e), gomoryHuTree.getEdgeWeight(f), 0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new GusfieldGomoryHuCutTree<>(
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class),
+            MaximumFlowAlgorithmBase.DEFAULT_EPSILON, 0);
+    }
+
     @Override
     public void validateAlgorithm(SimpleWeightedGraph<Integer, DefaultWeightedEdge> network)
     {
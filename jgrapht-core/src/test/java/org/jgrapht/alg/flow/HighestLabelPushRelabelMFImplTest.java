@@ -0,0 +1,99 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link HighestLabelPushRelabelMFImpl}.
+ *
+ * @author agent
+ */
+public class HighestLabelPushRelabelMFImplTest
+    extends
+    MaximumFlowAlgorithmTest
+{
+    @Override
+    MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new HighestLabelPushRelabelMFImpl<>(network);
+    }
+
+    @Test
+    public void testRandomDirectedGraphs()
+    {
+        Random rand = new Random(3);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultWeightedEdge> network = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            int n = 10 + rand.nextInt(40);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 4 * n, rand.nextLong())
+                .generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network
+                    .setEdgeWeight(e, rand.nextInt(2) == 0 ? rand.nextInt(5) : rand.nextDouble());
+            }
+
+            HighestLabelPushRelabelMFImpl<Integer, DefaultWeightedEdge> solver =
+                new HighestLabelPushRelabelMFImpl<>(
+                    network, HighestLabelPushRelabelMFImpl.DEFAULT_EPSILON, true);
+            for (int j = 0; j < 5; j++) {
+                int s = rand.nextInt(n);
+                int t = rand.nextInt(n);
+                if (s == t) {
+                    continue;
+                }
+                double expected = new EdmondsKarpMFImpl<>(network).calculateMaximumFlow(s, t);
+                verifyDirected(s, t, expected, network, solver.getMaximumFlow(s, t));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedGraphs()
+    {
+        Random rand = new Random(5);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultWeightedEdge> network = new SimpleWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            int n = 10 + rand.nextInt(40);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 3 * n, rand.nextLong())
+                .generateGraph(network);
+            for (DefaultWeightedEdge e : network.edgeSet()) {
+                network.setEdgeWeight(e, rand.nextInt(10));
+            }
+
+            MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> solver = createSolver(network);
+            int s = rand.nextInt(n);
+            int t = (s + 1 + rand.nextInt(n - 1)) % n;
+            int expected = (int) new EdmondsKarpMFImpl<>(network).calculateMaximumFlow(s, t);
+            verifyUndirected(network, s, t, expected, solver);
+            assertEquals(expected, solver.getMaximumFlowValue(t, s), 0);
+        }
+    }
+}
@@ -19,9 +19,13 @@ package org.jgrapht.alg.flow;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
 
 public class PushRelabelMFImplTest
@@ -93,4 +97,29 @@ public class PushRelabelMFImplTest
         double flow = mf1.getMaximumFlowValue(sourceFlow, sinkFlow);
         assertEquals(0.0, flow, 0);
     }
+
+    @Test
+    public void testReuseNetwork()
+    {
+        Random rand = new Random(17);
+        Graph<Integer, DefaultWeightedEdge> network = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 150, 17).generateGraph(
+            network);
+        for (DefaultWeightedEdge e : network.edgeSet()) {
+            network.setEdgeWeight(e, rand.nextInt(20));
+        }
+
+        PushRelabelMFImpl<Integer, DefaultWeightedEdge> reusing =
+            new PushRelabelMFImpl<>(network, PushRelabelMFImpl.DEFAULT_EPSILON, true);
+        for (int s = 0; s < 30; s += 3) {
+            for (int t = 1; t < 30; t += 4) {
+                if (s == t) {
+                    continue;
+                }
+                double expected = new EdmondsKarpMFImpl<>(network).calculateMaximumFlow(s, t);
+                verifyDirected(s, t, expected, network, reusing.getMaximumFlow(s, t));
+            }
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ResidualNetwork}.
+ *
+ * @author agent
+ */
+public class ResidualNetworkTest
+{
+
+    @Test
+    public void testDirectedLayout()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedMultigraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 3.0);
+        Graphs.addEdgeWithVertices(g, 1, 2, 2.0);
+        Graphs.addEdgeWithVertices(g, 2, 1, 1.0);
+        Graphs.addEdgeWithVertices(g, 0, 1, 4.0);
+
+        ResidualNetwork<Integer, DefaultWeightedEdge> r = new ResidualNetwork<>(g);
+
+        assertEquals(3, r.n);
+        assertEquals(8, r.arcs.length);
+        for (int i = 0; i < r.edges.size(); i++) {
+            DefaultWeightedEdge e = r.edges.get(i);
+            assertEquals(g.getEdgeSource(e), r.vertices.get(r.tail(2 * i)));
+            assertEquals(g.getEdgeTarget(e), r.vertices.get(r.head[2 * i]));
+            assertEquals(g.getEdgeWeight(e), r.residual[2 * i], 0d);
+            assertEquals(0d, r.residual[2 * i + 1], 0d);
+        }
+
+        // every arc is listed exactly once, under its tail
+        boolean[] seen = new boolean[r.arcs.length];
+        for (int v = 0; v < r.n; v++) {
+            for (int k = r.firstArc[v]; k < r.firstArc[v + 1]; k++) {
+                int a = r.arcs[k];
+                assertEquals(v, r.tail(a));
+                assertFalse(seen[a]);
+                seen[a] = true;
+            }
+        }
+    }
+
+    @Test
+    public void testPushAndReset()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e = Graphs.addEdgeWithVertices(g, 0, 1, 5.0);
+
+        ResidualNetwork<Integer, DefaultWeightedEdge> r = new ResidualNetwork<>(g);
+        int i = r.edgeIndexOf(e);
+        int u = r.vertexMap.get(g.getEdgeSource(e));
+
+        // push 2 units from the target to the source
+        int arc = r.tail(2 * i) == u ? 2 * i + 1 : 2 * i;
+        r.push(arc, 2.0);
+        assertEquals(-2.0, r.flowOf(i), 0d);
+        assertEquals(Collections.singletonMap(e, 2.0), r.getFlowMap());
+
+        boolean[] reachable = r.reachableFrom(r.vertexMap.get(0), 1e-9);
+        assertTrue(reachable[r.vertexMap.get(1)]);
+
+        r.push(arc ^ 1, 7.0);
+        assertEquals(5.0, r.flowOf(i), 0d);
+        reachable = r.reachableFrom(u, 1e-9);
+        assertFalse(reachable[r.vertexMap.get(g.getEdgeTarget(e))]);
+
+        r.reset();
+        assertEquals(0d, r.flowOf(i), 0d);
+        assertEquals(5.0, r.residual[2 * i], 0d);
+        assertEquals(5.0, r.residual[2 * i + 1], 0d);
+    }
+
+    @Test
+    public void testCopy()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 3.0);
+        Graphs.addEdgeWithVertices(g, 1, 2, 2.0);
+
+        ResidualNetwork<Integer, DefaultWeightedEdge> r = new ResidualNetwork<>(g);
+        r.push(0, 2.0);
+        ResidualNetwork<Integer, DefaultWeightedEdge> copy = new ResidualNetwork<>(r);
+
+        // the copy shares the structure but carries the zero flow
+        assertSame(r.arcs, copy.arcs);
+        assertNotSame(r.residual, copy.residual);
+        assertEquals(2.0, r.flowOf(0), 0d);
+        assertEquals(0d, copy.flowOf(0), 0d);
+        copy.push(2, 1.0);
+        assertEquals(0d, r.flowOf(1), 0d);
+        assertEquals(1.0, copy.flowOf(1), 0d);
+    }
+}
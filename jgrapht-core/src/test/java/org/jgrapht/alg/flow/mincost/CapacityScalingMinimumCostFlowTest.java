@@ -1460,7 +1460,7 @@ public class CapacityScalingMinimumCostFlowTest
                 minimumCostFlowAlgorithm.getDualSolution(), minimumCostFlow, problem));
     }
 
-    private <V, E> boolean checkFlowAndDualSolution(
+    static <V, E> boolean checkFlowAndDualSolution(
         Map<V, Double> dualVariables, MinimumCostFlow<E> flow, MinimumCostFlowProblem<V, E> problem)
     {
         Graph<V, E> graph = problem.getGraph();
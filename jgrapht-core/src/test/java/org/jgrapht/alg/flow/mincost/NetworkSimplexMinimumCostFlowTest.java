@@ -0,0 +1,219 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.flow.mincost;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MinimumCostFlowAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link NetworkSimplexMinimumCostFlow}
+ *
+ * @author agent
+ */
+public class NetworkSimplexMinimumCostFlowTest
+{
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void testGetMinimumCostFlow1()
+    {
+        int[][] testCase = new int[][] { { 1, 3 }, { 2, -3 }, { 1, 2, 0, 4, 5 } };
+        test(testCase, 15);
+    }
+
+    @Test
+    public void testGetMinimumCostFlow2()
+    {
+        int[][] testCase = new int[][] { { 1, 4 }, { 4, -4 }, { 1, 2, 0, 4, 2 }, { 1, 3, 0, 1, 3 },
+            { 2, 3, 0, 1, 1 }, { 2, 4, 0, 5, 6 }, { 3, 4, 0, 4, 2 } };
+        test(testCase, 26);
+    }
+
+    @Test
+    public void testGetMinimumCostFlow3()
+    {
+        int[][] testCase =
+            new int[][] { { 1, 2 }, { 2, 5 }, { 6, -7 }, { 1, 5, 0, 3, 6 }, { 3, 6, 0, 3, 9 },
+                { 3, 1, 0, 3, 6 }, { 5, 3, 0, 3, 4 }, { 5, 6, 0, 7, 4 }, { 2, 4, 0, 5, 10 },
+                { 2, 3, 0, 1, 3 }, { 4, 6, 0, 5, 10 }, { 4, 1, 0, 5, 3 }, { 4, 3, 0, 1, 8 }, };
+        test(testCase, 112);
+    }
+
+    @Test
+    public void testNegativeCostCycle()
+    {
+        // the negative cost cycle 1 -> 2 -> 3 -> 1 is saturated although all supplies are zero
+        int[][] testCase =
+            new int[][] { { 1, 0 }, { 1, 2, 0, 2, -3 }, { 2, 3, 0, 5, 1 }, { 3, 1, 0, 3, 1 }, };
+        test(testCase, -2);
+    }
+
+    @Test
+    public void testLowerBounds()
+    {
+        int[][] testCase = new int[][] { { 1, 2 }, { 3, -2 }, { 1, 2, 0, 5, 1 }, { 2, 3, 0, 5, 1 },
+            { 1, 3, 1, 5, 5 }, { 3, 1, 1, 1, 1 } };
+        test(testCase, 10);
+    }
+
+    @Test
+    public void testInfiniteCapacity()
+    {
+        int[][] testCase = new int[][] { { 1, 5 }, { 3, -5 },
+            { 1, 2, 0, NetworkSimplexMinimumCostFlow.CAP_INF, 1 }, { 2, 3, 0, 3, 1 },
+            { 1, 3, 0, NetworkSimplexMinimumCostFlow.CAP_INF, 7 } };
+        test(testCase, 20);
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        test(new int[][] {}, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfeasibleProblem()
+    {
+        int[][] testCase = new int[][] { { 1, 5 }, { 2, -5 }, { 1, 2, 0, 4, 1 } };
+        test(testCase, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnbalancedSupplies()
+    {
+        int[][] testCase = new int[][] { { 1, 5 }, { 2, -4 }, { 1, 2, 0, 10, 1 } };
+        test(testCase, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfiniteCapacityNegativeCost()
+    {
+        int[][] testCase = new int[][] { { 1, 1 }, { 2, -1 },
+            { 1, 2, 0, NetworkSimplexMinimumCostFlow.CAP_INF, -1 } };
+        test(testCase, 0);
+    }
+
+    @Test
+    public void testRandomProblems()
+    {
+        Random rand = new Random(17);
+        for (int i = 0; i < 100; i++) {
+            Graph<Integer, DefaultWeightedEdge> graph = new DefaultDirectedWeightedGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+            int n = 2 + rand.nextInt(40);
+            int m = rand.nextInt(n * (n - 1) / 2 + 1);
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rand.nextLong())
+                .generateGraph(graph);
+
+            Map<DefaultWeightedEdge, Integer> lowerMap = new HashMap<>();
+            Map<DefaultWeightedEdge, Integer> upperMap = new HashMap<>();
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                int lower = rand.nextInt(4) == 0 ? rand.nextInt(3) : 0;
+                int upper = rand.nextInt(5) == 0 ? CapacityScalingMinimumCostFlow.CAP_INF
+                    : lower + rand.nextInt(20);
+                int cost = upper == CapacityScalingMinimumCostFlow.CAP_INF ? rand.nextInt(20)
+                    : rand.nextInt(30) - 10;
+                graph.setEdgeWeight(e, cost);
+                lowerMap.put(e, lower);
+                upperMap.put(e, upper);
+            }
+            Map<Integer, Integer> supplyMap = new HashMap<>();
+            for (int j = 0; j < n; j++) {
+                int u = rand.nextInt(n);
+                int v = rand.nextInt(n);
+                int amount = rand.nextInt(15);
+                supplyMap.merge(u, amount, Integer::sum);
+                supplyMap.merge(v, -amount, Integer::sum);
+            }
+            MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem =
+                new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                    graph, v -> supplyMap.getOrDefault(v, 0), upperMap::get, lowerMap::get);
+
+            Double expected;
+            try {
+                expected =
+                    new CapacityScalingMinimumCostFlow<Integer, DefaultWeightedEdge>()
+                        .getMinimumCostFlow(problem).getCost();
+            } catch (IllegalArgumentException e) {
+                expected = null;
+            }
+
+            NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> algorithm =
+                new NetworkSimplexMinimumCostFlow<>();
+            try {
+                MinimumCostFlow<DefaultWeightedEdge> flow = algorithm.getMinimumCostFlow(problem);
+                if (expected == null) {
+                    fail("The problem has no feasible solution");
+                }
+                assertEquals(expected, flow.getCost(), EPS);
+                assertTrue(algorithm.testOptimality(EPS));
+                assertTrue(
+                    CapacityScalingMinimumCostFlowTest
+                        .checkFlowAndDualSolution(algorithm.getDualSolution(), flow, problem));
+            } catch (IllegalArgumentException e) {
+                assertEquals(null, expected);
+            }
+        }
+    }
+
+    private void test(int[][] testCase, double cost)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DefaultDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Map<Integer, Integer> supplyMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> lowerMap = new HashMap<>();
+        Map<DefaultWeightedEdge, Integer> upperMap = new HashMap<>();
+        for (int[] data : testCase) {
+            if (data.length == 2) {
+                // this is information about a supply of a node
+                graph.addVertex(data[0]);
+                supplyMap.put(data[0], data[1]);
+            } else {
+                // this is information about an edge
+                DefaultWeightedEdge edge =
+                    Graphs.addEdgeWithVertices(graph, data[0], data[1], data[4]);
+                lowerMap.put(edge, data[2]);
+                upperMap.put(edge, data[3]);
+            }
+        }
+        MinimumCostFlowProblem<Integer,
+            DefaultWeightedEdge> problem = new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                graph, v -> supplyMap.getOrDefault(v, 0), upperMap::get,
+                e -> lowerMap.getOrDefault(e, 0));
+        NetworkSimplexMinimumCostFlow<Integer, DefaultWeightedEdge> minimumCostFlowAlgorithm =
+            new NetworkSimplexMinimumCostFlow<>();
+        MinimumCostFlow<DefaultWeightedEdge> minimumCostFlow =
+            minimumCostFlowAlgorithm.getMinimumCostFlow(problem);
+        assertEquals(cost, minimumCostFlow.getCost(), EPS);
+        assertTrue(minimumCostFlowAlgorithm.testOptimality(EPS));
+
+        assertTrue(
+            CapacityScalingMinimumCostFlowTest.checkFlowAndDualSolution(
+                minimumCostFlowAlgorithm.getDualSolution(), minimumCostFlow, problem));
+    }
+}
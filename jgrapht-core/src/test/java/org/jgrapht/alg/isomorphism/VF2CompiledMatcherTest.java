@@ -0,0 +1,223 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link VF2CompiledMatcher}
+ *
+ * @author agent
+ */
+public class VF2CompiledMatcherTest
+{
+    @Test
+    public void testRandomDirectedGraphs()
+    {
+        Random rnd = new Random(12345);
+        VF2CompiledMatcher matcher = new VF2CompiledMatcher();
+
+        for (int i = 1; i < 100; i++) {
+            int vertexCount = 3 + rnd.nextInt(6),
+                edgeCount = rnd.nextInt(vertexCount * (vertexCount - 1)),
+                subVertexCount = 2 + rnd.nextInt(vertexCount),
+                subEdgeCount = rnd.nextInt(subVertexCount * (subVertexCount - 1));
+
+            Graph<Integer, DefaultEdge> g1 =
+                SubgraphIsomorphismTestUtils.randomGraph(vertexCount, edgeCount, i),
+                g2 = SubgraphIsomorphismTestUtils.randomGraph(subVertexCount, subEdgeCount, i),
+                g3 = SubgraphIsomorphismTestUtils.randomSubgraph(g1, subVertexCount - 1, i);
+
+            VF2CompiledGraph<Integer, DefaultEdge> c1 = new VF2CompiledGraph<>(g1);
+            for (Graph<Integer, DefaultEdge> g : Arrays.asList(g2, g3)) {
+                VF2CompiledGraph<Integer, DefaultEdge> c = new VF2CompiledGraph<>(g);
+                assertMatches(matcher, g1, g, c1, c);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomUndirectedGraphs()
+    {
+        Random rnd = new Random(54321);
+        VF2CompiledMatcher matcher = new VF2CompiledMatcher();
+
+        // the same pattern is matched against many graphs
+        List<Graph<Integer, DefaultEdge>> patterns = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            patterns.add(randomUndirectedGraph(2 + rnd.nextInt(4), 0.5, rnd.nextLong()));
+        }
+        for (int i = 0; i < 50; i++) {
+            Graph<Integer, DefaultEdge> g1 =
+                randomUndirectedGraph(4 + rnd.nextInt(8), rnd.nextDouble(), rnd.nextLong());
+            VF2CompiledGraph<Integer, DefaultEdge> c1 = new VF2CompiledGraph<>(g1);
+            for (Graph<Integer, DefaultEdge> g2 : patterns) {
+                assertMatches(matcher, g1, g2, c1, new VF2CompiledGraph<>(g2));
+            }
+        }
+    }
+
+    @Test
+    public void testIsomorphism()
+    {
+        Random rnd = new Random(7);
+        VF2CompiledMatcher matcher = new VF2CompiledMatcher();
+
+        for (int i = 0; i < 100; i++) {
+            int n = 1 + rnd.nextInt(10);
+            Graph<Integer, DefaultEdge> g1 =
+                SubgraphIsomorphismTestUtils.randomGraph(n, rnd.nextInt(n * (n - 1) + 1), i);
+            List<Integer> permutation = new ArrayList<>(g1.vertexSet());
+            Collections.shuffle(permutation, rnd);
+            Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+            Graphs.addAllVertices(g2, g1.vertexSet());
+            for (DefaultEdge e : g1.edgeSet()) {
+                g2.addEdge(
+                    permutation.get(g1.getEdgeSource(e)), permutation.get(g1.getEdgeTarget(e)));
+            }
+            Graph<Integer, DefaultEdge> g3 =
+                SubgraphIsomorphismTestUtils.randomGraph(n, g1.edgeSet().size(), rnd.nextLong());
+
+            VF2CompiledGraph<Integer, DefaultEdge> c1 = new VF2CompiledGraph<>(g1);
+            VF2CompiledGraph<Integer, DefaultEdge> c2 = new VF2CompiledGraph<>(g2);
+            VF2CompiledGraph<Integer, DefaultEdge> c3 = new VF2CompiledGraph<>(g3);
+
+            assertTrue(matcher.isIsomorphic(c1, c2));
+            IsomorphicGraphMapping<Integer, DefaultEdge> mapping = matcher.getIsomorphism(c1, c2);
+            assertTrue(SubgraphIsomorphismTestUtils.isCorrectMatching(mapping, g1, g2));
+
+            assertEquals(
+                new VF2GraphIsomorphismInspector<>(g1, g3).isomorphismExists(),
+                matcher.isIsomorphic(c1, c3));
+        }
+    }
+
+    @Test
+    public void testLabels()
+    {
+        /*
+         * a---<3>---b | | g1 = <4> <1> g2 = A---<6>---b---<5>---B | | A---<2>---B
+         */
+        SimpleGraph<String, Integer> g1 = new SimpleGraph<>(Integer.class),
+            g2 = new SimpleGraph<>(Integer.class);
+
+        Graphs.addAllVertices(g1, Arrays.asList("a", "b", "A", "B"));
+        g1.addEdge("a", "b", 3);
+        g1.addEdge("b", "B", 1);
+        g1.addEdge("B", "A", 2);
+        g1.addEdge("A", "a", 4);
+
+        Graphs.addAllVertices(g2, Arrays.asList("A", "b", "B"));
+        g2.addEdge("A", "b", 6);
+        g2.addEdge("b", "B", 5);
+
+        VF2CompiledMatcher matcher = new VF2CompiledMatcher();
+        VF2CompiledGraph<String, Integer> c1 =
+            new VF2CompiledGraph<>(g1, v -> v.toLowerCase().charAt(0), e -> e % 2);
+        VF2CompiledGraph<String, Integer> c2 =
+            new VF2CompiledGraph<>(g2, v -> v.toLowerCase().charAt(0), e -> e % 2);
+
+        assertEquals(1, matcher.countSubgraphIsomorphisms(c1, c2));
+        assertEquals("[A=A B=b a=~~ b=B]", matcher.getSubgraphMapping(c1, c2).toString());
+
+        // vertex labels only
+        c1 = new VF2CompiledGraph<>(g1, v -> v.toLowerCase().charAt(0), null);
+        c2 = new VF2CompiledGraph<>(g2, v -> v.toLowerCase().charAt(0), null);
+        assertEquals(2, matcher.countSubgraphIsomorphisms(c1, c2));
+
+        // edge labels only
+        c1 = new VF2CompiledGraph<>(g1, null, e -> e % 2);
+        c2 = new VF2CompiledGraph<>(g2, null, e -> e % 2);
+        assertEquals(2, matcher.countSubgraphIsomorphisms(c1, c2));
+
+        // a label which doesn't occur in the first graph
+        c2 = new VF2CompiledGraph<>(g2, v -> v.equals("b") ? 'c' : 'a', null);
+        c1 = new VF2CompiledGraph<>(g1, v -> v.toLowerCase().charAt(0), null);
+        assertFalse(matcher.isSubgraphIsomorphic(c1, c2));
+        assertNull(matcher.getSubgraphMapping(c1, c2));
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g1 = SubgraphIsomorphismTestUtils.randomGraph(5, 10, 1);
+        Graph<Integer, DefaultEdge> g2 = new DefaultDirectedGraph<>(DefaultEdge.class);
+
+        VF2CompiledMatcher matcher = new VF2CompiledMatcher();
+        assertEquals(
+            1, matcher.countSubgraphIsomorphisms(
+                new VF2CompiledGraph<>(g1), new VF2CompiledGraph<>(g2)));
+        assertTrue(matcher.isIsomorphic(new VF2CompiledGraph<>(g2), new VF2CompiledGraph<>(g2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirectedAndUndirectedGraph()
+    {
+        Graph<Integer, DefaultEdge> g1 = SubgraphIsomorphismTestUtils.randomGraph(5, 10, 1);
+        Graph<Integer, DefaultEdge> g2 = randomUndirectedGraph(3, 0.5, 1);
+        new VF2CompiledMatcher()
+            .isSubgraphIsomorphic(new VF2CompiledGraph<>(g1), new VF2CompiledGraph<>(g2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultipleEdges()
+    {
+        new VF2CompiledGraph<>(new Pseudograph<Integer, DefaultEdge>(DefaultEdge.class));
+    }
+
+    private static void assertMatches(
+        VF2CompiledMatcher matcher, Graph<Integer, DefaultEdge> g1, Graph<Integer, DefaultEdge> g2,
+        VF2CompiledGraph<Integer, DefaultEdge> c1, VF2CompiledGraph<Integer, DefaultEdge> c2)
+    {
+        long expected = 0;
+        for (Iterator<GraphMapping<Integer, DefaultEdge>> mappings =
+            new VF2SubgraphIsomorphismInspector<>(g1, g2).getMappings(); mappings.hasNext();)
+        {
+            mappings.next();
+            expected++;
+        }
+        assertEquals(expected, matcher.countSubgraphIsomorphisms(c1, c2));
+        assertEquals(expected > 0, matcher.isSubgraphIsomorphic(c1, c2));
+
+        IsomorphicGraphMapping<Integer, DefaultEdge> mapping = matcher.getSubgraphMapping(c1, c2);
+        if (expected == 0) {
+            assertNull(mapping);
+        } else {
+            assertTrue(SubgraphIsomorphismTestUtils.isCorrectMatching(mapping, g1, g2));
+        }
+    }
+
+    private static Graph<Integer, DefaultEdge> randomUndirectedGraph(int n, double p, long seed)
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnpRandomGraphGenerator<Integer, DefaultEdge>(n, p, seed).generateGraph(graph);
+        return graph;
+    }
+}
@@ -172,6 +172,76 @@ public class BetweennessCentralityTest
 
     }
 
+    @Test
+    public void testParallel()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 1500, 7, true, true)
+            .generateGraph(g);
+        Random rng = new Random(7);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(5));
+        }
+
+        assertSameScores(
+            new BetweennessCentrality<>(g, true).getScores(),
+            new BetweennessCentrality<>(g, true, 4).getScores());
+
+        Graph<Integer, DefaultEdge> ug = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(300, 1000, 7).generateGraph(ug);
+
+        assertSameScores(
+            new BetweennessCentrality<>(ug).getScores(),
+            new BetweennessCentrality<>(ug, false, 3).getScores());
+    }
+
+    @Test
+    public void testPivots()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 400, 11).generateGraph(g);
+
+        // sampling at least all vertices is exact
+        assertSameScores(
+            new BetweennessCentrality<>(g).getScores(),
+            new BetweennessCentrality<>(g, false, 2, 100, new Random(11)).getScores());
+
+        // in a star only the center lies on shortest paths, and every leaf pivot sees it on
+        // order-2 paths
+        int order = 21;
+        Graph<Integer, DefaultEdge> star = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        Map<String, Integer> resultMap = new HashMap<>();
+        new StarGraphGenerator<Integer, DefaultEdge>(order).generateGraph(star, resultMap);
+        Integer center = resultMap.get(StarGraphGenerator.CENTER_VERTEX);
+        Map<Integer, Double> scores =
+            new BetweennessCentrality<>(star, false, 1, 5, new Random(11)).getScores();
+        for (Integer v : star.vertexSet()) {
+            if (!v.equals(center)) {
+                assertEquals(0.0, scores.get(v), 0.0);
+            }
+        }
+        assertTrue(scores.get(center) > 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new BetweennessCentrality<>(g, false, 0);
+    }
+
+    private static <V> void assertSameScores(Map<V, Double> expected, Map<V, Double> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for (V v : expected.keySet()) {
+            assertEquals(expected.get(v), actual.get(v), 1e-9);
+        }
+    }
+
     @Test
     public void testStar()
     {
@@ -19,10 +19,17 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit tests for closeness centrality.
@@ -176,4 +183,106 @@ public class ClosenessCentralityTest
         return g;
     }
 
+    @Test
+    public void testParallelWeighted()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(120, 900, 3, true, true)
+            .generateGraph(g);
+        Random rng = new Random(3);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(10));
+        }
+
+        for (boolean incoming : new boolean[] { false, true }) {
+            Map<Integer, Double> expected =
+                new ClosenessCentrality<>(g, incoming, true).getScores();
+            for (int parallelism : new int[] { 1, 4 }) {
+                Map<Integer, Double> scores =
+                    new ClosenessCentrality<>(g, incoming, true, parallelism).getScores();
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.get(v), scores.get(v), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testShortestPathReference()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(80, 400, 7, true, true)
+            .generateGraph(g);
+
+        FloydWarshallShortestPaths<Integer, DefaultEdge> paths =
+            new FloydWarshallShortestPaths<>(g);
+        Map<Integer, Double> scores = new ClosenessCentrality<>(g, false, false, 3).getScores();
+        for (Integer v : g.vertexSet()) {
+            double sum = 0d;
+            for (Integer u : g.vertexSet()) {
+                if (!u.equals(v)) {
+                    sum += paths.getPathWeight(v, u);
+                }
+            }
+            assertEquals(1 / sum, scores.get(v), 1e-9);
+        }
+    }
+
+    @Test
+    public void testOverriddenShortestPathAlgorithm()
+    {
+        Graph<String, DefaultEdge> g = createInstance1();
+
+        // the overridden algorithm doubles every edge weight
+        VertexScoringAlgorithm<String, Double> pr = new ClosenessCentrality<String, DefaultEdge>(
+            g, false, true)
+        {
+            @Override
+            protected ShortestPathAlgorithm<String, DefaultEdge> getShortestPathAlgorithm()
+            {
+                return new DijkstraShortestPath<>(new AsWeightedGraph<>(g, e -> 2d, false, false));
+            }
+        };
+
+        assertEquals(4d / 14, pr.getVertexScore("1"), 1e-9);
+        assertEquals(4d / 18, pr.getVertexScore("2"), 1e-9);
+        assertEquals(4d / 16, pr.getVertexScore("3"), 1e-9);
+        assertEquals(4d / 12, pr.getVertexScore("4"), 1e-9);
+        assertEquals(4d / 20, pr.getVertexScore("5"), 1e-9);
+    }
+
+    @Test
+    public void testApproximation()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(3, 2, 1000, 11).generateGraph(g);
+
+        double epsilon = 0.15;
+        Map<Integer, Double> exact = new ClosenessCentrality<>(g, false, true, 4).getScores();
+        Map<Integer, Double> approximate =
+            new ClosenessCentrality<>(g, false, true, 4, epsilon, new Random(17)).getScores();
+        // the average distance is the reciprocal of the normalized closeness
+        double diameter = 0d;
+        for (Integer v : g.vertexSet()) {
+            BreadthFirstIterator<Integer, DefaultEdge> it = new BreadthFirstIterator<>(g, v);
+            while (it.hasNext()) {
+                diameter = Math.max(diameter, it.getDepth(it.next()));
+            }
+        }
+        double bound = epsilon * diameter;
+        for (Integer v : g.vertexSet()) {
+            assertTrue(Math.abs(1 / exact.get(v) - 1 / approximate.get(v)) <= bound);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidErrorBound()
+    {
+        new ClosenessCentrality<>(
+            new SimpleGraph<>(DefaultEdge.class), false, true, 1, 0d, new Random());
+    }
+
 }
@@ -23,6 +23,8 @@ import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -382,4 +384,63 @@ public class ClusteringCoefficientTest
 
         assertEquals(0.333, new ClusteringCoefficient<>(graph).getVertexScore(node1), 0.01);
     }
+
+    @Test
+    public void testAllScoresMatchSingleVertexScores()
+    {
+        List<Graph<Integer, DefaultEdge>> graphs = new ArrayList<>();
+        graphs.add(new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        graphs.add(new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        graphs.add(new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        for (Graph<Integer, DefaultEdge> graph : graphs) {
+            boolean multi = graph.getType().isAllowingMultipleEdges();
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(400, 3000, 17, multi, multi)
+                .generateGraph(graph);
+
+            ClusteringCoefficient<Integer, DefaultEdge> single =
+                new ClusteringCoefficient<>(graph);
+            Map<Integer, Double> expected = new HashMap<>();
+            for (Integer v : graph.vertexSet()) {
+                expected.put(v, single.getVertexScore(v));
+            }
+
+            for (int parallelism : new int[] { 1, 4 }) {
+                Map<Integer, Double> scores =
+                    new ClusteringCoefficient<>(graph, parallelism).getScores();
+                assertEquals(expected.size(), scores.size());
+                for (Integer v : graph.vertexSet()) {
+                    assertEquals(expected.get(v), scores.get(v), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelGlobalClusteringCoefficient()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(10, 5, 3000, 5)
+            .generateGraph(graph);
+
+        ClusteringCoefficient<Integer, DefaultEdge> sequential =
+            new ClusteringCoefficient<>(graph);
+        ClusteringCoefficient<Integer, DefaultEdge> parallel =
+            new ClusteringCoefficient<>(graph, 4);
+        assertEquals(
+            sequential.getGlobalClusteringCoefficient(),
+            parallel.getGlobalClusteringCoefficient(), 1e-9);
+        assertEquals(
+            sequential.getAverageClusteringCoefficient(),
+            parallel.getAverageClusteringCoefficient(), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new ClusteringCoefficient<>(new SimpleGraph<>(DefaultEdge.class), 0);
+    }
 }
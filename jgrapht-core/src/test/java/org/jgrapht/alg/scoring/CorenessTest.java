@@ -19,7 +19,9 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
@@ -150,4 +152,70 @@ public class CorenessTest
         }
     }
 
+    /**
+     * Compute the core numbers by repeatedly deleting all vertices of degree less than k.
+     */
+    static <V, E> Map<V, Integer> naiveCoreness(Graph<V, E> graph)
+    {
+        Map<V, Integer> result = new HashMap<>();
+        Set<V> remaining = new HashSet<>(graph.vertexSet());
+        for (int k = 0; !remaining.isEmpty(); k++) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (Iterator<V> it = remaining.iterator(); it.hasNext();) {
+                    V v = it.next();
+                    int degree = 0;
+                    for (V u : Graphs.neighborListOf(graph, v)) {
+                        if (remaining.contains(u)) {
+                            degree++;
+                        }
+                    }
+                    if (degree <= k) {
+                        result.put(v, k);
+                        it.remove();
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(300, 1500, seed, false, false)
+                .generateGraph(g);
+
+            Map<Integer, Integer> expected = naiveCoreness(g);
+            Coreness<Integer, DefaultEdge> coreness = new Coreness<>(g);
+            assertEquals(expected, coreness.getScores());
+            assertEquals(
+                Collections.max(expected.values()).intValue(), coreness.getDegeneracy());
+        }
+    }
+
+    @Test
+    public void testParallel()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(20, 6, 20000, 7).generateGraph(g);
+
+        Coreness<Integer, DefaultEdge> sequential = new Coreness<>(g);
+        Coreness<Integer, DefaultEdge> parallel = new Coreness<>(g, 4);
+        assertEquals(sequential.getScores(), parallel.getScores());
+        assertEquals(sequential.getDegeneracy(), parallel.getDegeneracy());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new Coreness<>(new SimpleGraph<>(DefaultEdge.class), 0);
+    }
+
 }
@@ -19,10 +19,16 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit tests for harmonic centrality.
@@ -176,4 +182,74 @@ public class HarmonicCentralityTest
         return g;
     }
 
+    @Test
+    public void testParallelWeighted()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(120, 900, 3, true, true)
+            .generateGraph(g);
+        Random rng = new Random(3);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(10));
+        }
+
+        for (boolean incoming : new boolean[] { false, true }) {
+            Map<Integer, Double> expected =
+                new HarmonicCentrality<>(g, incoming, true).getScores();
+            for (int parallelism : new int[] { 1, 4 }) {
+                Map<Integer, Double> scores =
+                    new HarmonicCentrality<>(g, incoming, true, parallelism).getScores();
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.get(v), scores.get(v), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testShortestPathReference()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(80, 400, 7, true, true)
+            .generateGraph(g);
+
+        FloydWarshallShortestPaths<Integer, DefaultEdge> paths =
+            new FloydWarshallShortestPaths<>(g);
+        Map<Integer, Double> scores = new HarmonicCentrality<>(g, false, false, 3).getScores();
+        for (Integer v : g.vertexSet()) {
+            double sum = 0d;
+            for (Integer u : g.vertexSet()) {
+                if (!u.equals(v)) {
+                    sum += 1.0 / paths.getPathWeight(v, u);
+                }
+            }
+            assertEquals(sum, scores.get(v), 1e-9);
+        }
+    }
+
+    @Test
+    public void testApproximation()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BarabasiAlbertGraphGenerator<Integer, DefaultEdge>(3, 2, 1000, 11).generateGraph(g);
+
+        double epsilon = 0.15;
+        Map<Integer, Double> exact = new HarmonicCentrality<>(g, false, true, 4).getScores();
+        Map<Integer, Double> approximate =
+            new HarmonicCentrality<>(g, false, true, 4, epsilon, new Random(17)).getScores();
+        for (Integer v : g.vertexSet()) {
+            assertTrue(Math.abs(exact.get(v) - approximate.get(v)) <= epsilon);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidErrorBound()
+    {
+        new HarmonicCentrality<>(
+            new SimpleGraph<>(DefaultEdge.class), false, true, 1, 0d, new Random());
+    }
+
 }
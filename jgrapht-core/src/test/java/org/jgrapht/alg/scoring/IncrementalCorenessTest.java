@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IncrementalCoreness}.
+ *
+ * @author agent
+ */
+public class IncrementalCorenessTest
+{
+
+    @Test
+    public void testSmallGraph()
+    {
+        ListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        IncrementalCoreness<Integer, DefaultEdge> coreness = new IncrementalCoreness<>(g);
+        g.addGraphListener(coreness);
+
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        assertEquals(Integer.valueOf(1), coreness.getVertexScore(1));
+        g.addEdge(2, 0);
+        assertEquals(2, coreness.getDegeneracy());
+        assertEquals(Integer.valueOf(0), coreness.getVertexScore(3));
+
+        g.addEdge(3, 0);
+        g.addEdge(3, 1);
+        g.addEdge(3, 2);
+        assertEquals(3, coreness.getDegeneracy());
+
+        g.removeEdge(0, 1);
+        assertEquals(CorenessTest.naiveCoreness(g), coreness.getScores());
+
+        g.removeVertex(3);
+        g.addVertex(4);
+        assertEquals(CorenessTest.naiveCoreness(g), coreness.getScores());
+    }
+
+    @Test
+    public void testRandomUpdates()
+    {
+        Random rng = new Random(5);
+        int n = 60;
+        ListenableGraph<Integer, DefaultEdge> g = new DefaultListenableGraph<>(new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, 200, 5, false, false)
+            .generateGraph(g);
+
+        IncrementalCoreness<Integer, DefaultEdge> coreness = new IncrementalCoreness<>(g);
+        g.addGraphListener(coreness);
+
+        for (int step = 0; step < 1000; step++) {
+            int u = rng.nextInt(n);
+            int v = rng.nextInt(n);
+            if (u == v) {
+                continue;
+            }
+            if (g.containsEdge(u, v)) {
+                g.removeEdge(u, v);
+            } else {
+                g.addEdge(u, v);
+            }
+            assertEquals(new Coreness<>(g).getScores(), coreness.getScores());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new IncrementalCoreness<>(g).getVertexScore(1);
+    }
+
+}
@@ -17,10 +17,15 @@
  */
 package org.jgrapht.alg.scoring;
 
+import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.*;
 
 /**
@@ -299,6 +304,36 @@ public class PageRankTest
         } catch (IllegalArgumentException e) {
         }
 
+        try {
+            new PageRank<>(g, 0.85, 100, 0.0001, 0);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+
+    }
+
+    @Test
+    public void testParallel()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(5000, 25000, 17, true, true)
+            .generateGraph(g);
+        Random rng = new Random(17);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1 + rng.nextInt(10));
+        }
+
+        Map<Integer, Double> sequential = new PageRank<>(g, 0.85, 100, 0.0001).getScores();
+        Map<Integer, Double> parallel = new PageRank<>(g, 0.85, 100, 0.0001, 4).getScores();
+
+        assertEquals(sequential.size(), parallel.size());
+        double sum = 0d;
+        for (Integer v : g.vertexSet()) {
+            assertEquals(sequential.get(v), parallel.get(v), 1e-9);
+            sum += parallel.get(v);
+        }
+        assertEquals(1.0, sum, 1e-6);
     }
 
 }
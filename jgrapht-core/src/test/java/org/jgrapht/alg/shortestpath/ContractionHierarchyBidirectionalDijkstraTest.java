@@ -0,0 +1,191 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ContractionHierarchyBidirectionalDijkstra}.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyBidirectionalDijkstraTest
+    extends
+    ShortestPathTestCase
+{
+    @Override
+    protected List<DefaultWeightedEdge> findPathBetween(
+        Graph<String, DefaultWeightedEdge> g, String src, String dest)
+    {
+        return new ContractionHierarchyBidirectionalDijkstra<>(g)
+            .getPath(src, dest).getEdgeList();
+    }
+
+    @Test
+    public void testSimple()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+        ShortestPathAlgorithm<String, DefaultWeightedEdge> alg =
+            new ContractionHierarchyBidirectionalDijkstra<>(g);
+
+        GraphPath<String, DefaultWeightedEdge> path = alg.getPath(V3, V5);
+        assertEquals(Arrays.asList(e13, e12, e24, e45), path.getEdgeList());
+        assertEquals(15.0, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(V3, V1, V2, V4, V5), path.getVertexList());
+        assertEquals(15.0, alg.getPathWeight(V5, V3), 1e-9);
+
+        path = alg.getPath(V2, V2);
+        assertEquals(0.0, path.getWeight(), 0);
+        assertTrue(path.getEdgeList().isEmpty());
+    }
+
+    @Test
+    public void testUnreachable()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3));
+        Graphs.addEdge(g, V1, V2, 1.0);
+        Graphs.addEdge(g, V3, V2, 1.0);
+
+        ShortestPathAlgorithm<String, DefaultWeightedEdge> alg =
+            new ContractionHierarchyBidirectionalDijkstra<>(g);
+        assertNull(alg.getPath(V2, V1));
+        assertNull(alg.getPath(V1, V3));
+        assertEquals(Double.POSITIVE_INFINITY, alg.getPathWeight(V1, V3), 0);
+        assertEquals(1.0, alg.getPathWeight(V3, V2), 0);
+    }
+
+    @Test
+    public void testShortcutsAreUnpacked()
+    {
+        DirectedWeightedPseudograph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        int n = 50;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        List<DefaultWeightedEdge> expected = new ArrayList<>();
+        for (int i = 0; i + 1 < n; i++) {
+            expected.add(Graphs.addEdge(g, i, i + 1, 1.0));
+        }
+        Graphs.addEdge(g, 0, n - 1, 2.0 * n);
+
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new ContractionHierarchyPrecomputation<>(g).computeContractionHierarchy();
+        assertTrue(hierarchy.getNumberOfShortcuts() > 0);
+
+        GraphPath<Integer, DefaultWeightedEdge> path =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy).getPath(0, n - 1);
+        assertEquals(expected, path.getEdgeList());
+        assertEquals(n - 1, path.getWeight(), 1e-9);
+    }
+
+    @Test
+    public void testDirectedRandomGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                200, 800, seed, true, true).generateGraph(g);
+            assertAgainstDijkstra(
+                g, seed, ContractionHierarchyPrecomputation.DEFAULT_WITNESS_SEARCH_LIMIT);
+        }
+    }
+
+    @Test
+    public void testUndirectedRandomGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultWeightedEdge> g = new WeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                200, 500, seed, true, true).generateGraph(g);
+            assertAgainstDijkstra(g, seed, 1);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<String, DefaultWeightedEdge> g = createWithBias(true);
+        new ContractionHierarchyBidirectionalDijkstra<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWitnessSearchLimit()
+    {
+        new ContractionHierarchyPrecomputation<>(create(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSource()
+    {
+        new ContractionHierarchyBidirectionalDijkstra<>(create()).getPath("unknown", V1);
+    }
+
+    private void assertAgainstDijkstra(
+        Graph<Integer, DefaultWeightedEdge> g, long seed, int witnessSearchLimit)
+    {
+        Random rng = new Random(seed);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(10));
+        }
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> actual =
+            new ContractionHierarchyBidirectionalDijkstra<>(
+                new ContractionHierarchyPrecomputation<>(g, witnessSearchLimit)
+                    .computeContractionHierarchy());
+        int n = g.vertexSet().size();
+        for (int i = 0; i < 300; i++) {
+            Integer s = rng.nextInt(n);
+            Integer t = rng.nextInt(n);
+            double weight = expected.getPathWeight(s, t);
+            assertEquals(weight, actual.getPathWeight(s, t), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(s, t);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+                continue;
+            }
+            assertEquals(weight, path.getWeight(), 1e-9);
+            Integer v = s;
+            double sum = 0d;
+            for (DefaultWeightedEdge e : path.getEdgeList()) {
+                v = Graphs.getOppositeVertex(g, e, v);
+                sum += g.getEdgeWeight(e);
+            }
+            assertEquals(t, v);
+            assertEquals(weight, sum, 1e-9);
+        }
+    }
+}
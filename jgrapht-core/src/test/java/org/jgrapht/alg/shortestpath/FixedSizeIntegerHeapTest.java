@@ -0,0 +1,87 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for FixedSizeIntegerHeap
+ *
+ * @author agent
+ */
+public class FixedSizeIntegerHeapTest
+{
+
+    @Test
+    public void testHeap()
+    {
+        FixedSizeIntegerHeap heap = new FixedSizeIntegerHeap(10);
+        assertTrue(heap.isEmpty());
+
+        heap.insert(3, 5.0);
+        heap.insert(7, 2.0);
+        heap.insert(1, 8.0);
+        assertEquals(3, heap.size());
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(2));
+        assertEquals(2.0, heap.findMinKey(), 0.0);
+
+        heap.decreaseKey(1, 1.0);
+        assertEquals(1.0, heap.getKey(1), 0.0);
+        assertEquals(1, heap.deleteMin());
+        assertEquals(7, heap.deleteMin());
+        assertFalse(heap.contains(7));
+        assertEquals(3, heap.deleteMin());
+        assertTrue(heap.isEmpty());
+
+        heap.insert(7, 4.0);
+        heap.insert(2, 3.0);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(7));
+        heap.insert(7, 1.0);
+        assertEquals(7, heap.deleteMin());
+    }
+
+    @Test
+    public void testRandom()
+    {
+        int n = 1000;
+        Random rng = new Random(17);
+        FixedSizeIntegerHeap heap = new FixedSizeIntegerHeap(n);
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rng.nextDouble();
+            heap.insert(i, keys[i]);
+        }
+        for (int i = 0; i < n; i += 3) {
+            keys[i] /= 2;
+            heap.decreaseKey(i, keys[i]);
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < n; i++) {
+            assertEquals(keys[i], heap.findMinKey(), 0.0);
+            heap.deleteMin();
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
@@ -111,6 +111,52 @@ public class FloydWarshallShortestPathsTest
         }
     }
 
+    @Test
+    public void testParallelCompareWithSequential()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier())
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier());
+            // several tiles and a few isolated vertices
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 1500, 17, true, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+
+            FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> sequential =
+                new FloydWarshallShortestPaths<>(g);
+            FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                new FloydWarshallShortestPaths<>(g, 4);
+            assertEquals(sequential.getShortestPathsCount(), parallel.getShortestPathsCount());
+            for (Integer v1 : g.vertexSet()) {
+                for (Integer v2 : g.vertexSet()) {
+                    double expected = sequential.getPathWeight(v1, v2);
+                    assertEquals(expected, parallel.getPathWeight(v1, v2), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = parallel.getPath(v1, v2);
+                    if (Double.isInfinite(expected)) {
+                        assertNull(path);
+                    } else if (!path.getEdgeList().isEmpty()) {
+                        verifyPath(g, path, expected);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new FloydWarshallShortestPaths<>(
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class), 0);
+    }
+
     /**
      * Verify whether the path calculated by FloydWarshallShortestPaths is an actual valid path.
      */
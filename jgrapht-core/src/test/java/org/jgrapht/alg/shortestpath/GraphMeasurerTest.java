@@ -266,4 +266,20 @@ public class GraphMeasurerTest
                     63, 64, 66, 67, 69, 70, 71, 83, 89, 90, 95, 98)),
             graphPseudoPeriphery3);
     }
+
+    @Test
+    public void testParallel()
+    {
+        Graph<Integer, DefaultEdge> g3 = getGraph3();
+        GraphMeasurer<Integer, DefaultEdge> sequential = new GraphMeasurer<>(g3);
+        GraphMeasurer<Integer, DefaultEdge> parallel = new GraphMeasurer<>(g3, 4);
+        assertEquals(sequential.getDiameter(), parallel.getDiameter(), EPSILON);
+        assertEquals(sequential.getRadius(), parallel.getRadius(), EPSILON);
+        Map<Integer, Double> expected = sequential.getVertexEccentricityMap();
+        Map<Integer, Double> actual = parallel.getVertexEccentricityMap();
+        for (Integer v : g3.vertexSet()) {
+            assertEquals(expected.get(v), actual.get(v), EPSILON);
+        }
+        assertEquals(sequential.getGraphCenter(), parallel.getGraphCenter());
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedDijkstraShortestPath}.
+ *
+ * @author agent
+ */
+public class IndexedDijkstraShortestPathTest
+    extends
+    ShortestPathTestCase
+{
+    @Test
+    public void testConstructor()
+    {
+        GraphPath<String, DefaultWeightedEdge> path;
+        Graph<String, DefaultWeightedEdge> g = create();
+
+        path = new IndexedDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY).getPath(V3, V4);
+        assertEquals(Arrays.asList(e13, e12, e24), path.getEdgeList());
+        assertEquals(10.0, path.getWeight(), 0);
+
+        ShortestPathAlgorithm<String, DefaultWeightedEdge> bounded =
+            new IndexedDijkstraShortestPath<>(g, 7.0);
+        assertNull(bounded.getPath(V3, V4));
+        assertEquals(Double.POSITIVE_INFINITY, bounded.getPathWeight(V3, V4), 0);
+        assertEquals(
+            new DijkstraShortestPath<>(g).getPathWeight(V3, V1), bounded.getPathWeight(V3, V1), 0);
+    }
+
+    @Override
+    protected List<DefaultWeightedEdge> findPathBetween(
+        Graph<String, DefaultWeightedEdge> g, String src, String dest)
+    {
+        return new IndexedDijkstraShortestPath<>(g).getPath(src, dest).getEdgeList();
+    }
+
+    @Test
+    public void testShortestPathTree()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4, V5));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        DefaultWeightedEdge we24 = g.addEdge(V2, V4);
+        DefaultWeightedEdge we13 = g.addEdge(V1, V3);
+        DefaultWeightedEdge we32 = g.addEdge(V3, V2);
+        DefaultWeightedEdge we34 = g.addEdge(V3, V4);
+
+        g.setEdgeWeight(we12, 3.0);
+        g.setEdgeWeight(we24, 1.0);
+        g.setEdgeWeight(we13, 1.0);
+        g.setEdgeWeight(we32, 1.0);
+        g.setEdgeWeight(we34, 3.0);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> pathsTree =
+            new IndexedDijkstraShortestPath<>(g).getPaths(V1);
+        assertEquals(V1, pathsTree.getSourceVertex());
+        assertEquals(0d, pathsTree.getWeight(V1), 1e-9);
+        assertEquals(2d, pathsTree.getWeight(V2), 1e-9);
+        assertEquals(1d, pathsTree.getWeight(V3), 1e-9);
+        assertEquals(3d, pathsTree.getWeight(V4), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V5), 1e-9);
+        assertEquals(Arrays.asList(we13, we32, we24), pathsTree.getPath(V4).getEdgeList());
+        assertNull(pathsTree.getPath(V5));
+    }
+
+    @Test
+    public void testReuseAgainstDijkstra()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 1000, 3, true, true)
+            .generateGraph(g);
+        Random rng = new Random(3);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> actual =
+            new IndexedDijkstraShortestPath<>(g);
+        for (int i = 0; i < 500; i++) {
+            Integer s = rng.nextInt(200);
+            Integer t = rng.nextInt(200);
+            double weight = expected.getPathWeight(s, t);
+            assertEquals(weight, actual.getPathWeight(s, t), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> path = actual.getPath(s, t);
+            if (weight == Double.POSITIVE_INFINITY) {
+                assertNull(path);
+            } else {
+                assertEquals(weight, path.getWeight(), 1e-9);
+                assertEquals(s, path.getStartVertex());
+                assertEquals(t, path.getEndVertex());
+                double sum = 0d;
+                for (DefaultWeightedEdge e : path.getEdgeList()) {
+                    sum += g.getEdgeWeight(e);
+                }
+                assertEquals(weight, sum, 1e-9);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonNegativeWeights()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2));
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        g.setEdgeWeight(we12, -100.0);
+
+        new IndexedDijkstraShortestPath<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSink()
+    {
+        new IndexedDijkstraShortestPath<>(create()).getPath(V1, "unknown");
+    }
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
@@ -28,6 +29,7 @@ import java.util.*;
 import java.util.function.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -156,4 +158,52 @@ public class JohnsonShortestPathsTest
 
     }
 
+    @Test
+    public void testParallelCompareWithSequential()
+    {
+        final int n = 200;
+        Random rng = new Random(7);
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeClass(DefaultWeightedEdge.class).weighted(true).allowingMultipleEdges(true)
+            .allowingSelfLoops(true).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 2000, 7, true, true)
+            .generateGraph(g);
+
+        // negative weights only on edges going forward, thus no negative cycles
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            if (g.getEdgeSource(e) < g.getEdgeTarget(e)) {
+                g.setEdgeWeight(e, -rng.nextDouble());
+            } else {
+                g.setEdgeWeight(e, n + rng.nextDouble());
+            }
+        }
+
+        JohnsonShortestPaths<Integer, DefaultWeightedEdge> sequential =
+            new JohnsonShortestPaths<>(g);
+        JohnsonShortestPaths<Integer, DefaultWeightedEdge> parallel =
+            new JohnsonShortestPaths<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, 4);
+        for (Integer v : g.vertexSet()) {
+            for (Integer u : g.vertexSet()) {
+                double expected = sequential.getPathWeight(v, u);
+                assertEquals(expected, parallel.getPathWeight(v, u), 1e-9);
+                GraphPath<Integer, DefaultWeightedEdge> path = parallel.getPath(v, u);
+                if (Double.isInfinite(expected)) {
+                    assertNull(path);
+                } else {
+                    assertEquals(expected, path.getWeight(), 1e-9);
+                    assertEquals(u, path.getEndVertex());
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new JohnsonShortestPaths<>(
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class),
+            ToleranceDoubleComparator.DEFAULT_EPSILON, 0);
+    }
+
 }
@@ -0,0 +1,160 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link NeighborIndex}.
+ *
+ * @author agent
+ */
+public class NeighborIndexTest
+{
+
+    private static <V, E> Set<V> toVertices(NeighborIndex<V, E> index, int[] indices)
+    {
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i - 1] < indices[i]);
+        }
+        Set<V> result = new HashSet<>();
+        for (int i : indices) {
+            result.add(index.getVertex(i));
+        }
+        return result;
+    }
+
+    private static <V, E> void assertIndex(Graph<V, E> graph, NeighborIndex<V, E> index)
+    {
+        assertEquals(graph.vertexSet().size(), index.getVertexCount());
+        for (V v : graph.vertexSet()) {
+            int i = index.indexOf(v);
+            assertEquals(v, index.getVertex(i));
+            assertEquals(
+                new HashSet<>(Graphs.successorListOf(graph, v)),
+                toVertices(index, index.successorsOf(i)));
+            assertEquals(
+                new HashSet<>(Graphs.predecessorListOf(graph, v)),
+                toVertices(index, index.predecessorsOf(i)));
+            assertEquals(
+                new HashSet<>(Graphs.neighborListOf(graph, v)),
+                toVertices(index, index.neighborsOf(i)));
+        }
+    }
+
+    @Test
+    public void testUndirectedMultigraph()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        g.addEdge(0, 1);
+        g.addEdge(1, 0);
+        g.addEdge(1, 2);
+        g.addEdge(2, 2);
+
+        NeighborIndex<Integer, DefaultEdge> index = new NeighborIndex<>(g);
+        assertIndex(g, index);
+        assertEquals(2, index.neighborsOf(index.indexOf(1)).length);
+        assertTrue(index.isNeighbor(index.indexOf(2), index.indexOf(2)));
+        assertFalse(index.isNeighbor(index.indexOf(0), index.indexOf(3)));
+        assertEquals(1, index.commonNeighborCount(index.indexOf(0), index.indexOf(2)));
+    }
+
+    @Test
+    public void testRandomDirectedGraphs()
+    {
+        for (int seed = 0; seed < 5; seed++) {
+            Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 600, seed, true, true)
+                .generateGraph(g);
+
+            NeighborIndex<Integer, DefaultEdge> index = new NeighborIndex<>(g);
+            assertIndex(g, index);
+            for (int u = 0; u < 100; u++) {
+                for (int v = 0; v < 100; v++) {
+                    int iu = index.indexOf(u);
+                    int iv = index.indexOf(v);
+                    assertEquals(g.containsEdge(u, v), index.isSuccessor(iu, iv));
+                    assertEquals(
+                        g.containsEdge(u, v) || g.containsEdge(v, u), index.isNeighbor(iu, iv));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIntersectionSize()
+    {
+        assertEquals(0, NeighborIndex.intersectionSize(new int[0], new int[] { 1, 2 }));
+        assertEquals(2, NeighborIndex.intersectionSize(new int[] { 1, 3, 5 }, new int[] { 3, 5 }));
+
+        Random rng = new Random(3);
+        for (int round = 0; round < 100; round++) {
+            int[] a = rng.ints(rng.nextInt(10), 0, 1000).sorted().distinct().toArray();
+            int[] b = rng.ints(rng.nextInt(700), 0, 1000).sorted().distinct().toArray();
+            Set<Integer> expected = new HashSet<>();
+            for (int x : a) {
+                expected.add(x);
+            }
+            expected.retainAll(Arrays.asList(Arrays.stream(b).boxed().toArray(Integer[]::new)));
+            assertEquals(expected.size(), NeighborIndex.intersectionSize(a, b));
+            assertEquals(expected.size(), NeighborIndex.intersectionSize(b, a));
+        }
+    }
+
+    @Test
+    public void testInvalidation()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        NeighborIndex<String, DefaultEdge> index = new NeighborIndex<>(g);
+        g.addGraphListener(index);
+
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addEdge("a", "b");
+        assertIndex(g, index);
+
+        g.addVertex("c");
+        g.addEdge("c", "a");
+        assertIndex(g, index);
+
+        g.removeVertex("b");
+        assertIndex(g, index);
+        assertEquals(
+            Collections.singleton("c"), toVertices(index, index.neighborsOf(index.indexOf("a"))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new NeighborIndex<>(g).indexOf("b");
+    }
+
+}
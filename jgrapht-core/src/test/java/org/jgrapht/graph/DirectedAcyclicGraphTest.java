@@ -20,6 +20,7 @@ package org.jgrapht.graph;
 import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 import org.jgrapht.alg.cycle.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.traverse.*;
 import org.jgrapht.util.*;
@@ -523,8 +524,118 @@ public class DirectedAcyclicGraphTest
         assertTrue(dag.iterator().hasNext());
     }
 
+    @Test
+    public void testAddEdgesBatch()
+    {
+        Random rng = new Random(5);
+        int n = 500;
+        List<Integer> hiddenOrder = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            hiddenOrder.add(i);
+        }
+        Collections.shuffle(hiddenOrder, rng);
+
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        for (int i = 0; i < n; i++) {
+            dag.addVertex(i);
+        }
+
+        // two batches of edges which agree with the hidden order but not with the insertion order
+        for (int batchNo = 0; batchNo < 2; batchNo++) {
+            List<Pair<Integer, Integer>> batch = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                int a = rng.nextInt(n);
+                int b = rng.nextInt(n);
+                if (a != b) {
+                    batch.add(
+                        Pair.of(hiddenOrder.get(Math.min(a, b)), hiddenOrder.get(Math.max(a, b))));
+                }
+            }
+            List<DefaultEdge> created = dag.addEdges(batch);
+            assertEquals(batch.size(), created.size());
+            for (int i = 0; i < batch.size(); i++) {
+                Pair<Integer, Integer> p = batch.get(i);
+                DefaultEdge e = created.get(i);
+                assertTrue(e == null || e == dag.getEdge(p.getFirst(), p.getSecond()));
+                assertNotNull(dag.getEdge(p.getFirst(), p.getSecond()));
+            }
+        }
+
+        assertTopologicalOrder(dag);
+    }
+
+    @Test
+    public void testAddEdgesBatchWithCycle()
+    {
+        DirectedAcyclicGraph<String, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(dag, Arrays.asList("a", "b", "c", "d", "e"));
+        dag.addEdge("a", "b");
+
+        List<Pair<String, String>> batch = Arrays.asList(
+            Pair.of("d", "e"), Pair.of("b", "c"), Pair.of("e", "a"), Pair.of("c", "d"),
+            Pair.of("a", "e"));
+        try {
+            dag.addEdges(batch);
+            fail("Cycle not detected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("(c : d)"));
+        }
+        assertEquals(1, dag.edgeSet().size());
+        assertTopologicalOrder(dag);
+
+        try {
+            dag.addEdges(Collections.singletonList(Pair.of("c", "c")));
+            fail("Self-loop not detected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("(c : c)"));
+        }
+        assertEquals(1, dag.edgeSet().size());
+    }
+
+    @Test
+    public void testAddEdgesSmallBatchWithCycle()
+    {
+        // the graph is large compared to the batch, so the edges are added one by one
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        int n = 1000;
+        for (int i = 0; i < n; i++) {
+            dag.addVertex(i);
+        }
+        for (int i = 0; i < n - 1; i++) {
+            dag.addEdge(i, i + 1);
+        }
+
+        List<DefaultEdge> created = dag.addEdges(Arrays.asList(Pair.of(1, 2), Pair.of(3, 4)));
+        assertEquals(Arrays.asList(null, null), created);
+
+        try {
+            dag.addEdges(Arrays.asList(Pair.of(0, 10), Pair.of(999, 0), Pair.of(20, 30)));
+            fail("Cycle not detected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("(999 : 0)"));
+        }
+        assertNull(dag.getEdge(0, 10));
+        assertEquals(n - 1, dag.edgeSet().size());
+        assertTopologicalOrder(dag);
+    }
+
     // ~ Private Methods ----------------------------------------------------------
 
+    private static <V, E> void assertTopologicalOrder(DirectedAcyclicGraph<V, E> dag)
+    {
+        Map<V, Integer> position = new HashMap<>();
+        for (V v : dag) {
+            position.put(v, position.size());
+        }
+        assertEquals(dag.vertexSet().size(), position.size());
+        for (E e : dag.edgeSet()) {
+            assertTrue(position.get(dag.getEdgeSource(e)) < position.get(dag.getEdgeTarget(e)));
+        }
+    }
+
     private Graph<Long, DefaultEdge> setUpWithSeed(int vertices, int edges, long seed)
     {
         GraphGenerator<Long, DefaultEdge, Long> randomGraphGenerator =
@@ -0,0 +1,195 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AsStampedLockGraph}.
+ *
+ * @author agent
+ */
+public class AsStampedLockGraphTest
+{
+    @Test
+    public void testSingleThreaded()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new AsStampedLockGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addVertex(3);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        DefaultEdge e23 = g.addEdge(2, 3);
+        DefaultEdge e33 = g.addEdge(3, 3);
+
+        assertEquals(3, g.vertexSet().size());
+        assertEquals(3, g.edgeSet().size());
+        assertTrue(g.vertexSet().contains(2));
+        assertTrue(g.edgeSet().contains(e23));
+        assertEquals(e12, g.getEdge(1, 2));
+        assertNull(g.getEdge(2, 1));
+        assertTrue(g.containsEdge(2, 3));
+        assertEquals(new HashSet<>(Arrays.asList(e12, e23)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(e23, e33)), g.incomingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(e33)), g.outgoingEdgesOf(3));
+        assertEquals(Collections.singleton(e12), g.getAllEdges(1, 2));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(e23));
+        assertEquals(Integer.valueOf(3), g.getEdgeTarget(e23));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(e23), 0.0);
+
+        Set<DefaultEdge> edgesOf2 = g.edgesOf(2);
+        assertTrue(g.removeVertex(3));
+        assertEquals(2, edgesOf2.size());
+        assertEquals(1, g.edgesOf(2).size());
+        assertEquals(2, g.vertexSet().size());
+        assertEquals(1, g.edgeSet().size());
+
+        try {
+            g.edgesOf(3);
+            fail("No!");
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            g.vertexSet().add(4);
+            fail("No!");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testConcurrentReadsAndWrites()
+        throws InterruptedException, ExecutionException
+    {
+        final int n = 200;
+        final int writers = 2;
+        final int readers = 4;
+        Graph<Integer, DefaultEdge> g =
+            new AsStampedLockGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        AtomicBoolean done = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        List<Future<?>> writerFutures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int offset = w;
+            writerFutures.add(executor.submit(() -> {
+                for (int i = offset; i < n; i += writers) {
+                    for (int j = i + 1; j < n; j++) {
+                        g.addEdge(i, j);
+                    }
+                }
+            }));
+        }
+        List<Future<?>> readerFutures = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            readerFutures.add(executor.submit(() -> {
+                Random rng = new Random();
+                while (!done.get()) {
+                    int v = rng.nextInt(n);
+                    Set<DefaultEdge> edges = g.edgesOf(v);
+                    for (DefaultEdge e : edges) {
+                        Integer u = Graphs.getOppositeVertex(g, e, v);
+                        assertEquals(e, g.getEdge(v, u));
+                    }
+                    assertTrue(g.degreeOf(v) >= edges.size());
+                    int size = 0;
+                    for (Integer u : g.vertexSet()) {
+                        size += u >= 0 ? 1 : 0;
+                    }
+                    assertEquals(n, size);
+                }
+            }));
+        }
+        for (Future<?> f : writerFutures) {
+            f.get();
+        }
+        done.set(true);
+        for (Future<?> f : readerFutures) {
+            f.get();
+        }
+        executor.shutdown();
+
+        assertEquals(n * (n - 1) / 2, g.edgeSet().size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(n - 1, g.degreeOf(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentVertexRemovals()
+        throws InterruptedException, ExecutionException
+    {
+        final int n = 50;
+        final int rounds = 2000;
+        final int readers = 3;
+        Graph<Integer, DefaultEdge> g =
+            new AsStampedLockGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        AtomicBoolean done = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        Future<?> writerFuture = executor.submit(() -> {
+            for (int r = 0; r < rounds; r++) {
+                g.addVertex(n);
+                for (int i = 0; i < n; i++) {
+                    g.addEdge(n, i);
+                }
+                g.removeVertex(n);
+            }
+        });
+        List<Future<?>> readerFutures = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            readerFutures.add(executor.submit(() -> {
+                while (!done.get()) {
+                    // the only exception a reader may observe is the one of a consistent state
+                    try {
+                        int degree = g.degreeOf(n);
+                        assertTrue(degree >= 0 && degree <= n);
+                        assertTrue(g.edgesOf(n).size() <= n);
+                    } catch (IllegalArgumentException e) {
+                        // vertex not present
+                    }
+                    assertTrue(g.degreeOf(0) <= 1);
+                }
+            }));
+        }
+        writerFuture.get();
+        done.set(true);
+        for (Future<?> f : readerFutures) {
+            f.get();
+        }
+        executor.shutdown();
+
+        assertEquals(n, g.vertexSet().size());
+        assertEquals(0, g.edgeSet().size());
+    }
+}
@@ -35,15 +35,21 @@ public class MaximumFlowAlgorithmPerformanceTest
 {
 
     public static final int NUMBER_OF_GRAPHS = 20;
-    public static final int PERF_BENCHMARK_VERTICES_COUNT = 1000;
     public static final int PERF_BENCHMARK_EDGES_COUNT = 100000;
 
     @State(Scope.Benchmark)
-    private static abstract class RandomGraphBenchmarkBase
+    public static abstract class RandomGraphBenchmarkBase
     {
 
         public static final long SEED = 1446523573696201013L;
 
+        /*
+         * Dense networks have few long augmenting paths, while sparse networks are dominated by
+         * the traversal of the residual network.
+         */
+        @Param({ "1000", "20000" })
+        public int vertexCount;
+
         private List<Graph<Integer, DefaultWeightedEdge>> graphs;
 
         abstract MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
@@ -55,8 +61,7 @@ public class MaximumFlowAlgorithmPerformanceTest
             graphs = new ArrayList<>();
 
             GraphGenerator<Integer, DefaultWeightedEdge, Integer> rgg =
-                new GnmRandomGraphGenerator<>(
-                    PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED);
+                new GnmRandomGraphGenerator<>(vertexCount, PERF_BENCHMARK_EDGES_COUNT, SEED);
 
             for (int i = 0; i < NUMBER_OF_GRAPHS; i++) {
                 SimpleDirectedWeightedGraph<Integer,
@@ -102,6 +107,18 @@ public class MaximumFlowAlgorithmPerformanceTest
         }
     }
 
+    public static class HighestLabelPushRelabelMaximumFlowRandomGraphBenchmark
+        extends
+        RandomGraphBenchmarkBase
+    {
+        @Override
+        MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> network)
+        {
+            return new HighestLabelPushRelabelMFImpl<>(network);
+        }
+    }
+
     public static class DinicMaximumFlowRandomGraphBenchmark
         extends
         RandomGraphBenchmarkBase
@@ -122,6 +139,9 @@ public class MaximumFlowAlgorithmPerformanceTest
         Options opt = new OptionsBuilder()
             .include(".*" + EdmondsKarpMaximumFlowRandomGraphBenchmark.class.getSimpleName() + ".*")
             .include(".*" + PushRelabelMaximumFlowRandomGraphBenchmark.class.getSimpleName() + ".*")
+            .include(
+                ".*" + HighestLabelPushRelabelMaximumFlowRandomGraphBenchmark.class.getSimpleName()
+                    + ".*")
             .include(".*" + DinicMaximumFlowRandomGraphBenchmark.class.getSimpleName() + ".*")
 
             .mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).warmupTime(TimeValue.seconds(1))
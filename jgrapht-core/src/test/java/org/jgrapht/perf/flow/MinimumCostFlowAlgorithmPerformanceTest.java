@@ -0,0 +1,158 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.mincost.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A small benchmark comparing minimum cost flow algorithms.
+ *
+ * @author agent
+ */
+public class MinimumCostFlowAlgorithmPerformanceTest
+{
+
+    public static final int NUMBER_OF_PROBLEMS = 10;
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 1000;
+    public static final int MAX_COST = 100;
+    public static final int MAX_CAPACITY = 100;
+    public static final int MAX_SUPPLY = 50;
+
+    @State(Scope.Benchmark)
+    public static abstract class RandomProblemBenchmarkBase
+    {
+
+        public static final long SEED = 1446523573696201013L;
+
+        @Param({ "5000", "20000" })
+        public int edgeCount;
+
+        private List<MinimumCostFlowProblem<Integer, DefaultWeightedEdge>> problems;
+
+        abstract MinimumCostFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver();
+
+        @Setup
+        public void setup()
+        {
+            problems = new ArrayList<>();
+            Random rand = new Random(SEED);
+
+            GraphGenerator<Integer, DefaultWeightedEdge, Integer> rgg =
+                new GnmRandomGraphGenerator<>(PERF_BENCHMARK_VERTICES_COUNT, edgeCount, SEED);
+
+            for (int i = 0; i < NUMBER_OF_PROBLEMS; i++) {
+                SimpleDirectedWeightedGraph<Integer,
+                    DefaultWeightedEdge> network = new SimpleDirectedWeightedGraph<>(
+                        SupplierUtil.createIntegerSupplier(0),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                rgg.generateGraph(network);
+
+                Map<DefaultWeightedEdge, Integer> capacities = new HashMap<>();
+                for (DefaultWeightedEdge e : network.edgeSet()) {
+                    network.setEdgeWeight(e, 1 + rand.nextInt(MAX_COST));
+                    capacities.put(e, 1 + rand.nextInt(MAX_CAPACITY));
+                }
+                // an expensive uncapacitated cycle through all vertices makes every problem
+                // feasible
+                for (int v = 0; v < PERF_BENCHMARK_VERTICES_COUNT; v++) {
+                    int u = (v + 1) % PERF_BENCHMARK_VERTICES_COUNT;
+                    DefaultWeightedEdge e = network.getEdge(v, u);
+                    if (e == null) {
+                        e = network.addEdge(v, u);
+                    }
+                    network.setEdgeWeight(e, MAX_COST * PERF_BENCHMARK_VERTICES_COUNT);
+                    capacities.put(e, NetworkSimplexMinimumCostFlow.CAP_INF);
+                }
+
+                Map<Integer, Integer> supplies = new HashMap<>();
+                int total = 0;
+                for (int v = 1; v < PERF_BENCHMARK_VERTICES_COUNT; v++) {
+                    int supply = rand.nextInt(2 * MAX_SUPPLY + 1) - MAX_SUPPLY;
+                    supplies.put(v, supply);
+                    total += supply;
+                }
+                supplies.put(0, -total);
+
+                problems.add(
+                    new MinimumCostFlowProblem.MinimumCostFlowProblemImpl<>(
+                        network, supplies::get, capacities::get));
+            }
+        }
+
+        @Benchmark
+        public void run()
+        {
+            for (MinimumCostFlowProblem<Integer, DefaultWeightedEdge> problem : problems) {
+                createSolver().getMinimumCostFlow(problem);
+            }
+        }
+    }
+
+    public static class CapacityScalingMinimumCostFlowRandomProblemBenchmark
+        extends
+        RandomProblemBenchmarkBase
+    {
+        @Override
+        MinimumCostFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver()
+        {
+            return new CapacityScalingMinimumCostFlow<>();
+        }
+    }
+
+    public static class NetworkSimplexMinimumCostFlowRandomProblemBenchmark
+        extends
+        RandomProblemBenchmarkBase
+    {
+        @Override
+        MinimumCostFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver()
+        {
+            return new NetworkSimplexMinimumCostFlow<>();
+        }
+    }
+
+    @Test
+    public void testRandomProblemBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(
+                ".*" + CapacityScalingMinimumCostFlowRandomProblemBenchmark.class.getSimpleName()
+                    + ".*")
+            .include(
+                ".*" + NetworkSimplexMinimumCostFlowRandomProblemBenchmark.class.getSimpleName()
+                    + ".*")
+
+            .mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).warmupTime(TimeValue.seconds(1))
+            .warmupIterations(3).measurementTime(TimeValue.seconds(1)).measurementIterations(5)
+            .forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
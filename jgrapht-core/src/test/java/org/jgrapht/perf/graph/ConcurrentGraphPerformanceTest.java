@@ -0,0 +1,133 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A benchmark comparing {@link AsSynchronizedGraph} and {@link AsStampedLockGraph} under a mixed
+ * load where several reader threads perform neighborhood and edge lookups while one writer thread
+ * keeps adding and removing edges.
+ *
+ * @author agent
+ */
+public class ConcurrentGraphPerformanceTest
+{
+    public static final int PERF_BENCHMARK_VERTICES_COUNT = 10000;
+    public static final int PERF_BENCHMARK_EDGES_COUNT = 50000;
+    public static final int READER_THREADS = 7;
+    public static final int WRITER_THREADS = 1;
+
+    @State(Scope.Group)
+    public static abstract class MixedLoadBenchmarkBase
+    {
+        public static final long SEED = 17L;
+
+        protected Graph<Integer, DefaultEdge> graph;
+
+        abstract Graph<Integer, DefaultEdge> wrap(Graph<Integer, DefaultEdge> graph);
+
+        @Setup
+        public void setup()
+        {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                PERF_BENCHMARK_VERTICES_COUNT, PERF_BENCHMARK_EDGES_COUNT, SEED).generateGraph(g);
+            graph = wrap(g);
+        }
+
+        @Benchmark
+        @Group("mixed")
+        @GroupThreads(READER_THREADS)
+        public void read(Blackhole bh)
+        {
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            Integer u = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            Integer v = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            bh.consume(graph.edgesOf(u));
+            bh.consume(graph.getEdge(u, v));
+            bh.consume(graph.degreeOf(v));
+        }
+
+        @Benchmark
+        @Group("mixed")
+        @GroupThreads(WRITER_THREADS)
+        public void write(Blackhole bh)
+        {
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            Integer u = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            Integer v = rng.nextInt(PERF_BENCHMARK_VERTICES_COUNT);
+            if (!u.equals(v)) {
+                DefaultEdge e = graph.addEdge(u, v);
+                if (e != null) {
+                    bh.consume(graph.removeEdge(e));
+                }
+            }
+        }
+    }
+
+    public static class AsSynchronizedGraphBenchmark
+        extends
+        MixedLoadBenchmarkBase
+    {
+        @Override
+        Graph<Integer, DefaultEdge> wrap(Graph<Integer, DefaultEdge> graph)
+        {
+            return new AsSynchronizedGraph<>(graph);
+        }
+    }
+
+    public static class AsStampedLockGraphBenchmark
+        extends
+        MixedLoadBenchmarkBase
+    {
+        @Override
+        Graph<Integer, DefaultEdge> wrap(Graph<Integer, DefaultEdge> graph)
+        {
+            return new AsStampedLockGraph<>(graph);
+        }
+    }
+
+    @Test
+    public void testMixedLoadBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + AsSynchronizedGraphBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + AsStampedLockGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.Throughput).timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1)).warmupIterations(3)
+            .measurementTime(TimeValue.seconds(1)).measurementIterations(5).forks(1)
+            .shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.traverse.*;
+import org.junit.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A benchmark comparing bulk loading of a {@link DirectedAcyclicGraph} edge by edge, bulk loading
+ * with {@link DirectedAcyclicGraph#addEdges(Collection)}, and loading a plain directed graph which
+ * is topologically sorted once.
+ *
+ * @author agent
+ */
+public class DirectedAcyclicGraphBatchPerformanceTest
+{
+    private static final int NUM_VERTICES = 10000;
+    private static final int NUM_EDGES = 40000;
+    private static final long SEED = 17;
+
+    @State(Scope.Benchmark)
+    private static abstract class BatchBenchmarkBase
+    {
+        List<Pair<Integer, Integer>> edges;
+
+        /**
+         * Create random edges which agree with a hidden random order of the vertices, so that the
+         * graph is acyclic but the edges are not given in topological order.
+         */
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            Random rng = new Random(SEED);
+            List<Integer> hiddenOrder = new ArrayList<>();
+            for (int i = 0; i < NUM_VERTICES; i++) {
+                hiddenOrder.add(i);
+            }
+            Collections.shuffle(hiddenOrder, rng);
+
+            edges = new ArrayList<>(NUM_EDGES);
+            for (int i = 0; i < NUM_EDGES; i++) {
+                int a = rng.nextInt(NUM_VERTICES);
+                int b = rng.nextInt(NUM_VERTICES);
+                if (a != b) {
+                    edges.add(
+                        Pair.of(hiddenOrder.get(Math.min(a, b)), hiddenOrder.get(Math.max(a, b))));
+                }
+            }
+        }
+
+        <G extends Graph<Integer, DefaultEdge>> G addVertices(G graph)
+        {
+            for (int i = 0; i < NUM_VERTICES; i++) {
+                graph.addVertex(i);
+            }
+            return graph;
+        }
+    }
+
+    public static class EdgeByEdgeBenchmark
+        extends
+        BatchBenchmarkBase
+    {
+        @Benchmark
+        public DirectedAcyclicGraph<Integer, DefaultEdge> run()
+        {
+            DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+                addVertices(new DirectedAcyclicGraph<>(DefaultEdge.class));
+            for (Pair<Integer, Integer> e : edges) {
+                dag.addEdge(e.getFirst(), e.getSecond());
+            }
+            return dag;
+        }
+    }
+
+    public static class BatchBenchmark
+        extends
+        BatchBenchmarkBase
+    {
+        @Benchmark
+        public DirectedAcyclicGraph<Integer, DefaultEdge> run()
+        {
+            DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+                addVertices(new DirectedAcyclicGraph<>(DefaultEdge.class));
+            dag.addEdges(edges);
+            return dag;
+        }
+    }
+
+    public static class StaticGraphBenchmark
+        extends
+        BatchBenchmarkBase
+    {
+        @Benchmark
+        public List<Integer> run()
+        {
+            Graph<Integer, DefaultEdge> graph =
+                addVertices(new SimpleDirectedGraph<>(DefaultEdge.class));
+            for (Pair<Integer, Integer> e : edges) {
+                graph.addEdge(e.getFirst(), e.getSecond());
+            }
+            List<Integer> order = new ArrayList<>(NUM_VERTICES);
+            new TopologicalOrderIterator<>(graph).forEachRemaining(order::add);
+            return order;
+        }
+    }
+
+    @Test
+    public void testDirectedAcyclicGraphBatchBenchmark()
+        throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+            .include(".*" + EdgeByEdgeBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + BatchBenchmark.class.getSimpleName() + ".*")
+            .include(".*" + StaticGraphBenchmark.class.getSimpleName() + ".*")
+            .mode(Mode.SingleShotTime).timeUnit(TimeUnit.MILLISECONDS).warmupIterations(5)
+            .measurementIterations(10).forks(1).shouldFailOnError(true).shouldDoGC(true).build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -104,6 +104,42 @@ public class DijkstraShortestPathPerformanceTest
         }
     }
 
+    public static class IndexedDijkstraBenchmark
+        extends
+        BenchmarkBase
+    {
+        @Override
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return new IndexedDijkstraShortestPath<>(graph);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Indexed Dijkstra";
+        }
+    }
+
+    public static class ContractionHierarchyBenchmark
+        extends
+        BenchmarkBase
+    {
+        @Override
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+            Graph<Integer, DefaultWeightedEdge> graph)
+        {
+            return new ContractionHierarchyBidirectionalDijkstra<>(graph);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Contraction Hierarchies (including preprocessing)";
+        }
+    }
+
     public static class ClosestFirstIteratorBenchmark
         extends
         BenchmarkBase
@@ -241,10 +277,12 @@ public class DijkstraShortestPathPerformanceTest
         List<Supplier<BenchmarkBase>> algFactory = new ArrayList<>();
         algFactory.add(() -> new ClosestFirstIteratorBenchmark());
         algFactory.add(() -> new DijkstraBenchmark());
+        algFactory.add(() -> new IndexedDijkstraBenchmark());
         algFactory.add(() -> new AStarNoHeuristicBenchmark());
         algFactory.add(() -> new ALTBenchmark(1));
         algFactory.add(() -> new ALTBenchmark(5));
         algFactory.add(() -> new BidirectionalDijkstraBenchmark());
+        algFactory.add(() -> new ContractionHierarchyBenchmark());
 
         for (Supplier<BenchmarkBase> alg : algFactory) {
 
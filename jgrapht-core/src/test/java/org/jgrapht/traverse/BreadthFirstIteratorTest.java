@@ -18,10 +18,15 @@
 package org.jgrapht.traverse;
 
 import org.jgrapht.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 /**
@@ -161,4 +166,65 @@ public class BreadthFirstIteratorTest
         assertEquals(new Integer(1), bfs.getParent(2));
         assertEquals(new Integer(2), bfs.getParent(3));
     }
+
+    @Test
+    public void depthAcrossComponentsTest()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+        Graphs.addEdgeWithVertices(g, 0, 3);
+        Graphs.addEdgeWithVertices(g, 3, 4);
+        Graphs.addEdgeWithVertices(g, 4, 5);
+        Graphs.addEdgeWithVertices(g, 10, 11);
+        Graphs.addEdgeWithVertices(g, 11, 12);
+        g.addVertex(20);
+
+        BreadthFirstIterator<Integer, DefaultEdge> bfs =
+            new BreadthFirstIterator<>(g, Arrays.asList(0, 11, 20));
+        while (bfs.hasNext())
+            bfs.next();
+
+        assertEquals(0, bfs.getDepth(0));
+        assertEquals(1, bfs.getDepth(1));
+        assertEquals(2, bfs.getDepth(2));
+        assertEquals(1, bfs.getDepth(3));
+        assertEquals(2, bfs.getDepth(4));
+        assertEquals(3, bfs.getDepth(5));
+        assertEquals(0, bfs.getDepth(11));
+        assertEquals(1, bfs.getDepth(10));
+        assertEquals(1, bfs.getDepth(12));
+        assertEquals(0, bfs.getDepth(20));
+    }
+
+    @Test
+    public void vertexIndexTest()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 500, 7).generateGraph(g);
+
+        BreadthFirstIterator<Integer, DefaultEdge> expected = new BreadthFirstIterator<>(g);
+        BreadthFirstIterator<Integer, DefaultEdge> actual =
+            new BreadthFirstIterator<>(g, null, Integer::intValue);
+        while (expected.hasNext()) {
+            Integer v = expected.next();
+            assertEquals(v, actual.next());
+            assertEquals(expected.getDepth(v), actual.getDepth(v));
+            assertEquals(expected.getSpanningTreeEdge(v), actual.getSpanningTreeEdge(v));
+        }
+        assertFalse(actual.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void vertexIndexOutOfRangeTest()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 5);
+
+        BreadthFirstIterator<Integer, DefaultEdge> bfs =
+            new BreadthFirstIterator<>(g, Collections.singletonList(0), Integer::intValue);
+        while (bfs.hasNext())
+            bfs.next();
+    }
 }
@@ -18,12 +18,15 @@
 package org.jgrapht.traverse;
 
 import org.jgrapht.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 /**
  * Tests for ClosestFirstIterator.
@@ -155,4 +158,30 @@ public class ClosestFirstIteratorTest
     {
         return new ClosestFirstIterator<>(g, startVertex);
     }
+
+    @Test
+    public void testVertexIndex()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 800, 7).generateGraph(g);
+        Random rng = new Random(7);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+
+        List<Integer> sources = Arrays.asList(0, 100);
+        ClosestFirstIterator<Integer, DefaultWeightedEdge> expected =
+            new ClosestFirstIterator<>(g, sources);
+        ClosestFirstIterator<Integer, DefaultWeightedEdge> actual = new ClosestFirstIterator<>(
+            g, sources, Double.POSITIVE_INFINITY, Integer::intValue);
+        while (expected.hasNext()) {
+            Integer v = expected.next();
+            assertEquals(v, actual.next());
+            assertEquals(
+                expected.getShortestPathLength(v), actual.getShortestPathLength(v), 1e-9);
+            assertEquals(expected.getSpanningTreeEdge(v), actual.getSpanningTreeEdge(v));
+        }
+        assertFalse(actual.hasNext());
+    }
 }
@@ -18,7 +18,9 @@
 package org.jgrapht.traverse;
 
 import org.jgrapht.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
@@ -160,4 +162,19 @@ public class DepthFirstIteratorTest
         String expected = "ABCGIFEHJKLD";
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testVertexIndex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 300, 7).generateGraph(g);
+
+        List<Integer> expected = new ArrayList<>();
+        new DepthFirstIterator<>(g).forEachRemaining(expected::add);
+        List<Integer> actual = new ArrayList<>();
+        new DepthFirstIterator<>(g, null, Integer::intValue).forEachRemaining(actual::add);
+
+        assertEquals(expected, actual);
+    }
 }
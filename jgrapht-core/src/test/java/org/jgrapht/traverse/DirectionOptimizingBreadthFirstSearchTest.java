@@ -0,0 +1,185 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.traverse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DirectionOptimizingBreadthFirstSearch}.
+ *
+ * @author agent
+ */
+public class DirectionOptimizingBreadthFirstSearchTest
+{
+
+    @Test
+    public void testPath()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+        Graphs.addEdgeWithVertices(g, 2, 3);
+        Graphs.addEdgeWithVertices(g, 4, 3);
+
+        DirectionOptimizingBreadthFirstSearch.SearchTree<Integer> tree =
+            new DirectionOptimizingBreadthFirstSearch<>(g).search(0);
+
+        assertEquals(0, tree.getDepth(0));
+        assertEquals(1, tree.getDepth(1));
+        assertEquals(2, tree.getDepth(2));
+        assertEquals(3, tree.getDepth(3));
+        assertEquals(-1, tree.getDepth(4));
+        assertNull(tree.getParent(0));
+        assertEquals(Integer.valueOf(2), tree.getParent(3));
+        assertNull(tree.getParent(4));
+        assertFalse(tree.isReachable(4));
+        assertEquals(4, tree.getReachableCount());
+        assertEquals(3, tree.getHeight());
+    }
+
+    @Test
+    public void testMultipleSources()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 9; i++) {
+            Graphs.addEdgeWithVertices(g, i, i + 1);
+        }
+
+        DirectionOptimizingBreadthFirstSearch.SearchTree<Integer> tree =
+            new DirectionOptimizingBreadthFirstSearch<>(g).search(Arrays.asList(0, 9, 0));
+
+        assertEquals(0, tree.getDepth(9));
+        assertEquals(4, tree.getDepth(4));
+        assertEquals(4, tree.getDepth(5));
+        assertEquals(10, tree.getReachableCount());
+        assertEquals(4, tree.getHeight());
+    }
+
+    @Test
+    public void testNoSources()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+
+        DirectionOptimizingBreadthFirstSearch.SearchTree<Integer> tree =
+            new DirectionOptimizingBreadthFirstSearch<>(g).searchIndices();
+
+        assertEquals(0, tree.getReachableCount());
+        assertEquals(-1, tree.getHeight());
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        for (int parallelism : new int[] { 1, 4 }) {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(3000, 30000, seed)
+                    .generateGraph(g);
+                assertSameAsIterator(g, parallelism);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomDirected()
+    {
+        for (int parallelism : new int[] { 1, 4 }) {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(3000, 12000, seed, true, true)
+                    .generateGraph(g);
+                assertSameAsIterator(g, parallelism);
+            }
+        }
+    }
+
+    @Test
+    public void testSparse()
+    {
+        // long paths keep the search in top-down mode
+        for (int parallelism : new int[] { 1, 4 }) {
+            Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(5000, 5500, 17).generateGraph(g);
+            assertSameAsIterator(g, parallelism);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        new DirectionOptimizingBreadthFirstSearch<>(new SimpleGraph<>(DefaultEdge.class), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSource()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new DirectionOptimizingBreadthFirstSearch<>(g).searchIndices(1);
+    }
+
+    private static <V, E> void assertSameAsIterator(Graph<V, E> g, int parallelism)
+    {
+        NeighborIndex<V, E> index = new NeighborIndex<>(g);
+        DirectionOptimizingBreadthFirstSearch<V, E> search =
+            new DirectionOptimizingBreadthFirstSearch<>(index, parallelism);
+
+        int n = index.getVertexCount();
+        for (V source : Arrays.asList(index.getVertex(0), index.getVertex(n / 2))) {
+            DirectionOptimizingBreadthFirstSearch.SearchTree<V> tree = search.search(source);
+            int[] depths = tree.getDepths();
+            int[] parents = tree.getParents();
+
+            BreadthFirstIterator<V, E> it = new BreadthFirstIterator<>(g, source);
+            int count = 0;
+            int height = 0;
+            while (it.hasNext()) {
+                V v = it.next();
+                count++;
+                height = Math.max(height, it.getDepth(v));
+                assertEquals(it.getDepth(v), tree.getDepth(v));
+            }
+            assertEquals(count, tree.getReachableCount());
+            assertEquals(height, tree.getHeight());
+
+            for (int v = 0; v < depths.length; v++) {
+                if (depths[v] <= 0) {
+                    assertEquals(-1, parents[v]);
+                } else {
+                    assertEquals(depths[v] - 1, depths[parents[v]]);
+                    assertTrue(index.isSuccessor(parents[v], v));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ConcurrencyUtil} class.
+ *
+ * @author agent
+ */
+public class ConcurrencyUtilTest
+{
+    @Test
+    public void testResultsInOrder()
+    {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int value = i;
+            tasks.add(() -> value * value);
+        }
+        List<Integer> results = ConcurrencyUtil.invokeAll(3, tasks);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i * i), results.get(i));
+        }
+    }
+
+    @Test
+    public void testReuseExecutor()
+    {
+        ExecutorService executor = ConcurrencyUtil.createThreadPool(2);
+        try {
+            for (int round = 0; round < 3; round++) {
+                final int value = round;
+                List<Callable<Integer>> tasks = Arrays.asList(() -> value, () -> value + 1);
+                assertEquals(
+                    Arrays.asList(round, round + 1), ConcurrencyUtil.invokeAll(executor, tasks));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRuntimeExceptionRethrown()
+    {
+        List<Callable<Void>> tasks = Arrays.asList(() -> null, () -> {
+            throw new IllegalStateException();
+        });
+        ConcurrencyUtil.invokeAll(2, tasks);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testCheckedExceptionWrapped()
+    {
+        List<Callable<Void>> tasks = Collections.singletonList(() -> {
+            throw new IOException();
+        });
+        ConcurrencyUtil.invokeAll(2, tasks);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidParallelism()
+    {
+        ConcurrencyUtil.createThreadPool(0);
+    }
+}
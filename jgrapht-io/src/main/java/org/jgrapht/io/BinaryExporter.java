@@ -0,0 +1,336 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Exports a graph into a compact binary format.
+ *
+ * <p>
+ * The vertices and the edges of the graph are numbered consecutively in the iteration order of
+ * {@link Graph#vertexSet()} and {@link Graph#edgeSet()}. The exporter writes the endpoints of each
+ * edge, the incidence lists of each vertex in compressed sparse row form and, if the graph is
+ * weighted, the weight of each edge as primitive little-endian arrays behind a small versioned
+ * header. Optionally the identifiers of the vertices, as computed by the vertex id provider, are
+ * appended. The layout is designed so that {@link BinaryImporter} can read a file without any
+ * parsing and {@link BinaryGraphView} can map a file into memory and use it directly as the storage
+ * of a read-only graph. Edge labels and attributes are not exported.
+ *
+ * <p>
+ * Since the format is binary, exporting to a {@link Writer} is not supported. The whole file must
+ * fit in a single memory mapping of at most 2 GiB in order to be loaded with
+ * {@link BinaryGraphView}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BinaryImporter
+ * @see BinaryGraphView
+ *
+ * @author agent
+ */
+public class BinaryExporter<V, E>
+    extends
+    AbstractBaseExporter<V, E>
+    implements
+    GraphExporter<V, E>
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final boolean exportVertexIds;
+
+    /**
+     * Constructs a new exporter which does not export vertex identifiers. The vertices are
+     * identified by their index in the file.
+     */
+    public BinaryExporter()
+    {
+        super(new IntegerComponentNameProvider<>());
+        this.exportVertexIds = false;
+    }
+
+    /**
+     * Constructs a new exporter which exports the identifier of each vertex.
+     *
+     * @param vertexIDProvider for generating vertex IDs. Must not be null.
+     */
+    public BinaryExporter(ComponentNameProvider<V> vertexIDProvider)
+    {
+        super(vertexIDProvider);
+        this.exportVertexIds = true;
+    }
+
+    /**
+     * Not supported since the format is binary.
+     *
+     * @throws ExportException always
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, Writer writer)
+        throws ExportException
+    {
+        throw new ExportException("Binary format cannot be exported to a writer");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The stream is not closed.
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, OutputStream out)
+        throws ExportException
+    {
+        try {
+            export(g, Channels.newChannel(out));
+            out.flush();
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, File file)
+        throws ExportException
+    {
+        try (FileChannel channel = FileChannel.open(
+            file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            export(g, channel);
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    private void export(Graph<V, E> g, WritableByteChannel channel)
+        throws IOException
+    {
+        Objects.requireNonNull(g, "Graph cannot be null");
+        boolean directed = g.getType().isDirected();
+        boolean weighted = g.getType().isWeighted();
+
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        int n = vertices.size();
+        for (int i = 0; i < n; i++) {
+            vertexIndex.put(vertices.get(i), i);
+        }
+
+        int m = g.edgeSet().size();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = weighted ? new double[m] : null;
+        int i = 0;
+        for (E e : g.edgeSet()) {
+            sources[i] = vertexIndex.get(g.getEdgeSource(e));
+            targets[i] = vertexIndex.get(g.getEdgeTarget(e));
+            if (weighted) {
+                weights[i] = g.getEdgeWeight(e);
+            }
+            i++;
+        }
+
+        int[] firstOffsets = new int[n + 1];
+        int[] firstIncidence;
+        int[] secondOffsets = null;
+        int[] secondIncidence = null;
+        if (directed) {
+            firstIncidence = incidence(n, sources, null, firstOffsets);
+            secondOffsets = new int[n + 1];
+            secondIncidence = incidence(n, targets, null, secondOffsets);
+        } else {
+            firstIncidence = incidence(n, sources, targets, firstOffsets);
+        }
+
+        byte[][] ids = null;
+        if (exportVertexIds) {
+            ids = new byte[n][];
+            for (int v = 0; v < n; v++) {
+                ids[v] = vertexIDProvider.getName(vertices.get(v)).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        int flags = (directed ? BinaryFormat.FLAG_DIRECTED : 0)
+            | (weighted ? BinaryFormat.FLAG_WEIGHTED : 0)
+            | (exportVertexIds ? BinaryFormat.FLAG_VERTEX_IDS : 0);
+        BinaryFormat format = new BinaryFormat(
+            flags, n, m, firstIncidence.length,
+            secondIncidence == null ? 0 : secondIncidence.length);
+
+        ChannelWriter out = new ChannelWriter(channel);
+        format.writeHeader(out.buffer);
+        out.writeInts(sources);
+        out.writeInts(targets);
+        out.writeInts(firstOffsets);
+        out.writeInts(firstIncidence);
+        if (directed) {
+            out.writeInts(secondOffsets);
+            out.writeInts(secondIncidence);
+        }
+        out.pad(format.weightsOffset);
+        if (weighted) {
+            out.writeDoubles(weights);
+        }
+        if (exportVertexIds) {
+            int offset = 0;
+            for (int v = 0; v < n; v++) {
+                out.writeInt(offset);
+                offset += ids[v].length;
+            }
+            out.writeInt(offset);
+            for (int v = 0; v < n; v++) {
+                out.writeBytes(ids[v]);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Build the incidence lists of the vertices using a counting sort over the edges. Since the
+     * edges are visited in increasing order, the list of each vertex is sorted.
+     *
+     * @param n the number of vertices
+     * @param first the first endpoint of each edge
+     * @param second the second endpoint of each edge, or null if only the first endpoint is used
+     * @param offsets array of length $n+1$ which receives the start of the list of each vertex
+     * @return the incidence lists
+     */
+    private static int[] incidence(int n, int[] first, int[] second, int[] offsets)
+    {
+        int m = first.length;
+        for (int e = 0; e < m; e++) {
+            offsets[first[e] + 1]++;
+            if (second != null && second[e] != first[e]) {
+                offsets[second[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = Arrays.copyOf(offsets, n);
+        int[] edges = new int[offsets[n]];
+        for (int e = 0; e < m; e++) {
+            edges[next[first[e]]++] = e;
+            if (second != null && second[e] != first[e]) {
+                edges[next[second[e]]++] = e;
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Writes primitive values to a channel through a direct little-endian buffer.
+     */
+    private static class ChannelWriter
+    {
+        private final WritableByteChannel channel;
+        final ByteBuffer buffer;
+        private long position;
+
+        ChannelWriter(WritableByteChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void writeInt(int value)
+            throws IOException
+        {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void writeInts(int[] values)
+            throws IOException
+        {
+            for (int value : values) {
+                ensure(4);
+                buffer.putInt(value);
+            }
+        }
+
+        void writeDoubles(double[] values)
+            throws IOException
+        {
+            for (double value : values) {
+                ensure(8);
+                buffer.putDouble(value);
+            }
+        }
+
+        void writeBytes(byte[] values)
+            throws IOException
+        {
+            int offset = 0;
+            while (offset < values.length) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), values.length - offset);
+                buffer.put(values, offset, length);
+                offset += length;
+            }
+        }
+
+        /**
+         * Write zero bytes until a position is reached.
+         *
+         * @param target the position
+         * @throws IOException in case of an I/O error
+         */
+        void pad(long target)
+            throws IOException
+        {
+            while (position + buffer.position() < target) {
+                ensure(1);
+                buffer.put((byte) 0);
+            }
+        }
+
+        private void ensure(int bytes)
+            throws IOException
+        {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush()
+            throws IOException
+        {
+            /* cast for compatibility with the covariant return types of Java 9 */
+            ((Buffer) buffer).flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+            ((Buffer) buffer).clear();
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+/**
+ * Layout of the binary graph format shared by {@link BinaryExporter}, {@link BinaryImporter} and
+ * {@link BinaryGraphView}.
+ *
+ * <p>
+ * All values are little-endian. A file starts with a header of eight 32-bit integers: the magic
+ * number (the bytes {@code JGBF}), the format version, a set of flags (directed, weighted, vertex
+ * identifiers present), the number of vertices $n$, the number of edges $m$, the length of the
+ * first and of the second incidence array and a reserved word. The header is followed by these
+ * sections:
+ * <ol>
+ * <li>the source of each edge, {@code int[m]},</li>
+ * <li>the target of each edge, {@code int[m]},</li>
+ * <li>the offsets of the first incidence array, {@code int[n+1]}, and the first incidence array
+ * which lists the outgoing edges of each vertex, or all edges of each vertex for undirected graphs
+ * where self-loops are listed once,</li>
+ * <li>for directed graphs only, the offsets and the contents of the second incidence array which
+ * lists the incoming edges of each vertex,</li>
+ * <li>for weighted graphs only, the weight of each edge, {@code double[m]}, aligned to eight
+ * bytes,</li>
+ * <li>if vertex identifiers are present, the byte offsets of the identifiers, {@code int[n+1]},
+ * followed by the UTF-8 encoded identifiers.</li>
+ * </ol>
+ * Within an incidence array the edges of each vertex are sorted in increasing order.
+ *
+ * @author agent
+ */
+final class BinaryFormat
+{
+    /* The bytes 'J', 'G', 'B', 'F' read as a little-endian integer */
+    static final int MAGIC = 0x4642474A;
+    static final int VERSION = 1;
+
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 2;
+    static final int FLAG_VERTEX_IDS = 4;
+
+    static final int HEADER_SIZE = 32;
+
+    final int flags;
+    final int n;
+    final int m;
+    final int firstIncidenceLength;
+    final int secondIncidenceLength;
+
+    final long sourcesOffset;
+    final long targetsOffset;
+    final long firstOffsetsOffset;
+    final long firstIncidenceOffset;
+    final long secondOffsetsOffset;
+    final long secondIncidenceOffset;
+    final long weightsOffset;
+    final long vertexIdOffsetsOffset;
+    final long vertexIdBytesOffset;
+
+    BinaryFormat(
+        int flags, int n, int m, int firstIncidenceLength, int secondIncidenceLength)
+    {
+        this.flags = flags;
+        this.n = n;
+        this.m = m;
+        this.firstIncidenceLength = firstIncidenceLength;
+        this.secondIncidenceLength = secondIncidenceLength;
+
+        long offset = HEADER_SIZE;
+        this.sourcesOffset = offset;
+        offset += 4L * m;
+        this.targetsOffset = offset;
+        offset += 4L * m;
+        this.firstOffsetsOffset = offset;
+        offset += 4L * (n + 1);
+        this.firstIncidenceOffset = offset;
+        offset += 4L * firstIncidenceLength;
+        if (isDirected()) {
+            this.secondOffsetsOffset = offset;
+            offset += 4L * (n + 1);
+            this.secondIncidenceOffset = offset;
+            offset += 4L * secondIncidenceLength;
+        } else {
+            this.secondOffsetsOffset = -1;
+            this.secondIncidenceOffset = -1;
+        }
+        offset = (offset + 7) & ~7L;
+        this.weightsOffset = offset;
+        if (isWeighted()) {
+            offset += 8L * m;
+        }
+        this.vertexIdOffsetsOffset = offset;
+        if (hasVertexIds()) {
+            offset += 4L * (n + 1);
+        }
+        this.vertexIdBytesOffset = offset;
+    }
+
+    boolean isDirected()
+    {
+        return (flags & FLAG_DIRECTED) != 0;
+    }
+
+    boolean isWeighted()
+    {
+        return (flags & FLAG_WEIGHTED) != 0;
+    }
+
+    boolean hasVertexIds()
+    {
+        return (flags & FLAG_VERTEX_IDS) != 0;
+    }
+
+    /**
+     * Read the identifier of a vertex.
+     *
+     * @param buffer a little-endian buffer containing the whole file
+     * @param v the vertex index
+     * @return the identifier
+     * @throws ImportException if the offsets of the identifier are corrupt
+     */
+    String readVertexId(ByteBuffer buffer, int v)
+        throws ImportException
+    {
+        int start = buffer.getInt((int) (vertexIdOffsetsOffset + 4L * v));
+        int end = buffer.getInt((int) (vertexIdOffsetsOffset + 4L * (v + 1)));
+        if (start < 0 || end < start || vertexIdBytesOffset + end > buffer.capacity()) {
+            throw new ImportException(
+                "Corrupt binary graph: invalid identifier offsets of vertex " + v);
+        }
+        byte[] bytes = new byte[end - start];
+        ByteBuffer source = buffer.duplicate();
+        /* cast for compatibility with the covariant return types of Java 9 */
+        ((Buffer) source).position((int) (vertexIdBytesOffset + start));
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write the header to a little-endian buffer.
+     *
+     * @param buffer the buffer
+     */
+    void writeHeader(ByteBuffer buffer)
+    {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(flags);
+        buffer.putInt(n);
+        buffer.putInt(m);
+        buffer.putInt(firstIncidenceLength);
+        buffer.putInt(secondIncidenceLength);
+        buffer.putInt(0);
+    }
+
+    /**
+     * Read and validate the header of a little-endian buffer which contains a whole file.
+     *
+     * @param buffer the buffer
+     * @return the layout of the file
+     * @throws ImportException if the buffer does not contain a valid file
+     */
+    static BinaryFormat readHeader(ByteBuffer buffer)
+        throws ImportException
+    {
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new ImportException("Truncated binary graph: missing header");
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new ImportException("Not a binary graph: invalid magic number");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new ImportException("Unsupported binary graph version " + version);
+        }
+        int flags = buffer.getInt(8);
+        int n = buffer.getInt(12);
+        int m = buffer.getInt(16);
+        int first = buffer.getInt(20);
+        int second = buffer.getInt(24);
+        if (n < 0 || m < 0 || first < 0 || second < 0) {
+            throw new ImportException("Corrupt binary graph: negative size");
+        }
+        BinaryFormat format = new BinaryFormat(flags, n, m, first, second);
+        if (format.vertexIdBytesOffset > buffer.capacity()) {
+            throw new ImportException("Truncated binary graph");
+        }
+        if (format.hasVertexIds() && format.vertexIdBytesOffset
+            + buffer.getInt((int) (format.vertexIdOffsetsOffset + 4L * n)) > buffer.capacity())
+        {
+            throw new ImportException("Truncated binary graph: missing vertex identifiers");
+        }
+        return format;
+    }
+
+    /**
+     * Map a whole file into memory as a read-only little-endian buffer.
+     *
+     * @param file the file
+     * @return the buffer
+     * @throws ImportException in case of an I/O error or if the file is larger than 2 GiB
+     */
+    static ByteBuffer map(File file)
+        throws ImportException
+    {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new ImportException("Binary graph files larger than 2 GiB cannot be mapped");
+            }
+            return channel
+                .map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
+    /**
+     * Read a whole stream into a little-endian buffer.
+     *
+     * @param in the stream
+     * @return the buffer
+     * @throws ImportException in case of an I/O error
+     */
+    static ByteBuffer read(InputStream in)
+        throws ImportException
+    {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] block = new byte[1 << 16];
+            int read;
+            while ((read = in.read(block)) != -1) {
+                out.write(block, 0, read);
+            }
+            return ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
+}
@@ -0,0 +1,530 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A read-only graph backed directly by a memory-mapped file in the format written by
+ * {@link BinaryExporter}.
+ *
+ * <p>
+ * The vertices are the integers $0, \dots, n-1$ and the edges are the integers $0, \dots, m-1$ in
+ * the order in which they were exported. Loading a graph with {@link #map(File)} only maps the file
+ * into memory and validates its header; the primitive arrays of the file are used as the storage of
+ * the graph without copying and are paged in by the operating system on first access. Loading is
+ * thus almost instantaneous even for very large graphs and several processes mapping the same file
+ * share its pages. The identifiers of the exported vertices, if present in the file, can be
+ * retrieved with {@link #getVertexId(int)}.
+ *
+ * <p>
+ * The graph allows self-loops and multiple edges. All modification methods throw
+ * {@link UnsupportedOperationException}. The incidence lists of the vertices are sorted, hence
+ * membership tests on the sets returned by {@link #edgesOf(Integer)} and its variants take
+ * logarithmic time, while looking up an edge by its endpoints takes time linear in the degree of
+ * the source. Only the header of the file is validated, the rest of the file is trusted. The file
+ * must not be modified while it is mapped and can be at most 2 GiB large. The graph cannot be
+ * serialized.
+ *
+ * @see BinaryExporter
+ * @see BinaryImporter
+ *
+ * @author agent
+ */
+public class BinaryGraphView
+    extends
+    AbstractGraph<Integer, Integer>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final ByteBuffer buffer;
+    private final BinaryFormat format;
+
+    private final int sources;
+    private final int targets;
+    private final int firstOffsets;
+    private final int firstIncidence;
+    private final int secondOffsets;
+    private final int secondIncidence;
+    private final int weights;
+
+    private final Set<Integer> vertexSet;
+    private final Set<Integer> edgeSet;
+
+    private BinaryGraphView(ByteBuffer buffer, BinaryFormat format)
+    {
+        this.buffer = buffer;
+        this.format = format;
+        this.sources = (int) format.sourcesOffset;
+        this.targets = (int) format.targetsOffset;
+        this.firstOffsets = (int) format.firstOffsetsOffset;
+        this.firstIncidence = (int) format.firstIncidenceOffset;
+        this.secondOffsets = (int) format.secondOffsetsOffset;
+        this.secondIncidence = (int) format.secondIncidenceOffset;
+        this.weights = (int) format.weightsOffset;
+        this.vertexSet = new RangeSet(format.n);
+        this.edgeSet = new RangeSet(format.m);
+    }
+
+    /**
+     * Map a file written by {@link BinaryExporter} into memory and create a graph backed by it.
+     *
+     * @param file the file
+     * @return the graph
+     * @throws ImportException in case of an I/O error or if the file is not a valid binary graph
+     */
+    public static BinaryGraphView map(File file)
+        throws ImportException
+    {
+        ByteBuffer buffer = BinaryFormat.map(file);
+        return new BinaryGraphView(buffer, BinaryFormat.readHeader(buffer));
+    }
+
+    /**
+     * Get the exported identifier of a vertex.
+     *
+     * @param v the vertex
+     * @return the identifier of the vertex or null if the file contains no identifiers
+     * @throws IllegalArgumentException if the vertex does not exist
+     * @throws IllegalStateException if the offsets of the identifier in the file are corrupt
+     */
+    public String getVertexId(int v)
+    {
+        assertVertexExist(v);
+        if (!format.hasVertexIds()) {
+            return null;
+        }
+        try {
+            return format.readVertexId(buffer, v);
+        } catch (ImportException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < format.m;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < format.n;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target(e);
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        if (!format.isWeighted()) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return buffer.getDouble(weights + 8 * e);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        int v = vertex;
+        if (format.isDirected()) {
+            return rowLength(firstOffsets, v) + rowLength(secondOffsets, v);
+        }
+        int degree = 0;
+        for (int p = rowStart(firstOffsets, v), end = rowStart(firstOffsets, v + 1); p < end;
+            p++)
+        {
+            int e = buffer.getInt(firstIncidence + 4 * p);
+            degree += source(e) == target(e) ? 2 : 1;
+        }
+        return degree;
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (format.isDirected()) {
+            Set<Integer> result = new LinkedHashSet<>(incomingEdgesOf(vertex));
+            result.addAll(outgoingEdgesOf(vertex));
+            return Collections.unmodifiableSet(result);
+        }
+        return new IncidenceSet(firstIncidence, firstOffsets, vertex);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        if (!format.isDirected()) {
+            return degreeOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return rowLength(secondOffsets, vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        if (!format.isDirected()) {
+            return edgesOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return new IncidenceSet(secondIncidence, secondOffsets, vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        if (!format.isDirected()) {
+            return degreeOf(vertex);
+        }
+        assertVertexExist(vertex);
+        return rowLength(firstOffsets, vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new IncidenceSet(firstIncidence, firstOffsets, vertex);
+    }
+
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int u = sourceVertex;
+        int v = targetVertex;
+        Set<Integer> result = new LinkedHashSet<>();
+        for (int p = rowStart(firstOffsets, u), end = rowStart(firstOffsets, u + 1); p < end;
+            p++)
+        {
+            int e = buffer.getInt(firstIncidence + 4 * p);
+            if (oppositeVertex(e, u) == v) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int u = sourceVertex;
+        int v = targetVertex;
+        for (int p = rowStart(firstOffsets, u), end = rowStart(firstOffsets, u + 1); p < end;
+            p++)
+        {
+            int e = buffer.getInt(firstIncidence + 4 * p);
+            if (oppositeVertex(e, u) == v) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+        if (format.isDirected()) {
+            builder = builder.directed();
+        } else {
+            builder = builder.undirected();
+        }
+        return builder
+            .weighted(format.isWeighted()).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    private int source(int e)
+    {
+        return buffer.getInt(sources + 4 * e);
+    }
+
+    private int target(int e)
+    {
+        return buffer.getInt(targets + 4 * e);
+    }
+
+    private int oppositeVertex(int e, int v)
+    {
+        int s = source(e);
+        return s == v ? target(e) : s;
+    }
+
+    private int rowStart(int offsets, int v)
+    {
+        return buffer.getInt(offsets + 4 * v);
+    }
+
+    private int rowLength(int offsets, int v)
+    {
+        return rowStart(offsets, v + 1) - rowStart(offsets, v);
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    /**
+     * An unmodifiable view of a sorted incidence list of the mapped file.
+     */
+    private class IncidenceSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int incidence;
+        private final int start;
+        private final int end;
+
+        IncidenceSet(int incidence, int offsets, int v)
+        {
+            this.incidence = incidence;
+            this.start = rowStart(offsets, v);
+            this.end = rowStart(offsets, v + 1);
+        }
+
+        private int get(int p)
+        {
+            return buffer.getInt(incidence + 4 * p);
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = start;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < end;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(next++);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int e = (Integer) o;
+            int low = start;
+            int high = end - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int value = get(mid);
+                if (value < e) {
+                    low = mid + 1;
+                } else if (value > e) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int size()
+        {
+            return end - start;
+        }
+    }
+
+    /**
+     * An unmodifiable set of all integers in the range $[0, n)$ which does not store its elements.
+     */
+    private static class RangeSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int n;
+
+        RangeSet(int n)
+        {
+            this.n = n;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < n;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= n) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int i = (Integer) o;
+            return i >= 0 && i < n;
+        }
+
+        @Override
+        public int size()
+        {
+            return n;
+        }
+    }
+
+}
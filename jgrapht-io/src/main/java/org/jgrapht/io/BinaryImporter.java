@@ -0,0 +1,152 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * Imports a graph from the binary format written by {@link BinaryExporter}.
+ *
+ * <p>
+ * Files are mapped into memory and the primitive arrays of the format are read directly from the
+ * mapping, thus no parsing takes place and importing is usually dominated by the cost of creating
+ * the vertex and edge objects of the target graph. If no objects are needed at all, the file can
+ * instead be used directly as the storage of a read-only graph with {@link BinaryGraphView}.
+ *
+ * <p>
+ * For each vertex the vertex provider is called with the exported identifier of the vertex, or
+ * with the decimal representation of its index if the file contains no identifiers. In order to
+ * avoid allocations per edge the edge provider is called with a {@code null} label and an empty,
+ * unmodifiable attribute map. If both the graph and the file are weighted, the weight of each
+ * edge is set to the weight stored in the file.
+ *
+ * <p>
+ * The provided graph must be able to support the features of the graph that is read. For example
+ * if the file contains self-loops then the graph provided must also support self-loops. The same
+ * for multiple edges. Since the format is binary, importing from a {@link Reader} is not
+ * supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BinaryExporter
+ * @see BinaryGraphView
+ *
+ * @author agent
+ */
+public class BinaryImporter<V, E>
+    extends
+    AbstractBaseImporter<V, E>
+    implements
+    GraphImporter<V, E>
+{
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public BinaryImporter(VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        super(vertexProvider, edgeProvider);
+    }
+
+    /**
+     * Not supported since the format is binary.
+     *
+     * @throws ImportException always
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader in)
+        throws ImportException
+    {
+        throw new ImportException("Binary format cannot be imported from a reader");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The whole stream is read into memory.
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream in)
+        throws ImportException
+    {
+        importGraph(graph, BinaryFormat.read(in));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The file is mapped into memory.
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        importGraph(graph, BinaryFormat.map(file));
+    }
+
+    private void importGraph(Graph<V, E> graph, ByteBuffer buffer)
+        throws ImportException
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        BinaryFormat format = BinaryFormat.readHeader(buffer);
+        boolean weighted = format.isWeighted() && graph.getType().isWeighted();
+
+        try {
+            int n = format.n;
+            List<V> vertices = new ArrayList<>(n);
+            for (int v = 0; v < n; v++) {
+                String id = format.hasVertexIds() ? format.readVertexId(buffer, v)
+                    : Integer.toString(v);
+                V vertex = vertexProvider.buildVertex(id, new HashMap<>());
+                graph.addVertex(vertex);
+                vertices.add(vertex);
+            }
+
+            Map<String, Attribute> noAttributes = Collections.emptyMap();
+            int sources = (int) format.sourcesOffset;
+            int targets = (int) format.targetsOffset;
+            int weights = (int) format.weightsOffset;
+            for (int i = 0; i < format.m; i++) {
+                int s = buffer.getInt(sources + 4 * i);
+                int t = buffer.getInt(targets + 4 * i);
+                if (s < 0 || s >= n || t < 0 || t >= n) {
+                    throw new ImportException("Edge " + i + " has an invalid endpoint");
+                }
+                V from = vertices.get(s);
+                V to = vertices.get(t);
+                E e = edgeProvider.buildEdge(from, to, null, noAttributes);
+                // the edge is not added if the graph rejects it as a duplicate
+                if (graph.addEdge(from, to, e) && weighted) {
+                    graph.setEdgeWeight(e, buffer.getDouble(weights + 8 * i));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+        }
+    }
+
+}
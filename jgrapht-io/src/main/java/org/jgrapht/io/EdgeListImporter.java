@@ -0,0 +1,261 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Imports a graph from a plain edge list.
+ *
+ * <p>
+ * The format contains one edge per line, given by its source and target vertex and an optional
+ * weight, see {@link EdgeListParser} for the details. In contrast to {@link CSVImporter} and
+ * {@link DOTImporter}, which are based on generated parsers building parse trees, this importer
+ * streams over the bytes of the input, decodes the numbers without intermediate strings and adds
+ * the edges to the graph in batches. Files are read through memory-mapped regions, thus large edge
+ * lists can be imported at a speed close to the speed of the disk.
+ *
+ * <p>
+ * Vertices are identified by non-negative integers. The first time an identifier is encountered a
+ * vertex is created by the vertex provider, with the decimal representation of the identifier as
+ * its id, and added to the graph. The vertices are looked up in an array indexed by the identifier
+ * as long as the identifiers are dense, i.e. not much larger than the number of vertices read so
+ * far. Larger identifiers are kept in a hash map until the array has grown enough to cover them, so
+ * the memory used for the lookup stays proportional to the number of vertices even for sparse
+ * identifiers. In order to avoid allocations per edge, the edge provider is called with a
+ * {@code null} label and an empty, unmodifiable attribute map. If the graph is weighted, the weight
+ * of each edge is set to the weight read from the input or the default weight if the line contains
+ * no weight.
+ *
+ * <p>
+ * The provided graph must be able to support the features of the graph that is read. For example
+ * if the input contains self-loops then the graph provided must also support self-loops. The same
+ * for multiple edges.
+ *
+ * <p>
+ * If a compact integer graph is the target, the edges can also be read into primitive arrays using
+ * {@link EdgeListParser#parseEdgeArrays(File)} without creating any vertex or edge objects.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see EdgeListParser
+ *
+ * @author agent
+ */
+public class EdgeListImporter<V, E>
+    extends
+    AbstractBaseImporter<V, E>
+    implements
+    GraphImporter<V, E>
+{
+    /*
+     * The vertex array is only grown to cover an identifier which is less than this factor times the
+     * number of vertices read so far, plus the initial capacity.
+     */
+    private static final int DENSE_FACTOR = 4;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final double defaultWeight;
+    private final int batchSize;
+
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public EdgeListImporter(VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        this(vertexProvider, edgeProvider, Graph.DEFAULT_EDGE_WEIGHT);
+    }
+
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     * @param defaultWeight default edge weight
+     */
+    public EdgeListImporter(
+        VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider, double defaultWeight)
+    {
+        this(vertexProvider, edgeProvider, defaultWeight, EdgeListParser.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Construct a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     * @param defaultWeight default edge weight
+     * @param batchSize the number of edges parsed before they are added to the graph
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public EdgeListImporter(
+        VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider, double defaultWeight,
+        int batchSize)
+    {
+        super(vertexProvider, edgeProvider);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.defaultWeight = defaultWeight;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader in)
+        throws ImportException
+    {
+        createParser().parse(in, new GraphBatchHandler(graph));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream in)
+        throws ImportException
+    {
+        createParser().parse(in, new GraphBatchHandler(graph));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The file is read through memory-mapped regions.
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        createParser().parse(file, new GraphBatchHandler(graph));
+    }
+
+    private EdgeListParser createParser()
+    {
+        return new EdgeListParser(defaultWeight, batchSize);
+    }
+
+    /**
+     * Adds the batches to a graph.
+     */
+    private class GraphBatchHandler
+        implements
+        EdgeListParser.EdgeBatchHandler
+    {
+        private final Graph<V, E> graph;
+        private final boolean weighted;
+        private final Map<String, Attribute> noAttributes;
+        private Object[] vertices;
+        private Map<Integer, V> sparseVertices;
+        private int numVertices;
+
+        GraphBatchHandler(Graph<V, E> graph)
+        {
+            this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+            this.weighted = graph.getType().isWeighted();
+            this.noAttributes = Collections.emptyMap();
+            this.vertices = new Object[INITIAL_CAPACITY];
+            this.sparseVertices = new HashMap<>();
+        }
+
+        @Override
+        public void handle(int[] sources, int[] targets, double[] weights, int size)
+            throws ImportException
+        {
+            try {
+                for (int i = 0; i < size; i++) {
+                    V from = vertex(sources[i]);
+                    V to = vertex(targets[i]);
+                    E e = edgeProvider.buildEdge(from, to, null, noAttributes);
+                    // the edge is not added if the graph rejects it as a duplicate
+                    if (graph.addEdge(from, to, e) && weighted) {
+                        graph.setEdgeWeight(e, weights[i]);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                throw new ImportException("Failed to import edge list: " + e.getMessage(), e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V vertex(int id)
+        {
+            if (id >= vertices.length
+                && id < DENSE_FACTOR * (long) numVertices + INITIAL_CAPACITY)
+            {
+                grow(id);
+            }
+            if (id >= vertices.length) {
+                V v = sparseVertices.get(id);
+                if (v == null) {
+                    v = createVertex(id);
+                    sparseVertices.put(id, v);
+                }
+                return v;
+            }
+            V v = (V) vertices[id];
+            if (v == null) {
+                v = createVertex(id);
+                vertices[id] = v;
+            }
+            return v;
+        }
+
+        private V createVertex(int id)
+        {
+            V v = vertexProvider.buildVertex(Integer.toString(id), new HashMap<>());
+            graph.addVertex(v);
+            numVertices++;
+            return v;
+        }
+
+        /**
+         * Grow the vertex array to cover an identifier and move the vertices of the hash map which
+         * are now covered by the array.
+         *
+         * @param id the identifier
+         */
+        private void grow(int id)
+        {
+            int capacity =
+                (int) Math.min(Math.max(2L * vertices.length, id + 1L), Integer.MAX_VALUE);
+            vertices = Arrays.copyOf(vertices, capacity);
+            if (!sparseVertices.isEmpty()) {
+                Iterator<Map.Entry<Integer, V>> it = sparseVertices.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Integer, V> entry = it.next();
+                    if (entry.getKey() < capacity) {
+                        vertices[entry.getKey()] = entry.getValue();
+                        it.remove();
+                    }
+                }
+            }
+        }
+    }
+
+}
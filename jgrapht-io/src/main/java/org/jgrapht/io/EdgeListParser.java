@@ -0,0 +1,634 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * A streaming parser for plain edge lists.
+ *
+ * <p>
+ * The input contains one edge per line. Each line holds the source and the target vertex of the
+ * edge, given as non-negative integers, optionally followed by the weight of the edge:
+ *
+ * <pre>
+ * # comment
+ * 0 1
+ * 1 2 0.5
+ * 2,3,1e-3
+ * </pre>
+ *
+ * Columns are separated by spaces, tabs, a comma or a semicolon. Empty lines and lines starting
+ * with {@code #} or {@code %} are ignored, as are any columns after the weight. Both {@code \n}
+ * and {@code \r\n} line endings are accepted.
+ *
+ * <p>
+ * The parser works directly on the bytes of the input. Integers and doubles are decoded without
+ * creating intermediate strings and the edges are handed over in batches of primitive arrays to
+ * an {@link EdgeBatchHandler}, thus apart from the batch arrays nothing is allocated per edge.
+ * Files are read through memory-mapped regions of a {@link FileChannel}; streams and readers are
+ * read in large blocks. The batches can be added to a graph, see {@link EdgeListImporter}, or
+ * collected into the arrays backing a compact integer graph, see {@link #parseEdgeArrays(File)}.
+ *
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @see EdgeListImporter
+ *
+ * @author agent
+ */
+public class EdgeListParser
+{
+    /**
+     * Default number of edges of a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 8192;
+
+    private static final int DEFAULT_MAP_REGION_SIZE = 1 << 28;
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    /* Exactly representable powers of ten used by the fast path of double parsing */
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+        1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private final double defaultWeight;
+    private final int batchSize;
+
+    /* Size of the memory-mapped regions, only changed by tests */
+    int mapRegionSize = DEFAULT_MAP_REGION_SIZE;
+
+    /* Current batch */
+    private final int[] sources;
+    private final int[] targets;
+    private final double[] weights;
+    private int batchCount;
+    private EdgeBatchHandler handler;
+
+    /* Current input and position */
+    private ByteBuffer buffer;
+    private int pos;
+    private long line;
+
+    /**
+     * Create a new parser.
+     */
+    public EdgeListParser()
+    {
+        this(Graph.DEFAULT_EDGE_WEIGHT, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a new parser.
+     *
+     * @param defaultWeight the weight of edges whose line does not contain a weight
+     * @param batchSize the maximum number of edges of a batch
+     * @throws IllegalArgumentException if the batch size is not positive
+     */
+    public EdgeListParser(double defaultWeight, int batchSize)
+    {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.defaultWeight = defaultWeight;
+        this.batchSize = batchSize;
+        this.sources = new int[batchSize];
+        this.targets = new int[batchSize];
+        this.weights = new double[batchSize];
+    }
+
+    /**
+     * Handler of the edges produced by the parser.
+     */
+    @FunctionalInterface
+    public interface EdgeBatchHandler
+    {
+        /**
+         * Handle a batch of edges. The arrays are reused by the parser for the next batch, thus
+         * they must not be retained.
+         *
+         * @param sources the sources of the edges
+         * @param targets the targets of the edges
+         * @param weights the weights of the edges
+         * @param size the number of edges of the batch, which are at positions $0$ to size-1 of
+         *        the arrays
+         * @throws ImportException in case the edges cannot be handled
+         */
+        void handle(int[] sources, int[] targets, double[] weights, int size)
+            throws ImportException;
+    }
+
+    /**
+     * Parse an edge list file. The file is read through memory-mapped regions.
+     *
+     * @param file the file
+     * @param handler the handler of the edges
+     * @throws ImportException in case of an I/O or parse error
+     */
+    public void parse(File file, EdgeBatchHandler handler)
+        throws ImportException
+    {
+        start(handler);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long offset = 0;
+            while (offset < size) {
+                int length = (int) Math.min(size - offset, mapRegionSize);
+                boolean last = offset + length == size;
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                int consumed = parseLines(0, length, last);
+                if (consumed == 0) {
+                    throw new ImportException(
+                        "Line " + (line + 1) + " does not fit into a memory-mapped region");
+                }
+                offset += consumed;
+            }
+        } catch (IOException e) {
+            throw new ImportException(e);
+        } finally {
+            buffer = null;
+        }
+        finish();
+    }
+
+    /**
+     * Parse an edge list from an input stream. The stream is read in large blocks and is not
+     * closed.
+     *
+     * @param in the input stream
+     * @param handler the handler of the edges
+     * @throws ImportException in case of an I/O or parse error
+     */
+    public void parse(InputStream in, EdgeBatchHandler handler)
+        throws ImportException
+    {
+        start(handler);
+        byte[] block = new byte[BLOCK_SIZE];
+        buffer = ByteBuffer.wrap(block);
+        int filled = 0;
+        try {
+            while (true) {
+                int read = in.read(block, filled, block.length - filled);
+                if (read == -1) {
+                    parseLines(0, filled, true);
+                    break;
+                }
+                filled += read;
+                int consumed = parseLines(0, filled, false);
+                System.arraycopy(block, consumed, block, 0, filled - consumed);
+                filled -= consumed;
+                if (filled == block.length) {
+                    // a single line fills the whole block
+                    block = Arrays.copyOf(block, 2 * block.length);
+                    buffer = ByteBuffer.wrap(block);
+                }
+            }
+        } catch (IOException e) {
+            throw new ImportException(e);
+        } finally {
+            buffer = null;
+        }
+        finish();
+    }
+
+    /**
+     * Parse an edge list from a reader. The reader is read in large blocks and is not closed.
+     * Since the format only contains ASCII characters, each character is converted to a single
+     * byte.
+     *
+     * @param in the reader
+     * @param handler the handler of the edges
+     * @throws ImportException in case of an I/O or parse error
+     */
+    public void parse(Reader in, EdgeBatchHandler handler)
+        throws ImportException
+    {
+        char[] chars = new char[BLOCK_SIZE];
+        parse(new InputStream()
+        {
+            @Override
+            public int read(byte[] b, int off, int len)
+                throws IOException
+            {
+                int read = in.read(chars, 0, Math.min(len, chars.length));
+                for (int i = 0; i < read; i++) {
+                    char c = chars[i];
+                    b[off + i] = c < 0x80 ? (byte) c : (byte) '?';
+                }
+                return read;
+            }
+
+            @Override
+            public int read()
+                throws IOException
+            {
+                int c = in.read();
+                return c < 0x80 ? c : '?';
+            }
+        }, handler);
+    }
+
+    /**
+     * Parse an edge list file into primitive arrays which can directly back a compact integer
+     * graph, such as the sparse graphs of the jgrapht-opt module.
+     *
+     * @param file the file
+     * @return the edges of the file
+     * @throws ImportException in case of an I/O or parse error
+     */
+    public EdgeArrays parseEdgeArrays(File file)
+        throws ImportException
+    {
+        EdgeArraysCollector collector = new EdgeArraysCollector();
+        parse(file, collector);
+        return collector.build();
+    }
+
+    /**
+     * Parse an edge list from an input stream into primitive arrays which can directly back a
+     * compact integer graph, such as the sparse graphs of the jgrapht-opt module.
+     *
+     * @param in the input stream
+     * @return the edges of the input
+     * @throws ImportException in case of an I/O or parse error
+     */
+    public EdgeArrays parseEdgeArrays(InputStream in)
+        throws ImportException
+    {
+        EdgeArraysCollector collector = new EdgeArraysCollector();
+        parse(in, collector);
+        return collector.build();
+    }
+
+    private void start(EdgeBatchHandler handler)
+    {
+        this.handler = Objects.requireNonNull(handler, "Handler cannot be null");
+        this.batchCount = 0;
+        this.line = 0;
+    }
+
+    private void finish()
+        throws ImportException
+    {
+        flush();
+        handler = null;
+    }
+
+    private void flush()
+        throws ImportException
+    {
+        if (batchCount > 0) {
+            handler.handle(sources, targets, weights, batchCount);
+            batchCount = 0;
+        }
+    }
+
+    /**
+     * Parse all complete lines of the current buffer in a range of positions.
+     *
+     * @param from the first position
+     * @param to the position after the last one
+     * @param last whether the end of the range is the end of the input, in which case the last
+     *        line does not need to be terminated
+     * @return the position after the last parsed line
+     * @throws ImportException in case of a parse error
+     */
+    private int parseLines(int from, int to, boolean last)
+        throws ImportException
+    {
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            if (lineEnd == to && !last) {
+                break;
+            }
+            line++;
+            parseLine(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+        }
+        return Math.min(lineStart, to);
+    }
+
+    private void parseLine(int start, int end)
+        throws ImportException
+    {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        pos = start;
+        skipBlanks(end);
+        if (pos == end) {
+            return;
+        }
+        byte first = buffer.get(pos);
+        if (first == '#' || first == '%') {
+            return;
+        }
+
+        int source = parseVertex(end);
+        skipSeparator(end);
+        int target = parseVertex(end);
+        double weight = defaultWeight;
+        skipSeparator(end);
+        if (pos < end) {
+            weight = parseWeight(end);
+        }
+
+        sources[batchCount] = source;
+        targets[batchCount] = target;
+        weights[batchCount] = weight;
+        if (++batchCount == batchSize) {
+            flush();
+        }
+    }
+
+    private void skipBlanks(int end)
+    {
+        while (pos < end) {
+            byte b = buffer.get(pos);
+            if (b != ' ' && b != '\t') {
+                break;
+            }
+            pos++;
+        }
+    }
+
+    private void skipSeparator(int end)
+    {
+        skipBlanks(end);
+        if (pos < end) {
+            byte b = buffer.get(pos);
+            if (b == ',' || b == ';') {
+                pos++;
+                skipBlanks(end);
+            }
+        }
+    }
+
+    private boolean isDelimiter(byte b)
+    {
+        return b == ' ' || b == '\t' || b == ',' || b == ';';
+    }
+
+    private int parseVertex(int end)
+        throws ImportException
+    {
+        int start = pos;
+        long value = 0;
+        while (pos < end) {
+            byte b = buffer.get(pos);
+            if (b < '0' || b > '9') {
+                if (isDelimiter(b)) {
+                    break;
+                }
+                throw parseError("invalid vertex");
+            }
+            value = 10 * value + (b - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw parseError("vertex out of range");
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw parseError("missing vertex");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse a double. Numbers with at most 18 significant digits whose decimal exponent is small
+     * are decoded exactly from their digits; anything else, such as long mantissas,
+     * {@code Infinity} or {@code NaN}, falls back to {@link Double#parseDouble(String)}.
+     */
+    private double parseWeight(int end)
+        throws ImportException
+    {
+        int start = pos;
+        while (pos < end && !isDelimiter(buffer.get(pos))) {
+            pos++;
+        }
+        int tokenEnd = pos;
+
+        int p = start;
+        boolean negative = false;
+        byte b = buffer.get(p);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            p++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean fast = true;
+        while (p < tokenEnd && (b = buffer.get(p)) >= '0' && b <= '9') {
+            seenDigit = true;
+            if (mantissa != 0 || b != '0') {
+                if (++digits > 18) {
+                    fast = false;
+                }
+                mantissa = 10 * mantissa + (b - '0');
+            }
+            p++;
+        }
+        if (p < tokenEnd && buffer.get(p) == '.') {
+            p++;
+            while (p < tokenEnd && (b = buffer.get(p)) >= '0' && b <= '9') {
+                seenDigit = true;
+                if (mantissa != 0 || b != '0') {
+                    if (++digits > 18) {
+                        fast = false;
+                    }
+                    mantissa = 10 * mantissa + (b - '0');
+                }
+                exponent--;
+                p++;
+            }
+        }
+        if (seenDigit && p < tokenEnd && ((b = buffer.get(p)) == 'e' || b == 'E')) {
+            p++;
+            boolean negativeExponent = false;
+            if (p < tokenEnd && ((b = buffer.get(p)) == '-' || b == '+')) {
+                negativeExponent = b == '-';
+                p++;
+            }
+            int e = 0;
+            int expStart = p;
+            while (p < tokenEnd && (b = buffer.get(p)) >= '0' && b <= '9') {
+                if (e < 10000) {
+                    e = 10 * e + (b - '0');
+                }
+                p++;
+            }
+            if (p == expStart) {
+                fast = false;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+
+        if (fast && seenDigit && p == tokenEnd && mantissa < (1L << 53)
+            && exponent >= -22 && exponent <= 22)
+        {
+            double value = mantissa;
+            if (exponent < 0) {
+                value /= POWERS_OF_TEN[-exponent];
+            } else {
+                value *= POWERS_OF_TEN[exponent];
+            }
+            return negative ? -value : value;
+        }
+        if (fast && seenDigit && p == tokenEnd && mantissa == 0) {
+            return negative ? -0d : 0d;
+        }
+
+        // slow path
+        byte[] token = new byte[tokenEnd - start];
+        for (int i = 0; i < token.length; i++) {
+            token[i] = buffer.get(start + i);
+        }
+        try {
+            return Double.parseDouble(new String(token, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw parseError("invalid weight");
+        }
+    }
+
+    private ImportException parseError(String message)
+    {
+        return new ImportException("Line " + line + ": " + message);
+    }
+
+    /**
+     * The edges of an edge list stored in primitive arrays. Edge $i$ goes from
+     * {@code getSources()[i]} to {@code getTargets()[i]} and has weight {@code getWeights()[i]}.
+     */
+    public static final class EdgeArrays
+    {
+        private final int numVertices;
+        private final int[] sources;
+        private final int[] targets;
+        private final double[] weights;
+
+        EdgeArrays(int numVertices, int[] sources, int[] targets, double[] weights)
+        {
+            this.numVertices = numVertices;
+            this.sources = sources;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        /**
+         * Get the number of vertices, that is the largest vertex plus one.
+         *
+         * @return the number of vertices
+         */
+        public int getNumVertices()
+        {
+            return numVertices;
+        }
+
+        /**
+         * Get the number of edges.
+         *
+         * @return the number of edges
+         */
+        public int getNumEdges()
+        {
+            return sources.length;
+        }
+
+        /**
+         * Get the sources of the edges. The array is not copied.
+         *
+         * @return the sources of the edges
+         */
+        public int[] getSources()
+        {
+            return sources;
+        }
+
+        /**
+         * Get the targets of the edges. The array is not copied.
+         *
+         * @return the targets of the edges
+         */
+        public int[] getTargets()
+        {
+            return targets;
+        }
+
+        /**
+         * Get the weights of the edges. The array is not copied.
+         *
+         * @return the weights of the edges
+         */
+        public double[] getWeights()
+        {
+            return weights;
+        }
+    }
+
+    /**
+     * Collects all batches into growing arrays.
+     */
+    private static class EdgeArraysCollector
+        implements
+        EdgeBatchHandler
+    {
+        private int[] sources = new int[1024];
+        private int[] targets = new int[1024];
+        private double[] weights = new double[1024];
+        private int size = 0;
+        private int numVertices = 0;
+
+        @Override
+        public void handle(int[] batchSources, int[] batchTargets, double[] batchWeights, int n)
+        {
+            if (size + n > sources.length) {
+                int capacity = Math.max(2 * sources.length, size + n);
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(batchSources, 0, sources, size, n);
+            System.arraycopy(batchTargets, 0, targets, size, n);
+            System.arraycopy(batchWeights, 0, weights, size, n);
+            for (int i = 0; i < n; i++) {
+                numVertices = Math.max(numVertices, Math.max(batchSources[i], batchTargets[i]) + 1);
+            }
+            size += n;
+        }
+
+        EdgeArrays build()
+        {
+            return new EdgeArrays(
+                numVertices, Arrays.copyOf(sources, size), Arrays.copyOf(targets, size),
+                Arrays.copyOf(weights, size));
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BinaryExporter}, {@link BinaryImporter} and {@link BinaryGraphView}.
+ *
+ * @author agent
+ */
+public class BinaryExporterTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Graph<String, DefaultWeightedEdge> createDirectedGraph()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("ç");
+        g.addVertex("isolated");
+        g.setEdgeWeight(g.addEdge("a", "b"), 1.5);
+        g.setEdgeWeight(g.addEdge("b", "ç"), -2d);
+        g.setEdgeWeight(g.addEdge("ç", "a"), 3d);
+        g.setEdgeWeight(g.addEdge("a", "b"), 4d);
+        g.setEdgeWeight(g.addEdge("b", "b"), 5d);
+        return g;
+    }
+
+    private static Graph<String, DefaultWeightedEdge> importGraph(
+        File file, Graph<String, DefaultWeightedEdge> target)
+        throws ImportException
+    {
+        BinaryImporter<String, DefaultWeightedEdge> importer =
+            new BinaryImporter<>((id, a) -> id, (f, t, l, a) -> new DefaultWeightedEdge());
+        importer.importGraph(target, file);
+        return target;
+    }
+
+    private static <V, E> void assertSameGraph(
+        Graph<V, E> expected, Graph<String, DefaultWeightedEdge> actual)
+    {
+        assertEquals(expected.vertexSet().size(), actual.vertexSet().size());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        Iterator<DefaultWeightedEdge> it = actual.edgeSet().iterator();
+        for (E e : expected.edgeSet()) {
+            DefaultWeightedEdge a = it.next();
+            assertEquals(expected.getEdgeSource(e).toString(), actual.getEdgeSource(a));
+            assertEquals(expected.getEdgeTarget(e).toString(), actual.getEdgeTarget(a));
+            assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(a), 0d);
+        }
+    }
+
+    @Test
+    public void testDirectedRoundTrip()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g = createDirectedGraph();
+        File file = folder.newFile();
+        new BinaryExporter<String, DefaultWeightedEdge>(v -> v).exportGraph(g, file);
+
+        Graph<String, DefaultWeightedEdge> result =
+            importGraph(file, new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        assertSameGraph(g, result);
+        assertTrue(result.containsVertex("isolated"));
+    }
+
+    @Test
+    public void testStreamRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g = createDirectedGraph();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExporter<String, DefaultWeightedEdge>(v -> v).exportGraph(g, out);
+
+        Graph<String, DefaultWeightedEdge> result =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        new BinaryImporter<String, DefaultWeightedEdge>(
+            (id, a) -> id, (f, t, l, a) -> new DefaultWeightedEdge())
+                .importGraph(result, new ByteArrayInputStream(out.toByteArray()));
+        assertSameGraph(g, result);
+    }
+
+    @Test
+    public void testDirectedView()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g = createDirectedGraph();
+        File file = folder.newFile();
+        new BinaryExporter<String, DefaultWeightedEdge>(v -> v).exportGraph(g, file);
+
+        BinaryGraphView view = BinaryGraphView.map(file);
+        assertTrue(view.getType().isDirected());
+        assertTrue(view.getType().isWeighted());
+        assertEquals(4, view.vertexSet().size());
+        assertEquals(5, view.edgeSet().size());
+        assertEquals("a", view.getVertexId(0));
+        assertEquals("ç", view.getVertexId(2));
+        assertEquals("isolated", view.getVertexId(3));
+
+        assertEquals(new HashSet<>(Arrays.asList(0, 3)), view.outgoingEdgesOf(0));
+        assertEquals(Collections.singleton(2), view.incomingEdgesOf(0));
+        assertEquals(2, view.outDegreeOf(1));
+        assertEquals(3, view.inDegreeOf(1));
+        assertEquals(5, view.degreeOf(1));
+        assertTrue(view.outgoingEdgesOf(1).contains(4));
+        assertFalse(view.outgoingEdgesOf(1).contains(0));
+        assertEquals(0, view.degreeOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(0, 3)), view.getAllEdges(0, 1));
+        assertNull(view.getEdge(1, 0));
+        assertEquals(-2d, view.getEdgeWeight(1), 0d);
+        assertEquals(Integer.valueOf(2), view.getEdgeSource(2));
+        assertEquals(Integer.valueOf(0), view.getEdgeTarget(2));
+    }
+
+    @Test
+    public void testUndirectedView()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(2, 2);
+        g.addEdge(1, 0);
+        File file = folder.newFile();
+        new BinaryExporter<Integer, DefaultEdge>().exportGraph(g, file);
+
+        BinaryGraphView view = BinaryGraphView.map(file);
+        assertFalse(view.getType().isDirected());
+        assertFalse(view.getType().isWeighted());
+        assertNull(view.getVertexId(0));
+        assertEquals(3, view.degreeOf(1));
+        assertEquals(3, view.degreeOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), view.edgesOf(2));
+        assertEquals(view.edgesOf(0), view.outgoingEdgesOf(0));
+        assertEquals(Integer.valueOf(0), view.getEdge(1, 0));
+        assertEquals(2, view.getAllEdges(0, 1).size());
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, view.getEdgeWeight(0), 0d);
+    }
+
+    @Test
+    public void testRandomGraphs()
+        throws IOException, ExportException, ImportException
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier())
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(500, 20000, 17, true, true)
+                .generateGraph(g);
+            Random rng = new Random(17);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+
+            File file = folder.newFile();
+            new BinaryExporter<Integer, DefaultWeightedEdge>(v -> v.toString())
+                .exportGraph(g, file);
+            Graph<String, DefaultWeightedEdge> imported = importGraph(
+                file, directed ? new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class)
+                    : new WeightedPseudograph<>(DefaultWeightedEdge.class));
+            assertSameGraph(g, imported);
+
+            BinaryGraphView view = BinaryGraphView.map(file);
+            for (int v = 0; v < 500; v++) {
+                assertEquals(Integer.toString(v), view.getVertexId(v));
+                assertEquals(g.degreeOf(v), view.degreeOf(v));
+                assertEquals(g.inDegreeOf(v), view.inDegreeOf(v));
+                assertEquals(g.outDegreeOf(v), view.outDegreeOf(v));
+            }
+        }
+    }
+
+    @Test(expected = ImportException.class)
+    public void testInvalidMagic()
+        throws IOException, ImportException
+    {
+        File file = folder.newFile();
+        Files.write(file.toPath(), new byte[64]);
+        BinaryGraphView.map(file);
+    }
+
+    @Test(expected = ImportException.class)
+    public void testTruncated()
+        throws IOException, ExportException, ImportException
+    {
+        File file = folder.newFile();
+        new BinaryExporter<String, DefaultWeightedEdge>().exportGraph(createDirectedGraph(), file);
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 8));
+        importGraph(file, new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+    }
+
+    @Test(expected = ExportException.class)
+    public void testWriterUnsupported()
+        throws ExportException
+    {
+        new BinaryExporter<String, DefaultWeightedEdge>()
+            .exportGraph(createDirectedGraph(), new StringWriter());
+    }
+
+}
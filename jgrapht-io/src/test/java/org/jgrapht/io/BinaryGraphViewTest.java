@@ -0,0 +1,189 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BinaryGraphView}.
+ *
+ * @author agent
+ */
+public class BinaryGraphViewTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private <V, E> BinaryGraphView map(Graph<V, E> g)
+        throws IOException, ExportException, ImportException
+    {
+        File file = folder.newFile();
+        new BinaryExporter<V, E>(v -> v.toString()).exportGraph(g, file);
+        return BinaryGraphView.map(file);
+    }
+
+    private static Graph<Integer, DefaultEdge> createUnweightedGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        return g;
+    }
+
+    @Test
+    public void testRoundTrip()
+        throws IOException, ExportException, ImportException
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier())
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 1000, 17, true, true)
+                .generateGraph(g);
+            Random rng = new Random(17);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextDouble());
+            }
+
+            BinaryGraphView view = map(g);
+            assertEquals(directed, view.getType().isDirected());
+            assertEquals(g.vertexSet(), view.vertexSet());
+            assertEquals(g.edgeSet().size(), view.edgeSet().size());
+
+            int i = 0;
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                int s = view.getEdgeSource(i);
+                int t = view.getEdgeTarget(i);
+                assertEquals(g.getEdgeSource(e).intValue(), s);
+                assertEquals(g.getEdgeTarget(e).intValue(), t);
+                assertEquals(g.getEdgeWeight(e), view.getEdgeWeight(i), 0d);
+                assertTrue(view.outgoingEdgesOf(s).contains(i));
+                assertTrue(view.incomingEdgesOf(t).contains(i));
+                assertTrue(view.getAllEdges(s, t).contains(i));
+                assertEquals(g.getAllEdges(s, t).size(), view.getAllEdges(s, t).size());
+                assertTrue(view.containsEdge(s, t));
+                i++;
+            }
+            for (int v : view.vertexSet()) {
+                assertEquals(Integer.toString(v), view.getVertexId(v));
+                assertEquals(g.degreeOf(v), view.degreeOf(v));
+                assertEquals(g.inDegreeOf(v), view.inDegreeOf(v));
+                assertEquals(g.outDegreeOf(v), view.outDegreeOf(v));
+                assertEquals(g.edgesOf(v).size(), view.edgesOf(v).size());
+                assertEquals(g.outgoingEdgesOf(v).size(), view.outgoingEdgesOf(v).size());
+                assertEquals(g.incomingEdgesOf(v).size(), view.incomingEdgesOf(v).size());
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyGraph()
+        throws IOException, ExportException, ImportException
+    {
+        BinaryGraphView view =
+            map(new DefaultDirectedGraph<Integer, DefaultEdge>(DefaultEdge.class));
+        assertTrue(view.vertexSet().isEmpty());
+        assertTrue(view.edgeSet().isEmpty());
+        assertFalse(view.containsVertex(0));
+        assertNull(view.getEdge(0, 0));
+    }
+
+    @Test
+    public void testMissingElements()
+        throws IOException, ExportException, ImportException
+    {
+        BinaryGraphView view = map(createUnweightedGraph());
+        assertFalse(view.containsEdge(2));
+        assertFalse(view.containsEdge(-1));
+        assertFalse(view.containsVertex(3));
+        assertNull(view.getEdge(0, 3));
+        assertNull(view.getAllEdges(3, 0));
+        assertTrue(view.getAllEdges(1, 0).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightOfMissingEdgeUnweighted()
+        throws IOException, ExportException, ImportException
+    {
+        map(createUnweightedGraph()).getEdgeWeight(2);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testWeightOfNullEdgeUnweighted()
+        throws IOException, ExportException, ImportException
+    {
+        map(createUnweightedGraph()).getEdgeWeight(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightOfMissingEdgeWeighted()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1, 2d);
+        map(g).getEdgeWeight(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSourceOfMissingEdge()
+        throws IOException, ExportException, ImportException
+    {
+        map(createUnweightedGraph()).getEdgeSource(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertexId()
+        throws IOException, ExportException, ImportException
+    {
+        map(createUnweightedGraph()).getVertexId(3);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+        throws IOException, ExportException, ImportException
+    {
+        map(createUnweightedGraph()).addEdge(0, 2);
+    }
+
+    @Test(expected = NotSerializableException.class)
+    public void testNotSerializable()
+        throws IOException, ExportException, ImportException
+    {
+        BinaryGraphView view = map(createUnweightedGraph());
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            out.writeObject(view);
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BinaryImporter}.
+ *
+ * @author agent
+ */
+public class BinaryImporterTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static Graph<String, DefaultWeightedEdge> createUndirectedGraph()
+    {
+        Graph<String, DefaultWeightedEdge> g = new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "isolated"));
+        g.setEdgeWeight(g.addEdge("a", "b"), 1.5);
+        g.setEdgeWeight(g.addEdge("c", "b"), -2d);
+        g.setEdgeWeight(g.addEdge("d", "d"), 3d);
+        g.setEdgeWeight(g.addEdge("b", "a"), 4d);
+        g.setEdgeWeight(g.addEdge("a", "d"), Double.POSITIVE_INFINITY);
+        return g;
+    }
+
+    private static <E> BinaryImporter<String, E> createImporter(Graph<String, E> g)
+    {
+        return new BinaryImporter<>((id, a) -> id, (f, t, l, a) -> g.getEdgeSupplier().get());
+    }
+
+    private File export(Graph<String, DefaultWeightedEdge> g, boolean withIds)
+        throws IOException, ExportException
+    {
+        File file = folder.newFile();
+        BinaryExporter<String, DefaultWeightedEdge> exporter =
+            withIds ? new BinaryExporter<>(v -> v) : new BinaryExporter<>();
+        exporter.exportGraph(g, file);
+        return file;
+    }
+
+    @Test
+    public void testUndirectedRoundTrip()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> g = createUndirectedGraph();
+        Graph<String, DefaultWeightedEdge> result =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(result).importGraph(result, export(g, true));
+
+        assertEquals(new ArrayList<>(g.vertexSet()), new ArrayList<>(result.vertexSet()));
+        assertEquals(g.edgeSet().size(), result.edgeSet().size());
+        Iterator<DefaultWeightedEdge> it = result.edgeSet().iterator();
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            DefaultWeightedEdge a = it.next();
+            assertEquals(g.getEdgeSource(e), result.getEdgeSource(a));
+            assertEquals(g.getEdgeTarget(e), result.getEdgeTarget(a));
+            assertEquals(g.getEdgeWeight(e), result.getEdgeWeight(a), 0d);
+        }
+        assertEquals(3, result.degreeOf("a"));
+        assertEquals(0, result.degreeOf("isolated"));
+    }
+
+    @Test
+    public void testWithoutVertexIds()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> result =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(result).importGraph(result, export(createUndirectedGraph(), false));
+
+        assertEquals(Arrays.asList("0", "1", "2", "3", "4"), new ArrayList<>(result.vertexSet()));
+        assertEquals(-2d, result.getEdgeWeight(result.getEdge("2", "1")), 0d);
+        assertTrue(result.containsEdge("3", "3"));
+    }
+
+    @Test
+    public void testUnweightedTarget()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultEdge> result = new Pseudograph<>(DefaultEdge.class);
+        createImporter(result).importGraph(result, export(createUndirectedGraph(), true));
+
+        assertEquals(5, result.edgeSet().size());
+        for (DefaultEdge e : result.edgeSet()) {
+            assertEquals(Graph.DEFAULT_EDGE_WEIGHT, result.getEdgeWeight(e), 0d);
+        }
+    }
+
+    @Test
+    public void testUnweightedFile()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "a");
+        File file = folder.newFile();
+        new BinaryExporter<String, DefaultEdge>(v -> v).exportGraph(g, file);
+
+        Graph<String, DefaultWeightedEdge> result =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(result).importGraph(result, file);
+        assertEquals(2, result.edgeSet().size());
+        assertEquals(
+            Graph.DEFAULT_EDGE_WEIGHT, result.getEdgeWeight(result.getEdge("b", "a")), 0d);
+    }
+
+    @Test
+    public void testDuplicateEdge()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> result =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graph<String, DefaultWeightedEdge> g = createUndirectedGraph();
+        g.removeVertex("d");
+        createImporter(result).importGraph(result, export(g, true));
+
+        assertEquals(2, result.edgeSet().size());
+        assertEquals(1.5, result.getEdgeWeight(result.getEdge("a", "b")), 0d);
+        assertEquals(-2d, result.getEdgeWeight(result.getEdge("b", "c")), 0d);
+    }
+
+    @Test(expected = ImportException.class)
+    public void testUnsupportedSelfLoop()
+        throws IOException, ExportException, ImportException
+    {
+        Graph<String, DefaultWeightedEdge> result =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        createImporter(result).importGraph(result, export(createUndirectedGraph(), true));
+    }
+
+    @Test(expected = ImportException.class)
+    public void testCorruptVertexIdOffsets()
+        throws IOException, ExportException, ImportException
+    {
+        ByteBuffer buffer = ByteBuffer
+            .wrap(Files.readAllBytes(export(createUndirectedGraph(), true).toPath()))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        BinaryFormat format = BinaryFormat.readHeader(buffer);
+        // the identifier of vertex 1 ends before it starts
+        buffer.putInt((int) (format.vertexIdOffsetsOffset + 8), -1);
+
+        Graph<String, DefaultWeightedEdge> result =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(result).importGraph(result, new ByteArrayInputStream(buffer.array()));
+    }
+
+    @Test(expected = ImportException.class)
+    public void testReaderUnsupported()
+        throws ImportException
+    {
+        Graph<String, DefaultWeightedEdge> result =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        createImporter(result).importGraph(result, new StringReader(""));
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link EdgeListImporter} and {@link EdgeListParser}.
+ *
+ * @author agent
+ */
+public class EdgeListImporterTest
+{
+    private static final String INPUT = "# a comment\n" + "0 1\n" + "\n" + "1\t2  0.5\r\n"
+        + "% another comment\n" + "2,3,1e-3\n" + "3; 0; -2.25 ignored\n" + "  4 4 Infinity";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Graph<Integer, DefaultWeightedEdge> createGraph()
+    {
+        return new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+    }
+
+    private EdgeListImporter<Integer, DefaultWeightedEdge> createImporter(
+        Graph<Integer, DefaultWeightedEdge> g, int batchSize)
+    {
+        return new EdgeListImporter<>(
+            (id, a) -> Integer.parseInt(id), (f, t, l, a) -> g.getEdgeSupplier().get(), 7d,
+            batchSize);
+    }
+
+    private void assertInputGraph(Graph<Integer, DefaultWeightedEdge> g)
+    {
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(5, g.edgeSet().size());
+        assertEquals(7d, g.getEdgeWeight(g.getEdge(0, 1)), 0d);
+        assertEquals(0.5, g.getEdgeWeight(g.getEdge(1, 2)), 0d);
+        assertEquals(1e-3, g.getEdgeWeight(g.getEdge(2, 3)), 0d);
+        assertEquals(-2.25, g.getEdgeWeight(g.getEdge(3, 0)), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, g.getEdgeWeight(g.getEdge(4, 4)), 0d);
+    }
+
+    private File write(String content)
+        throws IOException
+    {
+        File file = folder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    @Test
+    public void testReader()
+        throws ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        createImporter(g, 2).importGraph(g, new StringReader(INPUT));
+        assertInputGraph(g);
+    }
+
+    @Test
+    public void testInputStream()
+        throws ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        createImporter(g, 1).importGraph(
+            g, new ByteArrayInputStream(INPUT.getBytes(StandardCharsets.US_ASCII)));
+        assertInputGraph(g);
+    }
+
+    @Test
+    public void testFile()
+        throws ImportException, IOException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        createImporter(g, 1000).importGraph(g, write(INPUT));
+        assertInputGraph(g);
+    }
+
+    @Test
+    public void testUnweightedGraph()
+        throws ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        new EdgeListImporter<Integer, DefaultEdge>(
+            (id, a) -> Integer.parseInt(id), (f, t, l, a) -> g.getEdgeSupplier().get())
+                .importGraph(g, new StringReader(INPUT));
+        assertEquals(5, g.edgeSet().size());
+        assertTrue(g.containsEdge(3, 0));
+    }
+
+    @Test
+    public void testDoubles()
+        throws ImportException
+    {
+        String[] weights = { "0", "-0.0", "1", "+2.5", "123456789.125", "1E22", "1e-22", ".5",
+            "5.", "3.141592653589793", "2.2250738585072014E-308", "1e300", "12345678901234567890.5",
+            "0.000000000000000000000000001", "NaN", "-Infinity", "4.9e-324" };
+        StringBuilder sb = new StringBuilder();
+        for (String w : weights) {
+            sb.append("0 1 ").append(w).append('\n');
+        }
+        EdgeListParser.EdgeArrays edges = new EdgeListParser().parseEdgeArrays(
+            new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(weights.length, edges.getNumEdges());
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(
+                weights[i], Double.doubleToLongBits(Double.parseDouble(weights[i])),
+                Double.doubleToLongBits(edges.getWeights()[i]));
+        }
+    }
+
+    @Test
+    public void testEdgeArraysAcrossMappedRegions()
+        throws ImportException, IOException
+    {
+        Random rng = new Random(17);
+        int m = 5000;
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < m; i++) {
+            sources[i] = rng.nextInt(1000);
+            targets[i] = rng.nextInt(1000);
+            sb.append(sources[i]).append(' ').append(targets[i]).append(' ').append(i).append('\n');
+        }
+        File file = write(sb.toString());
+
+        EdgeListParser parser = new EdgeListParser(1d, 100);
+        parser.mapRegionSize = 37;
+        EdgeListParser.EdgeArrays edges = parser.parseEdgeArrays(file);
+        assertEquals(m, edges.getNumEdges());
+        assertArrayEquals(sources, edges.getSources());
+        assertArrayEquals(targets, edges.getTargets());
+        int max = 0;
+        for (int i = 0; i < m; i++) {
+            assertEquals(i, edges.getWeights()[i], 0d);
+            max = Math.max(max, Math.max(sources[i], targets[i]));
+        }
+        assertEquals(max + 1, edges.getNumVertices());
+    }
+
+    @Test
+    public void testLongLineInStream()
+        throws ImportException
+    {
+        StringBuilder sb = new StringBuilder("1 2");
+        for (int i = 0; i < 100000; i++) {
+            sb.append(' ');
+        }
+        sb.append("3.5\n4 5");
+        EdgeListParser.EdgeArrays edges = new EdgeListParser().parseEdgeArrays(
+            new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(2, edges.getNumEdges());
+        assertEquals(3.5, edges.getWeights()[0], 0d);
+        assertEquals(5, edges.getTargets()[1]);
+        assertEquals(6, edges.getNumVertices());
+    }
+
+    @Test
+    public void testSparseVertices()
+        throws ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        createImporter(g, 2).importGraph(
+            g, new StringReader("0 2000000000\n2000000000 5\n1999999999 2000000000\n5 0\n"));
+        assertEquals(
+            new HashSet<>(Arrays.asList(0, 5, 1999999999, 2000000000)), g.vertexSet());
+        assertEquals(4, g.edgeSet().size());
+        assertTrue(g.containsEdge(0, 2000000000));
+        assertTrue(g.containsEdge(2000000000, 5));
+        assertTrue(g.containsEdge(1999999999, 2000000000));
+        assertTrue(g.containsEdge(5, 0));
+    }
+
+    @Test
+    public void testSparseVerticesMovedToArray()
+        throws ImportException
+    {
+        // vertex 3000 is first seen as a sparse identifier and later covered by the array
+        StringBuilder sb = new StringBuilder("0 3000\n");
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i).append(' ').append(i + 1).append('\n');
+        }
+        sb.append("3000 2999\n");
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        createImporter(g, 16).importGraph(g, new StringReader(sb.toString()));
+        assertEquals(1003, g.vertexSet().size());
+        assertEquals(1002, g.edgeSet().size());
+        assertEquals(2, g.degreeOf(3000));
+    }
+
+    @Test
+    public void testInvalidVertex()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        try {
+            createImporter(g, 10).importGraph(g, new StringReader("0 1\n1 -2\n"));
+            fail("No exception");
+        } catch (ImportException e) {
+            assertEquals("Line 2: invalid vertex", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMissingTarget()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        try {
+            createImporter(g, 10).importGraph(g, new StringReader("0 1\n\n7\n"));
+            fail("No exception");
+        } catch (ImportException e) {
+            assertEquals("Line 3: missing vertex", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph();
+        try {
+            createImporter(g, 10).importGraph(g, new StringReader("0 1 1.5x\n"));
+            fail("No exception");
+        } catch (ImportException e) {
+            assertEquals("Line 1: invalid weight", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDuplicateEdge()
+        throws ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        createImporter(g, 10).importGraph(g, new StringReader("0 1 2.5\n1 2\n0 1 3.5\n"));
+        assertEquals(2, g.edgeSet().size());
+        assertEquals(2.5, g.getEdgeWeight(g.getEdge(0, 1)), 0d);
+        assertEquals(7d, g.getEdgeWeight(g.getEdge(1, 2)), 0d);
+    }
+
+    @Test(expected = ImportException.class)
+    public void testUnsupportedSelfLoop()
+        throws ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new EdgeListImporter<Integer, DefaultEdge>(
+            (id, a) -> Integer.parseInt(id), (f, t, l, a) -> g.getEdgeSupplier().get())
+                .importGraph(g, new StringReader("0 0\n"));
+    }
+}
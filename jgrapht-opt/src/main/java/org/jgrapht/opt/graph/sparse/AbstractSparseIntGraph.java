@@ -0,0 +1,293 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Base class for the immutable sparse graphs with integer vertices and integer edges.
+ *
+ * <p>
+ * Vertices are the integers $0, \dots, n-1$ and edges the integers $0, \dots, m-1$ numbered in
+ * the order in which they are given to the constructor. The endpoints of each edge are kept in two
+ * primitive arrays and the adjacency structure is kept in compressed sparse row (CSR) matrices
+ * which are built by the subclasses. All structural modification methods throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @see SparseIntDirectedGraph
+ * @see SparseIntUndirectedGraph
+ *
+ * @author agent
+ */
+public abstract class AbstractSparseIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -4416406402470578052L;
+
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    /**
+     * Number of vertices
+     */
+    protected final int n;
+
+    /**
+     * Source of each edge
+     */
+    protected final int[] source;
+
+    /**
+     * Target of each edge
+     */
+    protected final int[] target;
+
+    private final Set<Integer> vertexSet;
+    private final Set<Integer> edgeSet;
+
+    /**
+     * Create a new graph.
+     *
+     * <p>
+     * The arrays are used directly as the storage of the graph and must not be modified
+     * afterwards.
+     *
+     * @param numVertices the number of vertices
+     * @param source source of each edge
+     * @param target target of each edge
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex or the arrays
+     *         have different lengths
+     */
+    protected AbstractSparseIntGraph(int numVertices, int[] source, int[] target)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        Objects.requireNonNull(source, "Source array cannot be null");
+        Objects.requireNonNull(target, "Target array cannot be null");
+        if (source.length != target.length) {
+            throw new IllegalArgumentException("Source and target arrays must have equal length");
+        }
+        for (int i = 0; i < source.length; i++) {
+            if (source[i] < 0 || source[i] >= numVertices || target[i] < 0
+                || target[i] >= numVertices)
+            {
+                throw new IllegalArgumentException("Edge " + i + " has an invalid endpoint");
+            }
+        }
+        this.n = numVertices;
+        this.source = source;
+        this.target = target;
+        this.vertexSet = new IntegerRangeSet(numVertices);
+        this.edgeSet = new IntegerRangeSet(source.length);
+    }
+
+    /**
+     * Split a list of edges into a source and a target array.
+     *
+     * @param edges the edges
+     * @return the source and target arrays
+     */
+    static int[][] toArrays(List<Pair<Integer, Integer>> edges)
+    {
+        int m = edges.size();
+        int[] source = new int[m];
+        int[] target = new int[m];
+        int i = 0;
+        for (Pair<Integer, Integer> e : edges) {
+            source[i] = e.getFirst();
+            target[i] = e.getSecond();
+            i++;
+        }
+        return new int[][] { source, target };
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < source.length;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < n;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return vertexSet;
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source[e];
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target[e];
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new LinkedHashSet<>();
+        for (Integer e : outgoingEdgesOf(sourceVertex)) {
+            if (getOppositeVertex(e, sourceVertex) == targetVertex) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        for (Integer e : outgoingEdgesOf(sourceVertex)) {
+            if (getOppositeVertex(e, sourceVertex) == targetVertex) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the endpoint of an edge opposite to a vertex.
+     *
+     * @param e the edge
+     * @param v one of the endpoints
+     * @return the other endpoint
+     */
+    protected int getOppositeVertex(int e, int v)
+    {
+        return source[e] == v ? target[e] : source[e];
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+}
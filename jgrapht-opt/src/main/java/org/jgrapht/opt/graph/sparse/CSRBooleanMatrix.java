@@ -0,0 +1,206 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A boolean matrix in compressed sparse row format.
+ *
+ * <p>
+ * The non-zero entries of row $i$ are stored contiguously in {@code columnIndices} between
+ * positions {@code rowOffsets[i]} (inclusive) and {@code rowOffsets[i+1]} (exclusive). Within a row
+ * the column indices are sorted in increasing order. The matrix is built in $O(r + c + nnz)$ time
+ * using a counting sort on the row indices.
+ *
+ * @author agent
+ */
+class CSRBooleanMatrix
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -2418404297806339011L;
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowOffsets;
+    private final int[] columnIndices;
+
+    /**
+     * Create a new matrix from a list of non-zero entries. The entries are given as two parallel
+     * arrays; only the first {@code nnz} positions of each array are used. Entries must be given
+     * in increasing column order for the rows to end up sorted.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param rowIndex row index of each non-zero entry
+     * @param columnIndex column index of each non-zero entry
+     * @param nnz number of non-zero entries
+     */
+    CSRBooleanMatrix(int rows, int columns, int[] rowIndex, int[] columnIndex, int nnz)
+    {
+        this.rows = rows;
+        this.columns = columns;
+        this.rowOffsets = new int[rows + 1];
+        this.columnIndices = new int[nnz];
+
+        for (int i = 0; i < nnz; i++) {
+            rowOffsets[rowIndex[i] + 1]++;
+        }
+        for (int i = 0; i < rows; i++) {
+            rowOffsets[i + 1] += rowOffsets[i];
+        }
+        int[] nextPosition = Arrays.copyOf(rowOffsets, rows);
+        for (int i = 0; i < nnz; i++) {
+            columnIndices[nextPosition[rowIndex[i]]++] = columnIndex[i];
+        }
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    int rows()
+    {
+        return rows;
+    }
+
+    /**
+     * Get the number of columns.
+     *
+     * @return the number of columns
+     */
+    int columns()
+    {
+        return columns;
+    }
+
+    /**
+     * Get the number of non-zero entries of a row.
+     *
+     * @param row the row
+     * @return the number of non-zero entries of a row
+     */
+    int nonZeros(int row)
+    {
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    /**
+     * Get the position of the first non-zero entry of a row in the column index array.
+     *
+     * @param row the row
+     * @return the start position (inclusive)
+     */
+    int rowStart(int row)
+    {
+        return rowOffsets[row];
+    }
+
+    /**
+     * Get the position after the last non-zero entry of a row in the column index array.
+     *
+     * @param row the row
+     * @return the end position (exclusive)
+     */
+    int rowEnd(int row)
+    {
+        return rowOffsets[row + 1];
+    }
+
+    /**
+     * Get the column index stored at a particular position.
+     *
+     * @param position the position
+     * @return the column index
+     */
+    int columnAt(int position)
+    {
+        return columnIndices[position];
+    }
+
+    /**
+     * Get the columns of the non-zero entries of a row as an unmodifiable set.
+     *
+     * @param row the row
+     * @return the set of columns with non-zero entries
+     */
+    Set<Integer> nonZerosSet(int row)
+    {
+        return new RowSet(rowOffsets[row], rowOffsets[row + 1]);
+    }
+
+    /**
+     * A live unmodifiable view of the non-zeros of a row.
+     */
+    private class RowSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int start;
+        private final int end;
+
+        RowSet(int start, int end)
+        {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int position = start;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return position < end;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (position >= end) {
+                        throw new NoSuchElementException();
+                    }
+                    return columnIndices[position++];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            return Arrays.binarySearch(columnIndices, start, end, (Integer) o) >= 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return end - start;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An unmodifiable set of all integers in the range $[0, n)$ which does not store its elements.
+ *
+ * @author agent
+ */
+class IntegerRangeSet
+    extends
+    AbstractSet<Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 3416128474413522962L;
+
+    private final int n;
+
+    /**
+     * Create a new set.
+     *
+     * @param n the number of elements
+     */
+    IntegerRangeSet(int n)
+    {
+        this.n = n;
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new Iterator<Integer>()
+        {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return next < n;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if (next >= n) {
+                    throw new NoSuchElementException();
+                }
+                return next++;
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (!(o instanceof Integer)) {
+            return false;
+        }
+        int i = (Integer) o;
+        return i >= 0 && i < n;
+    }
+
+    @Override
+    public int size()
+    {
+        return n;
+    }
+
+}
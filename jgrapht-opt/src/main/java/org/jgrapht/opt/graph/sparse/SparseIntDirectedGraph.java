@@ -0,0 +1,191 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * An immutable directed graph with integer vertices and integer edges, stored in compressed
+ * sparse row format.
+ *
+ * <p>
+ * The vertices are the integers $0, \dots, n-1$ and the edges are the integers $0, \dots, m-1$,
+ * numbered in the order in which they appear in the input. The graph is built in a single pass over
+ * the edge list using a counting sort and uses two CSR incidence matrices, one for the outgoing
+ * and one for the incoming edges. Apart from the two endpoint arrays this amounts to two integers
+ * per edge and two integers per vertex, which is an order of magnitude less than the per-edge
+ * objects and hash maps used by {@link AbstractBaseGraph}. The outgoing edges of a vertex are
+ * stored contiguously which makes iterating over them cache friendly.
+ *
+ * <p>
+ * The graph allows self-loops and multiple edges. All modification methods throw
+ * {@link UnsupportedOperationException}. Looking up an edge by its endpoints takes time linear in
+ * the out-degree of the source.
+ *
+ * <p>
+ * The following example loads a directed graph and runs a shortest path computation:
+ * <blockquote>
+ *
+ * <pre>
+ * List&lt;Pair&lt;Integer, Integer&gt;&gt; edges = ...;
+ * Graph&lt;Integer, Integer&gt; g = new SparseIntDirectedGraph(numVertices, edges);
+ * GraphPath&lt;Integer, Integer&gt; path = new DijkstraShortestPath&lt;&gt;(g).getPath(0, 1);
+ * </pre>
+ *
+ * </blockquote>
+ *
+ * @see SparseIntDirectedWeightedGraph
+ * @see SparseIntUndirectedGraph
+ *
+ * @author agent
+ */
+public class SparseIntDirectedGraph
+    extends
+    AbstractSparseIntGraph
+{
+    private static final long serialVersionUID = 8305380837839451271L;
+
+    /**
+     * Outgoing incidence matrix: row $v$ contains the edges leaving $v$
+     */
+    private final CSRBooleanMatrix outIncidenceMatrix;
+
+    /**
+     * Incoming incidence matrix: row $v$ contains the edges entering $v$
+     */
+    private final CSRBooleanMatrix inIncidenceMatrix;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list, edge $i$ of the graph is the $i$-th pair of the list
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex
+     */
+    public SparseIntDirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(numVertices, toArrays(edges));
+    }
+
+    /**
+     * Create a new graph from two parallel arrays containing the source and the target of each
+     * edge.
+     *
+     * <p>
+     * The arrays are used directly as the storage of the graph without copying and must not be
+     * modified afterwards.
+     *
+     * @param numVertices the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex or the arrays
+     *         have different lengths
+     */
+    public SparseIntDirectedGraph(int numVertices, int[] source, int[] target)
+    {
+        super(numVertices, source, target);
+
+        int m = source.length;
+        int[] edgeIds = new int[m];
+        for (int i = 0; i < m; i++) {
+            edgeIds[i] = i;
+        }
+        this.outIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, source, edgeIds, m);
+        this.inIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, target, edgeIds, m);
+    }
+
+    private SparseIntDirectedGraph(int numVertices, int[][] edges)
+    {
+        this(numVertices, edges[0], edges[1]);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZeros(vertex) + inIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        Set<Integer> result = new LinkedHashSet<>(outIncidenceMatrix.nonZerosSet(vertex));
+        result.addAll(inIncidenceMatrix.nonZerosSet(vertex));
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inIncidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int t = targetVertex;
+        for (int p = outIncidenceMatrix.rowStart(sourceVertex),
+            end = outIncidenceMatrix.rowEnd(sourceVertex); p < end; p++)
+        {
+            int e = outIncidenceMatrix.columnAt(p);
+            if (target[e] == t) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+}
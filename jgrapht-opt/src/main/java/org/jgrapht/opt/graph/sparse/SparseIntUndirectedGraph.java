@@ -0,0 +1,177 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * An immutable undirected graph with integer vertices and integer edges, stored in compressed
+ * sparse row format.
+ *
+ * <p>
+ * The vertices are the integers $0, \dots, n-1$ and the edges are the integers $0, \dots, m-1$,
+ * numbered in the order in which they appear in the input. The graph is built in a single pass over
+ * the edge list using a counting sort into a single CSR incidence matrix where row $v$ contains all
+ * edges touching $v$. A self-loop is stored only once in the row of its vertex but, as in the rest
+ * of the library, contributes two to the degree of the vertex.
+ *
+ * <p>
+ * The graph allows self-loops and multiple edges. All modification methods throw
+ * {@link UnsupportedOperationException}. Looking up an edge by its endpoints takes time linear in
+ * the degree of the first endpoint.
+ *
+ * @see SparseIntUndirectedWeightedGraph
+ * @see SparseIntDirectedGraph
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedGraph
+    extends
+    AbstractSparseIntGraph
+{
+    private static final long serialVersionUID = -1917185463722718449L;
+
+    /**
+     * Incidence matrix: row $v$ contains the edges touching $v$
+     */
+    private final CSRBooleanMatrix incidenceMatrix;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list, edge $i$ of the graph is the $i$-th pair of the list
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex
+     */
+    public SparseIntUndirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        this(numVertices, toArrays(edges));
+    }
+
+    /**
+     * Create a new graph from two parallel arrays containing the endpoints of each edge.
+     *
+     * <p>
+     * The arrays are used directly as the storage of the graph without copying and must not be
+     * modified afterwards.
+     *
+     * @param numVertices the number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex or the arrays
+     *         have different lengths
+     */
+    public SparseIntUndirectedGraph(int numVertices, int[] source, int[] target)
+    {
+        super(numVertices, source, target);
+
+        int m = source.length;
+        int[] rowIndex = new int[2 * m];
+        int[] columnIndex = new int[2 * m];
+        int nnz = 0;
+        for (int i = 0; i < m; i++) {
+            rowIndex[nnz] = source[i];
+            columnIndex[nnz++] = i;
+            if (source[i] != target[i]) {
+                rowIndex[nnz] = target[i];
+                columnIndex[nnz++] = i;
+            }
+        }
+        this.incidenceMatrix = new CSRBooleanMatrix(numVertices, m, rowIndex, columnIndex, nnz);
+    }
+
+    private SparseIntUndirectedGraph(int numVertices, int[][] edges)
+    {
+        this(numVertices, edges[0], edges[1]);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        int degree = 0;
+        for (int p = incidenceMatrix.rowStart(vertex), end = incidenceMatrix.rowEnd(vertex);
+            p < end; p++)
+        {
+            int e = incidenceMatrix.columnAt(p);
+            degree += source[e] == target[e] ? 2 : 1;
+        }
+        return degree;
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return incidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int u = sourceVertex;
+        int v = targetVertex;
+        for (int p = incidenceMatrix.rowStart(u), end = incidenceMatrix.rowEnd(u); p < end; p++) {
+            int e = incidenceMatrix.columnAt(p);
+            if (getOppositeVertex(e, u) == v) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .undirected().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+}
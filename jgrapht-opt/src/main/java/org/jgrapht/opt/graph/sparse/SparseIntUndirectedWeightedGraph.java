@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * An immutable undirected weighted graph with integer vertices and integer edges, stored in
+ * compressed sparse row format.
+ *
+ * <p>
+ * The edge weights are kept in a primitive array indexed by edge. While the structure of the graph
+ * cannot be modified, the weights of the edges can be changed using
+ * {@link #setEdgeWeight(Integer, double)}.
+ *
+ * @see SparseIntUndirectedGraph
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedWeightedGraph
+    extends
+    SparseIntUndirectedGraph
+{
+    private static final long serialVersionUID = -6210574325719432131L;
+
+    /**
+     * Weight of each edge
+     */
+    protected final double[] weights;
+
+    /**
+     * Create a new graph from an edge list and an array with the weight of each edge.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list, edge $i$ of the graph is the $i$-th pair of the list
+     * @param weights the weight of each edge, the array is used directly without copying
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex or the number of
+     *         weights is not equal to the number of edges
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, List<Pair<Integer, Integer>> edges, double[] weights)
+    {
+        super(numVertices, edges);
+        this.weights = checkWeights(weights, edges.size());
+    }
+
+    /**
+     * Create a new graph from three parallel arrays containing the source, the target and the
+     * weight of each edge.
+     *
+     * <p>
+     * The arrays are used directly as the storage of the graph without copying. The source and
+     * target arrays must not be modified afterwards.
+     *
+     * @param numVertices the number of vertices
+     * @param source the source of each edge
+     * @param target the target of each edge
+     * @param weights the weight of each edge
+     * @throws IllegalArgumentException if an edge endpoint is not a valid vertex or the arrays
+     *         have different lengths
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] source, int[] target, double[] weights)
+    {
+        super(numVertices, source, target);
+        this.weights = checkWeights(weights, source.length);
+    }
+
+    private static double[] checkWeights(double[] weights, int m)
+    {
+        Objects.requireNonNull(weights, "Weights array cannot be null");
+        if (weights.length != m) {
+            throw new IllegalArgumentException("Number of weights must equal number of edges");
+        }
+        return weights;
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weights[e];
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        assertEdgeExist(e);
+        weights[e] = weight;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .undirected().weighted(true).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Immutable sparse graph implementations with integer vertices and integer edges, stored in
+ * compressed sparse row format.
+ */
+package org.jgrapht.opt.graph.sparse;
@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntDirectedGraph} and {@link SparseIntDirectedWeightedGraph}.
+ *
+ * @author agent
+ */
+public class SparseIntDirectedGraphTest
+{
+    private static List<Pair<Integer, Integer>> edges()
+    {
+        return Arrays.asList(
+            Pair.of(0, 1), Pair.of(1, 2), Pair.of(1, 2), Pair.of(1, 3), Pair.of(3, 3),
+            Pair.of(4, 4), Pair.of(4, 1), Pair.of(4, 4));
+    }
+
+    @Test
+    public void testIncomingOutgoingEdges()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges());
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(8, g.edgeSet().size());
+        assertTrue(g.getType().isDirected());
+        assertFalse(g.getType().isWeighted());
+        assertFalse(g.getType().isModifiable());
+
+        assertEquals(1, g.degreeOf(0));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(2, g.degreeOf(2));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(5, g.degreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(0)), g.edgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 6)), g.edgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.edgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6, 7)), g.edgesOf(4));
+
+        assertEquals(0, g.inDegreeOf(0));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(2, g.inDegreeOf(2));
+        assertEquals(2, g.inDegreeOf(3));
+        assertEquals(2, g.inDegreeOf(4));
+
+        assertEquals(new HashSet<>(), g.incomingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 6)), g.incomingEdgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.incomingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.incomingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 7)), g.incomingEdgesOf(4));
+
+        assertEquals(1, g.outDegreeOf(0));
+        assertEquals(3, g.outDegreeOf(1));
+        assertEquals(0, g.outDegreeOf(2));
+        assertEquals(1, g.outDegreeOf(3));
+        assertEquals(3, g.outDegreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(0)), g.outgoingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), g.outgoingEdgesOf(1));
+        assertEquals(new HashSet<>(), g.outgoingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(4)), g.outgoingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6, 7)), g.outgoingEdgesOf(4));
+        assertTrue(g.outgoingEdgesOf(1).contains(2));
+        assertFalse(g.outgoingEdgesOf(1).contains(0));
+    }
+
+    @Test
+    public void testEdgeLookups()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges());
+
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(Integer.valueOf(1), g.getEdge(1, 2));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.getAllEdges(1, 2));
+        assertEquals(new HashSet<>(Arrays.asList(5, 7)), g.getAllEdges(4, 4));
+        assertNull(g.getAllEdges(1, 5));
+        assertTrue(g.containsEdge(3, 3));
+        assertFalse(g.containsEdge(2, 3));
+        assertEquals(Integer.valueOf(4), g.getEdgeSource(6));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(6));
+        assertTrue(g.containsEdge(7));
+        assertFalse(g.containsEdge(8));
+        assertFalse(g.containsVertex(5));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(3), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightOfMissingEdge()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges());
+        g.getEdgeWeight(8);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges());
+        g.addVertex(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEndpoint()
+    {
+        new SparseIntDirectedGraph(2, Arrays.asList(Pair.of(0, 2)));
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        int[] source = { 0, 0, 1, 2 };
+        int[] target = { 1, 2, 3, 3 };
+        double[] weights = { 1.0, 5.0, 10.0, 2.0 };
+        Graph<Integer, Integer> g = new SparseIntDirectedWeightedGraph(4, source, target, weights);
+
+        assertTrue(g.getType().isWeighted());
+        assertEquals(5.0, g.getEdgeWeight(1), 1e-9);
+
+        GraphPath<Integer, Integer> path = new DijkstraShortestPath<>(g).getPath(0, 3);
+        assertEquals(7.0, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(1, 3), path.getEdgeList());
+
+        g.setEdgeWeight(1, 20.0);
+        path = new DijkstraShortestPath<>(g).getPath(0, 3);
+        assertEquals(11.0, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(0, 2), path.getEdgeList());
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntUndirectedGraph} and {@link SparseIntUndirectedWeightedGraph}.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedGraphTest
+{
+    private static List<Pair<Integer, Integer>> edges()
+    {
+        return Arrays.asList(
+            Pair.of(0, 1), Pair.of(1, 2), Pair.of(1, 2), Pair.of(1, 3), Pair.of(3, 3),
+            Pair.of(4, 4), Pair.of(4, 1), Pair.of(4, 4));
+    }
+
+    @Test
+    public void testEdgesOf()
+    {
+        Graph<Integer, Integer> g = new SparseIntUndirectedGraph(5, edges());
+
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(8, g.edgeSet().size());
+        assertTrue(g.getType().isUndirected());
+        assertFalse(g.getType().isWeighted());
+
+        assertEquals(1, g.degreeOf(0));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(2, g.degreeOf(2));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(5, g.degreeOf(4));
+        assertEquals(5, g.inDegreeOf(4));
+        assertEquals(5, g.outDegreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(0)), g.edgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 6)), g.edgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.edgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6, 7)), g.edgesOf(4));
+        assertEquals(g.edgesOf(1), g.incomingEdgesOf(1));
+        assertEquals(g.edgesOf(1), g.outgoingEdgesOf(1));
+    }
+
+    @Test
+    public void testEdgeLookups()
+    {
+        Graph<Integer, Integer> g = new SparseIntUndirectedGraph(5, edges());
+
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(Integer.valueOf(0), g.getEdge(1, 0));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.getAllEdges(2, 1));
+        assertEquals(new HashSet<>(Arrays.asList(5, 7)), g.getAllEdges(4, 4));
+        assertNull(g.getEdge(0, 4));
+        assertEquals(Integer.valueOf(4), g.getEdgeSource(6));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(6));
+    }
+
+    @Test
+    public void testAlgorithms()
+    {
+        int[] source = { 0, 1, 2, 0, 4 };
+        int[] target = { 1, 2, 3, 3, 5 };
+        double[] weights = { 1.0, 1.0, 1.0, 5.0, 1.0 };
+        Graph<Integer, Integer> g =
+            new SparseIntUndirectedWeightedGraph(6, source, target, weights);
+
+        assertEquals(2, new ConnectivityInspector<>(g).connectedSets().size());
+        GraphPath<Integer, Integer> path = new DijkstraShortestPath<>(g).getPath(3, 0);
+        assertEquals(3.0, path.getWeight(), 1e-9);
+        assertEquals(Arrays.asList(3, 2, 1, 0), path.getVertexList());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        Graph<Integer, Integer> g = new SparseIntUndirectedGraph(5, edges());
+        g.removeEdge(0);
+    }
+
+}